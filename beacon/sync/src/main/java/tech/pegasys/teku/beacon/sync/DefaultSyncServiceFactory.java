@@ -30,6 +30,7 @@ import tech.pegasys.teku.beacon.sync.forward.singlepeer.SinglePeerSyncServiceFac
 import tech.pegasys.teku.beacon.sync.gossip.blobs.RecentBlobSidecarsFetcher;
 import tech.pegasys.teku.beacon.sync.gossip.blocks.RecentBlocksFetchService;
 import tech.pegasys.teku.beacon.sync.historical.HistoricalBlockSyncService;
+import tech.pegasys.teku.beacon.sync.historical.ReconstructHistoricalStatesService;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
@@ -159,6 +160,10 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
       final SyncStateProvider syncStateProvider) {
     final AsyncRunner asyncRunner =
         asyncRunnerFactory.create(HistoricalBlockSyncService.class.getSimpleName(), 1);
+    final AsyncRunner reconstructAsyncRunner =
+        asyncRunnerFactory.create(
+            ReconstructHistoricalStatesService.class.getSimpleName(),
+            syncConfig.getReconstructHistoricStatesMaxConcurrentRanges());
     return HistoricalBlockSyncService.create(
         spec,
         blobSidecarManager,
@@ -172,8 +177,12 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
         syncStateProvider,
         syncConfig.isReconstructHistoricStatesEnabled(),
         genesisStateResource,
+        syncConfig.getReconstructHistoricStatesAnchorStates(),
+        reconstructAsyncRunner,
+        syncConfig.getReconstructHistoricStatesMaxConcurrentRanges(),
         syncConfig.fetchAllHistoricBlocks(),
-        syncConfig.getHistoricalSyncBatchSize());
+        syncConfig.getHistoricalSyncBatchSize(),
+        syncConfig.getHistoricalSyncMaxPendingBatches());
   }
 
   protected SyncStateTracker createSyncStateTracker(final ForwardSync forwardSync) {
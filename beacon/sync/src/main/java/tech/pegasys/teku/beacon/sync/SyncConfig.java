@@ -15,6 +15,7 @@ package tech.pegasys.teku.beacon.sync;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.List;
 import java.util.OptionalInt;
 import tech.pegasys.teku.networking.eth2.P2PConfig;
 
@@ -23,8 +24,10 @@ public class SyncConfig {
   public static final boolean DEFAULT_MULTI_PEER_SYNC_ENABLED = true;
   public static final boolean DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED = false;
   public static final boolean DEFAULT_FETCH_ALL_HISTORIC_BLOCKS = true;
+  public static final int DEFAULT_RECONSTRUCT_HISTORIC_STATES_MAX_CONCURRENT_RANGES = 4;
 
   public static final int DEFAULT_HISTORICAL_SYNC_BATCH_SIZE = 50;
+  public static final int DEFAULT_HISTORICAL_SYNC_MAX_PENDING_BATCHES = 4;
   public static final int DEFAULT_FORWARD_SYNC_BATCH_SIZE = 25;
   public static final int DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES = 5;
 
@@ -37,8 +40,11 @@ public class SyncConfig {
   private final boolean isEnabled;
   private final boolean isMultiPeerSyncEnabled;
   private final boolean reconstructHistoricStatesEnabled;
+  private final List<String> reconstructHistoricStatesAnchorStates;
+  private final int reconstructHistoricStatesMaxConcurrentRanges;
   private final boolean fetchAllHistoricBlocks;
   private final int historicalSyncBatchSize;
+  private final int historicalSyncMaxPendingBatches;
   private final int forwardSyncBatchSize;
   private final int forwardSyncMaxPendingBatches;
   private final int forwardSyncMaxBlocksPerMinute;
@@ -49,8 +55,11 @@ public class SyncConfig {
       final boolean isEnabled,
       final boolean isMultiPeerSyncEnabled,
       final boolean reconstructHistoricStatesEnabled,
+      final List<String> reconstructHistoricStatesAnchorStates,
+      final int reconstructHistoricStatesMaxConcurrentRanges,
       final boolean fetchAllHistoricBlocks,
       final int historicalSyncBatchSize,
+      final int historicalSyncMaxPendingBatches,
       final int forwardSyncBatchSize,
       final int forwardSyncMaxPendingBatches,
       final int forwardSyncMaxBlocksPerMinute,
@@ -59,8 +68,12 @@ public class SyncConfig {
     this.isEnabled = isEnabled;
     this.isMultiPeerSyncEnabled = isMultiPeerSyncEnabled;
     this.reconstructHistoricStatesEnabled = reconstructHistoricStatesEnabled;
+    this.reconstructHistoricStatesAnchorStates = reconstructHistoricStatesAnchorStates;
+    this.reconstructHistoricStatesMaxConcurrentRanges =
+        reconstructHistoricStatesMaxConcurrentRanges;
     this.fetchAllHistoricBlocks = fetchAllHistoricBlocks;
     this.historicalSyncBatchSize = historicalSyncBatchSize;
+    this.historicalSyncMaxPendingBatches = historicalSyncMaxPendingBatches;
     this.forwardSyncBatchSize = forwardSyncBatchSize;
     this.forwardSyncMaxPendingBatches = forwardSyncMaxPendingBatches;
     this.forwardSyncMaxBlocksPerMinute = forwardSyncMaxBlocksPerMinute;
@@ -84,6 +97,14 @@ public class SyncConfig {
     return reconstructHistoricStatesEnabled;
   }
 
+  public List<String> getReconstructHistoricStatesAnchorStates() {
+    return reconstructHistoricStatesAnchorStates;
+  }
+
+  public int getReconstructHistoricStatesMaxConcurrentRanges() {
+    return reconstructHistoricStatesMaxConcurrentRanges;
+  }
+
   public boolean fetchAllHistoricBlocks() {
     return fetchAllHistoricBlocks;
   }
@@ -92,6 +113,10 @@ public class SyncConfig {
     return historicalSyncBatchSize;
   }
 
+  public int getHistoricalSyncMaxPendingBatches() {
+    return historicalSyncMaxPendingBatches;
+  }
+
   public int getForwardSyncBatchSize() {
     return forwardSyncBatchSize;
   }
@@ -116,8 +141,12 @@ public class SyncConfig {
     private Boolean isEnabled;
     private Boolean isMultiPeerSyncEnabled = DEFAULT_MULTI_PEER_SYNC_ENABLED;
     private Boolean reconstructHistoricStatesEnabled = DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED;
+    private List<String> reconstructHistoricStatesAnchorStates = List.of();
+    private Integer reconstructHistoricStatesMaxConcurrentRanges =
+        DEFAULT_RECONSTRUCT_HISTORIC_STATES_MAX_CONCURRENT_RANGES;
     private boolean fetchAllHistoricBlocks = DEFAULT_FETCH_ALL_HISTORIC_BLOCKS;
     private Integer historicalSyncBatchSize = DEFAULT_HISTORICAL_SYNC_BATCH_SIZE;
+    private Integer historicalSyncMaxPendingBatches = DEFAULT_HISTORICAL_SYNC_MAX_PENDING_BATCHES;
     private Integer forwardSyncBatchSize = DEFAULT_FORWARD_SYNC_BATCH_SIZE;
     private Integer forwardSyncMaxPendingBatches = DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES;
     private Integer forwardSyncMaxBlocksPerMinute = DEFAULT_FORWARD_SYNC_MAX_BLOCKS_PER_MINUTE;
@@ -133,8 +162,11 @@ public class SyncConfig {
           isEnabled,
           isMultiPeerSyncEnabled,
           reconstructHistoricStatesEnabled,
+          reconstructHistoricStatesAnchorStates,
+          reconstructHistoricStatesMaxConcurrentRanges,
           fetchAllHistoricBlocks,
           historicalSyncBatchSize,
+          historicalSyncMaxPendingBatches,
           forwardSyncBatchSize,
           forwardSyncMaxPendingBatches,
           forwardSyncMaxBlocksPerMinute,
@@ -173,6 +205,12 @@ public class SyncConfig {
       return this;
     }
 
+    public Builder historicalSyncMaxPendingBatches(final Integer historicalSyncMaxPendingBatches) {
+      checkNotNull(historicalSyncMaxPendingBatches);
+      this.historicalSyncMaxPendingBatches = historicalSyncMaxPendingBatches;
+      return this;
+    }
+
     public Builder forwardSyncBatchSize(final Integer forwardSyncBatchSize) {
       checkNotNull(forwardSyncBatchSize);
       this.forwardSyncBatchSize = forwardSyncBatchSize;
@@ -214,6 +252,21 @@ public class SyncConfig {
       return this;
     }
 
+    public Builder reconstructHistoricStatesAnchorStates(
+        final List<String> reconstructHistoricStatesAnchorStates) {
+      checkNotNull(reconstructHistoricStatesAnchorStates);
+      this.reconstructHistoricStatesAnchorStates = reconstructHistoricStatesAnchorStates;
+      return this;
+    }
+
+    public Builder reconstructHistoricStatesMaxConcurrentRanges(
+        final Integer reconstructHistoricStatesMaxConcurrentRanges) {
+      checkNotNull(reconstructHistoricStatesMaxConcurrentRanges);
+      this.reconstructHistoricStatesMaxConcurrentRanges =
+          reconstructHistoricStatesMaxConcurrentRanges;
+      return this;
+    }
+
     public Builder fetchAllHistoricBlocks(final boolean fetchAllHistoricBlocks) {
       this.fetchAllHistoricBlocks = fetchAllHistoricBlocks;
       return this;
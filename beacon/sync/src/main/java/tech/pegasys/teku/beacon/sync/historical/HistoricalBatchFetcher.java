@@ -159,6 +159,24 @@ public class HistoricalBatchFetcher {
     return future;
   }
 
+  /**
+   * Verify and save a batch of blocks which have already been downloaded and which are known to
+   * end with the block at {@link #lastBlockRoot}, and return the new value for the earliest block.
+   *
+   * @param blocks The blocks to import, in slot order
+   * @return A future that resolves with the earliest block saved.
+   */
+  public SafeFuture<BeaconBlockSummary> importBlocks(final List<SignedBeaconBlock> blocks) {
+    blocksToImport.addAll(blocks);
+    SafeFuture.of(this::complete).finish(this::handleRequestError);
+    return future;
+  }
+
+  /** The number of blocks in the batch, which have all been saved once the batch completes. */
+  int getBatchBlockCount() {
+    return blocksToImport.size();
+  }
+
   private SafeFuture<Void> complete() {
     final Optional<SignedBeaconBlock> latestBlock = getLatestReceivedBlock();
 
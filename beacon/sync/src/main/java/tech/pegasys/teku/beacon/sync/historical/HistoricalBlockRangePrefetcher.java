@@ -0,0 +1,272 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.InvalidResponseException;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
+
+/**
+ * Downloads ranges of historical blocks ahead of the batch currently being imported, each from a
+ * different peer.
+ *
+ * <p>Ranges are aligned to multiples of the batch size and are requested before the block they
+ * should end with is known. They are only used once they link, by block root, to the blocks
+ * imported before them, at which point as many consecutive ranges as are available are handed back.
+ * Each range is verified and imported with the peer which provided it, so a bad range only
+ * penalizes its own peer.
+ *
+ * <p>Ranges where blob sidecars are required are left to {@link HistoricalBatchFetcher}.
+ */
+class HistoricalBlockRangePrefetcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final BlobSidecarManager blobSidecarManager;
+  private final UInt64 batchSize;
+  private final int maxPendingRanges;
+  private final NavigableMap<UInt64, PendingRange> rangesByStartSlot =
+      new ConcurrentSkipListMap<>();
+
+  /**
+   * @param maxPendingBatches The maximum number of batches being requested at once, including the
+   *     one requested by {@link HistoricalBatchFetcher}. Prefetching is disabled if this is 1 or
+   *     less.
+   */
+  HistoricalBlockRangePrefetcher(
+      final BlobSidecarManager blobSidecarManager,
+      final MetricsSystem metricsSystem,
+      final UInt64 batchSize,
+      final int maxPendingBatches) {
+    this.blobSidecarManager = blobSidecarManager;
+    this.batchSize = batchSize;
+    this.maxPendingRanges = Math.max(maxPendingBatches - 1, 0);
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.BEACON,
+        "historical_block_sync_pending_ranges",
+        "Number of historical block ranges being downloaded or waiting to be imported",
+        rangesByStartSlot::size);
+  }
+
+  /**
+   * Starts downloading the ranges below the one containing {@code maxSlot}, down to {@code
+   * terminalSlot}, until the maximum number of ranges are pending or there is no free peer.
+   *
+   * @param maxSlot The newest slot still missing
+   * @param terminalSlot The slot historical sync stops at
+   * @param peersServingSlot Supplies the peers able to serve blocks up to a given slot
+   */
+  void prefetchRangesBefore(
+      final UInt64 maxSlot,
+      final UInt64 terminalSlot,
+      final Function<UInt64, Stream<Eth2Peer>> peersServingSlot) {
+    if (maxPendingRanges == 0) {
+      return;
+    }
+    final UInt64 currentRangeStart = getRangeStartSlot(maxSlot);
+    // Anything newer than the range being imported has been fetched another way
+    rangesByStartSlot.tailMap(currentRangeStart, false).clear();
+
+    final Set<NodeId> busyPeers =
+        rangesByStartSlot.values().stream()
+            .filter(range -> !range.downloaded.isDone())
+            .map(range -> range.peer.getId())
+            .collect(Collectors.toSet());
+    UInt64 rangeStart = currentRangeStart;
+    while (rangeStart.isGreaterThan(UInt64.ZERO) && rangesByStartSlot.size() < maxPendingRanges) {
+      rangeStart = rangeStart.minusMinZero(batchSize);
+      final UInt64 rangeEnd = rangeStart.plus(batchSize).minus(1);
+      if (rangeEnd.isLessThanOrEqualTo(terminalSlot)) {
+        return;
+      }
+      if (rangesByStartSlot.containsKey(rangeStart)
+          || blobSidecarManager.isAvailabilityRequiredAtSlot(rangeStart)
+          || blobSidecarManager.isAvailabilityRequiredAtSlot(rangeEnd)) {
+        continue;
+      }
+      final Optional<Eth2Peer> peer =
+          peersServingSlot.apply(rangeEnd).filter(p -> !busyPeers.contains(p.getId())).findAny();
+      if (peer.isEmpty()) {
+        return;
+      }
+      busyPeers.add(peer.get().getId());
+      startDownload(rangeStart, rangeEnd, peer.get());
+    }
+  }
+
+  /**
+   * Removes the downloaded ranges which link back from {@code lastBlockRoot}, starting with the
+   * range containing {@code maxSlot}, waiting for that range if it is still being downloaded.
+   *
+   * @return The linked ranges which contain blocks, newest first, or an empty list if no
+   *     downloaded blocks link to {@code lastBlockRoot}.
+   */
+  SafeFuture<List<LinkedRange>> takeLinkedRanges(
+      final UInt64 maxSlot, final Bytes32 lastBlockRoot) {
+    final PendingRange firstRange = rangesByStartSlot.get(getRangeStartSlot(maxSlot));
+    if (firstRange == null) {
+      return SafeFuture.completedFuture(List.of());
+    }
+    return firstRange
+        .downloaded
+        .exceptionally(__ -> null)
+        .thenApply(__ -> collectLinkedRanges(maxSlot, lastBlockRoot));
+  }
+
+  void clear() {
+    rangesByStartSlot.clear();
+  }
+
+  private List<LinkedRange> collectLinkedRanges(
+      final UInt64 maxSlot, final Bytes32 lastBlockRoot) {
+    final List<LinkedRange> linkedRanges = new ArrayList<>();
+    Bytes32 expectedRoot = lastBlockRoot;
+    UInt64 rangeStart = getRangeStartSlot(maxSlot);
+    while (true) {
+      final PendingRange range = rangesByStartSlot.get(rangeStart);
+      if (range == null || !range.isDownloaded()) {
+        break;
+      }
+      rangesByStartSlot.remove(rangeStart, range);
+      final List<SignedBeaconBlock> linkedBlocks = new ArrayList<>();
+      final Optional<Bytes32> nextExpectedRoot =
+          range.linkBlocks(maxSlot, expectedRoot, linkedBlocks);
+      if (nextExpectedRoot.isEmpty()) {
+        LOG.debug(
+            "Discarding historical blocks {} to {} from peer {} as they do not link to {}",
+            range.startSlot,
+            range.endSlot,
+            range.peer.getId(),
+            expectedRoot);
+        break;
+      }
+      if (!linkedBlocks.isEmpty()) {
+        linkedRanges.add(new LinkedRange(range.peer, linkedBlocks.reversed()));
+      }
+      expectedRoot = nextExpectedRoot.get();
+      if (rangeStart.isZero()) {
+        break;
+      }
+      rangeStart = rangeStart.minusMinZero(batchSize);
+    }
+
+    return linkedRanges;
+  }
+
+  private void startDownload(final UInt64 startSlot, final UInt64 endSlot, final Eth2Peer peer) {
+    final PendingRange range = new PendingRange(startSlot, endSlot, peer);
+    rangesByStartSlot.put(startSlot, range);
+    LOG.trace("Prefetch historical blocks {} to {} from peer {}", startSlot, endSlot, peer.getId());
+    peer.requestBlocksByRange(startSlot, batchSize, range::addBlock).propagateTo(range.downloaded);
+    range.downloaded.finish(
+        error -> {
+          LOG.debug(
+              "Failed to prefetch historical blocks {} to {} from peer {}",
+              startSlot,
+              endSlot,
+              peer.getId(),
+              error);
+          rangesByStartSlot.remove(startSlot, range);
+        });
+  }
+
+  private UInt64 getRangeStartSlot(final UInt64 slot) {
+    return slot.dividedBy(batchSize).times(batchSize);
+  }
+
+  /**
+   * @param peer The peer which provided the blocks
+   * @param blocks The blocks in slot order
+   */
+  record LinkedRange(Eth2Peer peer, List<SignedBeaconBlock> blocks) {}
+
+  private static class PendingRange {
+    private final UInt64 startSlot;
+    private final UInt64 endSlot;
+    private final Eth2Peer peer;
+    private final SafeFuture<Void> downloaded = new SafeFuture<>();
+    private final List<SignedBeaconBlock> blocks = new ArrayList<>();
+
+    private PendingRange(final UInt64 startSlot, final UInt64 endSlot, final Eth2Peer peer) {
+      this.startSlot = startSlot;
+      this.endSlot = endSlot;
+      this.peer = peer;
+    }
+
+    private synchronized SafeFuture<?> addBlock(final SignedBeaconBlock block) {
+      final UInt64 slot = block.getSlot();
+      if (slot.isGreaterThan(endSlot)) {
+        // Ignore any extra blocks
+        return SafeFuture.COMPLETE;
+      }
+      if (slot.isLessThan(startSlot)) {
+        return SafeFuture.failedFuture(
+            new InvalidResponseException("Received block before the requested range"));
+      }
+      if (!blocks.isEmpty() && !slot.isGreaterThan(blocks.getLast().getSlot())) {
+        return SafeFuture.failedFuture(
+            new InvalidResponseException("Received blocks out of order"));
+      }
+      blocks.add(block);
+      return SafeFuture.COMPLETE;
+    }
+
+    private boolean isDownloaded() {
+      return downloaded.isDone() && !downloaded.isCompletedExceptionally();
+    }
+
+    /**
+     * Appends the blocks at or below {@code maxSlot} to {@code linkedBlocks}, newest first, if they
+     * form a chain ending at {@code expectedRoot}.
+     *
+     * @return The parent root of the oldest block, or empty if the blocks do not link.
+     */
+    private synchronized Optional<Bytes32> linkBlocks(
+        final UInt64 maxSlot,
+        final Bytes32 expectedRoot,
+        final List<SignedBeaconBlock> linkedBlocks) {
+      final List<SignedBeaconBlock> rangeBlocks = new ArrayList<>();
+      Bytes32 nextExpectedRoot = expectedRoot;
+      for (SignedBeaconBlock block : blocks.reversed()) {
+        if (block.getSlot().isGreaterThan(maxSlot)) {
+          continue;
+        }
+        if (!block.getRoot().equals(nextExpectedRoot)) {
+          return Optional.empty();
+        }
+        rangeBlocks.add(block);
+        nextExpectedRoot = block.getParentRoot();
+      }
+      linkedBlocks.addAll(rangeBlocks);
+      return Optional.of(nextExpectedRoot);
+    }
+  }
+}
@@ -19,15 +19,20 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
+import tech.pegasys.teku.beacon.sync.historical.HistoricalBlockRangePrefetcher.LinkedRange;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
@@ -66,6 +71,8 @@ public class HistoricalBlockSyncService extends Service {
   private final CombinedChainDataClient chainData;
   private final SyncStateProvider syncStateProvider;
   private final UInt64 batchSize;
+  private final HistoricalBlockRangePrefetcher rangePrefetcher;
+  private final Counter importedBlocksCounter;
 
   private final AtomicLong syncStateSubscription = new AtomicLong(-1);
   private final AtomicBoolean requestInProgress = new AtomicBoolean(false);
@@ -89,6 +96,7 @@ public class HistoricalBlockSyncService extends Service {
       final SyncStateProvider syncStateProvider,
       final AsyncBLSSignatureVerifier signatureVerifier,
       final UInt64 batchSize,
+      final int maxPendingBatches,
       final Optional<ReconstructHistoricalStatesService> reconstructHistoricalStatesService,
       final boolean fetchAllHistoricBlocks) {
     this.spec = spec;
@@ -118,6 +126,14 @@ public class HistoricalBlockSyncService extends Service {
             TekuMetricCategory.BEACON,
             "historical_block_sync_earliest_block",
             "The slot of the earliest block retrieved by the historical block sync service");
+    this.importedBlocksCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "historical_block_sync_imported_blocks_total",
+            "Number of blocks imported by the historical block sync service");
+    this.rangePrefetcher =
+        new HistoricalBlockRangePrefetcher(
+            blobSidecarManager, metricsSystem, batchSize, maxPendingBatches);
   }
 
   public static HistoricalBlockSyncService create(
@@ -133,8 +149,12 @@ public class HistoricalBlockSyncService extends Service {
       final SyncStateProvider syncStateProvider,
       final boolean reconstructHistoricStatesEnabled,
       final Optional<String> genesisStateResource,
+      final List<String> reconstructAnchorStateResources,
+      final AsyncRunner reconstructAsyncRunner,
+      final int reconstructMaxConcurrentRanges,
       final boolean fetchAllHistoricBlocks,
-      final int batchSize) {
+      final int batchSize,
+      final int maxPendingBatches) {
     final Optional<ReconstructHistoricalStatesService> reconstructHistoricalStatesService =
         reconstructHistoricStatesEnabled
             ? Optional.of(
@@ -144,7 +164,10 @@ public class HistoricalBlockSyncService extends Service {
                     spec,
                     timeProvider,
                     metricsSystem,
-                    genesisStateResource))
+                    reconstructAsyncRunner,
+                    genesisStateResource,
+                    reconstructAnchorStateResources,
+                    reconstructMaxConcurrentRanges))
             : Optional.empty();
 
     return new HistoricalBlockSyncService(
@@ -158,6 +181,7 @@ public class HistoricalBlockSyncService extends Service {
         syncStateProvider,
         signatureVerifier,
         UInt64.valueOf(batchSize),
+        maxPendingBatches,
         reconstructHistoricalStatesService,
         fetchAllHistoricBlocks);
   }
@@ -173,6 +197,7 @@ public class HistoricalBlockSyncService extends Service {
     LOG.debug("Stop {}", getClass().getSimpleName());
     syncStateProvider.unsubscribeFromSyncStateChanges(syncStateSubscription.get());
     badPeerCache.clear();
+    rangePrefetcher.clear();
     return reconstructHistoricalStatesService.isPresent()
         ? reconstructHistoricalStatesService.get().stop()
         : SafeFuture.COMPLETE;
@@ -240,9 +265,17 @@ public class HistoricalBlockSyncService extends Service {
   private SafeFuture<Boolean> findPeerAndRequestBlocks() {
     final Optional<MaxMissingBlockParams> blockParams = getMaxMissingBlockParams();
     if (blockParams.isPresent() && isActive() && requestInProgress.compareAndSet(false, true)) {
-      return findPeer()
-          .map(peer -> requestBlocks(peer, blockParams.get()))
-          .orElseGet(this::waitToRetry)
+      final MaxMissingBlockParams params = blockParams.get();
+      rangePrefetcher.prefetchRangesBefore(params.getMaxSlot(), getTerminalSlot(), this::findPeers);
+      return rangePrefetcher
+          .takeLinkedRanges(params.getMaxSlot(), params.getBlockRoot())
+          .thenCompose(
+              linkedRanges ->
+                  linkedRanges.isEmpty()
+                      ? findPeer()
+                          .map(peer -> requestBlocks(peer, params))
+                          .orElseGet(this::waitToRetry)
+                      : importPrefetchedRanges(linkedRanges.iterator()))
           .alwaysRun(() -> requestInProgress.set(false))
           .thenApply(__ -> true);
     } else {
@@ -255,8 +288,42 @@ public class HistoricalBlockSyncService extends Service {
   }
 
   private SafeFuture<Void> requestBlocks(final Eth2Peer peer, final MaxMissingBlockParams params) {
-    return createFetcher(peer, params)
-        .run()
+    final HistoricalBatchFetcher fetcher = createFetcher(peer, params);
+    return handleBatchResult(peer, params, fetcher, fetcher.run());
+  }
+
+  /**
+   * Imports each range with a fetcher for the peer which provided it, newest first, so a range
+   * which fails verification only penalizes its own peer.
+   */
+  private SafeFuture<Void> importPrefetchedRanges(final Iterator<LinkedRange> linkedRanges) {
+    if (!linkedRanges.hasNext()) {
+      return SafeFuture.COMPLETE;
+    }
+    final LinkedRange range = linkedRanges.next();
+    final Optional<MaxMissingBlockParams> maybeParams = getMaxMissingBlockParams();
+    if (maybeParams.isEmpty()
+        || !range.blocks().getLast().getRoot().equals(maybeParams.get().getBlockRoot())) {
+      // A newer range failed to import, so this one no longer links to the imported blocks
+      LOG.debug("Discarding prefetched historical blocks which no longer link to imported blocks");
+      return SafeFuture.COMPLETE;
+    }
+    final MaxMissingBlockParams params = maybeParams.get();
+    LOG.trace(
+        "Import {} prefetched historical blocks up to slot {}",
+        range.blocks().size(),
+        params.getMaxSlot());
+    final HistoricalBatchFetcher fetcher = createFetcher(range.peer(), params);
+    return handleBatchResult(range.peer(), params, fetcher, fetcher.importBlocks(range.blocks()))
+        .thenCompose(__ -> importPrefetchedRanges(linkedRanges));
+  }
+
+  private SafeFuture<Void> handleBatchResult(
+      final Eth2Peer peer,
+      final MaxMissingBlockParams params,
+      final HistoricalBatchFetcher fetcher,
+      final SafeFuture<BeaconBlockSummary> batchResult) {
+    return batchResult
         .exceptionally(
             (err) -> {
               // We ran into trouble with this peer - ignore it for a while
@@ -274,6 +341,7 @@ public class HistoricalBlockSyncService extends Service {
             newValue -> {
               if (newValue != null && newValue.getSlot().isLessThanOrEqualTo(params.getMaxSlot())) {
                 LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
+                importedBlocksCounter.inc(fetcher.getBatchBlockCount());
                 earliestBlock = newValue;
                 updateSyncMetrics();
                 if (isSyncDone()) {
@@ -327,16 +395,16 @@ public class HistoricalBlockSyncService extends Service {
   }
 
   private Optional<Eth2Peer> findPeer() {
+    return findPeers(earliestBlock.getSlot()).findAny();
+  }
+
+  private Stream<Eth2Peer> findPeers(final UInt64 slot) {
     return network
         .streamPeers()
         .filter(p -> !badPeerCache.contains(p.getId()))
         .filter(
             p ->
-                p.getStatus()
-                    .getFinalizedCheckpoint()
-                    .getEpochStartSlot(spec)
-                    .isGreaterThan(earliestBlock.getSlot()))
-        .findAny();
+                p.getStatus().getFinalizedCheckpoint().getEpochStartSlot(spec).isGreaterThan(slot));
   }
 
   private void logBadPeerCacheSize(final boolean peerAdded) {
@@ -32,19 +32,28 @@ public class ProgressLogger {
       final MetricsSystem metricsSystem,
       final StatusLogger statusLogger,
       final TimeProvider timeProvider) {
-    this.reconstructGauge =
-        SettableGauge.create(
-            metricsSystem,
-            TekuMetricCategory.BEACON,
-            "reconstruct_historical_states_slot",
-            "The slot the reconstruct historical states service has last saved");
+    this(createReconstructGauge(metricsSystem), statusLogger, timeProvider);
+  }
 
+  ProgressLogger(
+      final SettableGauge reconstructGauge,
+      final StatusLogger statusLogger,
+      final TimeProvider timeProvider) {
+    this.reconstructGauge = reconstructGauge;
     this.timeProvider = timeProvider;
     this.lastLogged = timeProvider.getTimeInSeconds();
     this.statusLogger = statusLogger;
   }
 
-  void update(final SignedBeaconBlock block, final UInt64 anchorSlot) {
+  static SettableGauge createReconstructGauge(final MetricsSystem metricsSystem) {
+    return SettableGauge.create(
+        metricsSystem,
+        TekuMetricCategory.BEACON,
+        "reconstruct_historical_states_slot",
+        "The slot the reconstruct historical states service has last saved");
+  }
+
+  synchronized void update(final SignedBeaconBlock block, final UInt64 anchorSlot) {
     final UInt64 currentSlot = block.getSlot();
     reconstructGauge.set(currentSlot.doubleValue());
 
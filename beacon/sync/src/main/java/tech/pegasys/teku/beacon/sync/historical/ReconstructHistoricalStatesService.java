@@ -18,16 +18,25 @@ import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 
 import com.google.common.base.Throwables;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.logging.StatusLogger;
+import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.service.serviceutils.Service;
@@ -40,15 +49,29 @@ import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 
+/**
+ * Rebuilds the finalized states before the initial anchor by replaying the finalized blocks.
+ *
+ * <p>History is split into ranges at the trusted anchor states supplied alongside the genesis
+ * state. Only the slot of each anchor state is read up front, the state itself is loaded once when
+ * its range begins. Ranges are replayed concurrently, up to {@code maxConcurrentRanges} at a time,
+ * so at most that many states are held in memory. Each range is resumed from the latest state
+ * already stored within it, and the state reconstructed at the end of a range must match the root
+ * of the anchor state which starts the next one.
+ */
 public class ReconstructHistoricalStatesService extends Service {
   private static final Logger LOG = LogManager.getLogger();
 
   private final Spec spec;
   private final CombinedChainDataClient chainDataClient;
   private final Optional<String> genesisStateResource;
+  private final List<String> anchorStateResources;
+  private final int maxConcurrentRanges;
   private final StorageUpdateChannel storageUpdateChannel;
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
   private final StatusLogger statusLogger;
-  private final ProgressLogger progressLogger;
+  private final SettableGauge reconstructGauge;
 
   private final AtomicBoolean shutdown = new AtomicBoolean(false);
   private final SafeFuture<Void> stopped = new SafeFuture<>();
@@ -59,14 +82,20 @@ public class ReconstructHistoricalStatesService extends Service {
       final Spec spec,
       final TimeProvider timeProvider,
       final MetricsSystem metricsSystem,
-      final Optional<String> genesisStateResource) {
+      final AsyncRunner asyncRunner,
+      final Optional<String> genesisStateResource,
+      final List<String> anchorStateResources,
+      final int maxConcurrentRanges) {
     this(
         storageUpdateChannel,
         chainDataClient,
         spec,
         timeProvider,
         metricsSystem,
+        asyncRunner,
         genesisStateResource,
+        anchorStateResources,
+        maxConcurrentRanges,
         STATUS_LOG);
   }
 
@@ -76,14 +105,21 @@ public class ReconstructHistoricalStatesService extends Service {
       final Spec spec,
       final TimeProvider timeProvider,
       final MetricsSystem metricsSystem,
+      final AsyncRunner asyncRunner,
       final Optional<String> genesisStateResource,
+      final List<String> anchorStateResources,
+      final int maxConcurrentRanges,
       final StatusLogger statusLogger) {
     this.storageUpdateChannel = storageUpdateChannel;
     this.chainDataClient = chainDataClient;
     this.spec = spec;
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
     this.genesisStateResource = genesisStateResource;
+    this.anchorStateResources = anchorStateResources;
+    this.maxConcurrentRanges = Math.max(maxConcurrentRanges, 1);
     this.statusLogger = statusLogger;
-    this.progressLogger = new ProgressLogger(metricsSystem, statusLogger, timeProvider);
+    this.reconstructGauge = ProgressLogger.createReconstructGauge(metricsSystem);
   }
 
   @Override
@@ -93,15 +129,15 @@ public class ReconstructHistoricalStatesService extends Service {
           new IllegalStateException("Genesis state resource not provided"));
     }
 
-    final String resource = genesisStateResource.get();
     final BeaconState genesisState;
+    final List<Anchor> anchors = new ArrayList<>();
     try {
-      genesisState = ChainDataLoader.loadState(spec, resource);
-    } catch (IOException e) {
-      LOG.error("Failed to load initial state", e);
-      return SafeFuture.failedFuture(
-          new InvalidConfigurationException(
-              "Failed to load initial state from " + resource + ": " + e.getMessage()));
+      genesisState = loadState(genesisStateResource.get());
+      for (String resource : anchorStateResources) {
+        anchors.add(new Anchor(resource, loadStateSlot(resource)));
+      }
+    } catch (InvalidConfigurationException e) {
+      return SafeFuture.failedFuture(e);
     }
 
     return chainDataClient
@@ -113,26 +149,15 @@ public class ReconstructHistoricalStatesService extends Service {
               }
               final UInt64 anchorSlot = checkpoint.get().getEpochStartSlot(spec);
 
-              chainDataClient
-                  .getLatestAvailableFinalizedState(anchorSlot.minusMinZero(1))
-                  .thenComposeChecked(
-                      latestState -> {
-                        if (latestState.isPresent()) {
-                          final BeaconState state = latestState.get();
-                          return SafeFuture.completedFuture(
-                              new Context(state, state.getSlot().increment(), anchorSlot));
+              reconstructRanges(
+                      createRanges(filterAnchors(anchors, anchorSlot), anchorSlot), genesisState)
+                  .thenRun(
+                      () -> {
+                        if (!shutdown.get()) {
+                          statusLogger.reconstructHistoricalStatesServiceComplete();
                         }
-
-                        final Bytes32 genesisBlockRoot =
-                            BeaconBlockHeader.fromState(genesisState).getRoot();
-                        return storageUpdateChannel
-                            .onReconstructedFinalizedState(genesisState, genesisBlockRoot)
-                            .thenApply(
-                                __ ->
-                                    new Context(
-                                        genesisState, GENESIS_SLOT.increment(), anchorSlot));
                       })
-                  .thenComposeChecked(this::applyNextBlock)
+                  .alwaysRun(() -> stopped.complete(null))
                   .finish(
                       error -> {
                         final Throwable rootCause = Throwables.getRootCause(error);
@@ -147,18 +172,146 @@ public class ReconstructHistoricalStatesService extends Service {
             });
   }
 
-  private SafeFuture<Void> applyNextBlock(final Context context) {
-    if (context.checkStopApplyBlock()) {
-      statusLogger.reconstructHistoricalStatesServiceComplete();
-      stopped.complete(null);
+  private BeaconState loadState(final String resource) {
+    try {
+      return ChainDataLoader.loadState(spec, resource);
+    } catch (IOException e) {
+      LOG.error("Failed to load initial state", e);
+      throw new InvalidConfigurationException(
+          "Failed to load initial state from " + resource + ": " + e.getMessage());
+    }
+  }
+
+  private UInt64 loadStateSlot(final String resource) {
+    try {
+      return ChainDataLoader.loadStateSlot(resource);
+    } catch (IOException e) {
+      LOG.error("Failed to load anchor state", e);
+      throw new InvalidConfigurationException(
+          "Failed to load anchor state from " + resource + ": " + e.getMessage());
+    }
+  }
+
+  private List<Anchor> filterAnchors(final List<Anchor> anchors, final UInt64 anchorSlot) {
+    final NavigableMap<UInt64, Anchor> anchorsBySlot = new TreeMap<>();
+    for (Anchor anchor : anchors) {
+      if (anchor.slot().isGreaterThan(GENESIS_SLOT) && anchor.slot().isLessThan(anchorSlot)) {
+        anchorsBySlot.put(anchor.slot(), anchor);
+      } else {
+        LOG.warn(
+            "Ignoring anchor state from {} as slot {} is not between genesis and {}",
+            anchor.resource(),
+            anchor.slot(),
+            anchorSlot);
+      }
+    }
+    return List.copyOf(anchorsBySlot.values());
+  }
+
+  /**
+   * Loads the anchor state starting a range, checks it is part of the finalized chain and records
+   * its root so the range ending at it can be verified.
+   */
+  private SafeFuture<BeaconState> loadAnchorState(final Anchor anchor) {
+    return asyncRunner
+        .runAsync(() -> loadState(anchor.resource()))
+        .thenCompose(
+            state -> {
+              final BeaconBlockHeader latestBlockHeader = BeaconBlockHeader.fromState(state);
+              return chainDataClient
+                  .getBlockAtSlotExact(latestBlockHeader.getSlot())
+                  .thenApply(
+                      maybeBlock -> {
+                        if (maybeBlock.isEmpty()
+                            || !maybeBlock.get().getRoot().equals(latestBlockHeader.getRoot())) {
+                          throw new IllegalStateException(
+                              "Anchor state from "
+                                  + anchor.resource()
+                                  + " is not part of the finalized chain at slot "
+                                  + latestBlockHeader.getSlot());
+                        }
+                        anchor.onStateLoaded(state.hashTreeRoot());
+                        return state;
+                      });
+            });
+  }
+
+  private List<Range> createRanges(final List<Anchor> anchors, final UInt64 anchorSlot) {
+    final List<Range> ranges = new ArrayList<>();
+    Optional<Anchor> start = Optional.empty();
+    for (Anchor anchor : anchors) {
+      ranges.add(new Range(start, anchor.slot(), Optional.of(anchor)));
+      start = Optional.of(anchor);
+    }
+    ranges.add(new Range(start, anchorSlot, Optional.empty()));
+    return ranges;
+  }
+
+  private SafeFuture<Void> reconstructRanges(
+      final List<Range> ranges, final BeaconState genesisState) {
+    final Queue<Range> pendingRanges = new ConcurrentLinkedQueue<>(ranges);
+    return SafeFuture.allOf(
+        IntStream.range(0, Math.min(maxConcurrentRanges, ranges.size()))
+            .mapToObj(__ -> reconstructNextRange(pendingRanges, genesisState)));
+  }
+
+  private SafeFuture<Void> reconstructNextRange(
+      final Queue<Range> pendingRanges, final BeaconState genesisState) {
+    final Range range = pendingRanges.poll();
+    if (range == null || shutdown.get()) {
       return SafeFuture.COMPLETE;
     }
+    final SafeFuture<BeaconState> startState =
+        range.start().map(this::loadAnchorState).orElse(SafeFuture.completedFuture(genesisState));
+    return startState
+        .thenCompose(state -> createContext(range, state))
+        .thenCompose(this::applyNextBlock)
+        // Stop reconstructing the other ranges
+        .whenException(__ -> shutdown.set(true))
+        .thenCompose(__ -> reconstructNextRange(pendingRanges, genesisState));
+  }
+
+  private SafeFuture<Context> createContext(final Range range, final BeaconState startState) {
+    final ProgressLogger progressLogger =
+        new ProgressLogger(reconstructGauge, statusLogger, timeProvider);
+    return chainDataClient
+        .getLatestAvailableFinalizedState(range.endSlot().minusMinZero(1))
+        .thenComposeChecked(
+            latestState -> {
+              if (latestState.isPresent()
+                  && latestState.get().getSlot().isGreaterThanOrEqualTo(startState.getSlot())) {
+                final BeaconState state = latestState.get();
+                return SafeFuture.completedFuture(
+                    new Context(state, state.getSlot().increment(), range, progressLogger));
+              }
+
+              LOG.debug(
+                  "Reconstructing historical states from slot {} to {}",
+                  startState.getSlot(),
+                  range.endSlot());
+              return storageUpdateChannel
+                  .onReconstructedFinalizedState(
+                      startState, BeaconBlockHeader.fromState(startState).getRoot())
+                  .thenApply(
+                      __ ->
+                          new Context(
+                              startState, startState.getSlot().increment(), range, progressLogger));
+            });
+  }
 
+  private SafeFuture<Void> applyNextBlock(final Context context) {
     if (shutdown.get()) {
-      stopped.complete(null);
       return SafeFuture.COMPLETE;
     }
 
+    if (context.checkStopApplyBlock()) {
+      return context
+          .range
+          .end()
+          .map(end -> verifyEndState(context, end))
+          .orElse(SafeFuture.COMPLETE);
+    }
+
     return chainDataClient
         .getBlockAtSlotExact(context.slot)
         .thenComposeChecked(
@@ -168,34 +321,117 @@ public class ReconstructHistoricalStatesService extends Service {
               }
 
               final SignedBeaconBlock block = maybeBlock.get();
-              progressLogger.update(block, context.anchorSlot);
-              context.currentState = spec.replayValidatedBlock(context.currentState, block);
-              return storageUpdateChannel.onReconstructedFinalizedState(
-                  context.currentState, block.getRoot());
+              context.progressLogger.update(block, context.range.endSlot());
+              return asyncRunner
+                  .runAsync(
+                      () -> {
+                        context.currentState =
+                            spec.replayValidatedBlock(context.currentState, block);
+                      })
+                  .thenCompose(
+                      __ ->
+                          storageUpdateChannel.onReconstructedFinalizedState(
+                              context.currentState, block.getRoot()));
             })
         .thenRun(context::incrementSlot)
         .thenCompose(__ -> applyNextBlock(context));
   }
 
+  /**
+   * Replays up to the slot of the anchor state ending the range and checks the reconstructed state
+   * matches it. The state itself is stored by the range which starts from that anchor, so the check
+   * completes once both ranges have reached the anchor.
+   */
+  private SafeFuture<Void> verifyEndState(final Context context, final Anchor end) {
+    return chainDataClient
+        .getBlockAtSlotExact(end.slot())
+        .thenCompose(
+            maybeBlock ->
+                asyncRunner.runAsync(
+                    () -> {
+                      final BeaconState state =
+                          maybeBlock.isPresent()
+                              ? spec.replayValidatedBlock(context.currentState, maybeBlock.get())
+                              : spec.processSlots(context.currentState, end.slot());
+                      end.onStateReconstructed(state.hashTreeRoot());
+                    }));
+  }
+
   @Override
   protected SafeFuture<?> doStop() {
     shutdown.set(true);
     return stopped;
   }
 
+  /**
+   * An anchor state splitting history into ranges. Its root is recorded when the range it starts
+   * loads it and compared with the root reconstructed by the range it ends, in whichever order the
+   * two ranges reach it.
+   */
+  private static class Anchor {
+    private final String resource;
+    private final UInt64 slot;
+    private Optional<Bytes32> stateRoot = Optional.empty();
+    private Optional<Bytes32> reconstructedStateRoot = Optional.empty();
+
+    Anchor(final String resource, final UInt64 slot) {
+      this.resource = resource;
+      this.slot = slot;
+    }
+
+    String resource() {
+      return resource;
+    }
+
+    UInt64 slot() {
+      return slot;
+    }
+
+    synchronized void onStateLoaded(final Bytes32 stateRoot) {
+      this.stateRoot = Optional.of(stateRoot);
+      verifyStateRoot();
+    }
+
+    synchronized void onStateReconstructed(final Bytes32 stateRoot) {
+      this.reconstructedStateRoot = Optional.of(stateRoot);
+      verifyStateRoot();
+    }
+
+    private void verifyStateRoot() {
+      if (stateRoot.isPresent()
+          && reconstructedStateRoot.isPresent()
+          && !stateRoot.equals(reconstructedStateRoot)) {
+        throw new IllegalStateException(
+            "Reconstructed state at slot "
+                + slot
+                + " does not match anchor state from "
+                + resource);
+      }
+    }
+  }
+
+  /** Reconstructs the states after the start anchor, or genesis, up to but excluding endSlot. */
+  private record Range(Optional<Anchor> start, UInt64 endSlot, Optional<Anchor> end) {}
+
   private static class Context {
     private BeaconState currentState;
     private UInt64 slot;
-    private final UInt64 anchorSlot;
+    private final Range range;
+    private final ProgressLogger progressLogger;
 
-    Context(final BeaconState currentState, final UInt64 slot, final UInt64 anchorSlot) {
+    Context(
+        final BeaconState currentState,
+        final UInt64 slot,
+        final Range range,
+        final ProgressLogger progressLogger) {
       this.currentState = currentState;
       this.slot = slot;
-      this.anchorSlot = anchorSlot;
+      this.range = range;
+      this.progressLogger = progressLogger;
     }
 
     private boolean checkStopApplyBlock() {
-      return slot.isGreaterThanOrEqualTo(anchorSlot);
+      return slot.isGreaterThanOrEqualTo(range.endSlot());
     }
 
     private void incrementSlot() {
@@ -0,0 +1,157 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.beacon.sync.historical.HistoricalBlockRangePrefetcher.LinkedRange;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.RespondingEth2Peer;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
+
+public class HistoricalBlockRangePrefetcherTest {
+  private static final UInt64 BATCH_SIZE = UInt64.valueOf(5);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+  private final BlobSidecarManager blobSidecarManager = mock(BlobSidecarManager.class);
+
+  private RespondingEth2Peer peer1;
+  private RespondingEth2Peer peer2;
+
+  @BeforeEach
+  public void setup() {
+    when(blobSidecarManager.isAvailabilityRequiredAtSlot(any())).thenReturn(false);
+    chainBuilder.generateGenesis();
+    chainBuilder.generateBlocksUpToSlot(30);
+    peer1 = RespondingEth2Peer.create(spec, chainBuilder);
+    peer2 = RespondingEth2Peer.create(spec, chainBuilder);
+  }
+
+  @Test
+  public void shouldRequestEachRangeFromADifferentPeer() {
+    final HistoricalBlockRangePrefetcher prefetcher = createPrefetcher(5);
+
+    prefetcher.prefetchRangesBefore(
+        UInt64.valueOf(19), UInt64.ZERO, __ -> Stream.of(peer1, peer2));
+
+    // No more peers are free for the remaining ranges
+    assertThat(peer1.getOutstandingRequests()).isEqualTo(1);
+    assertThat(peer2.getOutstandingRequests()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotPrefetchWhenOnlyOneBatchMayBePending() {
+    final HistoricalBlockRangePrefetcher prefetcher = createPrefetcher(1);
+
+    prefetcher.prefetchRangesBefore(
+        UInt64.valueOf(19), UInt64.ZERO, __ -> Stream.of(peer1, peer2));
+
+    assertThat(peer1.getOutstandingRequests()).isZero();
+    assertThat(peer2.getOutstandingRequests()).isZero();
+  }
+
+  @Test
+  public void shouldNotPrefetchRangesAtOrBelowTerminalSlot() {
+    final HistoricalBlockRangePrefetcher prefetcher = createPrefetcher(3);
+
+    prefetcher.prefetchRangesBefore(
+        UInt64.valueOf(19), UInt64.valueOf(14), __ -> Stream.of(peer1, peer2));
+
+    assertThat(peer1.getOutstandingRequests()).isZero();
+    assertThat(peer2.getOutstandingRequests()).isZero();
+  }
+
+  @Test
+  public void shouldReturnConsecutiveLinkedRangesNewestFirstWithTheirPeers() {
+    final HistoricalBlockRangePrefetcher prefetcher = createPrefetcher(3);
+    prefetcher.prefetchRangesBefore(
+        UInt64.valueOf(19), UInt64.ZERO, __ -> Stream.of(peer1, peer2));
+    peer1.completePendingRequests();
+    peer2.completePendingRequests();
+
+    final SignedBeaconBlock lastBlock = chainBuilder.getBlockAtSlot(14);
+    final SafeFuture<List<LinkedRange>> result =
+        prefetcher.takeLinkedRanges(lastBlock.getSlot(), lastBlock.getRoot());
+
+    assertThat(result).isCompleted();
+    final List<LinkedRange> linkedRanges = result.join();
+    assertThat(linkedRanges).hasSize(2);
+    assertThat(linkedRanges.get(0).peer()).isSameAs(peer1);
+    assertThat(linkedRanges.get(0).blocks()).containsExactlyElementsOf(getBlocks(10, 14));
+    assertThat(linkedRanges.get(1).peer()).isSameAs(peer2);
+    assertThat(linkedRanges.get(1).blocks()).containsExactlyElementsOf(getBlocks(5, 9));
+
+    // The ranges have been handed over
+    assertThat(prefetcher.takeLinkedRanges(lastBlock.getSlot(), lastBlock.getRoot()))
+        .isCompletedWithValue(List.of());
+  }
+
+  @Test
+  public void shouldWaitForRangeContainingMaxSlot() {
+    final HistoricalBlockRangePrefetcher prefetcher = createPrefetcher(2);
+    prefetcher.prefetchRangesBefore(UInt64.valueOf(19), UInt64.ZERO, __ -> Stream.of(peer1));
+
+    final SignedBeaconBlock lastBlock = chainBuilder.getBlockAtSlot(14);
+    final SafeFuture<List<LinkedRange>> result =
+        prefetcher.takeLinkedRanges(lastBlock.getSlot(), lastBlock.getRoot());
+    assertThat(result).isNotDone();
+
+    peer1.completePendingRequests();
+    assertThat(result).isCompleted();
+    assertThat(result.join()).hasSize(1);
+    assertThat(result.join().getFirst().blocks()).containsExactlyElementsOf(getBlocks(10, 14));
+  }
+
+  @Test
+  public void shouldDiscardRangesWhichDoNotLink() {
+    final HistoricalBlockRangePrefetcher prefetcher = createPrefetcher(2);
+    prefetcher.prefetchRangesBefore(UInt64.valueOf(19), UInt64.ZERO, __ -> Stream.of(peer1));
+    peer1.completePendingRequests();
+
+    final SignedBeaconBlock unrelatedBlock = chainBuilder.getBlockAtSlot(20);
+    assertThat(prefetcher.takeLinkedRanges(UInt64.valueOf(14), unrelatedBlock.getRoot()))
+        .isCompletedWithValue(List.of());
+
+    // The range was dropped so it is requested again
+    prefetcher.prefetchRangesBefore(UInt64.valueOf(19), UInt64.ZERO, __ -> Stream.of(peer1));
+    assertThat(peer1.getOutstandingRequests()).isEqualTo(1);
+  }
+
+  private HistoricalBlockRangePrefetcher createPrefetcher(final int maxPendingBatches) {
+    return new HistoricalBlockRangePrefetcher(
+        blobSidecarManager, new NoOpMetricsSystem(), BATCH_SIZE, maxPendingBatches);
+  }
+
+  private List<SignedBeaconBlock> getBlocks(final long fromSlot, final long toSlot) {
+    return chainBuilder
+        .streamBlocksAndStates(fromSlot, toSlot)
+        .map(SignedBlockAndState::getBlock)
+        .toList();
+  }
+}
@@ -96,6 +96,7 @@ public class HistoricalBlockSyncServiceTest {
           syncStateProvider,
           signatureVerificationService,
           batchSize,
+          1,
           Optional.of(reconstructHistoricalStatesService),
           false);
   private final Subscribers<SyncStateProvider.SyncStateSubscriber> syncStateSubscribers =
@@ -22,11 +22,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
@@ -142,6 +144,68 @@ public class ReconstructHistoricalStatesServiceTest {
         .onReconstructedFinalizedState(any(), any());
   }
 
+  @Test
+  void shouldRegenerateStatesInRangesBetweenAnchorStates(@TempDir final Path tempDir)
+      throws IOException {
+    when(chainDataClient.getLatestAvailableFinalizedState(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    final Checkpoint initialAnchor = getInitialAnchor();
+    final BeaconState anchorState = chainBuilder.getStateAtSlot(5);
+    setUpService(tempDir, initialAnchor, List.of(writeState(tempDir, "anchor.ssz", anchorState)));
+
+    final SafeFuture<?> res = service.start();
+    assertThat(res).isCompleted();
+    verify(storageUpdateChannel, times(initialAnchor.getEpochStartSlot(spec).intValue()))
+        .onReconstructedFinalizedState(any(), any());
+    // Every state is stored once, the anchor state by the range it starts
+    chainBuilder
+        .streamBlocksAndStates(0, initialAnchor.getEpochStartSlot(spec).longValue() - 1)
+        .forEach(
+            signedBlockAndState ->
+                verify(storageUpdateChannel)
+                    .onReconstructedFinalizedState(
+                        eq(signedBlockAndState.getState()), eq(signedBlockAndState.getRoot())));
+    verify(statusLogger).reconstructHistoricalStatesServiceComplete();
+  }
+
+  @Test
+  void shouldFailWhenAnchorStateIsNotPartOfTheChain(@TempDir final Path tempDir)
+      throws IOException {
+    when(chainDataClient.getLatestAvailableFinalizedState(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    // Skipping slot 1 gives a different block at slot 2
+    final ChainBuilder forkBuilder = ChainBuilder.create(spec);
+    forkBuilder.generateGenesis();
+    forkBuilder.generateBlockAtSlot(2);
+    final BeaconState anchorState = forkBuilder.getStateAtSlot(2);
+    setUpService(
+        tempDir, getInitialAnchor(), List.of(writeState(tempDir, "anchor.ssz", anchorState)));
+
+    final SafeFuture<?> res = service.start();
+    assertThat(res).isCompleted();
+    // The anchor state is only checked once its range begins
+    verify(storageUpdateChannel, never()).onReconstructedFinalizedState(eq(anchorState), any());
+    verify(statusLogger).reconstructHistoricalStatesServiceFailedProcess(any());
+    verify(statusLogger, never()).reconstructHistoricalStatesServiceComplete();
+  }
+
+  @Test
+  void shouldFailWhenRangeDoesNotLinkToAnchorState(@TempDir final Path tempDir)
+      throws Exception {
+    when(chainDataClient.getLatestAvailableFinalizedState(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    // Advancing past slot 6 without its block gives a state which is not in the chain
+    final BeaconState anchorState =
+        spec.processSlots(chainBuilder.getStateAtSlot(5), UInt64.valueOf(6));
+    setUpService(
+        tempDir, getInitialAnchor(), List.of(writeState(tempDir, "anchor.ssz", anchorState)));
+
+    final SafeFuture<?> res = service.start();
+    assertThat(res).isCompleted();
+    verify(statusLogger).reconstructHistoricalStatesServiceFailedProcess(any());
+    verify(statusLogger, never()).reconstructHistoricalStatesServiceComplete();
+  }
+
   @Test
   void shouldLogFailServiceProcess(@TempDir final Path tempDir) throws IOException {
     when(storageUpdateChannel.onReconstructedFinalizedState(any(), any()))
@@ -205,7 +269,13 @@ public class ReconstructHistoricalStatesServiceTest {
   }
 
   private void setUpService(final Path tempDir, final Checkpoint initialAnchor) throws IOException {
-    createService(createGenesisStateResource(tempDir));
+    setUpService(tempDir, initialAnchor, List.of());
+  }
+
+  private void setUpService(
+      final Path tempDir, final Checkpoint initialAnchor, final List<String> anchorStateResources)
+      throws IOException {
+    createService(createGenesisStateResource(tempDir), anchorStateResources);
     when(chainDataClient.getInitialAnchor())
         .thenReturn(SafeFuture.completedFuture(Optional.of(initialAnchor)));
     when(chainDataClient.getBlockAtSlotExact(any()))
@@ -218,14 +288,23 @@ public class ReconstructHistoricalStatesServiceTest {
   }
 
   private Optional<String> createGenesisStateResource(final Path tempDir) throws IOException {
-    final BeaconState state = chainBuilder.getGenesis().getState();
+    return Optional.of(
+        writeState(tempDir, "initial-state.ssz", chainBuilder.getGenesis().getState()));
+  }
+
+  private String writeState(final Path tempDir, final String fileName, final BeaconState state)
+      throws IOException {
     final File file =
-        Files.write(tempDir.resolve("initial-state.ssz"), state.sszSerialize().toArrayUnsafe())
-            .toFile();
-    return Optional.of(file.getAbsolutePath());
+        Files.write(tempDir.resolve(fileName), state.sszSerialize().toArrayUnsafe()).toFile();
+    return file.getAbsolutePath();
   }
 
   private void createService(final Optional<String> genesisStateResource) {
+    createService(genesisStateResource, List.of());
+  }
+
+  private void createService(
+      final Optional<String> genesisStateResource, final List<String> anchorStateResources) {
     service =
         new ReconstructHistoricalStatesService(
             storageUpdateChannel,
@@ -233,7 +312,10 @@ public class ReconstructHistoricalStatesServiceTest {
             spec,
             StubTimeProvider.withTimeInSeconds(0),
             metricsSystem,
+            SYNC_RUNNER,
             genesisStateResource,
+            anchorStateResources,
+            2,
             statusLogger);
   }
 }
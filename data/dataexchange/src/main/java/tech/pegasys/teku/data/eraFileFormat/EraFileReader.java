@@ -0,0 +1,279 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.data.eraFileFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import org.apache.tuweni.bytes.Bytes;
+import org.xerial.snappy.SnappyFramedInputStream;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsDeneb;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsFulu;
+
+/**
+ * Random access to the last era group of a file, as written by {@link EraFileWriter}.
+ *
+ * <p>Records are read on demand using positional reads, so files larger than can be memory mapped
+ * are supported and only the indices are held in memory.
+ */
+public class EraFileReader implements AutoCloseable {
+  private static final int HEADER_SIZE = 8;
+
+  private final Spec spec;
+  private final FileChannel channel;
+  private final UInt64 stateSlot;
+  private final long statePosition;
+  private final UInt64 blocksStartSlot;
+  // Absolute positions of the block records, 0 for empty slots
+  private final long[] blockPositions;
+  private final NavigableMap<UInt64, List<Long>> blobSidecarPositions = new TreeMap<>();
+  private final NavigableMap<UInt64, List<Long>> dataColumnSidecarPositions = new TreeMap<>();
+
+  private EraFileReader(final Spec spec, final FileChannel channel) throws IOException {
+    this.spec = spec;
+    this.channel = channel;
+
+    final SlotIndex stateIndex = readSlotIndex(channel.size());
+    if (stateIndex.positions().length != 1) {
+      throw new IOException("State index must reference a single state");
+    }
+    this.stateSlot = stateIndex.startSlot();
+    this.statePosition = stateIndex.positions()[0];
+
+    final long otherEntriesEnd;
+    if (stateSlot.isGreaterThan(UInt64.ZERO)) {
+      final SlotIndex blockIndex = readSlotIndex(stateIndex.recordStart());
+      this.blocksStartSlot = blockIndex.startSlot();
+      this.blockPositions = blockIndex.positions();
+      otherEntriesEnd = blockIndex.recordStart();
+    } else {
+      this.blocksStartSlot = stateSlot;
+      this.blockPositions = new long[0];
+      otherEntriesEnd = stateIndex.recordStart();
+    }
+    indexSidecars(statePosition + HEADER_SIZE + readHeader(statePosition).size(), otherEntriesEnd);
+  }
+
+  public static EraFileReader open(final Path path, final Spec spec) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new EraFileReader(spec, channel);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public UInt64 getStateSlot() {
+    return stateSlot;
+  }
+
+  public UInt64 getBlocksStartSlot() {
+    return blocksStartSlot;
+  }
+
+  public int getBlockSlotCount() {
+    return blockPositions.length;
+  }
+
+  public BeaconState readState() throws IOException {
+    return spec.atSlot(stateSlot)
+        .getSchemaDefinitions()
+        .getBeaconStateSchema()
+        .sszDeserialize(decompress(readRecord(statePosition, ReadEntry.STATE_ENTRY_TYPE)));
+  }
+
+  /** Reads the blocks from {@code fromSlot} to {@code toSlot} inclusive, in slot order. */
+  public List<SignedBeaconBlock> readBlocks(final UInt64 fromSlot, final UInt64 toSlot)
+      throws IOException {
+    final List<SignedBeaconBlock> blocks = new ArrayList<>();
+    final int fromIndex = indexOf(fromSlot);
+    final int toIndex = Math.min(indexOf(toSlot.increment()), blockPositions.length);
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (blockPositions[i] == 0) {
+        continue;
+      }
+      final Bytes data = readRecord(blockPositions[i], ReadEntry.BLOCK_ENTRY_TYPE);
+      blocks.add(
+          spec.atSlot(blocksStartSlot.plus(i))
+              .getSchemaDefinitions()
+              .getSignedBeaconBlockSchema()
+              .sszDeserialize(decompress(data)));
+    }
+    return blocks;
+  }
+
+  public boolean hasBlobSidecars() {
+    return !blobSidecarPositions.isEmpty();
+  }
+
+  /** Reads the blob sidecars from {@code fromSlot} to {@code toSlot} inclusive. */
+  public List<BlobSidecar> readBlobSidecars(final UInt64 fromSlot, final UInt64 toSlot)
+      throws IOException {
+    return readSidecars(
+        blobSidecarPositions,
+        fromSlot,
+        toSlot,
+        ReadEntry.BLOB_SIDECAR_ENTRY_TYPE,
+        (slot, data) ->
+            SchemaDefinitionsDeneb.required(spec.atSlot(slot).getSchemaDefinitions())
+                .getBlobSidecarSchema()
+                .sszDeserialize(data));
+  }
+
+  /** Reads the data column sidecars from {@code fromSlot} to {@code toSlot} inclusive. */
+  public List<DataColumnSidecar> readDataColumnSidecars(final UInt64 fromSlot, final UInt64 toSlot)
+      throws IOException {
+    return readSidecars(
+        dataColumnSidecarPositions,
+        fromSlot,
+        toSlot,
+        ReadEntry.DATA_COLUMN_SIDECAR_ENTRY_TYPE,
+        (slot, data) ->
+            SchemaDefinitionsFulu.required(spec.atSlot(slot).getSchemaDefinitions())
+                .getDataColumnSidecarSchema()
+                .sszDeserialize(data));
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private int indexOf(final UInt64 slot) {
+    if (slot.isLessThanOrEqualTo(blocksStartSlot)) {
+      return 0;
+    }
+    return (int) Math.min(slot.minus(blocksStartSlot).longValue(), blockPositions.length);
+  }
+
+  private void indexSidecars(final long start, final long end) throws IOException {
+    long position = start;
+    while (position < end) {
+      final Header header = readHeader(position);
+      if (Arrays.equals(header.type(), ReadEntry.BLOB_SIDECAR_ENTRY_TYPE)) {
+        addPosition(blobSidecarPositions, position);
+      } else if (Arrays.equals(header.type(), ReadEntry.DATA_COLUMN_SIDECAR_ENTRY_TYPE)) {
+        addPosition(dataColumnSidecarPositions, position);
+      }
+      position += HEADER_SIZE + header.size();
+    }
+  }
+
+  private void addPosition(final NavigableMap<UInt64, List<Long>> positions, final long position)
+      throws IOException {
+    final UInt64 slot = UInt64.fromLongBits(readLong(position + HEADER_SIZE));
+    positions.computeIfAbsent(slot, __ -> new ArrayList<>()).add(position);
+  }
+
+  private <T> List<T> readSidecars(
+      final NavigableMap<UInt64, List<Long>> positionsBySlot,
+      final UInt64 fromSlot,
+      final UInt64 toSlot,
+      final byte[] type,
+      final BiFunction<UInt64, Bytes, T> deserializer)
+      throws IOException {
+    final List<T> sidecars = new ArrayList<>();
+    for (Map.Entry<UInt64, List<Long>> entry :
+        positionsBySlot.subMap(fromSlot, true, toSlot, true).entrySet()) {
+      for (long position : entry.getValue()) {
+        // Skip the slot ahead of the compressed SSZ
+        final Bytes data = decompress(readRecord(position, type).slice(Long.BYTES));
+        sidecars.add(deserializer.apply(entry.getKey(), data));
+      }
+    }
+    return sidecars;
+  }
+
+  private SlotIndex readSlotIndex(final long recordEnd) throws IOException {
+    final long count = readLong(recordEnd - Long.BYTES);
+    final long recordStart = recordEnd - (Long.BYTES * count + 24);
+    if (count < 0 || recordStart < 0) {
+      throw new IOException("Slot index count out of bounds: " + count);
+    }
+    final ByteBuffer data =
+        ByteBuffer.wrap(readRecord(recordStart, ReadEntry.INDEX_ENTRY_TYPE).toArrayUnsafe())
+            .order(ByteOrder.LITTLE_ENDIAN);
+    final UInt64 startSlot = UInt64.fromLongBits(data.getLong());
+    final long[] positions = new long[(int) count];
+    for (int i = 0; i < count; i++) {
+      final long offset = data.getLong();
+      positions[i] = offset == 0 ? 0 : recordStart + offset;
+    }
+    return new SlotIndex(startSlot, recordStart, positions);
+  }
+
+  private Bytes readRecord(final long position, final byte[] expectedType) throws IOException {
+    final Header header = readHeader(position);
+    if (!Arrays.equals(header.type(), expectedType)) {
+      throw new IOException(
+          "Unexpected record type "
+              + Bytes.wrap(header.type()).toUnprefixedHexString()
+              + " at position "
+              + position);
+    }
+    return Bytes.wrap(read(position + HEADER_SIZE, Math.toIntExact(header.size())).array());
+  }
+
+  private Header readHeader(final long position) throws IOException {
+    final ByteBuffer header = read(position, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    final byte[] type = {header.get(), header.get()};
+    final long size =
+        Integer.toUnsignedLong(header.getInt()) | (Short.toUnsignedLong(header.getShort()) << 32);
+    return new Header(type, size);
+  }
+
+  private long readLong(final long position) throws IOException {
+    return read(position, Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).getLong();
+  }
+
+  private ByteBuffer read(final long position, final int length) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("Unexpected end of file reading from position " + position);
+      }
+    }
+    return buffer.flip();
+  }
+
+  private static Bytes decompress(final Bytes data) throws IOException {
+    try (SnappyFramedInputStream in =
+        new SnappyFramedInputStream(new ByteArrayInputStream(data.toArrayUnsafe()))) {
+      return Bytes.wrap(in.readAllBytes());
+    }
+  }
+
+  private record Header(byte[] type, long size) {}
+
+  private record SlotIndex(UInt64 startSlot, long recordStart, long[] positions) {}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.data.eraFileFormat;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.io.CountingOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.tuweni.bytes.Bytes;
+import org.xerial.snappy.SnappyFramedOutputStream;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Writes a single era group: the blocks of a range of slots, the state at the end of the range and
+ * the sidecars of the blocks, followed by the slot indices of the blocks and the state.
+ *
+ * <p>Records are appended in the order they must appear in the file, so blocks must be written in
+ * slot order before the state, and sidecars after the state. Sidecar records hold the slot as a
+ * little endian long ahead of the compressed SSZ, so they can be located without decompressing.
+ */
+public class EraFileWriter implements AutoCloseable {
+  private static final int HEADER_SIZE = 8;
+
+  private final CountingOutputStream out;
+  private final UInt64 blocksStartSlot;
+  private final long[] blockPositions;
+
+  private long statePosition = -1;
+  private UInt64 stateSlot;
+  private int nextBlockIndex = 0;
+  private boolean finished = false;
+
+  /**
+   * @param path The file to create
+   * @param blocksStartSlot The first slot of the blocks in the group
+   * @param slotCount The number of slots the blocks cover, 0 for the genesis group
+   */
+  public EraFileWriter(final Path path, final UInt64 blocksStartSlot, final int slotCount)
+      throws IOException {
+    this.out = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    this.blocksStartSlot = blocksStartSlot;
+    this.blockPositions = new long[slotCount];
+    writeRecord(ReadEntry.VERSION_ENTRY_TYPE, Bytes.EMPTY);
+  }
+
+  public void writeBlock(final SignedBeaconBlock block) throws IOException {
+    checkState(statePosition < 0, "Blocks must be written before the state");
+    checkArgument(
+        block.getSlot().isGreaterThanOrEqualTo(blocksStartSlot),
+        "Block at slot %s is before the start of the group",
+        block.getSlot());
+    final int index = block.getSlot().minus(blocksStartSlot).intValue();
+    checkArgument(
+        index < blockPositions.length && index >= nextBlockIndex,
+        "Block at slot %s is out of order or after the end of the group",
+        block.getSlot());
+    blockPositions[index] = out.getCount();
+    nextBlockIndex = index + 1;
+    writeRecord(ReadEntry.BLOCK_ENTRY_TYPE, compress(block));
+  }
+
+  public void writeState(final BeaconState state) throws IOException {
+    checkState(statePosition < 0, "State has already been written");
+    statePosition = out.getCount();
+    stateSlot = state.getSlot();
+    writeRecord(ReadEntry.STATE_ENTRY_TYPE, compress(state));
+  }
+
+  public void writeBlobSidecar(final BlobSidecar blobSidecar) throws IOException {
+    writeSidecar(ReadEntry.BLOB_SIDECAR_ENTRY_TYPE, blobSidecar.getSlot(), blobSidecar);
+  }
+
+  public void writeDataColumnSidecar(final DataColumnSidecar dataColumnSidecar)
+      throws IOException {
+    writeSidecar(
+        ReadEntry.DATA_COLUMN_SIDECAR_ENTRY_TYPE, dataColumnSidecar.getSlot(), dataColumnSidecar);
+  }
+
+  /** Writes the slot indices which complete the group. */
+  public void finish() throws IOException {
+    checkState(statePosition >= 0, "State must be written before finishing");
+    checkState(!finished, "Already finished");
+    if (blockPositions.length > 0) {
+      writeSlotIndex(blocksStartSlot, blockPositions);
+    }
+    writeSlotIndex(stateSlot, new long[] {statePosition});
+    out.flush();
+    finished = true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  private void writeSidecar(final byte[] type, final UInt64 slot, final SszData sidecar)
+      throws IOException {
+    checkState(statePosition >= 0, "Sidecars must be written after the state");
+    writeRecord(type, Bytes.concatenate(encodeLong(slot.longValue()), compress(sidecar)));
+  }
+
+  private void writeSlotIndex(final UInt64 startSlot, final long[] positions) throws IOException {
+    final long recordStart = out.getCount();
+    final ByteBuffer data =
+        ByteBuffer.allocate(Long.BYTES * (positions.length + 2)).order(ByteOrder.LITTLE_ENDIAN);
+    data.putLong(startSlot.longValue());
+    for (long position : positions) {
+      // Offsets are relative to the start of the index, empty slots have an offset of 0
+      data.putLong(position == 0 ? 0 : position - recordStart);
+    }
+    data.putLong(positions.length);
+    writeRecord(ReadEntry.INDEX_ENTRY_TYPE, Bytes.wrap(data.array()));
+  }
+
+  private void writeRecord(final byte[] type, final Bytes data) throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    // 8 byte header - first 2 are type, last 6 are little endian size
+    header.put(type).putInt(data.size()).putShort((short) 0);
+    out.write(header.array());
+    out.write(data.toArrayUnsafe());
+  }
+
+  private static Bytes compress(final SszData data) throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (OutputStream snappy = new SnappyFramedOutputStream(compressed)) {
+      data.sszSerialize(snappy);
+    }
+    return Bytes.wrap(compressed.toByteArray());
+  }
+
+  private static Bytes encodeLong(final long value) {
+    return Bytes.wrap(
+        ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array());
+  }
+}
@@ -24,6 +24,10 @@ class ReadEntry {
   static final byte[] INDEX_ENTRY_TYPE = {'i', '2'};
   static final byte[] BLOCK_ENTRY_TYPE = {1, 0};
   static final byte[] STATE_ENTRY_TYPE = {2, 0};
+  static final byte[] VERSION_ENTRY_TYPE = {'e', '2'};
+  // Teku specific entries, not part of the era format so other readers skip them
+  static final byte[] BLOB_SIDECAR_ENTRY_TYPE = {'t', 'b'};
+  static final byte[] DATA_COLUMN_SIDECAR_ENTRY_TYPE = {'t', 'c'};
 
   private final long dataSize;
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.data.eraFileFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class EraFileWriterTest {
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @TempDir Path tempDir;
+
+  @Test
+  void shouldReadBackWrittenEra() throws Exception {
+    final Path eraFile = tempDir.resolve("minimal-00001-00000000.era");
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(8);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(11);
+    final List<BlobSidecar> blobSidecars = dataStructureUtil.randomBlobSidecarsForBlock(block2);
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(16));
+
+    try (EraFileWriter writer = new EraFileWriter(eraFile, UInt64.valueOf(8), 8)) {
+      writer.writeBlock(block1);
+      writer.writeBlock(block2);
+      writer.writeState(state);
+      for (BlobSidecar blobSidecar : blobSidecars) {
+        writer.writeBlobSidecar(blobSidecar);
+      }
+      writer.finish();
+    }
+
+    try (EraFileReader reader = EraFileReader.open(eraFile, spec)) {
+      assertThat(reader.getStateSlot()).isEqualTo(UInt64.valueOf(16));
+      assertThat(reader.getBlocksStartSlot()).isEqualTo(UInt64.valueOf(8));
+      assertThat(reader.getBlockSlotCount()).isEqualTo(8);
+      assertThat(reader.readState()).isEqualTo(state);
+      assertThat(reader.readBlocks(UInt64.valueOf(8), UInt64.valueOf(15)))
+          .containsExactly(block1, block2);
+      assertThat(reader.readBlocks(UInt64.valueOf(9), UInt64.valueOf(15)))
+          .containsExactly(block2);
+      assertThat(reader.readBlocks(UInt64.valueOf(12), UInt64.valueOf(15))).isEmpty();
+      assertThat(reader.hasBlobSidecars()).isTrue();
+      assertThat(reader.readBlobSidecars(UInt64.valueOf(8), UInt64.valueOf(15)))
+          .containsExactlyElementsOf(blobSidecars);
+      assertThat(reader.readBlobSidecars(UInt64.valueOf(8), UInt64.valueOf(10))).isEmpty();
+      assertThat(reader.readDataColumnSidecars(UInt64.valueOf(8), UInt64.valueOf(15))).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldReadGenesisEraWithoutBlocks() throws Exception {
+    final Path eraFile = tempDir.resolve("minimal-00000-00000000.era");
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.ZERO);
+
+    try (EraFileWriter writer = new EraFileWriter(eraFile, UInt64.ZERO, 0)) {
+      writer.writeState(state);
+      writer.finish();
+    }
+
+    try (EraFileReader reader = EraFileReader.open(eraFile, spec)) {
+      assertThat(reader.getStateSlot()).isEqualTo(UInt64.ZERO);
+      assertThat(reader.getBlockSlotCount()).isZero();
+      assertThat(reader.readState()).isEqualTo(state);
+      assertThat(reader.hasBlobSidecars()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldRejectBlocksOutOfOrder() throws Exception {
+    try (EraFileWriter writer = new EraFileWriter(tempDir.resolve("a.era"), UInt64.ZERO, 8)) {
+      writer.writeBlock(dataStructureUtil.randomSignedBeaconBlock(3));
+      assertThatThrownBy(() -> writer.writeBlock(dataStructureUtil.randomSignedBeaconBlock(2)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  void shouldRejectBlocksOutsideRange() throws Exception {
+    try (EraFileWriter writer = new EraFileWriter(tempDir.resolve("a.era"), UInt64.ZERO, 8)) {
+      assertThatThrownBy(() -> writer.writeBlock(dataStructureUtil.randomSignedBeaconBlock(8)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  void shouldRejectBlocksAfterState() throws Exception {
+    try (EraFileWriter writer = new EraFileWriter(tempDir.resolve("a.era"), UInt64.ZERO, 8)) {
+      writer.writeState(dataStructureUtil.randomBeaconState(UInt64.valueOf(8)));
+      assertThatThrownBy(() -> writer.writeBlock(dataStructureUtil.randomSignedBeaconBlock(2)))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Test
+  void shouldRejectSidecarsBeforeState() throws Exception {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(2);
+    try (EraFileWriter writer = new EraFileWriter(tempDir.resolve("a.era"), UInt64.ZERO, 8)) {
+      writer.writeBlock(block);
+      assertThatThrownBy(
+              () ->
+                  writer.writeBlobSidecar(
+                      dataStructureUtil.randomBlobSidecarsForBlock(block).get(0)))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+}
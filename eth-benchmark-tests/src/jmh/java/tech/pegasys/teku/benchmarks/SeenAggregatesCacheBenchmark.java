@@ -0,0 +1,89 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitlistSchema;
+import tech.pegasys.teku.statetransition.util.SeenAggregatesCache;
+
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class SeenAggregatesCacheBenchmark {
+
+  private static final Bytes32 ROOT = Bytes32.random();
+
+  // Mainnet committees have around 500 members with 16 aggregators each
+  @Param({"128", "512", "2048"})
+  int committeeSize;
+
+  @Param({"16", "64"})
+  int seenAggregatesCount;
+
+  private final Random random = new Random(42);
+  private final List<SszBitlist> seenSubsets = new ArrayList<>();
+  private final List<SszBitlist> unseenAggregates = new ArrayList<>();
+  private SeenAggregatesCache<Bytes32> cache;
+  private int counter;
+
+  @Setup(Level.Trial)
+  public void init() {
+    final SszBitlistSchema<SszBitlist> schema = SszBitlistSchema.create(2048);
+    cache = new SeenAggregatesCache<>(1024);
+    for (int i = 0; i < seenAggregatesCount; i++) {
+      final int[] bits = randomBits(0.9);
+      cache.add(ROOT, schema.ofBits(committeeSize, bits));
+      seenSubsets.add(
+          schema.ofBits(
+              committeeSize, IntStream.of(bits).filter(__ -> random.nextBoolean()).toArray()));
+      // Higher participation than the seen aggregates, so almost never a subset of one of them
+      unseenAggregates.add(schema.ofBits(committeeSize, randomBits(0.95)));
+    }
+  }
+
+  private int[] randomBits(final double participation) {
+    return IntStream.range(0, committeeSize)
+        .filter(__ -> random.nextDouble() < participation)
+        .toArray();
+  }
+
+  @Benchmark
+  public void isAlreadySeenHit(final Blackhole bh) {
+    counter = (counter + 1) % seenAggregatesCount;
+    bh.consume(cache.isAlreadySeen(ROOT, seenSubsets.get(counter)));
+  }
+
+  @Benchmark
+  public void isAlreadySeenMiss(final Blackhole bh) {
+    counter = (counter + 1) % seenAggregatesCount;
+    bh.consume(cache.isAlreadySeen(ROOT, unseenAggregates.get(counter)));
+  }
+}
@@ -122,4 +122,13 @@ public class TransitionCachesBenchmark {
   public void copyCachesBench(Blackhole bh) {
     bh.consume(fullCache.copy());
   }
+
+  @Benchmark
+  public void copyCachesAndUpdateCommitteeBench(Blackhole bh) {
+    counter++;
+    final TransitionCaches copy = fullCache.copy();
+    copy.getBeaconCommittee()
+        .invalidateWithNewValue(TekuPair.of(UInt64.valueOf(counter), UInt64.ZERO), SOME_INT_LIST);
+    bh.consume(copy);
+  }
 }
@@ -13,6 +13,9 @@
 
 package tech.pegasys.teku.dataproviders.generators;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -21,21 +24,26 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import tech.pegasys.teku.dataproviders.generators.CompressedValueCache.Tier;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
-import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 
 public class CachingTaskQueue<K, V> {
+  private static final Logger LOG = LogManager.getLogger();
 
   private final Counter cachedTaskCounter;
+  private final Counter warmCachedTaskCounter;
   private final Counter duplicateTaskCounter;
   private final Counter newTaskCounter;
   private final Counter rebasedTaskCounter;
@@ -45,6 +53,12 @@ public class CachingTaskQueue<K, V> {
   private final Queue<CacheableTask<K, V>> queuedTasks = new ConcurrentLinkedQueue<>();
 
   private final Map<K, V> cache;
+  private final Optional<Tier<K, V>> warmCache;
+  // Time taken to generate values currently in the cache, used to weight warm cache eviction
+  private final Map<K, Long> regenerationCosts = new ConcurrentHashMap<>();
+  // Incremented whenever values are removed, so values evicted before then aren't moved to the
+  // warm cache after it has been pruned
+  private final AtomicLong removalGeneration = new AtomicLong();
   private final AsyncRunner asyncRunner;
   private final MetricsSystem metricsSystem;
   private final String metricsPrefix;
@@ -56,11 +70,29 @@ public class CachingTaskQueue<K, V> {
       final String metricsPrefix,
       final IntSupplier activeTaskLimit,
       final int maxCacheSize) {
+    this(
+        asyncRunner, metricsSystem, metricsPrefix, activeTaskLimit, maxCacheSize, Optional.empty());
+  }
+
+  CachingTaskQueue(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final IntSupplier activeTaskLimit,
+      final int maxCacheSize,
+      final Optional<Tier<K, V>> warmCache) {
     this.asyncRunner = asyncRunner;
     this.metricsSystem = metricsSystem;
     this.metricsPrefix = metricsPrefix;
     this.activeTaskLimit = activeTaskLimit;
-    this.cache = LimitedMap.createSoft(maxCacheSize);
+    this.warmCache = warmCache;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxCacheSize)
+            .softValues()
+            .removalListener(this::onRemoval)
+            .<K, V>build()
+            .asMap();
 
     final LabelledMetric<Counter> labelledCounter =
         metricsSystem.createLabelledCounter(
@@ -70,6 +102,7 @@ public class CachingTaskQueue<K, V> {
             "type");
     duplicateTaskCounter = labelledCounter.labels("duplicate");
     cachedTaskCounter = labelledCounter.labels("cached");
+    warmCachedTaskCounter = labelledCounter.labels("warm_cached");
     newTaskCounter = labelledCounter.labels("new");
     rebasedTaskCounter = labelledCounter.labels("rebase");
   }
@@ -79,12 +112,26 @@ public class CachingTaskQueue<K, V> {
       final MetricsSystem metricsSystem,
       final String metricsPrefix,
       final int maxCacheSize) {
+    return create(asyncRunner, metricsSystem, metricsPrefix, maxCacheSize, Optional.empty());
+  }
+
+  /**
+   * Creates a queue which moves values evicted from its in-memory cache into {@code warmCache}, so
+   * they can later be restored without performing the task again.
+   */
+  public static <K, V> CachingTaskQueue<K, V> create(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final int maxCacheSize,
+      final Optional<Tier<K, V>> warmCache) {
     return new CachingTaskQueue<>(
         asyncRunner,
         metricsSystem,
         metricsPrefix,
         () -> Math.max(2, Runtime.getRuntime().availableProcessors()),
-        maxCacheSize);
+        maxCacheSize,
+        warmCache);
   }
 
   public void startMetrics() {
@@ -122,6 +169,13 @@ public class CachingTaskQueue<K, V> {
     final SafeFuture<Optional<V>> generationResult = new SafeFuture<>();
     pendingTasks.put(task.getKey(), generationResult);
 
+    // Check if the result can be restored from the warm cache
+    if (warmCache.isPresent() && warmCache.get().contains(task.getKey())) {
+      warmCachedTaskCounter.inc();
+      queueTask(new WarmCacheRestoreTask<>(task, warmCache.get()));
+      return generationResult;
+    }
+
     // Check if there's a better starting point (in cache or in progress)
     final Optional<SafeFuture<Optional<V>>> newBase =
         task.streamIntermediateSteps()
@@ -169,9 +223,18 @@ public class CachingTaskQueue<K, V> {
       return;
     }
     activeTasks.incrementAndGet();
+    final long startTime = System.nanoTime();
     asyncRunner
         .runAsync(task::performTask)
-        .thenPeek(result -> result.ifPresent(value -> cache(task.getKey(), value)))
+        .thenPeek(
+            result ->
+                result.ifPresent(
+                    value -> {
+                      if (warmCache.isPresent()) {
+                        regenerationCosts.put(task.getKey(), System.nanoTime() - startTime);
+                      }
+                      cache(task.getKey(), value);
+                    }))
         .handle(
             (result, error) -> {
               completePendingTask(task, result, error);
@@ -206,20 +269,87 @@ public class CachingTaskQueue<K, V> {
     cache.put(key, value);
   }
 
+  private void onRemoval(final RemovalNotification<K, V> notification) {
+    if (warmCache.isEmpty() || notification.getCause() == RemovalCause.REPLACED) {
+      return;
+    }
+    final K key = notification.getKey();
+    final Long regenerationCost = regenerationCosts.remove(key);
+    final V value = notification.getValue();
+    if (notification.getCause() != RemovalCause.SIZE || key == null || value == null) {
+      return;
+    }
+    // Values without a known cost were added directly (e.g. on block import) rather than
+    // regenerated, so are assumed to be the most expensive to regenerate
+    final long cost = regenerationCost != null ? regenerationCost : Long.MAX_VALUE;
+    final long generation = removalGeneration.get();
+    asyncRunner
+        .runAsync(
+            () ->
+                warmCache
+                    .get()
+                    .put(key, value, cost, () -> removalGeneration.get() == generation))
+        .finish(error -> LOG.warn("Failed to move evicted value to warm cache", error));
+  }
+
   public void cacheAll(final Map<K, V> values) {
     cache.putAll(values);
   }
 
   public void remove(final K key) {
     cache.remove(key);
+    removalGeneration.incrementAndGet();
+    warmCache.ifPresent(warm -> warm.remove(key));
   }
 
   public void removeIf(final Predicate<K> removalCondition) {
     cache.keySet().removeIf(removalCondition);
+    removalGeneration.incrementAndGet();
+    warmCache.ifPresent(warm -> warm.removeIf(removalCondition));
   }
 
   public void clear() {
     cache.clear();
+    removalGeneration.incrementAndGet();
+    warmCache.ifPresent(Tier::clear);
+  }
+
+  /**
+   * Restores a value from the warm cache, performing the original task instead if the value has
+   * been evicted from it in the meantime. Queued like any other task so restores count towards the
+   * active task limit.
+   */
+  private static class WarmCacheRestoreTask<K, V> implements CacheableTask<K, V> {
+    private final CacheableTask<K, V> task;
+    private final Tier<K, V> warmCache;
+
+    private WarmCacheRestoreTask(final CacheableTask<K, V> task, final Tier<K, V> warmCache) {
+      this.task = task;
+      this.warmCache = warmCache;
+    }
+
+    @Override
+    public K getKey() {
+      return task.getKey();
+    }
+
+    @Override
+    public Stream<K> streamIntermediateSteps() {
+      return task.streamIntermediateSteps();
+    }
+
+    @Override
+    public CacheableTask<K, V> rebase(final V newBaseValue) {
+      return task.rebase(newBaseValue);
+    }
+
+    @Override
+    public SafeFuture<Optional<V>> performTask() {
+      return warmCache
+          .get(task.getKey())
+          .map(value -> SafeFuture.completedFuture(Optional.of(value)))
+          .orElseGet(task::performTask);
+    }
   }
 
   public interface CacheableTask<K, V> {
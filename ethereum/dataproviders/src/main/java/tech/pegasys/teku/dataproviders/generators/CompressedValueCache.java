@@ -0,0 +1,278 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.dataproviders.generators;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.xerial.snappy.Snappy;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Byte-bounded cache of values held in serialized, optionally snappy-compressed and off-heap, form.
+ *
+ * <p>Used as the warm tier behind the in-memory {@link CachingTaskQueue} caches: values evicted
+ * from the hot tier are kept here so that they can be restored by deserializing instead of
+ * regenerating them. Several {@link Tier}s can share one instance and therefore one byte budget.
+ *
+ * <p>When over budget, the least recently used entries are considered for eviction first, but of
+ * the oldest {@value #EVICTION_CANDIDATES} entries the one which is cheapest to regenerate per byte
+ * is evicted.
+ */
+public class CompressedValueCache {
+  static final int EVICTION_CANDIDATES = 4;
+
+  private final long maxBytes;
+  private final boolean compress;
+  private final boolean offHeap;
+
+  // Access ordered, so iteration starts at the least recently used entry
+  private final Map<TierKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalBytes = 0;
+
+  public CompressedValueCache(final long maxBytes, final boolean compress, final boolean offHeap) {
+    checkArgument(maxBytes > 0, "Max bytes must be positive");
+    this.maxBytes = maxBytes;
+    this.compress = compress;
+    this.offHeap = offHeap;
+  }
+
+  public void startMetrics(final MetricsSystem metricsSystem, final String metricsPrefix) {
+    metricsSystem.createGauge(
+        TekuMetricCategory.STORAGE,
+        metricsPrefix + "_bytes",
+        "Number of bytes held in the serialized state cache",
+        this::getTotalBytes);
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.STORAGE,
+        metricsPrefix + "_size",
+        "Number of states held in the serialized state cache",
+        this::size);
+  }
+
+  public <K, V> Tier<K, V> createTier(
+      final String name,
+      final Function<V, Bytes> serializer,
+      final Function<Bytes, V> deserializer) {
+    return new Tier<>(name, serializer, deserializer);
+  }
+
+  public synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private synchronized boolean contains(final TierKey key) {
+    return entries.containsKey(key);
+  }
+
+  private synchronized Optional<Entry> get(final TierKey key) {
+    return Optional.ofNullable(entries.get(key));
+  }
+
+  private void put(
+      final TierKey key,
+      final Bytes serialized,
+      final long regenerationCost,
+      final BooleanSupplier shouldAdd) {
+    final byte[] data = compress ? compress(serialized) : serialized.toArrayUnsafe();
+    if (data.length > maxBytes) {
+      return;
+    }
+    final ByteBuffer buffer;
+    if (offHeap) {
+      buffer = ByteBuffer.allocateDirect(data.length).put(data).flip();
+    } else {
+      buffer = ByteBuffer.wrap(data);
+    }
+    final Entry entry = new Entry(buffer, regenerationCost);
+    synchronized (this) {
+      if (!shouldAdd.getAsBoolean()) {
+        return;
+      }
+      final Entry previous = entries.put(key, entry);
+      if (previous != null) {
+        totalBytes -= previous.getSize();
+      }
+      totalBytes += entry.getSize();
+      evict();
+    }
+  }
+
+  private synchronized void remove(final TierKey key) {
+    final Entry removed = entries.remove(key);
+    if (removed != null) {
+      totalBytes -= removed.getSize();
+    }
+  }
+
+  private synchronized void removeIf(final Predicate<TierKey> removalCondition) {
+    final Iterator<Map.Entry<TierKey, Entry>> iterator = entries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<TierKey, Entry> entry = iterator.next();
+      if (removalCondition.test(entry.getKey())) {
+        totalBytes -= entry.getValue().getSize();
+        iterator.remove();
+      }
+    }
+  }
+
+  private void evict() {
+    while (totalBytes > maxBytes) {
+      int candidates = 0;
+      TierKey toEvict = null;
+      double lowestCostPerByte = Double.MAX_VALUE;
+      for (Map.Entry<TierKey, Entry> entry : entries.entrySet()) {
+        final double costPerByte = entry.getValue().getCostPerByte();
+        if (toEvict == null || costPerByte < lowestCostPerByte) {
+          toEvict = entry.getKey();
+          lowestCostPerByte = costPerByte;
+        }
+        candidates++;
+        if (candidates == EVICTION_CANDIDATES) {
+          break;
+        }
+      }
+      if (toEvict == null) {
+        return;
+      }
+      remove(toEvict);
+    }
+  }
+
+  private Bytes decode(final Entry entry) {
+    final ByteBuffer buffer = entry.data.duplicate();
+    final byte[] data;
+    if (buffer.hasArray()) {
+      data = buffer.array();
+    } else {
+      data = new byte[buffer.remaining()];
+      buffer.get(data);
+    }
+    return compress ? uncompress(data) : Bytes.wrap(data);
+  }
+
+  private static byte[] compress(final Bytes serialized) {
+    try {
+      return Snappy.compress(serialized.toArrayUnsafe());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Bytes uncompress(final byte[] compressed) {
+    try {
+      return Bytes.wrap(Snappy.uncompress(compressed));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** A view of the cache for one kind of key and value. */
+  public class Tier<K, V> {
+    private final String name;
+    private final Function<V, Bytes> serializer;
+    private final Function<Bytes, V> deserializer;
+
+    private Tier(
+        final String name,
+        final Function<V, Bytes> serializer,
+        final Function<Bytes, V> deserializer) {
+      this.name = name;
+      this.serializer = serializer;
+      this.deserializer = deserializer;
+    }
+
+    public boolean contains(final K key) {
+      return CompressedValueCache.this.contains(new TierKey(name, key));
+    }
+
+    public Optional<V> get(final K key) {
+      return CompressedValueCache.this
+          .get(new TierKey(name, key))
+          .map(entry -> deserializer.apply(decode(entry)));
+    }
+
+    /**
+     * Adds a value unless it is already present.
+     *
+     * @param regenerationCost how expensive the value is to regenerate, values which are cheaper to
+     *     regenerate per byte are evicted first.
+     */
+    public void put(final K key, final V value, final long regenerationCost) {
+      put(key, value, regenerationCost, () -> true);
+    }
+
+    /**
+     * Adds a value unless it is already present or {@code shouldAdd} returns false. {@code
+     * shouldAdd} is checked atomically with adding the value, after it has been serialized.
+     */
+    public void put(
+        final K key, final V value, final long regenerationCost, final BooleanSupplier shouldAdd) {
+      final TierKey tierKey = new TierKey(name, key);
+      if (!CompressedValueCache.this.contains(tierKey)) {
+        CompressedValueCache.this.put(
+            tierKey, serializer.apply(value), regenerationCost, shouldAdd);
+      }
+    }
+
+    public void remove(final K key) {
+      CompressedValueCache.this.remove(new TierKey(name, key));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void removeIf(final Predicate<K> removalCondition) {
+      CompressedValueCache.this.removeIf(
+          tierKey -> tierKey.tier().equals(name) && removalCondition.test((K) tierKey.key()));
+    }
+
+    public void clear() {
+      CompressedValueCache.this.removeIf(tierKey -> tierKey.tier().equals(name));
+    }
+  }
+
+  private record TierKey(String tier, Object key) {}
+
+  private static class Entry {
+    private final ByteBuffer data;
+    private final long regenerationCost;
+
+    private Entry(final ByteBuffer data, final long regenerationCost) {
+      this.data = data;
+      this.regenerationCost = regenerationCost;
+    }
+
+    private int getSize() {
+      return data.capacity();
+    }
+
+    private double getCostPerByte() {
+      return (double) regenerationCost / Math.max(1, getSize());
+    }
+  }
+}
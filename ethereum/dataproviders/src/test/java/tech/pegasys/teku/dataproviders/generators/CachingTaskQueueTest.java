@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.dataproviders.generators;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 
@@ -21,10 +22,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue.CacheableTask;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 
@@ -80,6 +84,89 @@ class CachingTaskQueueTest {
     assertCacheHitCount(1);
   }
 
+  @Test
+  void shouldRestoreValuesEvictedToWarmCacheWithoutPerformingTask() {
+    final CompressedValueCache warmCache = new CompressedValueCache(1024, true, false);
+    final CachingTaskQueue<Integer, String> queueWithWarmCache =
+        createQueueWithWarmCache(SYNC_RUNNER, warmCache);
+    final StubTask task1 = new StubTask(1);
+    queueWithWarmCache.perform(task1);
+    task1.completeTask();
+
+    // Evicts the value for task 1 from the in-memory cache
+    queueWithWarmCache.cache(2, "2");
+    assertThat(queueWithWarmCache.getIfAvailable(1)).isEmpty();
+    assertThat(warmCache.size()).isEqualTo(1);
+
+    final StubTask task2 = new StubTask(1);
+    assertThat(queueWithWarmCache.perform(task2)).isCompletedWithValue(Optional.of("1"));
+    task2.assertNotPerformed();
+    assertThat(queueWithWarmCache.getIfAvailable(1)).contains("1");
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.STORAGE,
+                "warm_" + METRICS_PREFIX + "_tasks_total",
+                "warm_cached"))
+        .isEqualTo(1);
+
+    queueWithWarmCache.clear();
+    assertThat(warmCache.size()).isZero();
+  }
+
+  @Test
+  void shouldLimitWarmCacheRestoresToActiveTaskLimit() {
+    final CompressedValueCache warmCache = new CompressedValueCache(1024, true, false);
+    final CachingTaskQueue<Integer, String> queueWithWarmCache =
+        createQueueWithWarmCache(SYNC_RUNNER, warmCache);
+    queueWithWarmCache.cache(1, "1");
+    // Evicts the value for key 1 from the in-memory cache
+    queueWithWarmCache.cache(2, "2");
+    assertThat(warmCache.size()).isEqualTo(1);
+
+    final StubTask task3 = new StubTask(3);
+    final StubTask task4 = new StubTask(4);
+    queueWithWarmCache.perform(task3);
+    queueWithWarmCache.perform(task4);
+
+    final StubTask task1 = new StubTask(1);
+    final SafeFuture<Optional<String>> result = queueWithWarmCache.perform(task1);
+    assertThat(result).isNotDone();
+
+    task3.completeTask();
+    assertThat(result).isCompletedWithValue(Optional.of("1"));
+    task1.assertNotPerformed();
+  }
+
+  @Test
+  void shouldNotMoveEvictedValueToWarmCacheAfterItWasCleared() {
+    final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+    final CompressedValueCache warmCache = new CompressedValueCache(1024, true, false);
+    final CachingTaskQueue<Integer, String> queueWithWarmCache =
+        createQueueWithWarmCache(asyncRunner, warmCache);
+    queueWithWarmCache.cache(1, "1");
+    queueWithWarmCache.cache(2, "2");
+
+    queueWithWarmCache.clear();
+    asyncRunner.executeQueuedActions();
+
+    assertThat(warmCache.size()).isZero();
+  }
+
+  @Test
+  void shouldMoveEvictedValueToWarmCacheAsynchronously() {
+    final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+    final CompressedValueCache warmCache = new CompressedValueCache(1024, true, false);
+    final CachingTaskQueue<Integer, String> queueWithWarmCache =
+        createQueueWithWarmCache(asyncRunner, warmCache);
+    queueWithWarmCache.cache(1, "1");
+    queueWithWarmCache.cache(2, "2");
+    assertThat(warmCache.size()).isZero();
+
+    asyncRunner.executeQueuedActions();
+
+    assertThat(warmCache.size()).isEqualTo(1);
+  }
+
   @Test
   void shouldRegenerateInParallelUpToLimit() {
     final StubTask task1 = new StubTask(1);
@@ -262,6 +349,21 @@ class CachingTaskQueueTest {
     assertThat(taskQueue.getIfAvailable(task.getKey())).isEqualTo(task.getExpectedValue());
   }
 
+  private CachingTaskQueue<Integer, String> createQueueWithWarmCache(
+      final AsyncRunner asyncRunner, final CompressedValueCache warmCache) {
+    return new CachingTaskQueue<>(
+        asyncRunner,
+        metricsSystem,
+        "warm_" + METRICS_PREFIX,
+        () -> MAX_CONCURRENT_TASKS,
+        1,
+        Optional.of(
+            warmCache.createTier(
+                "values",
+                value -> Bytes.wrap(value.getBytes(UTF_8)),
+                bytes -> new String(bytes.toArrayUnsafe(), UTF_8))));
+  }
+
   private void assertCacheSizeMetric(final int expectedSize) {
     final double value =
         metricsSystem
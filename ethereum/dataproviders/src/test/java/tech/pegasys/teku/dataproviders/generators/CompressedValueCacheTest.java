@@ -0,0 +1,94 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.dataproviders.generators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.dataproviders.generators.CompressedValueCache.Tier;
+
+class CompressedValueCacheTest {
+
+  private static final int VALUE_SIZE = 100;
+
+  private final CompressedValueCache cache =
+      new CompressedValueCache(VALUE_SIZE * 3, false, false);
+  private final Tier<Integer, Bytes> tier = cache.createTier("a", value -> value, bytes -> bytes);
+  private final Tier<Integer, Bytes> otherTier =
+      cache.createTier("b", value -> value, bytes -> bytes);
+
+  @Test
+  void shouldRoundTripCompressedOffHeapValues() {
+    final CompressedValueCache compressedCache = new CompressedValueCache(1024, true, true);
+    final Tier<Integer, Bytes> compressedTier =
+        compressedCache.createTier("a", value -> value, bytes -> bytes);
+    final Bytes value = Bytes.wrap(new byte[VALUE_SIZE]);
+
+    compressedTier.put(1, value, 1);
+
+    assertThat(compressedTier.get(1)).contains(value);
+    assertThat(compressedCache.getTotalBytes()).isLessThan(VALUE_SIZE);
+  }
+
+  @Test
+  void shouldKeepTiersSeparate() {
+    tier.put(1, value(1), 1);
+
+    assertThat(tier.contains(1)).isTrue();
+    assertThat(otherTier.contains(1)).isFalse();
+
+    otherTier.clear();
+    assertThat(tier.get(1)).contains(value(1));
+
+    tier.clear();
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getTotalBytes()).isZero();
+  }
+
+  @Test
+  void shouldEvictCheapestToRegenerateOfOldestEntriesWhenOverBudget() {
+    tier.put(1, value(1), 100);
+    tier.put(2, value(2), 1);
+    otherTier.put(3, value(3), 100);
+
+    tier.put(4, value(4), 100);
+
+    assertThat(tier.contains(1)).isTrue();
+    assertThat(tier.contains(2)).isFalse();
+    assertThat(otherTier.contains(3)).isTrue();
+    assertThat(tier.contains(4)).isTrue();
+    assertThat(cache.getTotalBytes()).isEqualTo(VALUE_SIZE * 3);
+  }
+
+  @Test
+  void shouldRemoveMatchingKeysFromTier() {
+    tier.put(1, value(1), 1);
+    tier.put(2, value(2), 1);
+    otherTier.put(2, value(2), 1);
+
+    tier.removeIf(key -> key == 2);
+
+    assertThat(tier.contains(1)).isTrue();
+    assertThat(tier.contains(2)).isFalse();
+    assertThat(otherTier.contains(2)).isTrue();
+    assertThat(cache.getTotalBytes()).isEqualTo(VALUE_SIZE * 2);
+  }
+
+  private static Bytes value(final int seed) {
+    final byte[] value = new byte[VALUE_SIZE];
+    value[0] = (byte) seed;
+    return Bytes.wrap(value);
+  }
+}
@@ -65,6 +65,9 @@ public class Eth2NetworkConfiguration {
   public static final int
       DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_TOTAL_BLOCK_AGGREGATION_TIME_LIMIT_MILLIS = 350;
 
+  // Advance candidate head states to the next slot when this much of the slot is left
+  public static final int DEFAULT_SLOT_STATE_ADVANCE_LEAD_PERCENTAGE = 25;
+
   // should fit attestations for a slot given validator set size
   // so DEFAULT_MAX_QUEUE_PENDING_ATTESTATIONS * slots_per_epoch should be >= validator set size
   // ideally
@@ -134,6 +137,7 @@ public class Eth2NetworkConfiguration {
   private final boolean aggregatingAttestationPoolProfilingEnabled;
   private final int aggregatingAttestationPoolV2BlockAggregationTimeLimit;
   private final int aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit;
+  private final int slotStateAdvanceLeadPercentage;
 
   private Eth2NetworkConfiguration(
       final Spec spec,
@@ -169,7 +173,8 @@ public class Eth2NetworkConfiguration {
       final boolean aggregatingAttestationPoolV2Enabled,
       final boolean aggregatingAttestationPoolProfilingEnabled,
       final int aggregatingAttestationPoolV2BlockAggregationTimeLimit,
-      final int aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit) {
+      final int aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit,
+      final int slotStateAdvanceLeadPercentage) {
     this.spec = spec;
     this.constants = constants;
     this.stateBoostrapConfig = stateBoostrapConfig;
@@ -210,6 +215,7 @@ public class Eth2NetworkConfiguration {
         aggregatingAttestationPoolV2BlockAggregationTimeLimit;
     this.aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit =
         aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit;
+    this.slotStateAdvanceLeadPercentage = slotStateAdvanceLeadPercentage;
 
     LOG.debug(
         "P2P async queue - {} threads, max queue size {} ", asyncP2pMaxThreads, asyncP2pMaxQueue);
@@ -340,6 +346,10 @@ public class Eth2NetworkConfiguration {
     return aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit;
   }
 
+  public int getSlotStateAdvanceLeadPercentage() {
+    return slotStateAdvanceLeadPercentage;
+  }
+
   public int getPendingAttestationsMaxQueue() {
     return pendingAttestationsMaxQueue;
   }
@@ -388,6 +398,7 @@ public class Eth2NetworkConfiguration {
             == that.aggregatingAttestationPoolV2BlockAggregationTimeLimit
         && aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit
             == that.aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit
+        && slotStateAdvanceLeadPercentage == that.slotStateAdvanceLeadPercentage
         && forkChoiceUpdatedAlwaysSendPayloadAttributes
             == that.forkChoiceUpdatedAlwaysSendPayloadAttributes
         && rustKzgEnabled == that.rustKzgEnabled
@@ -440,7 +451,8 @@ public class Eth2NetworkConfiguration {
         asyncP2pMaxQueue,
         forkChoiceLateBlockReorgEnabled,
         forkChoiceUpdatedAlwaysSendPayloadAttributes,
-        rustKzgEnabled);
+        rustKzgEnabled,
+        slotStateAdvanceLeadPercentage);
   }
 
   public static class Builder {
@@ -490,6 +502,7 @@ public class Eth2NetworkConfiguration {
         DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_BLOCK_AGGREGATION_TIME_LIMIT_MILLIS;
     private int aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit =
         DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_TOTAL_BLOCK_AGGREGATION_TIME_LIMIT_MILLIS;
+    private int slotStateAdvanceLeadPercentage = DEFAULT_SLOT_STATE_ADVANCE_LEAD_PERCENTAGE;
 
     public void spec(final Spec spec) {
       this.spec = spec;
@@ -597,7 +610,8 @@ public class Eth2NetworkConfiguration {
           aggregatingAttestationPoolV2Enabled,
           aggregatingAttestationPoolProfilingEnabled,
           aggregatingAttestationPoolV2BlockAggregationTimeLimit,
-          aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit);
+          aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit,
+          slotStateAdvanceLeadPercentage);
     }
 
     private void validateCommandLineParameters() {
@@ -1171,6 +1185,15 @@ public class Eth2NetworkConfiguration {
       return this;
     }
 
+    public Builder slotStateAdvanceLeadPercentage(final int slotStateAdvanceLeadPercentage) {
+      if (slotStateAdvanceLeadPercentage < 0 || slotStateAdvanceLeadPercentage > 100) {
+        throw new InvalidConfigurationException(
+            "Invalid slotStateAdvanceLeadPercentage: " + slotStateAdvanceLeadPercentage);
+      }
+      this.slotStateAdvanceLeadPercentage = slotStateAdvanceLeadPercentage;
+      return this;
+    }
+
     public Builder forkChoiceUpdatedAlwaysSendPayloadAttributes(
         final boolean forkChoiceUpdatedAlwaysSendPayloadAttributes) {
       this.forkChoiceUpdatedAlwaysSendPayloadAttributes =
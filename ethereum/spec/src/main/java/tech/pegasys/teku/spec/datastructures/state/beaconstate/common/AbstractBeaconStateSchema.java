@@ -39,6 +39,12 @@ public abstract class AbstractBeaconStateSchema<
     this(name, combineFields(BeaconStateFields.getCommonFields(specConfig), uniqueFields));
   }
 
+  @Override
+  protected boolean isFlatDeserializationEnabled() {
+    // States are navigated and modified as a tree straight after loading
+    return false;
+  }
+
   private static List<SszField> combineFields(
       final List<SszField> fieldsA, final List<SszField> fieldsB) {
     return Stream.concat(fieldsA.stream(), fieldsB.stream())
@@ -48,6 +48,15 @@ public class BeaconStateInvariants {
     return List.of(GENESIS_TIME_FIELD, GENESIS_VALIDATORS_ROOT_FIELD, SLOT_FIELD);
   }
 
+  /**
+   * @return The number of leading bytes of a serialized state needed to extract its slot
+   */
+  public static int getSlotPrefixSize() {
+    return GENESIS_TIME_SCHEMA.getSszFixedPartSize()
+        + GENESIS_VALIDATORS_ROOT_SCHEMA.getSszFixedPartSize()
+        + SLOT_SCHEMA.getSszFixedPartSize();
+  }
+
   /**
    * Extract the slot value from any serialized state
    *
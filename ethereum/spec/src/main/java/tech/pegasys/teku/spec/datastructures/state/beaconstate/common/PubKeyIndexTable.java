@@ -0,0 +1,241 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+
+/**
+ * Append-only, open-addressing (validator pub key) -> (validator index) table.
+ *
+ * <p>Compressed keys are stored back to back in a single {@code byte[]} and indices in an {@code
+ * int[]}, so the table holds no per-entry objects and lookups never decompress or allocate a {@link
+ * BLSPublicKey}. Entries are never physically removed: {@link #invalidate(Object)} only marks the
+ * entry as absent so that a later {@link #invalidateWithNewValue(Object, Object)} can reuse it.
+ *
+ * <p>Unlike {@link tech.pegasys.teku.infrastructure.collections.cache.LRUCache} reads don't mutate
+ * the table, so they only take a shared lock and don't contend with each other.
+ */
+public class PubKeyIndexTable implements Cache<BLSPublicKey, Integer> {
+
+  private static final int KEY_SIZE = Bytes48.SIZE;
+  private static final int NO_ENTRY = 0;
+  private static final int ABSENT_VALUE = -1;
+  private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // slot -> (entry id + 1), 0 means the slot is free. Always at most half full.
+  private int[] slots;
+  private byte[] keys;
+  private int[] values;
+  private int entryCount;
+  private int liveCount;
+
+  public PubKeyIndexTable() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public PubKeyIndexTable(final int initialCapacity) {
+    checkArgument(initialCapacity > 0, "Initial capacity must be positive");
+    this.keys = new byte[initialCapacity * KEY_SIZE];
+    this.values = new int[initialCapacity];
+    this.slots = new int[slotCountFor(initialCapacity)];
+  }
+
+  private PubKeyIndexTable(final PubKeyIndexTable source) {
+    this.slots = source.slots.clone();
+    this.keys = source.keys.clone();
+    this.values = source.values.clone();
+    this.entryCount = source.entryCount;
+    this.liveCount = source.liveCount;
+  }
+
+  @Override
+  public Integer get(final BLSPublicKey key, final Function<BLSPublicKey, Integer> fallback) {
+    final Optional<Integer> cached = getCached(key);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    final Integer value = fallback.apply(key);
+    if (value != null) {
+      put(key.toBytesCompressed(), value);
+    }
+    return value;
+  }
+
+  @Override
+  public Optional<Integer> getCached(final BLSPublicKey key) {
+    final byte[] keyBytes = key.toBytesCompressed().toArrayUnsafe();
+    lock.readLock().lock();
+    try {
+      final int entry = findEntry(keyBytes);
+      if (entry < 0 || values[entry] == ABSENT_VALUE) {
+        return Optional.empty();
+      }
+      return Optional.of(values[entry]);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Cache<BLSPublicKey, Integer> copy() {
+    lock.readLock().lock();
+    try {
+      return new PubKeyIndexTable(this);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void invalidate(final BLSPublicKey key) {
+    final byte[] keyBytes = key.toBytesCompressed().toArrayUnsafe();
+    lock.writeLock().lock();
+    try {
+      final int entry = findEntry(keyBytes);
+      if (entry >= 0 && values[entry] != ABSENT_VALUE) {
+        values[entry] = ABSENT_VALUE;
+        liveCount--;
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void invalidateWithNewValue(final BLSPublicKey key, final Integer newValue) {
+    put(key.toBytesCompressed(), newValue);
+  }
+
+  @Override
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      Arrays.fill(slots, NO_ENTRY);
+      entryCount = 0;
+      liveCount = 0;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return liveCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void put(final Bytes48 key, final int value) {
+    checkArgument(value >= 0, "Validator index must not be negative");
+    final byte[] keyBytes = key.toArrayUnsafe();
+    lock.writeLock().lock();
+    try {
+      putUnlocked(keyBytes, value);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void putUnlocked(final byte[] keyBytes, final int value) {
+    int slot = slotFor(keyBytes, slots.length);
+    while (slots[slot] != NO_ENTRY) {
+      final int entry = slots[slot] - 1;
+      if (keyEquals(entry, keyBytes)) {
+        if (values[entry] == ABSENT_VALUE) {
+          liveCount++;
+        }
+        values[entry] = value;
+        return;
+      }
+      slot = (slot + 1) & (slots.length - 1);
+    }
+    if (entryCount == values.length) {
+      grow();
+      // slot positions depend on the table size
+      putUnlocked(keyBytes, value);
+      return;
+    }
+    final int entry = entryCount++;
+    System.arraycopy(keyBytes, 0, keys, entry * KEY_SIZE, KEY_SIZE);
+    values[entry] = value;
+    slots[slot] = entry + 1;
+    liveCount++;
+  }
+
+  private int findEntry(final byte[] keyBytes) {
+    final int mask = slots.length - 1;
+    int slot = slotFor(keyBytes, slots.length);
+    while (slots[slot] != NO_ENTRY) {
+      final int entry = slots[slot] - 1;
+      if (keyEquals(entry, keyBytes)) {
+        return entry;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private boolean keyEquals(final int entry, final byte[] keyBytes) {
+    final int offset = entry * KEY_SIZE;
+    return Arrays.equals(keys, offset, offset + KEY_SIZE, keyBytes, 0, KEY_SIZE);
+  }
+
+  private void grow() {
+    final int newCapacity = values.length * 2;
+    keys = Arrays.copyOf(keys, newCapacity * KEY_SIZE);
+    values = Arrays.copyOf(values, newCapacity);
+    final int[] newSlots = new int[slotCountFor(newCapacity)];
+    final int mask = newSlots.length - 1;
+    final byte[] keyBytes = new byte[KEY_SIZE];
+    for (int entry = 0; entry < entryCount; entry++) {
+      System.arraycopy(keys, entry * KEY_SIZE, keyBytes, 0, KEY_SIZE);
+      int slot = slotFor(keyBytes, newSlots.length);
+      while (newSlots[slot] != NO_ENTRY) {
+        slot = (slot + 1) & mask;
+      }
+      newSlots[slot] = entry + 1;
+    }
+    slots = newSlots;
+  }
+
+  private static int slotCountFor(final int capacity) {
+    return Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+  }
+
+  private static int slotFor(final byte[] keyBytes, final int slotCount) {
+    // the first byte carries compression flags, the remaining bytes are effectively random
+    long hash = 0;
+    for (int i = 1; i < 9; i++) {
+      hash = (hash << 8) | (keyBytes[i] & 0xFF);
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return (int) hash & (slotCount - 1);
+  }
+}
@@ -22,7 +22,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
-import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.collections.cache.CopyOnWriteCache;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
@@ -56,6 +56,7 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
+          NoOpCache.getNoOpCache(),
           ProgressiveTotalBalancesUpdates.NOOP) {
 
         @Override
@@ -87,23 +88,25 @@ public class TransitionCaches {
   private final Cache<UInt64, UInt64> baseRewardPerIncrement;
 
   private final Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache;
+  private final Cache<UInt64, BLSPublicKey> syncCommitteeAggregatePubKey;
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
   private volatile ProgressiveTotalBalancesUpdates progressiveTotalBalances;
 
   private TransitionCaches() {
-    activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
-    beaconProposerIndex = LRUCache.create(MAX_BEACON_PROPOSER_INDEX_CACHE);
-    beaconCommittee = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
-    beaconCommitteesSize = LRUCache.create(MAX_BEACON_COMMITTEES_SIZE_CACHE);
-    attestersTotalBalance = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
-    totalActiveBalance = LRUCache.create(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
-    validatorsPubKeys = LRUCache.create(Integer.MAX_VALUE - 1);
+    activeValidators = CopyOnWriteCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
+    beaconProposerIndex = CopyOnWriteCache.create(MAX_BEACON_PROPOSER_INDEX_CACHE);
+    beaconCommittee = CopyOnWriteCache.create(MAX_BEACON_COMMITTEE_CACHE);
+    beaconCommitteesSize = CopyOnWriteCache.create(MAX_BEACON_COMMITTEES_SIZE_CACHE);
+    attestersTotalBalance = CopyOnWriteCache.create(MAX_BEACON_COMMITTEE_CACHE);
+    totalActiveBalance = CopyOnWriteCache.create(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
+    validatorsPubKeys = new ValidatorPubKeyStore();
     validatorIndexCache = new ValidatorIndexCache();
-    committeeShuffle = LRUCache.create(MAX_COMMITTEE_SHUFFLE_CACHE);
-    effectiveBalances = LRUCache.create(MAX_EFFECTIVE_BALANCE_CACHE);
-    syncCommitteeCache = LRUCache.create(MAX_SYNC_COMMITTEE_CACHE);
-    baseRewardPerIncrement = LRUCache.create(MAX_BASE_REWARD_PER_INCREMENT_CACHE);
+    committeeShuffle = CopyOnWriteCache.create(MAX_COMMITTEE_SHUFFLE_CACHE);
+    effectiveBalances = CopyOnWriteCache.create(MAX_EFFECTIVE_BALANCE_CACHE);
+    syncCommitteeCache = CopyOnWriteCache.create(MAX_SYNC_COMMITTEE_CACHE);
+    syncCommitteeAggregatePubKey = CopyOnWriteCache.create(MAX_SYNC_COMMITTEE_CACHE);
+    baseRewardPerIncrement = CopyOnWriteCache.create(MAX_BASE_REWARD_PER_INCREMENT_CACHE);
     progressiveTotalBalances = ProgressiveTotalBalancesUpdates.NOOP;
   }
 
@@ -119,6 +122,7 @@ public class TransitionCaches {
       final Cache<Bytes32, IntList> committeeShuffle,
       final Cache<UInt64, List<UInt64>> effectiveBalances,
       final Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
+      final Cache<UInt64, BLSPublicKey> syncCommitteeAggregatePubKey,
       final Cache<UInt64, UInt64> baseRewardPerIncrement,
       final ProgressiveTotalBalancesUpdates progressiveTotalBalances) {
     this.activeValidators = activeValidators;
@@ -132,6 +136,7 @@ public class TransitionCaches {
     this.committeeShuffle = committeeShuffle;
     this.effectiveBalances = effectiveBalances;
     this.syncCommitteeCache = syncCommitteeCache;
+    this.syncCommitteeAggregatePubKey = syncCommitteeAggregatePubKey;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
     this.progressiveTotalBalances = progressiveTotalBalances;
   }
@@ -220,6 +225,11 @@ public class TransitionCaches {
     return syncCommitteeCache;
   }
 
+  /** (sync committee period) -> (aggregate pub key of the whole sync committee) */
+  public Cache<UInt64, BLSPublicKey> getSyncCommitteeAggregatePubKey() {
+    return syncCommitteeAggregatePubKey;
+  }
+
   public Cache<UInt64, UInt64> getBaseRewardPerIncrement() {
     return baseRewardPerIncrement;
   }
@@ -241,6 +251,7 @@ public class TransitionCaches {
         committeeShuffle.copy(),
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
+        syncCommitteeAggregatePubKey.copy(),
         baseRewardPerIncrement.copy(),
         progressiveTotalBalances.copy());
   }
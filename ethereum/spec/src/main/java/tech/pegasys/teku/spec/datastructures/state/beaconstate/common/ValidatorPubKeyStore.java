@@ -0,0 +1,149 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Dense (validator index) -> (validator pub key) store.
+ *
+ * <p>Keys are kept in fixed size chunks addressed directly by validator index, so there are no
+ * per-entry map nodes or boxed keys and reads are lock free. Modifications take the store's lock,
+ * so a key stored concurrently with {@link #clear()} is never written into a dropped chunk. The
+ * stored {@link BLSPublicKey} instances memoize their decompressed point, so once a key is stored
+ * it is never decompressed again and can be passed straight to BLS aggregation.
+ */
+public class ValidatorPubKeyStore implements Cache<UInt64, BLSPublicKey> {
+
+  private static final int CHUNK_BITS = 12;
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  @SuppressWarnings("unchecked")
+  private volatile AtomicReferenceArray<BLSPublicKey>[] chunks = new AtomicReferenceArray[0];
+
+  // Only modified while holding the lock
+  private volatile int size;
+
+  public ValidatorPubKeyStore() {}
+
+  private ValidatorPubKeyStore(final AtomicReferenceArray<BLSPublicKey>[] chunks, final int size) {
+    this.chunks = chunks;
+    this.size = size;
+  }
+
+  @Override
+  public BLSPublicKey get(final UInt64 key, final Function<UInt64, BLSPublicKey> fallback) {
+    final Optional<BLSPublicKey> cached = getCached(key);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    final BLSPublicKey publicKey = fallback.apply(key);
+    if (publicKey != null) {
+      store(key, publicKey);
+    }
+    return publicKey;
+  }
+
+  @Override
+  public Optional<BLSPublicKey> getCached(final UInt64 key) {
+    if (!isAddressable(key)) {
+      return Optional.empty();
+    }
+    final int index = key.intValue();
+    final AtomicReferenceArray<BLSPublicKey>[] currentChunks = chunks;
+    final int chunkIndex = index >>> CHUNK_BITS;
+    if (chunkIndex >= currentChunks.length) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(currentChunks[chunkIndex].get(index & CHUNK_MASK));
+  }
+
+  @Override
+  public synchronized Cache<UInt64, BLSPublicKey> copy() {
+    @SuppressWarnings("unchecked")
+    final AtomicReferenceArray<BLSPublicKey>[] copiedChunks =
+        new AtomicReferenceArray[chunks.length];
+    for (int i = 0; i < chunks.length; i++) {
+      final AtomicReferenceArray<BLSPublicKey> chunk = chunks[i];
+      final BLSPublicKey[] values = new BLSPublicKey[CHUNK_SIZE];
+      for (int j = 0; j < CHUNK_SIZE; j++) {
+        values[j] = chunk.get(j);
+      }
+      copiedChunks[i] = new AtomicReferenceArray<>(values);
+    }
+    return new ValidatorPubKeyStore(copiedChunks, size);
+  }
+
+  @Override
+  public synchronized void invalidate(final UInt64 key) {
+    if (getCached(key).isEmpty()) {
+      return;
+    }
+    final int index = key.intValue();
+    chunks[index >>> CHUNK_BITS].set(index & CHUNK_MASK, null);
+    size--;
+  }
+
+  @Override
+  public void invalidateWithNewValue(final UInt64 key, final BLSPublicKey newValue) {
+    store(key, newValue);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized void clear() {
+    chunks = new AtomicReferenceArray[0];
+    size = 0;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private synchronized void store(final UInt64 key, final BLSPublicKey publicKey) {
+    if (!isAddressable(key)) {
+      return;
+    }
+    final int index = key.intValue();
+    final AtomicReferenceArray<BLSPublicKey> chunk = ensureChunk(index >>> CHUNK_BITS);
+    if (chunk.getAndSet(index & CHUNK_MASK, publicKey) == null) {
+      size++;
+    }
+  }
+
+  // Must be called while holding the lock
+  private AtomicReferenceArray<BLSPublicKey> ensureChunk(final int chunkIndex) {
+    if (chunkIndex >= chunks.length) {
+      final AtomicReferenceArray<BLSPublicKey>[] grownChunks =
+          Arrays.copyOf(chunks, chunkIndex + 1);
+      for (int i = chunks.length; i < grownChunks.length; i++) {
+        grownChunks[i] = new AtomicReferenceArray<>(CHUNK_SIZE);
+      }
+      chunks = grownChunks;
+    }
+    return chunks[chunkIndex];
+  }
+
+  private static boolean isAddressable(final UInt64 key) {
+    return key.isLessThan(Integer.MAX_VALUE);
+  }
+}
@@ -13,11 +13,16 @@
 
 package tech.pegasys.teku.spec.datastructures.util;
 
+import java.io.EOFException;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.io.resource.ResourceLoader;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStateInvariants;
 
 public class ChainDataLoader {
   public static BeaconState loadState(final Spec spec, final String source) throws IOException {
@@ -26,4 +31,19 @@ public class ChainDataLoader {
             .loadBytes(source)
             .orElseThrow(() -> new FileNotFoundException("Not found")));
   }
+
+  /** Reads the slot of a serialized state without loading the rest of the state. */
+  public static UInt64 loadStateSlot(final String source) throws IOException {
+    try (InputStream in =
+        ResourceLoader.urlOrFile("application/octet-stream")
+            .load(source)
+            .orElseThrow(() -> new FileNotFoundException("Not found"))) {
+      final int prefixSize = BeaconStateInvariants.getSlotPrefixSize();
+      final Bytes prefix = Bytes.wrap(in.readNBytes(prefixSize));
+      if (prefix.size() < prefixSize) {
+        throw new EOFException("State is truncated");
+      }
+      return BeaconStateInvariants.extractSlot(prefix);
+    }
+  }
 }
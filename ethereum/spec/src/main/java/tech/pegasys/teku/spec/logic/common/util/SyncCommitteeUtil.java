@@ -179,6 +179,41 @@ public class SyncCommitteeUtil {
             () -> new IllegalStateException("Validator in sync committee has no public key"));
   }
 
+  /**
+   * Returns the public keys to verify a sync aggregate signature against.
+   *
+   * <p>Removing a key from an aggregate costs about the same as adding one, so when most of the
+   * committee participated it's cheaper to remove the non-participants from the cached aggregate of
+   * the whole committee than to aggregate every participant from scratch.
+   */
+  public List<BLSPublicKey> getSyncAggregateSigningPubKeys(
+      final BeaconStateAltair state,
+      final List<BLSPublicKey> participantPubKeys,
+      final List<BLSPublicKey> nonParticipantPubKeys) {
+    if (participantPubKeys.isEmpty()
+        || nonParticipantPubKeys.size() >= participantPubKeys.size()) {
+      return participantPubKeys;
+    }
+    final UInt64 syncCommitteePeriod =
+        computeSyncCommitteePeriod(beaconStateAccessors.getCurrentEpoch(state));
+    final BLSPublicKey syncCommitteeAggregatePubKey =
+        BeaconStateCache.getTransitionCaches(state)
+            .getSyncCommitteeAggregatePubKey()
+            .get(
+                syncCommitteePeriod,
+                __ -> {
+                  final List<BLSPublicKey> syncCommitteePubKeys =
+                      new ArrayList<>(participantPubKeys);
+                  syncCommitteePubKeys.addAll(nonParticipantPubKeys);
+                  return BLSPublicKey.aggregate(syncCommitteePubKeys);
+                });
+    if (!syncCommitteeAggregatePubKey.isValid()) {
+      // An invalid member key poisons the aggregate, fall back to plain aggregation
+      return participantPubKeys;
+    }
+    return List.of(BLSPublicKey.subtract(syncCommitteeAggregatePubKey, nonParticipantPubKeys));
+  }
+
   public int getSubcommitteeSize() {
     return specConfig.getSyncCommitteeSize() / SYNC_COMMITTEE_SUBNET_COUNT;
   }
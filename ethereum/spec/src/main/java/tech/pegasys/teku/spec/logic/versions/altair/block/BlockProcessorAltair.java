@@ -221,6 +221,7 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
       throws BlockProcessingException {
     final MutableBeaconStateAltair state = MutableBeaconStateAltair.required(baseState);
     final List<BLSPublicKey> participantPubkeys = new ArrayList<>();
+    final List<BLSPublicKey> nonParticipantPubkeys = new ArrayList<>();
 
     // Compute participant and proposer rewards
     final UInt64 participantReward = computeParticipantReward(state);
@@ -244,6 +245,7 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
         beaconStateMutators.increaseBalance(state, validatorIndex, participantReward);
         beaconStateMutators.increaseProposerBalance(state, proposerIndex, proposerReward);
       } else {
+        nonParticipantPubkeys.add(publicKey);
         beaconStateMutators.decreaseBalance(state, validatorIndex, participantReward);
       }
     }
@@ -260,7 +262,8 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
 
     if (!eth2FastAggregateVerify(
         signatureVerifier,
-        participantPubkeys,
+        syncCommitteeUtil.getSyncAggregateSigningPubKeys(
+            state, participantPubkeys, nonParticipantPubkeys),
         signingRoot,
         aggregate.getSyncCommitteeSignature().getSignature())) {
       throw new BlockProcessingException("Invalid sync committee signature in " + aggregate);
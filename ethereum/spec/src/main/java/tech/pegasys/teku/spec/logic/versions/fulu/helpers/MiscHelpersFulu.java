@@ -46,6 +46,8 @@ import tech.pegasys.teku.kzg.KZGCell;
 import tech.pegasys.teku.kzg.KZGCellAndProof;
 import tech.pegasys.teku.kzg.KZGCellID;
 import tech.pegasys.teku.kzg.KZGCellWithColumnId;
+import tech.pegasys.teku.kzg.KZGCommitment;
+import tech.pegasys.teku.kzg.KZGProof;
 import tech.pegasys.teku.spec.config.SpecConfigElectra;
 import tech.pegasys.teku.spec.config.SpecConfigFulu;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.Blob;
@@ -286,6 +288,34 @@ public class MiscHelpersFulu extends MiscHelpersElectra {
         dataColumnSidecar.getSszKZGProofs().stream().map(SszKZGProof::getKZGProof).toList());
   }
 
+  /**
+   * Verifies the cell proofs of several sidecars with a single {@link KZG#verifyCellProofBatch}
+   * call. Returns true only if all sidecars are valid, so callers need to verify sidecars one by
+   * one to find out which one is invalid.
+   */
+  public boolean verifyDataColumnSidecarKzgProofBatch(
+      final KZG kzg, final List<DataColumnSidecar> dataColumnSidecars) {
+    final List<KZGCommitment> commitments = new ArrayList<>();
+    final List<KZGCellWithColumnId> cellWithIds = new ArrayList<>();
+    final List<KZGProof> proofs = new ArrayList<>();
+    for (final DataColumnSidecar dataColumnSidecar : dataColumnSidecars) {
+      final int columnIndex = dataColumnSidecar.getIndex().intValue();
+      for (int rowIndex = 0; rowIndex < dataColumnSidecar.getDataColumn().size(); rowIndex++) {
+        cellWithIds.add(
+            KZGCellWithColumnId.fromCellAndColumn(
+                new KZGCell(dataColumnSidecar.getDataColumn().get(rowIndex).getBytes()),
+                columnIndex));
+      }
+      dataColumnSidecar.getSszKZGCommitments().stream()
+          .map(SszKZGCommitment::getKZGCommitment)
+          .forEach(commitments::add);
+      dataColumnSidecar.getSszKZGProofs().stream()
+          .map(SszKZGProof::getKZGProof)
+          .forEach(proofs::add);
+    }
+    return kzg.verifyCellProofBatch(commitments, cellWithIds, proofs);
+  }
+
   public boolean verifyDataColumnSidecarInclusionProof(final DataColumnSidecar dataColumnSidecar) {
     if (dataColumnSidecar.getSszKZGCommitments().isEmpty()) {
       return false;
@@ -434,41 +464,74 @@ public class MiscHelpersFulu extends MiscHelpersElectra {
       return Collections.emptyList();
     }
 
+    final int columnCount = extendedMatrix.getFirst().size();
+
+    return IntStream.range(0, columnCount)
+        .mapToObj(
+            cellID ->
+                constructDataColumnSidecar(
+                    signedBeaconBlockHeader,
+                    sszKZGCommitments,
+                    kzgCommitmentsInclusionProof,
+                    extendedMatrix,
+                    cellID))
+        .toList();
+  }
+
+  private DataColumnSidecar constructDataColumnSidecar(
+      final SignedBeaconBlockHeader signedBeaconBlockHeader,
+      final SszList<SszKZGCommitment> sszKZGCommitments,
+      final List<Bytes32> kzgCommitmentsInclusionProof,
+      final List<List<MatrixEntry>> extendedMatrix,
+      final int cellID) {
     final DataColumnSchema dataColumnSchema = schemaDefinitionsFulu.getDataColumnSchema();
     final DataColumnSidecarSchema dataColumnSidecarSchema =
         schemaDefinitionsFulu.getDataColumnSidecarSchema();
     final SszListSchema<SszKZGProof, ?> kzgProofsSchema =
         dataColumnSidecarSchema.getKzgProofsSchema();
 
-    final int columnCount = extendedMatrix.getFirst().size();
-
-    return IntStream.range(0, columnCount)
-        .mapToObj(
-            cellID -> {
-              List<MatrixEntry> columnData =
-                  extendedMatrix.stream().map(row -> row.get(cellID)).toList();
-              List<Cell> columnCells = columnData.stream().map(MatrixEntry::getCell).toList();
-
-              SszList<SszKZGProof> columnProofs =
-                  columnData.stream()
-                      .map(MatrixEntry::getKzgProof)
-                      .map(SszKZGProof::new)
-                      .collect(kzgProofsSchema.collector());
-              final DataColumn dataColumn = dataColumnSchema.create(columnCells);
-
-              return dataColumnSidecarSchema.create(
-                  UInt64.valueOf(cellID),
-                  dataColumn,
-                  sszKZGCommitments,
-                  columnProofs,
-                  signedBeaconBlockHeader,
-                  kzgCommitmentsInclusionProof);
-            })
-        .toList();
+    List<MatrixEntry> columnData = extendedMatrix.stream().map(row -> row.get(cellID)).toList();
+    List<Cell> columnCells = columnData.stream().map(MatrixEntry::getCell).toList();
+
+    SszList<SszKZGProof> columnProofs =
+        columnData.stream()
+            .map(MatrixEntry::getKzgProof)
+            .map(SszKZGProof::new)
+            .collect(kzgProofsSchema.collector());
+    final DataColumn dataColumn = dataColumnSchema.create(columnCells);
+
+    return dataColumnSidecarSchema.create(
+        UInt64.valueOf(cellID),
+        dataColumn,
+        sszKZGCommitments,
+        columnProofs,
+        signedBeaconBlockHeader,
+        kzgCommitmentsInclusionProof);
   }
 
   public List<DataColumnSidecar> reconstructAllDataColumnSidecars(
       final Collection<DataColumnSidecar> existingSidecars, final KZG kzg) {
+    final List<List<MatrixEntry>> extendedMatrix =
+        recoverMatrix(computePartialMatrix(existingSidecars), kzg);
+    final DataColumnSidecar anyExistingSidecar =
+        existingSidecars.stream().findFirst().orElseThrow();
+    final SignedBeaconBlockHeader signedBeaconBlockHeader =
+        anyExistingSidecar.getSignedBeaconBlockHeader();
+    return constructDataColumnSidecars(
+        signedBeaconBlockHeader,
+        anyExistingSidecar.getSszKZGCommitments(),
+        anyExistingSidecar.getKzgCommitmentsInclusionProof().asListUnboxed(),
+        extendedMatrix);
+  }
+
+  /**
+   * Return the partial extended matrix: for every blob, the cells of the given sidecars.
+   *
+   * <p>Rows can be passed one by one to {@link #recoverMatrixRow(List, int, KZG)} so that the
+   * caller may schedule and cancel recovery of each blob independently.
+   */
+  public List<List<MatrixEntry>> computePartialMatrix(
+      final Collection<DataColumnSidecar> existingSidecars) {
     if (existingSidecars.size() < (specConfigFulu.getNumberOfColumns() / 2)) {
       throw new IllegalArgumentException(
           "Number of sidecars must be greater than or equal to the half of column count");
@@ -489,17 +552,7 @@ public class MiscHelpersFulu extends MiscHelpersElectra {
                                         UInt64.valueOf(rowIndex)))
                         .toList())
             .toList();
-    final List<List<MatrixEntry>> blobColumnEntries = transpose(columnBlobEntries);
-    final List<List<MatrixEntry>> extendedMatrix = recoverMatrix(blobColumnEntries, kzg);
-    final DataColumnSidecar anyExistingSidecar =
-        existingSidecars.stream().findFirst().orElseThrow();
-    final SignedBeaconBlockHeader signedBeaconBlockHeader =
-        anyExistingSidecar.getSignedBeaconBlockHeader();
-    return constructDataColumnSidecars(
-        signedBeaconBlockHeader,
-        anyExistingSidecar.getSszKZGCommitments(),
-        anyExistingSidecar.getKzgCommitmentsInclusionProof().asListUnboxed(),
-        extendedMatrix);
+    return transpose(columnBlobEntries);
   }
 
   /**
@@ -513,34 +566,52 @@ public class MiscHelpersFulu extends MiscHelpersElectra {
       final List<List<MatrixEntry>> partialMatrix, final KZG kzg) {
     return IntStream.range(0, partialMatrix.size())
         .parallel()
+        .mapToObj(blobIndex -> recoverMatrixRow(partialMatrix.get(blobIndex), blobIndex, kzg))
+        .toList();
+  }
+
+  /** Return the recovered row of the extended matrix for a single blob. */
+  public List<MatrixEntry> recoverMatrixRow(
+      final List<MatrixEntry> partialRow, final int blobIndex, final KZG kzg) {
+    final List<KZGCellWithColumnId> cellWithColumnIds =
+        partialRow.stream()
+            .filter(entry -> entry.getRowIndex().intValue() == blobIndex)
+            .map(
+                entry ->
+                    new KZGCellWithColumnId(
+                        new KZGCell(entry.getCell().getBytes()),
+                        new KZGCellID(entry.getColumnIndex())))
+            .toList();
+    final List<KZGCellAndProof> kzgCellAndProofs = kzg.recoverCellsAndProofs(cellWithColumnIds);
+    return IntStream.range(0, kzgCellAndProofs.size())
         .mapToObj(
-            blobIndex -> {
-              final List<KZGCellWithColumnId> cellWithColumnIds =
-                  partialMatrix.get(blobIndex).stream()
-                      .filter(entry -> entry.getRowIndex().intValue() == blobIndex)
-                      .map(
-                          entry ->
-                              new KZGCellWithColumnId(
-                                  new KZGCell(entry.getCell().getBytes()),
-                                  new KZGCellID(entry.getColumnIndex())))
-                      .toList();
-              final List<KZGCellAndProof> kzgCellAndProofs =
-                  kzg.recoverCellsAndProofs(cellWithColumnIds);
-              return IntStream.range(0, kzgCellAndProofs.size())
-                  .mapToObj(
-                      kzgCellAndProofIndex ->
-                          schemaDefinitionsFulu
-                              .getMatrixEntrySchema()
-                              .create(
-                                  kzgCellAndProofs.get(kzgCellAndProofIndex).cell(),
-                                  kzgCellAndProofs.get(kzgCellAndProofIndex).proof(),
-                                  kzgCellAndProofIndex,
-                                  blobIndex))
-                  .toList();
-            })
+            kzgCellAndProofIndex ->
+                schemaDefinitionsFulu
+                    .getMatrixEntrySchema()
+                    .create(
+                        kzgCellAndProofs.get(kzgCellAndProofIndex).cell(),
+                        kzgCellAndProofs.get(kzgCellAndProofIndex).proof(),
+                        kzgCellAndProofIndex,
+                        blobIndex))
         .toList();
   }
 
+  /**
+   * Return a single sidecar of the recovered extended matrix, taking block related fields from
+   * any existing sidecar of the same block.
+   */
+  public DataColumnSidecar reconstructDataColumnSidecar(
+      final DataColumnSidecar existingSidecar,
+      final List<List<MatrixEntry>> extendedMatrix,
+      final int columnIndex) {
+    return constructDataColumnSidecar(
+        existingSidecar.getSignedBeaconBlockHeader(),
+        existingSidecar.getSszKZGCommitments(),
+        existingSidecar.getKzgCommitmentsInclusionProof().asListUnboxed(),
+        extendedMatrix,
+        columnIndex);
+  }
+
   /**
    * NOTE: this method was part of the spec for lossy sampling. Not it is only being used on tests
    * (eventually it will be removed).
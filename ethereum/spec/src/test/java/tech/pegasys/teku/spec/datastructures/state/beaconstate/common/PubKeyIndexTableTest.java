@@ -0,0 +1,91 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class PubKeyIndexTableTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @Test
+  public void shouldReturnInsertedIndicesAcrossGrowth() {
+    final PubKeyIndexTable table = new PubKeyIndexTable(2);
+    final List<BLSPublicKey> publicKeys = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+      publicKeys.add(publicKey);
+      table.invalidateWithNewValue(publicKey, i);
+    }
+
+    assertThat(table.size()).isEqualTo(100);
+    for (int i = 0; i < publicKeys.size(); i++) {
+      assertThat(table.getCached(publicKeys.get(i))).contains(i);
+    }
+    assertThat(table.getCached(dataStructureUtil.randomPublicKey())).isEmpty();
+  }
+
+  @Test
+  public void shouldReplaceExistingValue() {
+    final PubKeyIndexTable table = new PubKeyIndexTable();
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+
+    table.invalidateWithNewValue(publicKey, 1);
+    table.invalidateWithNewValue(publicKey, 2);
+
+    assertThat(table.size()).isOne();
+    assertThat(table.getCached(publicKey)).contains(2);
+  }
+
+  @Test
+  public void shouldInvalidateAndReinsert() {
+    final PubKeyIndexTable table = new PubKeyIndexTable();
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    table.invalidateWithNewValue(publicKey, 5);
+
+    table.invalidate(publicKey);
+    assertThat(table.size()).isZero();
+    assertThat(table.getCached(publicKey)).isEmpty();
+
+    assertThat(table.get(publicKey, __ -> 7)).isEqualTo(7);
+    assertThat(table.size()).isOne();
+    assertThat(table.getCached(publicKey)).contains(7);
+  }
+
+  @Test
+  public void copyShouldBeIndependent() {
+    final PubKeyIndexTable table = new PubKeyIndexTable();
+    final BLSPublicKey publicKey1 = dataStructureUtil.randomPublicKey();
+    final BLSPublicKey publicKey2 = dataStructureUtil.randomPublicKey();
+    table.invalidateWithNewValue(publicKey1, 1);
+
+    final Cache<BLSPublicKey, Integer> copy = table.copy();
+    copy.invalidateWithNewValue(publicKey2, 2);
+    table.clear();
+
+    assertThat(table.size()).isZero();
+    assertThat(copy.getCached(publicKey1)).contains(1);
+    assertThat(copy.getCached(publicKey2)).contains(2);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class ValidatorPubKeyStoreTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ValidatorPubKeyStore store = new ValidatorPubKeyStore();
+
+  @Test
+  public void shouldStoreKeysAcrossChunks() {
+    final BLSPublicKey first = dataStructureUtil.randomPublicKey();
+    final BLSPublicKey far = dataStructureUtil.randomPublicKey();
+
+    store.invalidateWithNewValue(UInt64.ZERO, first);
+    store.invalidateWithNewValue(UInt64.valueOf(100_000), far);
+
+    assertThat(store.size()).isEqualTo(2);
+    assertThat(store.getCached(UInt64.ZERO)).contains(first);
+    assertThat(store.getCached(UInt64.valueOf(100_000))).contains(far);
+    assertThat(store.getCached(UInt64.valueOf(99_999))).isEmpty();
+    assertThat(store.getCached(UInt64.valueOf(1_000_000))).isEmpty();
+    assertThat(store.getCached(UInt64.MAX_VALUE)).isEmpty();
+  }
+
+  @Test
+  public void shouldOnlyCallFallbackOnMiss() {
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+
+    assertThat(store.get(UInt64.ONE, __ -> publicKey)).isEqualTo(publicKey);
+    assertThat(
+            store.get(
+                UInt64.ONE,
+                __ -> {
+                  throw new AssertionError("Unexpected fallback");
+                }))
+        .isEqualTo(publicKey);
+    assertThat(store.size()).isOne();
+  }
+
+  @Test
+  public void shouldInvalidate() {
+    store.invalidateWithNewValue(UInt64.ONE, dataStructureUtil.randomPublicKey());
+
+    store.invalidate(UInt64.ONE);
+    store.invalidate(UInt64.valueOf(5));
+
+    assertThat(store.size()).isZero();
+    assertThat(store.getCached(UInt64.ONE)).isEmpty();
+  }
+
+  @Test
+  public void copyShouldBeIndependent() {
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    store.invalidateWithNewValue(UInt64.ONE, publicKey);
+
+    final Cache<UInt64, BLSPublicKey> copy = store.copy();
+    copy.invalidateWithNewValue(UInt64.valueOf(2), dataStructureUtil.randomPublicKey());
+    store.clear();
+
+    assertThat(store.size()).isZero();
+    assertThat(copy.size()).isEqualTo(2);
+    assertThat(copy.getCached(UInt64.ONE)).contains(publicKey);
+  }
+
+  @Test
+  public void sizeShouldMatchStoredKeysWhenClearedConcurrently() throws Exception {
+    final int keyCount = 20_000;
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    final Thread writer =
+        new Thread(
+            () -> {
+              for (int i = 0; i < keyCount; i++) {
+                store.invalidateWithNewValue(UInt64.valueOf(i), publicKey);
+              }
+            });
+    writer.start();
+    while (writer.isAlive()) {
+      store.clear();
+    }
+    writer.join();
+
+    final long storedKeys =
+        IntStream.range(0, keyCount)
+            .filter(i -> store.getCached(UInt64.valueOf(i)).isPresent())
+            .count();
+    assertThat(store.size()).isEqualTo(storedKeys);
+  }
+}
@@ -21,6 +21,7 @@ import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -314,6 +315,55 @@ class SyncCommitteeUtilTest {
         .isTrue();
   }
 
+  @Test
+  void getSyncAggregateSigningPubKeys_shouldMatchParticipantsWithFullParticipation() {
+    assertSigningPubKeysMatchParticipants(
+        createStateWithCurrentSyncCommittee(validatorPublicKeys), index -> true);
+  }
+
+  @Test
+  void getSyncAggregateSigningPubKeys_shouldReturnNoKeysWithoutParticipants() {
+    final BeaconStateAltair state =
+        BeaconStateAltair.required(createStateWithCurrentSyncCommittee(validatorPublicKeys));
+    final List<BLSPublicKey> committeePubKeys =
+        validatorPublicKeys.stream().map(SszPublicKey::getBLSPublicKey).toList();
+
+    assertThat(syncCommitteeUtil.getSyncAggregateSigningPubKeys(state, List.of(), committeePubKeys))
+        .isEmpty();
+  }
+
+  @Test
+  void getSyncAggregateSigningPubKeys_shouldMatchParticipantsWithPartialParticipation() {
+    final BeaconState state = createStateWithCurrentSyncCommittee(validatorPublicKeys);
+
+    // Mostly participating removes the non-participants from the cached committee aggregate
+    assertSigningPubKeysMatchParticipants(state, index -> index % 4 != 0);
+    assertSigningPubKeysMatchParticipants(state, index -> index != 7);
+    // Mostly not participating aggregates the participants directly
+    assertSigningPubKeysMatchParticipants(state, index -> index % 4 == 0);
+  }
+
+  private void assertSigningPubKeysMatchParticipants(
+      final BeaconState state, final IntPredicate isParticipant) {
+    final List<BLSPublicKey> participantPubKeys = new ArrayList<>();
+    final List<BLSPublicKey> nonParticipantPubKeys = new ArrayList<>();
+    for (int i = 0; i < validatorPublicKeys.size(); i++) {
+      final BLSPublicKey publicKey = validatorPublicKeys.get(i).getBLSPublicKey();
+      if (isParticipant.test(i)) {
+        participantPubKeys.add(publicKey);
+      } else {
+        nonParticipantPubKeys.add(publicKey);
+      }
+    }
+
+    final List<BLSPublicKey> signingPubKeys =
+        syncCommitteeUtil.getSyncAggregateSigningPubKeys(
+            BeaconStateAltair.required(state), participantPubKeys, nonParticipantPubKeys);
+
+    assertThat(BLSPublicKey.aggregate(signingPubKeys))
+        .isEqualTo(BLSPublicKey.aggregate(participantPubKeys));
+  }
+
   private BeaconState createStateWithCurrentSyncCommittee(
       final List<SszPublicKey> committeePublicKeys) {
     return dataStructureUtil
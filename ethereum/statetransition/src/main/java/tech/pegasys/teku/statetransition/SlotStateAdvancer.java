@@ -0,0 +1,106 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Speculatively advances the states of the blocks the next block is likely to be built on into the
+ * next slot, before that slot starts.
+ *
+ * <p>Candidates are the current head and, when late block reorgs are enabled, the proposer head
+ * selected by {@link tech.pegasys.teku.storage.client.LateBlockReorgLogic}. The advanced states are
+ * kept in a small cache of the store's own, separate from the checkpoint states, where block
+ * production, gossip validation and block import will look for them. Their roots are hashed so
+ * that work is off the critical path too.
+ */
+public class SlotStateAdvancer {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+  private final AsyncRunner asyncRunner;
+  private final boolean lateBlockReorgEnabled;
+  private final int leadPercentage;
+
+  public SlotStateAdvancer(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AsyncRunner asyncRunner,
+      final boolean lateBlockReorgEnabled,
+      final int leadPercentage) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+    this.asyncRunner = asyncRunner;
+    this.lateBlockReorgEnabled = lateBlockReorgEnabled;
+    this.leadPercentage = leadPercentage;
+  }
+
+  /** How much of the slot, in percent, is left when states are advanced. 0 when disabled. */
+  public int getLeadPercentage() {
+    return leadPercentage;
+  }
+
+  public void advanceToSlot(final UInt64 slot) {
+    recentChainData
+        .getHeadBlock()
+        // Don't advance if we're more than an epoch behind as we likely need to sync
+        .filter(headBlock -> isWithinOneEpochOfHeadBlock(slot, headBlock))
+        .ifPresent(
+            headBlock ->
+                getCandidateRoots(headBlock, slot)
+                    .forEach(
+                        root ->
+                            asyncRunner
+                                .runAsync(() -> advance(root, slot))
+                                .ifExceptionGetsHereRaiseABug()));
+  }
+
+  private Set<Bytes32> getCandidateRoots(
+      final MinimalBeaconBlockSummary headBlock, final UInt64 slot) {
+    final Set<Bytes32> roots = new LinkedHashSet<>();
+    roots.add(headBlock.getRoot());
+    if (lateBlockReorgEnabled) {
+      roots.add(recentChainData.getProposerHead(headBlock.getRoot(), slot));
+    }
+    return roots;
+  }
+
+  private void advance(final Bytes32 blockRoot, final UInt64 slot) {
+    recentChainData
+        .retrieveAdvancedStateAtSlot(new SlotAndBlockRoot(slot, blockRoot))
+        .finish(
+            maybeState -> maybeState.ifPresent(BeaconState::hashTreeRoot),
+            error ->
+                LOG.debug(
+                    "Failed to advance state of block {} to slot {}", blockRoot, slot, error));
+  }
+
+  private boolean isWithinOneEpochOfHeadBlock(
+      final UInt64 slot, final MinimalBeaconBlockSummary headBlock) {
+    return headBlock.getSlot().isLessThan(slot)
+        && headBlock.getSlot().plus(spec.getSlotsPerEpoch(slot)).isGreaterThanOrEqualTo(slot);
+  }
+}
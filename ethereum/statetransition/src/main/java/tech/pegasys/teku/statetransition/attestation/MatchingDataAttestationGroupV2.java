@@ -52,9 +52,10 @@ import tech.pegasys.teku.statetransition.attestation.utils.AttestationBits;
  * AttestationData}.
  *
  * <p>So that the added attestations can be aggregated into the smallest number of aggregates, even
- * as the contents of the collection change, aggregation is actually done during iteration.
- * Aggregation starts with the attestation that already includes the most validators then continues
- * adding attestations in order of the number of validators they contain.
+ * as the contents of the collection change, aggregation is actually done during iteration. Each
+ * aggregate is built by {@link MaxCoverageAggregator}, which keeps adding the non-overlapping
+ * attestation that includes the most validators not yet included in a block or a previous
+ * aggregate.
  *
  * <p>Note that the resulting aggregate will be invalid if attestations with different
  * AttestationData are added.
@@ -472,12 +473,10 @@ public class MatchingDataAttestationGroupV2 {
 
   private static class AggregatingIterator implements Iterator<PooledAttestation> {
     private final Supplier<Stream<PooledAttestation>> candidatesStreamSupplier;
-    private final AttestationBits includedValidators;
+    private final MaxCoverageAggregator aggregator;
 
     private final BooleanSupplier timeLimitReachedChecker;
 
-    private Iterator<PooledAttestation> remainingAttestations;
-
     private AggregatingIterator(
         final long timeLimitNanos,
         final LongSupplier nanosSupplier,
@@ -485,8 +484,8 @@ public class MatchingDataAttestationGroupV2 {
         final Supplier<Stream<PooledAttestation>> candidatesStreamSupplier) {
       this.timeLimitReachedChecker = createTimeLimitChecker(nanosSupplier, timeLimitNanos);
       this.candidatesStreamSupplier = candidatesStreamSupplier;
-      this.includedValidators = includedValidatorsCopy;
-      this.remainingAttestations = getRemainingAttestations();
+      this.aggregator = new MaxCoverageAggregator(includedValidatorsCopy.getCoverageBits());
+      aggregator.addCandidates(candidatesStreamSupplier.get());
     }
 
     @Override
@@ -496,37 +495,25 @@ public class MatchingDataAttestationGroupV2 {
         return false;
       }
 
-      if (!remainingAttestations.hasNext()) {
-        remainingAttestations = getRemainingAttestations();
+      if (!aggregator.hasCandidates()) {
+        // pick up any attestations added since the candidates were last loaded
+        aggregator.addCandidates(candidatesStreamSupplier.get());
       }
-      return remainingAttestations.hasNext();
+      return aggregator.hasCandidates();
     }
 
     @Override
     public PooledAttestation next() {
-      final AggregateAttestationBuilder builder = new AggregateAttestationBuilder(true);
-
-      while (remainingAttestations.hasNext()) {
-        final PooledAttestation candidate = remainingAttestations.next();
-        if (builder.aggregate(candidate)) {
-          includedValidators.or(candidate.bits());
-        }
-        if (timeLimitReachedChecker.getAsBoolean()) {
-          // we want at least one candidate to be aggregated
-          // If we hit the time limit, stop aggregating
-          LOG.debug("Time limit reached, skipping remaining aggregation");
-          break;
-        }
-      }
-
-      return builder.buildAggregate();
-    }
-
-    private Iterator<PooledAttestation> getRemainingAttestations() {
-      return candidatesStreamSupplier
-          .get()
-          .filter(candidate -> !includedValidators.isSuperSetOf(candidate))
-          .iterator();
+      return aggregator.nextAggregate(
+          () -> {
+            if (timeLimitReachedChecker.getAsBoolean()) {
+              // we want at least one candidate to be aggregated
+              // If we hit the time limit, stop aggregating
+              LOG.debug("Time limit reached, skipping remaining aggregation");
+              return true;
+            }
+            return false;
+          });
     }
   }
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import tech.pegasys.teku.statetransition.attestation.utils.CoverageBits;
+
+/**
+ * Greedily builds aggregates that cover as many not yet covered validators as possible.
+ *
+ * <p>Each aggregate is built by repeatedly picking the candidate that adds the most uncovered
+ * validators without overlapping the aggregate so far. Since the number of uncovered validators a
+ * candidate adds can only go down as more validators are covered, candidates are kept in a queue
+ * ordered by their last known gain and a gain is only recomputed when its candidate reaches the
+ * head of the queue. Signatures are only aggregated for the selected candidates.
+ *
+ * <p>Not thread safe.
+ */
+class MaxCoverageAggregator {
+  private static final Comparator<Candidate> BY_GAIN_THEN_ARRIVAL =
+      Comparator.<Candidate>comparingInt(candidate -> candidate.gain)
+          .reversed()
+          .thenComparingLong(candidate -> candidate.sequence);
+
+  private final PriorityQueue<Candidate> candidates = new PriorityQueue<>(BY_GAIN_THEN_ARRIVAL);
+  private long[] coveredWords;
+  private long nextSequence = 0;
+
+  MaxCoverageAggregator(final CoverageBits alreadyCovered) {
+    this.coveredWords = new long[alreadyCovered.getWordsLength()];
+    alreadyCovered.orInto(coveredWords);
+  }
+
+  /** Adds the candidates which include at least one validator that isn't covered yet. */
+  void addCandidates(final Stream<PooledAttestation> attestations) {
+    attestations.forEach(
+        attestation -> {
+          final CoverageBits bits = attestation.bits().getCoverageBits();
+          ensureCapacity(bits.getWordsLength());
+          final int gain = bits.countNotIn(coveredWords);
+          if (gain > 0) {
+            candidates.add(new Candidate(attestation, bits, gain, nextSequence++));
+          }
+        });
+  }
+
+  /** Returns true if there is a candidate which would add uncovered validators. */
+  boolean hasCandidates() {
+    while (!candidates.isEmpty()) {
+      final Candidate head = candidates.peek();
+      if (head.bits.countNotIn(coveredWords) > 0) {
+        return true;
+      }
+      candidates.poll();
+    }
+    return false;
+  }
+
+  /**
+   * Builds the next aggregate. At least one candidate is always aggregated, even if the time limit
+   * has already been reached. Must only be called when {@link #hasCandidates()} is true.
+   */
+  PooledAttestation nextAggregate(final BooleanSupplier timeLimitReached) {
+    final AggregateAttestationBuilder builder = new AggregateAttestationBuilder(true);
+    final long[] aggregateWords = new long[coveredWords.length];
+    final List<Candidate> overlappingAggregate = new ArrayList<>();
+
+    while (!candidates.isEmpty()) {
+      final Candidate candidate = candidates.poll();
+      if (candidate.bits.intersects(aggregateWords)) {
+        // May still be useful for the next aggregate
+        overlappingAggregate.add(candidate);
+        continue;
+      }
+      final int gain = candidate.bits.countNotIn(coveredWords);
+      if (gain == 0) {
+        continue;
+      }
+      if (gain < candidate.gain) {
+        // Stale gain, requeue so it is compared against the other candidates again
+        candidate.gain = gain;
+        candidates.add(candidate);
+        continue;
+      }
+      if (builder.aggregate(candidate.attestation)) {
+        candidate.bits.orInto(aggregateWords);
+        candidate.bits.orInto(coveredWords);
+      }
+      if (timeLimitReached.getAsBoolean()) {
+        break;
+      }
+    }
+
+    candidates.addAll(overlappingAggregate);
+    return builder.buildAggregate();
+  }
+
+  private void ensureCapacity(final int wordsLength) {
+    if (wordsLength > coveredWords.length) {
+      coveredWords = Arrays.copyOf(coveredWords, wordsLength);
+    }
+  }
+
+  private static class Candidate {
+    private final PooledAttestation attestation;
+    private final CoverageBits bits;
+    private final long sequence;
+    private int gain;
+
+    private Candidate(
+        final PooledAttestation attestation,
+        final CoverageBits bits,
+        final int gain,
+        final long sequence) {
+      this.attestation = attestation;
+      this.bits = bits;
+      this.gain = gain;
+      this.sequence = sequence;
+    }
+  }
+}
@@ -80,6 +80,12 @@ public interface AttestationBits {
 
   int getBitCount();
 
+  /**
+   * Returns these bits positioned across all committees of the slot, for fast set operations
+   * between attestations sharing the same data.
+   */
+  CoverageBits getCoverageBits();
+
   boolean isExclusivelyFromCommittee(int committeeIndex);
 
   boolean isFromCommittee(int committeeIndex);
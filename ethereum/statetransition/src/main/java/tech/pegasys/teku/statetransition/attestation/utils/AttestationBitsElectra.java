@@ -42,6 +42,7 @@ class AttestationBitsElectra implements AttestationBits {
 
   private SszBitlist cachedAggregationSszBits = null;
   private SszBitvector cachedCommitteeSszBits = null;
+  private CoverageBits cachedCoverageBits = null;
 
   AttestationBitsElectra(
       final SszBitlist initialAggregationBits,
@@ -351,9 +352,32 @@ class AttestationBitsElectra implements AttestationBits {
     return cachedCommitteeSszBits;
   }
 
+  @Override
+  public CoverageBits getCoverageBits() {
+    if (cachedCoverageBits != null) {
+      return cachedCoverageBits;
+    }
+    final BitSet slotAggregationBits = new BitSet();
+    int committeeOffset = 0;
+    for (int committeeIndex = 0; committeeIndex < committeeBits.length(); committeeIndex++) {
+      final BitSet committeeBitsData = committeeAggregationBitsMap.get(committeeIndex);
+      if (committeeBitsData != null) {
+        for (int bitIndex = committeeBitsData.nextSetBit(0);
+            bitIndex >= 0;
+            bitIndex = committeeBitsData.nextSetBit(bitIndex + 1)) {
+          slotAggregationBits.set(committeeOffset + bitIndex);
+        }
+      }
+      committeeOffset += committeesSize.getOrDefault(committeeIndex, 0);
+    }
+    cachedCoverageBits = CoverageBits.fromBitSet(slotAggregationBits);
+    return cachedCoverageBits;
+  }
+
   private void invalidateCache() {
     this.cachedAggregationSszBits = null;
     this.cachedCommitteeSszBits = null;
+    this.cachedCoverageBits = null;
   }
 
   @Override
@@ -25,6 +25,7 @@ import tech.pegasys.teku.statetransition.attestation.PooledAttestation;
 
 class AttestationBitsPhase0 implements AttestationBits {
   private SszBitlist aggregationBits;
+  private CoverageBits cachedCoverageBits = null;
 
   AttestationBitsPhase0(final SszBitlist aggregationBits) {
     this.aggregationBits = aggregationBits;
@@ -38,6 +39,7 @@ class AttestationBitsPhase0 implements AttestationBits {
   public void or(final AttestationBits other) {
     final AttestationBitsPhase0 otherPhase0 = requiresPhase0(other);
     aggregationBits = aggregationBits.or(otherPhase0.aggregationBits);
+    cachedCoverageBits = null;
   }
 
   @Override
@@ -47,12 +49,14 @@ class AttestationBitsPhase0 implements AttestationBits {
       return false;
     }
     aggregationBits = aggregationBits.or(otherPhase0.aggregationBits);
+    cachedCoverageBits = null;
     return true;
   }
 
   @Override
   public void or(final Attestation other) {
     aggregationBits = aggregationBits.or(other.getAggregationBits());
+    cachedCoverageBits = null;
   }
 
   @Override
@@ -96,6 +100,14 @@ class AttestationBitsPhase0 implements AttestationBits {
     return aggregationBits.getBitCount();
   }
 
+  @Override
+  public CoverageBits getCoverageBits() {
+    if (cachedCoverageBits == null) {
+      cachedCoverageBits = CoverageBits.fromBitSet(aggregationBits.getAsBitSet());
+    }
+    return cachedCoverageBits;
+  }
+
   @Override
   public boolean isExclusivelyFromCommittee(final int committeeIndex) {
     throw new IllegalStateException("Committee bits not available in phase0");
@@ -0,0 +1,80 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation.utils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Aggregation bits as {@code long} words, with each validator at its position across all the
+ * committees of the slot so that bits from different committees never collide. Only the words
+ * between the first and the last set bit are stored.
+ *
+ * <p>Operations take a dense array of words covering the whole slot, which must be at least {@link
+ * #getWordsLength()} long.
+ */
+public final class CoverageBits {
+  private final int firstWord;
+  private final long[] words;
+  private final int bitCount;
+
+  private CoverageBits(final int firstWord, final long[] words, final int bitCount) {
+    this.firstWord = firstWord;
+    this.words = words;
+    this.bitCount = bitCount;
+  }
+
+  static CoverageBits fromBitSet(final BitSet bits) {
+    final long[] allWords = bits.toLongArray();
+    int firstWord = 0;
+    while (firstWord < allWords.length && allWords[firstWord] == 0) {
+      firstWord++;
+    }
+    return new CoverageBits(
+        firstWord, Arrays.copyOfRange(allWords, firstWord, allWords.length), bits.cardinality());
+  }
+
+  /** Returns the length of the dense array required to hold these bits */
+  public int getWordsLength() {
+    return firstWord + words.length;
+  }
+
+  public int getBitCount() {
+    return bitCount;
+  }
+
+  public boolean intersects(final long[] denseWords) {
+    for (int i = 0; i < words.length; i++) {
+      if ((words[i] & denseWords[firstWord + i]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the number of bits set here that are not set in {@code denseWords} */
+  public int countNotIn(final long[] denseWords) {
+    int count = 0;
+    for (int i = 0; i < words.length; i++) {
+      count += Long.bitCount(words[i] & ~denseWords[firstWord + i]);
+    }
+    return count;
+  }
+
+  public void orInto(final long[] denseWords) {
+    for (int i = 0; i < words.length; i++) {
+      denseWords[firstWord + i] |= words[i];
+    }
+  }
+}
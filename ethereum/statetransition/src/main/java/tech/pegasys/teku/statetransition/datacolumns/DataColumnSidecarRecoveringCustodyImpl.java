@@ -23,7 +23,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -41,6 +41,7 @@ import tech.pegasys.teku.kzg.KZG;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.MatrixEntry;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
@@ -186,7 +187,7 @@ public class DataColumnSidecarRecoveringCustodyImpl implements DataColumnSidecar
   private synchronized void maybeStartRecovery(final RecoveryTask task) {
     if (readyToBeRecovered(task)) {
       task.recoveryStarted().set(true);
-      if (task.existingColumnIds().size() != columnCount) {
+      if (!isComplete(task)) {
         asyncRunner.runAsync(() -> prepareAndInitiateRecovery(task)).ifExceptionGetsHereRaiseABug();
       }
     }
@@ -229,7 +230,16 @@ public class DataColumnSidecarRecoveringCustodyImpl implements DataColumnSidecar
       AtomicReference<BeaconBlock> block,
       Set<DataColumnSlotAndIdentifier> existingColumnIds,
       AtomicBoolean recoveryStarted,
-      AtomicBoolean timedOut) {}
+      AtomicBoolean timedOut) {
+
+    boolean hasColumn(final SlotAndBlockRoot slotAndBlockRoot, final int columnIndex) {
+      return existingColumnIds.contains(
+          new DataColumnSlotAndIdentifier(
+              slotAndBlockRoot.getSlot(),
+              slotAndBlockRoot.getBlockRoot(),
+              UInt64.valueOf(columnIndex)));
+    }
+  }
 
   private void prepareAndInitiateRecovery(final RecoveryTask task) {
     final SafeFuture<List<DataColumnSidecar>> list =
@@ -238,50 +248,87 @@ public class DataColumnSidecarRecoveringCustodyImpl implements DataColumnSidecar
             .filter(Optional::isPresent)
             .map(Optional::get)
             .toList();
-    initiateRecovery(task.block().get(), list);
+    initiateRecovery(task, list);
   }
 
+  /**
+   * Every blob row is recovered as a separate task on the async runner, so rows are recovered in
+   * parallel and the work left is dropped as soon as all the columns have arrived by other means.
+   * Recovered columns are then built and published one by one instead of waiting for the whole
+   * set of sidecars to be constructed.
+   */
   private void initiateRecovery(
-      final BeaconBlock block, final SafeFuture<List<DataColumnSidecar>> list) {
+      final RecoveryTask task, final SafeFuture<List<DataColumnSidecar>> list) {
+    final BeaconBlock block = task.block().get();
     LOG.debug("Starting data columns sidecars recovery for block: {}", block.getSlotAndBlockRoot());
 
     final MetricsHistogram.Timer timer = dataAvailabilityReconstructionTimeSeconds.startTimer();
 
-    list.thenAccept(
+    list.thenCompose(
             sidecars -> {
               LOG.debug(
                   "Recovery for block: {}. DataColumnSidecars found: {}",
                   block.getSlotAndBlockRoot(),
                   sidecars.size());
-              final List<DataColumnSidecar> recoveredSidecars =
-                  miscHelpers.reconstructAllDataColumnSidecars(sidecars, kzg);
-              timer.closeUnchecked();
-
-              final Set<UInt64> existingSidecarsIndices =
-                  sidecars.stream()
-                      .map(DataColumnSidecar::getIndex)
-                      .collect(Collectors.toUnmodifiableSet());
-              totalDataAvailabilityReconstructedColumns.inc(
-                  recoveredSidecars.size() - sidecars.size());
-              recoveredSidecars.stream()
-                  .filter(sidecar -> !existingSidecarsIndices.contains(sidecar.getIndex()))
-                  .forEach(
-                      dataColumnSidecar -> {
-                        validDataColumnSidecarsSubscribers.forEach(
-                            l -> l.onNewValidSidecar(dataColumnSidecar, RemoteOrigin.RECOVERED));
-                        delegate
-                            .onNewValidatedDataColumnSidecar(dataColumnSidecar)
-                            .ifExceptionGetsHereRaiseABug();
-                        dataColumnSidecarPublisher.accept(dataColumnSidecar);
-                      });
-              LOG.debug(
-                  "Data column sidecars recovery finished for block: {}",
-                  block.getSlotAndBlockRoot());
+              final List<List<MatrixEntry>> partialMatrix =
+                  miscHelpers.computePartialMatrix(sidecars);
+              return SafeFuture.collectAll(
+                      IntStream.range(0, partialMatrix.size())
+                          .mapToObj(
+                              blobIndex ->
+                                  asyncRunner.runAsync(
+                                      () ->
+                                          recoverMatrixRow(
+                                              task, partialMatrix.get(blobIndex), blobIndex))))
+                  .thenAccept(rows -> publishRecoveredSidecars(task, sidecars, rows));
             })
         .alwaysRun(timer.closeUnchecked())
         .ifExceptionGetsHereRaiseABug();
   }
 
+  private Optional<List<MatrixEntry>> recoverMatrixRow(
+      final RecoveryTask task, final List<MatrixEntry> partialRow, final int blobIndex) {
+    if (isComplete(task)) {
+      return Optional.empty();
+    }
+    return Optional.of(miscHelpers.recoverMatrixRow(partialRow, blobIndex, kzg));
+  }
+
+  private void publishRecoveredSidecars(
+      final RecoveryTask task,
+      final List<DataColumnSidecar> sidecars,
+      final List<Optional<List<MatrixEntry>>> rows) {
+    final SlotAndBlockRoot slotAndBlockRoot = task.block().get().getSlotAndBlockRoot();
+    if (rows.stream().anyMatch(Optional::isEmpty)) {
+      LOG.debug(
+          "Data column sidecars recovery cancelled for block: {}, all columns received",
+          slotAndBlockRoot);
+      return;
+    }
+    final List<List<MatrixEntry>> extendedMatrix = rows.stream().map(Optional::get).toList();
+    final DataColumnSidecar anyExistingSidecar = sidecars.getFirst();
+
+    for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+      if (task.hasColumn(slotAndBlockRoot, columnIndex)) {
+        // already received, either before recovery has started or while it was running
+        continue;
+      }
+      final DataColumnSidecar dataColumnSidecar =
+          miscHelpers.reconstructDataColumnSidecar(
+              anyExistingSidecar, extendedMatrix, columnIndex);
+      dataColumnSidecarPublisher.accept(dataColumnSidecar);
+      validDataColumnSidecarsSubscribers.forEach(
+          l -> l.onNewValidSidecar(dataColumnSidecar, RemoteOrigin.RECOVERED));
+      delegate.onNewValidatedDataColumnSidecar(dataColumnSidecar).ifExceptionGetsHereRaiseABug();
+      totalDataAvailabilityReconstructedColumns.inc();
+    }
+    LOG.debug("Data column sidecars recovery finished for block: {}", slotAndBlockRoot);
+  }
+
+  private boolean isComplete(final RecoveryTask task) {
+    return task.existingColumnIds().size() >= columnCount;
+  }
+
   @Override
   public SafeFuture<Optional<DataColumnSidecar>> getCustodyDataColumnSidecarByRoot(
       final DataColumnIdentifier columnId) {
@@ -13,18 +13,19 @@
 
 package tech.pegasys.teku.statetransition.synccommittee;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntIterator;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -41,6 +42,13 @@ import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.statetransition.OperationAddedSubscriber;
 import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
 
+/**
+ * Aggregates sync committee messages into contributions as they arrive.
+ *
+ * <p>Messages are aggregated on insert, so creating a contribution is a lookup. No method takes a
+ * pool-wide lock: each (slot, blockRoot, subcommitteeIndex) holds an immutable snapshot of its
+ * participation bits and aggregated signature which is replaced atomically.
+ */
 public class SyncCommitteeMessagePool implements SlotEventsChannel {
 
   private static final Logger LOG = LogManager.getLogger();
@@ -56,7 +64,7 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
    * but using a nested map under slot so that pruning based on slot is efficient.
    */
   private final NavigableMap<UInt64, Map<BlockRootAndCommitteeIndex, ContributionData>>
-      committeeContributionData = new TreeMap<>();
+      committeeContributionData = new ConcurrentSkipListMap<>();
 
   public SyncCommitteeMessagePool(final Spec spec, final SyncCommitteeMessageValidator validator) {
     this.spec = spec;
@@ -92,11 +100,12 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
             });
   }
 
-  private synchronized void doAdd(final ValidatableSyncCommitteeMessage message) {
+  private void doAdd(final ValidatableSyncCommitteeMessage message) {
     final SyncSubcommitteeAssignments assignments =
         message.getSubcommitteeAssignments().orElseThrow();
     final Map<BlockRootAndCommitteeIndex, ContributionData> blockRootAndCommitteeIndexToMessages =
-        committeeContributionData.computeIfAbsent(message.getSlot(), __ -> new HashMap<>());
+        committeeContributionData.computeIfAbsent(
+            message.getSlot(), __ -> new ConcurrentHashMap<>());
     final IntSet applicableSubnets;
     if (message.getReceivedSubnetId().isEmpty()) {
       applicableSubnets = assignments.getAssignedSubcommittees();
@@ -114,18 +123,19 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
                     message.getMessage().getSignature()));
   }
 
-  public synchronized Optional<SyncCommitteeContribution> createContribution(
+  public Optional<SyncCommitteeContribution> createContribution(
       final UInt64 slot, final Bytes32 blockRoot, final int subcommitteeIndex) {
     return getContributionData(slot, blockRoot, subcommitteeIndex)
+        .map(ContributionData::getAggregate)
         .map(
-            contributionData ->
+            aggregate ->
                 spec.getSyncCommitteeUtilRequired(slot)
                     .createSyncCommitteeContribution(
                         slot,
                         blockRoot,
                         UInt64.valueOf(subcommitteeIndex),
-                        contributionData.getParticipationIndices(),
-                        contributionData.getAggregatedSignature()));
+                        aggregate.getParticipationIndices(),
+                        aggregate.getSignature()));
   }
 
   /**
@@ -135,7 +145,7 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
    * @param slot the current node slot
    */
   @Override
-  public synchronized void onSlot(final UInt64 slot) {
+  public void onSlot(final UInt64 slot) {
     committeeContributionData.headMap(slot.minusMinZero(1), false).clear();
   }
 
@@ -143,61 +153,90 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
       final UInt64 slot, final Bytes32 blockRoot, final int subcommitteeIndex) {
     return Optional.ofNullable(
         committeeContributionData
-            .getOrDefault(slot, Collections.emptyMap())
+            .getOrDefault(slot, Map.of())
             .get(new BlockRootAndCommitteeIndex(blockRoot, subcommitteeIndex)));
   }
 
-  private static class BlockRootAndCommitteeIndex {
-    private final Bytes32 blockRoot;
-    private final int committeeIndex;
+  private record BlockRootAndCommitteeIndex(Bytes32 blockRoot, int committeeIndex) {}
 
-    private BlockRootAndCommitteeIndex(final Bytes32 blockRoot, final int committeeIndex) {
-      this.blockRoot = blockRoot;
-      this.committeeIndex = committeeIndex;
-    }
+  private static class ContributionData {
+    private final AtomicReference<Aggregate> aggregate = new AtomicReference<>(Aggregate.EMPTY);
 
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      final BlockRootAndCommitteeIndex that = (BlockRootAndCommitteeIndex) o;
-      return committeeIndex == that.committeeIndex && Objects.equals(blockRoot, that.blockRoot);
+    public void add(final IntSet participationIndices, final BLSSignature signature) {
+      Aggregate current;
+      Aggregate updated;
+      do {
+        current = aggregate.get();
+        updated = current.add(participationIndices, signature);
+        if (updated == current) {
+          return;
+        }
+      } while (!aggregate.compareAndSet(current, updated));
     }
 
-    @Override
-    public int hashCode() {
-      return Objects.hash(blockRoot, committeeIndex);
+    public Aggregate getAggregate() {
+      return aggregate.get();
     }
   }
 
-  private static class ContributionData {
-    private final IntSet participationIndices = new IntOpenHashSet();
-    private final List<BLSSignature> signatures = new ArrayList<>();
+  private static final class Aggregate {
+    private static final Aggregate EMPTY = new Aggregate(new long[0], BLSSignature.infinity());
 
-    public void add(final IntSet participationIndices, final BLSSignature signature) {
-      IntIterator iterator = participationIndices.iterator();
+    private final long[] participationBits;
+    private final BLSSignature signature;
+
+    private Aggregate(final long[] participationBits, final BLSSignature signature) {
+      this.participationBits = participationBits;
+      this.signature = signature;
+    }
+
+    /** Returns a new aggregate including the signature once per newly set index, or this. */
+    private Aggregate add(final IntSet participationIndices, final BLSSignature signature) {
+      long[] updatedBits = participationBits;
+      final List<BLSSignature> signatures = new ArrayList<>();
+      final IntIterator iterator = participationIndices.iterator();
       while (iterator.hasNext()) {
         final int index = iterator.nextInt();
-        if (this.participationIndices.add(index)) {
-          this.signatures.add(signature);
-        } else {
+        final int wordIndex = index >>> 6;
+        final long mask = 1L << index;
+        if (wordIndex < updatedBits.length && (updatedBits[wordIndex] & mask) != 0) {
           LOG.trace(
               "Ignoring already aggregated signature from subcommittee participant index = {}",
               index);
+          continue;
+        }
+        if (updatedBits == participationBits) {
+          updatedBits =
+              Arrays.copyOf(participationBits, Math.max(participationBits.length, wordIndex + 1));
+        } else if (wordIndex >= updatedBits.length) {
+          updatedBits = Arrays.copyOf(updatedBits, wordIndex + 1);
         }
+        updatedBits[wordIndex] |= mask;
+        signatures.add(signature);
       }
+      if (signatures.isEmpty()) {
+        return this;
+      }
+      if (participationBits.length > 0) {
+        signatures.add(this.signature);
+      }
+      return new Aggregate(updatedBits, BLS.aggregate(signatures));
     }
 
-    public IntSet getParticipationIndices() {
-      return participationIndices;
+    private BLSSignature getSignature() {
+      return signature;
     }
 
-    public BLSSignature getAggregatedSignature() {
-      return signatures.isEmpty() ? BLSSignature.infinity() : BLS.aggregate(signatures);
+    private IntList getParticipationIndices() {
+      final IntList indices = new IntArrayList();
+      for (int wordIndex = 0; wordIndex < participationBits.length; wordIndex++) {
+        long word = participationBits[wordIndex];
+        while (word != 0) {
+          indices.add((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      return indices;
     }
   }
 }
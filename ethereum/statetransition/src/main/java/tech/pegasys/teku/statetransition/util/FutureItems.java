@@ -16,16 +16,17 @@ package tech.pegasys.teku.statetransition.util;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
-import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
-import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.statetransition.util.PoolItemStore.StoredItem;
 
 /** Holds items with slots that are in the future relative to our node's current slot */
 public class FutureItems<T> implements SlotEventsChannel {
@@ -36,17 +37,25 @@ public class FutureItems<T> implements SlotEventsChannel {
   private final SettableLabelledGauge futureItemsCounter;
   private final UInt64 futureSlotTolerance;
   private final Function<T, UInt64> slotFunction;
+  private final Function<T, ?> keyFunction;
+  private final PoolItemStore<T> itemStore;
 
-  private final NavigableMap<UInt64, Set<T>> queuedFutureItems = new ConcurrentSkipListMap<>();
+  // Items at each slot are keyed so lookups don't need to store the item being looked up
+  private final NavigableMap<UInt64, Map<Object, StoredItem<T>>> queuedFutureItems =
+      new ConcurrentSkipListMap<>();
   private final String type;
   private volatile UInt64 currentSlot = UInt64.ZERO;
 
   private FutureItems(
       final Function<T, UInt64> slotFunction,
+      final Function<T, ?> keyFunction,
+      final PoolItemStore<T> itemStore,
       final UInt64 futureSlotTolerance,
       final SettableLabelledGauge futureItemsCounter,
       final String type) {
     this.slotFunction = slotFunction;
+    this.keyFunction = keyFunction;
+    this.itemStore = itemStore;
     this.futureSlotTolerance = futureSlotTolerance;
     this.futureItemsCounter = futureItemsCounter;
     this.type = type;
@@ -57,7 +66,32 @@ public class FutureItems<T> implements SlotEventsChannel {
       final SettableLabelledGauge futureItemsCounter,
       final String type) {
     return new FutureItems<T>(
-        slotFunction, DEFAULT_FUTURE_SLOT_TOLERANCE, futureItemsCounter, type);
+        slotFunction,
+        Function.identity(),
+        PoolItemStore.onHeap(),
+        DEFAULT_FUTURE_SLOT_TOLERANCE,
+        futureItemsCounter,
+        type);
+  }
+
+  /**
+   * Creates future items held through the given store.
+   *
+   * @param keyFunction identifies an item among the items at the same slot, such as its root
+   */
+  public static <T> FutureItems<T> create(
+      final Function<T, UInt64> slotFunction,
+      final Function<T, ?> keyFunction,
+      final PoolItemStore<T> itemStore,
+      final SettableLabelledGauge futureItemsCounter,
+      final String type) {
+    return new FutureItems<T>(
+        slotFunction,
+        keyFunction,
+        itemStore,
+        DEFAULT_FUTURE_SLOT_TOLERANCE,
+        futureItemsCounter,
+        type);
   }
 
   public static <T> FutureItems<T> create(
@@ -65,7 +99,13 @@ public class FutureItems<T> implements SlotEventsChannel {
       final UInt64 futureSlotTolerance,
       final SettableLabelledGauge futureItemsCounter,
       final String type) {
-    return new FutureItems<T>(slotFunction, futureSlotTolerance, futureItemsCounter, type);
+    return new FutureItems<T>(
+        slotFunction,
+        Function.identity(),
+        PoolItemStore.onHeap(),
+        futureSlotTolerance,
+        futureItemsCounter,
+        type);
   }
 
   @Override
@@ -86,7 +126,9 @@ public class FutureItems<T> implements SlotEventsChannel {
     }
 
     LOG.trace("Save future item at slot {} for later import: {}", slot, item);
-    queuedFutureItems.computeIfAbsent(slot, key -> createNewSet()).add(item);
+    queuedFutureItems
+        .computeIfAbsent(slot, key -> createNewMap())
+        .computeIfAbsent(keyFunction.apply(item), key -> itemStore.store(item));
     futureItemsCounter.set(size(), type);
   }
 
@@ -101,22 +143,24 @@ public class FutureItems<T> implements SlotEventsChannel {
     queuedFutureItems
         .headMap(currentSlot, true)
         .keySet()
-        .forEach(key -> dequeued.addAll(queuedFutureItems.remove(key)));
+        .forEach(
+            key ->
+                queuedFutureItems.remove(key).values().forEach(item -> dequeued.add(item.get())));
     futureItemsCounter.set(size(), type);
     return dequeued;
   }
 
   public boolean contains(final T item) {
     return queuedFutureItems
-        .getOrDefault(slotFunction.apply(item), Collections.emptySet())
-        .contains(item);
+        .getOrDefault(slotFunction.apply(item), Collections.emptyMap())
+        .containsKey(keyFunction.apply(item));
   }
 
   public int size() {
-    return queuedFutureItems.values().stream().map(Set::size).reduce(Integer::sum).orElse(0);
+    return queuedFutureItems.values().stream().map(Map::size).reduce(Integer::sum).orElse(0);
   }
 
-  private Set<T> createNewSet() {
-    return LimitedSet.createSynchronized(MAX_ITEMS_PER_SLOT);
+  private Map<Object, StoredItem<T>> createNewMap() {
+    return LimitedMap.createSynchronizedLRU(MAX_ITEMS_PER_SLOT);
   }
 }
@@ -18,7 +18,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +26,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -36,7 +36,15 @@ import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.statetransition.util.PoolItemStore.StoredItem;
 
+/**
+ * Holds items until the blocks they depend on are available.
+ *
+ * <p>Items are held via a {@link PoolItemStore}, so large items can be kept in serialized form and
+ * bounded by their total size in bytes as well as by count. Modifications are serialized, while
+ * lookups read the concurrent indexes without locking.
+ */
 public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   private static final Logger LOG = LogManager.getLogger();
 
@@ -49,11 +57,16 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   private final Subscribers<RequiredBlockRootDroppedSubscriber>
       requiredBlockRootDroppedSubscribers = Subscribers.create(true);
 
-  private final Map<Bytes32, T> pendingItems = new HashMap<>();
+  private final Map<Bytes32, PendingItem<T>> pendingItems = new ConcurrentHashMap<>();
+  // Only accessed while holding the lock
   private final NavigableSet<SlotAndRoot> orderedPendingItems =
       new TreeSet<>(SLOT_AND_ROOT_COMPARATOR);
-  private final Map<Bytes32, Set<Bytes32>> pendingItemsByRequiredBlockRoot = new HashMap<>();
+  private final Map<Bytes32, Set<Bytes32>> pendingItemsByRequiredBlockRoot =
+      new ConcurrentHashMap<>();
   private final int maxItems;
+  private final long maxBytes;
+  private final PoolItemStore<T> itemStore;
+  private long totalBytes = 0;
 
   private final Function<T, Bytes32> hashTreeRootFunction;
   private final Function<T, Collection<Bytes32>> requiredBlockRootsFunction;
@@ -70,9 +83,37 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
       final Function<T, Bytes32> hashTreeRootFunction,
       final Function<T, Collection<Bytes32>> requiredBlockRootsFunction,
       final Function<T, UInt64> targetSlotFunction) {
+    this(
+        sizeGauge,
+        itemType,
+        spec,
+        historicalSlotTolerance,
+        futureSlotTolerance,
+        maxItems,
+        Long.MAX_VALUE,
+        PoolItemStore.onHeap(),
+        hashTreeRootFunction,
+        requiredBlockRootsFunction,
+        targetSlotFunction);
+  }
+
+  PendingPool(
+      final SettableLabelledGauge sizeGauge,
+      final String itemType,
+      final Spec spec,
+      final UInt64 historicalSlotTolerance,
+      final UInt64 futureSlotTolerance,
+      final int maxItems,
+      final long maxBytes,
+      final PoolItemStore<T> itemStore,
+      final Function<T, Bytes32> hashTreeRootFunction,
+      final Function<T, Collection<Bytes32>> requiredBlockRootsFunction,
+      final Function<T, UInt64> targetSlotFunction) {
     super(spec, futureSlotTolerance, historicalSlotTolerance);
     this.itemType = itemType;
     this.maxItems = maxItems;
+    this.maxBytes = maxBytes;
+    this.itemStore = itemStore;
     this.hashTreeRootFunction = hashTreeRootFunction;
     this.requiredBlockRootsFunction = requiredBlockRootsFunction;
     this.targetSlotFunction = targetSlotFunction;
@@ -81,22 +122,30 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   }
 
   public synchronized void add(final T item) {
-    if (shouldIgnoreItemAtSlot(targetSlotFunction.apply(item))) {
+    final UInt64 slot = targetSlotFunction.apply(item);
+    if (shouldIgnoreItemAtSlot(slot)) {
       // Ignore items outside of the range we care about
       return;
     }
 
+    final Bytes32 itemRoot = hashTreeRootFunction.apply(item);
+    if (pendingItems.containsKey(itemRoot)) {
+      return;
+    }
+    final Collection<Bytes32> requiredRoots = requiredBlockRootsFunction.apply(item);
+    final PendingItem<T> pendingItem =
+        new PendingItem<>(
+            new SlotAndRoot(slot, itemRoot), List.copyOf(requiredRoots), itemStore.store(item));
+
     // Make room for the new item
-    while (pendingItems.size() > (maxItems - 1)) {
-      final SlotAndRoot toRemove = orderedPendingItems.pollFirst();
-      if (toRemove == null) {
+    while (pendingItems.size() > (maxItems - 1)
+        || totalBytes + pendingItem.storedItem().getSizeInBytes() > maxBytes) {
+      if (orderedPendingItems.isEmpty()) {
         break;
       }
-      remove(pendingItems.get(toRemove.getRoot()));
+      removeByRoot(orderedPendingItems.first().getRoot());
     }
 
-    final Bytes32 itemRoot = hashTreeRootFunction.apply(item);
-    final Collection<Bytes32> requiredRoots = requiredBlockRootsFunction.apply(item);
     final ArrayList<Bytes32> newRequiredRoots = new ArrayList<>();
 
     requiredRoots.forEach(
@@ -106,7 +155,7 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
                 .computeIfAbsent(
                     requiredRoot,
                     (key) -> {
-                      final Set<Bytes32> dependants = new HashSet<>();
+                      final Set<Bytes32> dependants = ConcurrentHashMap.newKeySet();
                       newRequiredRoots.add(requiredRoot);
                       return dependants;
                     })
@@ -117,39 +166,44 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
             requiredBlockRootSubscribers.forEach(s -> s.onRequiredBlockRoot(requiredRoot)));
 
     // Index item by root
-    if (pendingItems.putIfAbsent(itemRoot, item) == null) {
-      LOG.trace(
-          "Save unattached item at slot {} for future import: {}",
-          targetSlotFunction.apply(item),
-          item);
-      sizeGauge.set(pendingItems.size(), itemType);
-    }
+    LOG.trace("Save unattached item at slot {} for future import: {}", slot, item);
+    pendingItems.put(itemRoot, pendingItem);
+    totalBytes += pendingItem.storedItem().getSizeInBytes();
+    sizeGauge.set(pendingItems.size(), itemType);
 
-    orderedPendingItems.add(toSlotAndRoot(item));
+    orderedPendingItems.add(pendingItem.slotAndRoot());
   }
 
   public synchronized void remove(final T item) {
-    final SlotAndRoot itemSlotAndRoot = toSlotAndRoot(item);
-    orderedPendingItems.remove(itemSlotAndRoot);
-    pendingItems.remove(itemSlotAndRoot.getRoot());
+    removeByRoot(hashTreeRootFunction.apply(item));
+  }
 
-    final Collection<Bytes32> requiredRoots = requiredBlockRootsFunction.apply(item);
-    requiredRoots.forEach(
-        requiredRoot -> {
-          Set<Bytes32> childSet = pendingItemsByRequiredBlockRoot.get(requiredRoot);
-          if (childSet == null) {
-            return;
-          }
-          childSet.remove(itemSlotAndRoot.getRoot());
-          if (pendingItemsByRequiredBlockRoot.remove(requiredRoot, Collections.emptySet())) {
-            requiredBlockRootDroppedSubscribers.forEach(
-                s -> s.onRequiredBlockRootDropped(requiredRoot));
-          }
-        });
+  private void removeByRoot(final Bytes32 itemRoot) {
+    final PendingItem<T> pendingItem = pendingItems.remove(itemRoot);
+    if (pendingItem == null) {
+      return;
+    }
+    orderedPendingItems.remove(pendingItem.slotAndRoot());
+    totalBytes -= pendingItem.storedItem().getSizeInBytes();
+
+    pendingItem
+        .requiredRoots()
+        .forEach(
+            requiredRoot -> {
+              Set<Bytes32> childSet = pendingItemsByRequiredBlockRoot.get(requiredRoot);
+              if (childSet == null) {
+                return;
+              }
+              childSet.remove(itemRoot);
+              if (pendingItemsByRequiredBlockRoot.remove(requiredRoot, Collections.emptySet())) {
+                requiredBlockRootDroppedSubscribers.forEach(
+                    s -> s.onRequiredBlockRootDropped(requiredRoot));
+              }
+            });
     sizeGauge.set(pendingItems.size(), itemType);
   }
 
-  public synchronized int size() {
+  public int size() {
     return pendingItems.size();
   }
 
@@ -158,15 +212,20 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
     return contains(itemRoot);
   }
 
-  public synchronized boolean contains(final Bytes32 itemRoot) {
+  public boolean contains(final Bytes32 itemRoot) {
     return pendingItems.containsKey(itemRoot);
   }
 
-  public synchronized Optional<T> get(final Bytes32 itemRoot) {
-    return Optional.ofNullable(pendingItems.get(itemRoot));
+  public Optional<T> get(final Bytes32 itemRoot) {
+    return Optional.ofNullable(pendingItems.get(itemRoot)).map(PendingItem::getItem);
+  }
+
+  @VisibleForTesting
+  synchronized long getTotalBytes() {
+    return totalBytes;
   }
 
-  public synchronized Set<Bytes32> getAllRequiredBlockRoots() {
+  public Set<Bytes32> getAllRequiredBlockRoots() {
     return pendingItemsByRequiredBlockRoot.keySet().stream()
         // Filter out items we already have but can't import yet
         .filter(root -> !pendingItems.containsKey(root))
@@ -198,13 +257,13 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
    * @param blockRoot The block root that some pending items may depend on
    * @return A list of items that depend on this block root.
    */
-  private synchronized List<T> getItemsDirectlyDependingOn(final Bytes32 blockRoot) {
+  private List<T> getItemsDirectlyDependingOn(final Bytes32 blockRoot) {
     final Set<Bytes32> dependentRoots = pendingItemsByRequiredBlockRoot.get(blockRoot);
     if (dependentRoots == null) {
       return Collections.emptyList();
     }
 
-    return dependentRoots.stream().map(pendingItems::get).filter(Objects::nonNull).toList();
+    return getItems(dependentRoots);
   }
 
   /**
@@ -215,7 +274,7 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
    * @param blockRoot The block root that some pending items may depend on.
    * @return A list of items that either directly or indirectly depend on the given block root.
    */
-  private synchronized List<T> getAllItemsDependingOn(final Bytes32 blockRoot) {
+  private List<T> getAllItemsDependingOn(final Bytes32 blockRoot) {
     final Set<Bytes32> dependentRoots = new HashSet<>();
 
     Set<Bytes32> requiredRoots = Set.of(blockRoot);
@@ -231,7 +290,15 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
       requiredRoots = roots;
     }
 
-    return dependentRoots.stream().map(pendingItems::get).filter(Objects::nonNull).toList();
+    return getItems(dependentRoots);
+  }
+
+  private List<T> getItems(final Set<Bytes32> itemRoots) {
+    return itemRoots.stream()
+        .map(pendingItems::get)
+        .filter(Objects::nonNull)
+        .map(PendingItem::getItem)
+        .toList();
   }
 
   public void subscribeRequiredBlockRoot(final RequiredBlockRootSubscriber subscriber) {
@@ -246,21 +313,15 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   @VisibleForTesting
   @Override
   protected synchronized void prune(final UInt64 slotLimit) {
-    final List<T> toRemove = new ArrayList<>();
+    final List<Bytes32> toRemove = new ArrayList<>();
     for (SlotAndRoot slotAndRoot : orderedPendingItems) {
       if (slotAndRoot.getSlot().isGreaterThan(slotLimit)) {
         break;
       }
-      toRemove.add(pendingItems.get(slotAndRoot.getRoot()));
+      toRemove.add(slotAndRoot.getRoot());
     }
 
-    toRemove.forEach(this::remove);
-  }
-
-  private SlotAndRoot toSlotAndRoot(final T item) {
-    final UInt64 slot = targetSlotFunction.apply(item);
-    final Bytes32 root = hashTreeRootFunction.apply(item);
-    return new SlotAndRoot(slot, root);
+    toRemove.forEach(this::removeByRoot);
   }
 
   public interface RequiredBlockRootSubscriber {
@@ -271,6 +332,13 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
     void onRequiredBlockRootDropped(Bytes32 blockRoot);
   }
 
+  private record PendingItem<T>(
+      SlotAndRoot slotAndRoot, List<Bytes32> requiredRoots, StoredItem<T> storedItem) {
+    private T getItem() {
+      return storedItem.get();
+    }
+  }
+
   private static class SlotAndRoot {
     private final UInt64 slot;
     private final Bytes32 root;
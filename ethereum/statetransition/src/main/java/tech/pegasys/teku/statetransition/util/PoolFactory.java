@@ -48,6 +48,7 @@ public class PoolFactory {
   private static final UInt64 DEFAULT_HISTORICAL_SLOT_TOLERANCE = UInt64.valueOf(320);
 
   private static final int DEFAULT_MAX_BLOCKS = 5000;
+  private static final long DEFAULT_MAX_PENDING_BLOCKS_BYTES = 256L * 1024 * 1024;
   private static final int EL_RECOVERY_TASKS_LIMIT = 10;
 
   private final SettableLabelledGauge pendingPoolsSizeGauge;
@@ -93,6 +94,20 @@ public class PoolFactory {
       final UInt64 historicalBlockTolerance,
       final UInt64 futureBlockTolerance,
       final int maxItems) {
+    return createPendingPoolForBlocks(
+        spec,
+        historicalBlockTolerance,
+        futureBlockTolerance,
+        maxItems,
+        DEFAULT_MAX_PENDING_BLOCKS_BYTES);
+  }
+
+  public PendingPool<SignedBeaconBlock> createPendingPoolForBlocks(
+      final Spec spec,
+      final UInt64 historicalBlockTolerance,
+      final UInt64 futureBlockTolerance,
+      final int maxItems,
+      final long maxBytes) {
     return new PendingPool<>(
         pendingPoolsSizeGauge,
         "blocks",
@@ -100,11 +115,18 @@ public class PoolFactory {
         historicalBlockTolerance,
         futureBlockTolerance,
         maxItems,
+        maxBytes,
+        createBlockStore(spec),
         block -> block.getMessage().hashTreeRoot(),
         block -> Collections.singleton(block.getParentRoot()),
         SignedBeaconBlock::getSlot);
   }
 
+  public static PoolItemStore<SignedBeaconBlock> createBlockStore(final Spec spec) {
+    return PoolItemStore.serialized(
+        SignedBeaconBlock::sszSerialize, spec::deserializeSignedBeaconBlock);
+  }
+
   public PendingPool<ValidatableAttestation> createPendingPoolForAttestations(
       final Spec spec, final int maxQueueSize) {
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.util;
+
+import java.util.Objects;
+import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Decides how items are held while they wait in a {@link PendingPool} or {@link FutureItems}.
+ *
+ * <p>Items can either be kept as they are or in their compact serialized form, in which case they
+ * are only decoded again when retrieved. Serialized items are compared by their serialized bytes,
+ * so callers must only use this for types whose equality matches their serialization.
+ */
+public interface PoolItemStore<T> {
+
+  StoredItem<T> store(T item);
+
+  static <T> PoolItemStore<T> onHeap() {
+    return HeapItem::new;
+  }
+
+  static <T> PoolItemStore<T> serialized(
+      final Function<T, Bytes> serializer, final Function<Bytes, T> deserializer) {
+    return item -> new SerializedItem<>(serializer.apply(item), deserializer);
+  }
+
+  interface StoredItem<T> {
+
+    T get();
+
+    /** The number of bytes held for the item, or 0 if the item is kept as is. */
+    int getSizeInBytes();
+  }
+
+  final class HeapItem<T> implements StoredItem<T> {
+    private final T item;
+
+    private HeapItem(final T item) {
+      this.item = item;
+    }
+
+    @Override
+    public T get() {
+      return item;
+    }
+
+    @Override
+    public int getSizeInBytes() {
+      return 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof HeapItem<?> that)) {
+        return false;
+      }
+      return Objects.equals(item, that.item);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(item);
+    }
+  }
+
+  final class SerializedItem<T> implements StoredItem<T> {
+    private final Bytes serialized;
+    private final Function<Bytes, T> deserializer;
+
+    private SerializedItem(final Bytes serialized, final Function<Bytes, T> deserializer) {
+      this.serialized = serialized;
+      this.deserializer = deserializer;
+    }
+
+    @Override
+    public T get() {
+      return deserializer.apply(serialized);
+    }
+
+    @Override
+    public int getSizeInBytes() {
+      return serialized.size();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SerializedItem<?> that)) {
+        return false;
+      }
+      return serialized.equals(that.serialized);
+    }
+
+    @Override
+    public int hashCode() {
+      return serialized.hashCode();
+    }
+  }
+}
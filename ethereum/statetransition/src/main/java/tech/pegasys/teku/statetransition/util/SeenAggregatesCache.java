@@ -13,39 +13,114 @@
 
 package tech.pegasys.teku.statetransition.util;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitSet;
 
 public class SeenAggregatesCache<KeyT> {
 
-  private final Map<KeyT, Set<SszBitSet>> seenAggregationBitsByDataRoot;
+  private final Map<KeyT, SeenBitSets> seenAggregationBitsByDataRoot;
 
   public SeenAggregatesCache(final int rootCacheSize) {
     this.seenAggregationBitsByDataRoot = LimitedMap.createSynchronizedLRU(rootCacheSize);
   }
 
   public boolean add(final KeyT root, final SszBitSet aggregationBits) {
-    final Set<SszBitSet> seenBitlists =
-        seenAggregationBitsByDataRoot.computeIfAbsent(
-            root, key -> Collections.newSetFromMap(new ConcurrentHashMap<>()));
-    if (isAlreadySeen(seenBitlists, aggregationBits)) {
-      return false;
-    }
-    return seenBitlists.add(aggregationBits);
+    final SeenBitSets seenBitSets =
+        seenAggregationBitsByDataRoot.computeIfAbsent(root, key -> new SeenBitSets());
+    return seenBitSets.add(aggregationBits.getAsBitSet().toLongArray());
   }
 
   public boolean isAlreadySeen(final KeyT root, final SszBitSet aggregationBits) {
-    final Set<SszBitSet> seenAggregates =
-        seenAggregationBitsByDataRoot.getOrDefault(root, Collections.emptySet());
-    return isAlreadySeen(seenAggregates, aggregationBits);
+    final SeenBitSets seenBitSets = seenAggregationBitsByDataRoot.get(root);
+    return seenBitSets != null
+        && seenBitSets.isSubsetOfSeen(aggregationBits.getAsBitSet().toLongArray());
   }
 
-  private boolean isAlreadySeen(
-      final Set<SszBitSet> seenAggregates, final SszBitSet aggregationBits) {
-    return seenAggregates.stream().anyMatch(seen -> seen.isSuperSetOf(aggregationBits));
+  /**
+   * The seen bit sets for a single root, kept as words so subset checks are a few word operations
+   * per candidate.
+   *
+   * <p>Sets which are a subset of another seen set are dropped, since anything they cover is
+   * covered by the larger set too. The remaining sets are ordered by descending bit count so a
+   * lookup stops as soon as the candidates have fewer bits than the queried set.
+   */
+  private static class SeenBitSets {
+    private volatile SeenBitSet[] seen = new SeenBitSet[0];
+
+    boolean isSubsetOfSeen(final long[] words) {
+      return isSubsetOfAny(seen, words, bitCount(words));
+    }
+
+    synchronized boolean add(final long[] words) {
+      final int bitCount = bitCount(words);
+      final SeenBitSet[] currentSeen = seen;
+      if (isSubsetOfAny(currentSeen, words, bitCount)) {
+        return false;
+      }
+      final List<SeenBitSet> updatedSeen = new ArrayList<>(currentSeen.length + 1);
+      boolean inserted = false;
+      for (SeenBitSet existing : currentSeen) {
+        if (!inserted && existing.bitCount <= bitCount) {
+          updatedSeen.add(new SeenBitSet(words, bitCount));
+          inserted = true;
+        }
+        if (existing.bitCount > bitCount || !isSubset(existing.words, words)) {
+          updatedSeen.add(existing);
+        }
+      }
+      if (!inserted) {
+        updatedSeen.add(new SeenBitSet(words, bitCount));
+      }
+      seen = updatedSeen.toArray(SeenBitSet[]::new);
+      return true;
+    }
+
+    private static boolean isSubsetOfAny(
+        final SeenBitSet[] seen, final long[] words, final int bitCount) {
+      for (SeenBitSet candidate : seen) {
+        if (candidate.bitCount < bitCount) {
+          return false;
+        }
+        if (isSubset(words, candidate.words)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean isSubset(final long[] subset, final long[] superset) {
+      // BitSet.toLongArray drops trailing zero words so a longer subset has a bit beyond superset
+      if (subset.length > superset.length) {
+        return false;
+      }
+      for (int i = 0; i < subset.length; i++) {
+        if ((subset[i] & ~superset[i]) != 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static int bitCount(final long[] words) {
+      int bitCount = 0;
+      for (long word : words) {
+        bitCount += Long.bitCount(word);
+      }
+      return bitCount;
+    }
+  }
+
+  private static class SeenBitSet {
+    private final long[] words;
+    private final int bitCount;
+
+    private SeenBitSet(final long[] words, final int bitCount) {
+      this.words = words;
+      this.bitCount = bitCount;
+    }
   }
 }
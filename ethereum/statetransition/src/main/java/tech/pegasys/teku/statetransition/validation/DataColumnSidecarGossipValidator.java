@@ -46,6 +46,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockHeader;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.versions.fulu.helpers.MiscHelpersFulu;
+import tech.pegasys.teku.statetransition.validation.kzg.DataColumnSidecarKzgVerifier;
 
 /**
  * This class supposed to implement gossip validation rules as per <a
@@ -108,7 +109,7 @@ public class DataColumnSidecarGossipValidator {
   private final GossipValidationHelper gossipValidationHelper;
   private final Map<Bytes32, BlockImportResult> invalidBlockRoots;
   private final MiscHelpersFulu miscHelpersFulu;
-  private final KZG kzg;
+  private final DataColumnSidecarKzgVerifier kzgVerifier;
   private final Counter totalDataColumnSidecarsProcessingRequestsCounter;
   private final Counter totalDataColumnSidecarsProcessingSuccessesCounter;
   private final MetricsHistogram dataColumnSidecarInclusionProofVerificationTimeSeconds;
@@ -122,6 +123,24 @@ public class DataColumnSidecarGossipValidator {
       final KZG kzg,
       final MetricsSystem metricsSystem,
       final TimeProvider timeProvider) {
+    return create(
+        spec,
+        invalidBlockRoots,
+        validationHelper,
+        miscHelpersFulu,
+        DataColumnSidecarKzgVerifier.create(miscHelpersFulu, kzg),
+        metricsSystem,
+        timeProvider);
+  }
+
+  public static DataColumnSidecarGossipValidator create(
+      final Spec spec,
+      final Map<Bytes32, BlockImportResult> invalidBlockRoots,
+      final GossipValidationHelper validationHelper,
+      final MiscHelpersFulu miscHelpersFulu,
+      final DataColumnSidecarKzgVerifier kzgVerifier,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
 
     final Optional<Integer> maybeNumberOfColumns = spec.getNumberOfDataColumns();
 
@@ -135,7 +154,7 @@ public class DataColumnSidecarGossipValidator {
         invalidBlockRoots,
         validationHelper,
         miscHelpersFulu,
-        kzg,
+        kzgVerifier,
         metricsSystem,
         timeProvider,
         LimitedSet.createSynchronized(validInfoSize),
@@ -153,7 +172,7 @@ public class DataColumnSidecarGossipValidator {
       final Map<Bytes32, BlockImportResult> invalidBlockRoots,
       final GossipValidationHelper gossipValidationHelper,
       final MiscHelpersFulu miscHelpersFulu,
-      final KZG kzg,
+      final DataColumnSidecarKzgVerifier kzgVerifier,
       final MetricsSystem metricsSystem,
       final TimeProvider timeProvider,
       final Set<SlotProposerIndexAndColumnIndex> receivedValidDataColumnSidecarInfoSet,
@@ -163,7 +182,7 @@ public class DataColumnSidecarGossipValidator {
     this.invalidBlockRoots = invalidBlockRoots;
     this.gossipValidationHelper = gossipValidationHelper;
     this.miscHelpersFulu = miscHelpersFulu;
-    this.kzg = kzg;
+    this.kzgVerifier = kzgVerifier;
     this.receivedValidDataColumnSidecarInfoSet = receivedValidDataColumnSidecarInfoSet;
     this.totalDataColumnSidecarsProcessingRequestsCounter =
         metricsSystem.createCounter(
@@ -292,15 +311,20 @@ public class DataColumnSidecarGossipValidator {
     /*
      * [REJECT] The sidecar's column data is valid as verified by verify_data_column_sidecar_kzg_proofs(sidecar).
      */
-    try (MetricsHistogram.Timer ignored =
-        dataColumnSidecarKzgBatchVerificationTimeSeconds.startTimer()) {
-      if (!miscHelpersFulu.verifyDataColumnSidecarKzgProof(kzg, dataColumnSidecar)) {
-        return completedFuture(reject("DataColumnSidecar does not pass kzg validation"));
-      }
-    } catch (final Throwable t) {
-      return completedFuture(reject("DataColumnSidecar does not pass kzg validation"));
-    }
+    return verifyDataColumnSidecarKzgProof(dataColumnSidecar)
+        .thenCompose(
+            isKzgProofValid -> {
+              if (!isKzgProofValid) {
+                return completedFuture(reject("DataColumnSidecar does not pass kzg validation"));
+              }
+              return validateWithParentState(dataColumnSidecar, blockHeader, parentBlockSlot);
+            });
+  }
 
+  private SafeFuture<InternalValidationResult> validateWithParentState(
+      final DataColumnSidecar dataColumnSidecar,
+      final BeaconBlockHeader blockHeader,
+      final UInt64 parentBlockSlot) {
     return gossipValidationHelper
         .getParentStateInBlockEpoch(
             parentBlockSlot, blockHeader.getParentRoot(), blockHeader.getSlot())
@@ -372,23 +396,25 @@ public class DataColumnSidecarGossipValidator {
     /*
      * [REJECT] The sidecar's column data is valid as verified by verify_data_column_sidecar_kzg_proofs(sidecar).
      */
-    try (MetricsHistogram.Timer ignored =
-        dataColumnSidecarKzgBatchVerificationTimeSeconds.startTimer()) {
-      if (!miscHelpersFulu.verifyDataColumnSidecarKzgProof(kzg, dataColumnSidecar)) {
-        return completedFuture(reject("DataColumnSidecar does not pass kzg validation"));
-      }
-    } catch (final Throwable t) {
-      return completedFuture(reject("DataColumnSidecar does not pass kzg validation"));
-    }
+    return verifyDataColumnSidecarKzgProof(dataColumnSidecar)
+        .thenApply(
+            isKzgProofValid -> {
+              if (!isKzgProofValid) {
+                return reject("DataColumnSidecar does not pass kzg validation");
+              }
+              return validateWithKnownValidHeaderAndKzgProof(dataColumnSidecar, blockHeader);
+            });
+  }
 
+  private InternalValidationResult validateWithKnownValidHeaderAndKzgProof(
+      final DataColumnSidecar dataColumnSidecar, final BeaconBlockHeader blockHeader) {
     // This can be changed between two received DataColumnSidecars from one block, so checking
     /*
      * [REJECT] The current finalized_checkpoint is an ancestor of the sidecar's block -- i.e. get_checkpoint_block(store, block_header.parent_root, store.finalized_checkpoint.epoch) == store.finalized_checkpoint.root.
      */
     if (!gossipValidationHelper.currentFinalizedCheckpointIsAncestorOfBlock(
         blockHeader.getSlot(), blockHeader.getParentRoot())) {
-      return completedFuture(
-          reject("DataColumnSidecar block header does not descend from finalized checkpoint"));
+      return reject("DataColumnSidecar block header does not descend from finalized checkpoint");
     }
 
     /*
@@ -397,14 +423,22 @@ public class DataColumnSidecarGossipValidator {
     if (!receivedValidDataColumnSidecarInfoSet.add(
         new SlotProposerIndexAndColumnIndex(
             blockHeader.getSlot(), blockHeader.getProposerIndex(), dataColumnSidecar.getIndex()))) {
-      return SafeFuture.completedFuture(
-          ignore(
-              "DataColumnSidecar is not the first valid for its slot and index. It will be dropped."));
+      return ignore(
+          "DataColumnSidecar is not the first valid for its slot and index. It will be dropped.");
     }
 
     totalDataColumnSidecarsProcessingSuccessesCounter.inc();
 
-    return SafeFuture.completedFuture(ACCEPT);
+    return ACCEPT;
+  }
+
+  private SafeFuture<Boolean> verifyDataColumnSidecarKzgProof(
+      final DataColumnSidecar dataColumnSidecar) {
+    final MetricsHistogram.Timer timer =
+        dataColumnSidecarKzgBatchVerificationTimeSeconds.startTimer();
+    // Failures to run the check, such as a full verification queue, are not the sender's fault so
+    // they are left to propagate and the message is ignored rather than rejected
+    return kzgVerifier.verify(dataColumnSidecar).alwaysRun(timer.closeUnchecked());
   }
 
   private boolean verifyDataColumnSidecarInclusionProof(final DataColumnSidecar dataColumnSidecar) {
@@ -0,0 +1,272 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.kzg;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.MetricsQuantileHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.kzg.KZG;
+import tech.pegasys.teku.service.serviceutils.Service;
+import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.logic.versions.fulu.helpers.MiscHelpersFulu;
+
+/**
+ * Verifies data column sidecar KZG proofs on a dedicated pool of threads.
+ *
+ * <p>Each thread drains all sidecars queued at that moment (up to the max batch size) and verifies
+ * their cells with one {@link KZG#verifyCellProofBatch} call, so columns of the same block arriving
+ * together are checked at once while independent batches proceed in parallel. If a batch fails it
+ * is split to find the invalid sidecars, the same way {@link
+ * tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService}
+ * does for signatures.
+ */
+public class AggregatingDataColumnSidecarKzgVerificationService extends Service
+    implements DataColumnSidecarKzgVerifier {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final int DEFAULT_MAX_THREADS = 4;
+  public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+  public static final int DEFAULT_MAX_BATCH_SIZE = 32;
+  static final int DEFAULT_MIN_BATCH_SIZE_TO_SPLIT = 8;
+
+  private final MiscHelpersFulu miscHelpersFulu;
+  private final KZG kzg;
+  private final AsyncRunner completionRunner;
+  private final int numThreads;
+  private final int maxBatchSize;
+  private final int minBatchSizeToSplit;
+
+  @VisibleForTesting final BlockingQueue<KzgTask> kzgTasks;
+  private final AsyncRunner asyncRunner;
+  private final Counter batchCounter;
+  private final Counter taskCounter;
+  private final MetricsQuantileHistogram batchSizeHistogram;
+  private final MetricsHistogram verificationLatencyHistogram;
+
+  @VisibleForTesting
+  AggregatingDataColumnSidecarKzgVerificationService(
+      final MiscHelpersFulu miscHelpersFulu,
+      final KZG kzg,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final AsyncRunnerFactory asyncRunnerFactory,
+      final AsyncRunner completionRunner,
+      final int numThreads,
+      final int queueCapacity,
+      final int maxBatchSize,
+      final int minBatchSizeToSplit) {
+    this.miscHelpersFulu = miscHelpersFulu;
+    this.kzg = kzg;
+    this.numThreads = Math.min(numThreads, Runtime.getRuntime().availableProcessors());
+    this.asyncRunner = asyncRunnerFactory.create(this.getClass().getSimpleName(), this.numThreads);
+    this.completionRunner = completionRunner;
+    this.maxBatchSize = maxBatchSize;
+    this.minBatchSizeToSplit = minBatchSizeToSplit;
+    this.kzgTasks = new ArrayBlockingQueue<>(queueCapacity);
+
+    metricsSystem.createGauge(
+        TekuMetricCategory.EXECUTOR,
+        "data_column_sidecar_kzg_verifications_queue_size",
+        "Tracks number of data column sidecars waiting to be batch verified",
+        this::getQueueSize);
+    batchCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.EXECUTOR,
+            "data_column_sidecar_kzg_verifications_batch_count_total",
+            "Reports the number of data column sidecar kzg verification batches processed");
+    taskCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.EXECUTOR,
+            "data_column_sidecar_kzg_verifications_task_count_total",
+            "Reports the number of data column sidecars processed by kzg batch verification");
+    batchSizeHistogram =
+        MetricsQuantileHistogram.create(
+            TekuMetricCategory.EXECUTOR,
+            metricsSystem,
+            "data_column_sidecar_kzg_verifications_batch_size",
+            "Histogram of data column sidecar kzg verification batch sizes",
+            3,
+            List.of());
+    verificationLatencyHistogram =
+        new MetricsHistogram(
+            metricsSystem,
+            timeProvider,
+            TekuMetricCategory.EXECUTOR,
+            "data_column_sidecar_kzg_verifications_latency_seconds",
+            "Time from queueing a data column sidecar for kzg verification until it is verified",
+            0.001,
+            0.005,
+            0.01,
+            0.025,
+            0.05,
+            0.075,
+            0.1,
+            0.25,
+            0.5,
+            1.0,
+            2.0);
+  }
+
+  public AggregatingDataColumnSidecarKzgVerificationService(
+      final MiscHelpersFulu miscHelpersFulu,
+      final KZG kzg,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final AsyncRunnerFactory asyncRunnerFactory,
+      final AsyncRunner completionRunner) {
+    this(
+        miscHelpersFulu,
+        kzg,
+        metricsSystem,
+        timeProvider,
+        asyncRunnerFactory,
+        completionRunner,
+        DEFAULT_MAX_THREADS,
+        DEFAULT_QUEUE_CAPACITY,
+        DEFAULT_MAX_BATCH_SIZE,
+        DEFAULT_MIN_BATCH_SIZE_TO_SPLIT);
+  }
+
+  @Override
+  protected SafeFuture<?> doStart() {
+    for (int i = 0; i < numThreads; i++) {
+      asyncRunner
+          .runAsync(this::run)
+          .finish(err -> LOG.error("Data column sidecar KZG verification task failed", err));
+    }
+
+    return SafeFuture.COMPLETE;
+  }
+
+  @Override
+  protected SafeFuture<?> doStop() {
+    return SafeFuture.COMPLETE;
+  }
+
+  @Override
+  public SafeFuture<Boolean> verify(final DataColumnSidecar dataColumnSidecar) {
+    if (!isRunning()) {
+      // Sidecars can be published locally before the service is started or after it is stopped
+      return DataColumnSidecarKzgVerifier.create(miscHelpersFulu, kzg).verify(dataColumnSidecar);
+    }
+    final KzgTask task =
+        new KzgTask(
+            completionRunner, dataColumnSidecar, verificationLatencyHistogram.startTimer());
+    if (!kzgTasks.offer(task)) {
+      // Queue is full
+      task.result.completeExceptionally(
+          new ServiceCapacityExceededException(
+              "Failed to process data column sidecar kzg proofs, queue is full."));
+    }
+    return task.result;
+  }
+
+  private void run() {
+    while (isRunning()) {
+      final List<KzgTask> tasks = waitForBatch();
+      if (!tasks.isEmpty()) {
+        batchVerify(tasks);
+      }
+    }
+  }
+
+  private List<KzgTask> waitForBatch() {
+    final List<KzgTask> tasks = new ArrayList<>();
+    try {
+      int batchSize = maxBatchSize;
+      final KzgTask firstTask = kzgTasks.poll(30, TimeUnit.SECONDS);
+      if (firstTask != null) {
+        tasks.add(firstTask);
+        batchSize -= 1;
+      }
+      kzgTasks.drainTo(tasks, batchSize);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return tasks;
+  }
+
+  @VisibleForTesting
+  void batchVerify(final List<KzgTask> tasks) {
+    batchCounter.inc();
+    taskCounter.inc(tasks.size());
+    batchSizeHistogram.recordValue(tasks.size());
+
+    if (verifyBatch(tasks)) {
+      tasks.forEach(task -> task.completeAsync(true));
+    } else if (tasks.size() == 1) {
+      // We only had 1 sidecar, so it must be invalid
+      tasks.get(0).completeAsync(false);
+    } else if (tasks.size() >= minBatchSizeToSplit) {
+      // Split up tasks and try to verify in smaller batches
+      final int splitListSize = Math.toIntExact((long) Math.ceil(tasks.size() / 2.0));
+      Lists.partition(tasks, splitListSize).forEach(this::batchVerify);
+    } else {
+      // Validate each sidecar individually
+      tasks.forEach(task -> task.completeAsync(verifyBatch(List.of(task))));
+    }
+  }
+
+  private boolean verifyBatch(final List<KzgTask> tasks) {
+    try {
+      return miscHelpersFulu.verifyDataColumnSidecarKzgProofBatch(
+          kzg, tasks.stream().map(task -> task.dataColumnSidecar).toList());
+    } catch (final RuntimeException e) {
+      LOG.debug("Data column sidecar KZG batch verification failed", e);
+      return false;
+    }
+  }
+
+  private double getQueueSize() {
+    return kzgTasks.size();
+  }
+
+  @VisibleForTesting
+  static class KzgTask {
+    final SafeFuture<Boolean> result = new SafeFuture<>();
+    private final AsyncRunner asyncRunner;
+    final DataColumnSidecar dataColumnSidecar;
+    private final MetricsHistogram.Timer latencyTimer;
+
+    private KzgTask(
+        final AsyncRunner asyncRunner,
+        final DataColumnSidecar dataColumnSidecar,
+        final MetricsHistogram.Timer latencyTimer) {
+      this.asyncRunner = asyncRunner;
+      this.dataColumnSidecar = dataColumnSidecar;
+      this.latencyTimer = latencyTimer;
+    }
+
+    public void completeAsync(final boolean isValid) {
+      latencyTimer.closeUnchecked().run();
+      asyncRunner.runAsync(() -> result.complete(isValid)).finish(result::completeExceptionally);
+    }
+  }
+}
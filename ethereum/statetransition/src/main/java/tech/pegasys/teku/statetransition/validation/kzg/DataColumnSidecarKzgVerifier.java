@@ -0,0 +1,43 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.kzg;
+
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.kzg.KZG;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.logic.versions.fulu.helpers.MiscHelpersFulu;
+
+/** Verifies the KZG cell proofs of a {@link DataColumnSidecar}, possibly asynchronously */
+@FunctionalInterface
+public interface DataColumnSidecarKzgVerifier {
+
+  /** Verifies on the calling thread, one sidecar at a time */
+  static DataColumnSidecarKzgVerifier create(final MiscHelpersFulu miscHelpersFulu, final KZG kzg) {
+    return dataColumnSidecar -> {
+      try {
+        return SafeFuture.completedFuture(
+            miscHelpersFulu.verifyDataColumnSidecarKzgProof(kzg, dataColumnSidecar));
+      } catch (final RuntimeException e) {
+        // The KZG library rejects malformed cells and proofs by throwing
+        return SafeFuture.completedFuture(false);
+      }
+    };
+  }
+
+  /**
+   * @return A future which completes with whether the proofs are valid, or completes exceptionally
+   *     if the proofs could not be checked, for example because the verification queue is full
+   */
+  SafeFuture<Boolean> verify(DataColumnSidecar dataColumnSidecar);
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+class SlotStateAdvancerTest {
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final RecentChainData recentChainData = mock(RecentChainData.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final MinimalBeaconBlockSummary headBlock = mock(MinimalBeaconBlockSummary.class);
+  private final BeaconState state = mock(BeaconState.class);
+
+  private final Bytes32 headRoot = dataStructureUtil.randomBytes32();
+  private final UInt64 headSlot = UInt64.valueOf(5);
+
+  @BeforeEach
+  void setUp() {
+    when(headBlock.getRoot()).thenReturn(headRoot);
+    when(headBlock.getSlot()).thenReturn(headSlot);
+    when(recentChainData.getHeadBlock()).thenReturn(Optional.of(headBlock));
+    when(recentChainData.retrieveAdvancedStateAtSlot(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(state)));
+  }
+
+  @Test
+  void shouldAdvanceHeadStateAsynchronously() {
+    final SlotStateAdvancer advancer = createAdvancer(false);
+    final UInt64 nextSlot = headSlot.plus(1);
+
+    advancer.advanceToSlot(nextSlot);
+    verify(recentChainData, never()).retrieveAdvancedStateAtSlot(any());
+
+    asyncRunner.executeQueuedActions();
+    verify(recentChainData).retrieveAdvancedStateAtSlot(new SlotAndBlockRoot(nextSlot, headRoot));
+    verify(state).hashTreeRoot();
+    verify(recentChainData, never()).getProposerHead(any(), any());
+  }
+
+  @Test
+  void shouldAlsoAdvanceProposerHeadWhenLateBlockReorgIsEnabled() {
+    final SlotStateAdvancer advancer = createAdvancer(true);
+    final UInt64 nextSlot = headSlot.plus(1);
+    final Bytes32 parentRoot = dataStructureUtil.randomBytes32();
+    when(recentChainData.getProposerHead(headRoot, nextSlot)).thenReturn(parentRoot);
+
+    advancer.advanceToSlot(nextSlot);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData).retrieveAdvancedStateAtSlot(new SlotAndBlockRoot(nextSlot, headRoot));
+    verify(recentChainData).retrieveAdvancedStateAtSlot(new SlotAndBlockRoot(nextSlot, parentRoot));
+  }
+
+  @Test
+  void shouldAdvanceHeadOnlyOnceWhenProposerHeadIsHead() {
+    final SlotStateAdvancer advancer = createAdvancer(true);
+    final UInt64 nextSlot = headSlot.plus(1);
+    when(recentChainData.getProposerHead(headRoot, nextSlot)).thenReturn(headRoot);
+
+    advancer.advanceToSlot(nextSlot);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData).retrieveAdvancedStateAtSlot(new SlotAndBlockRoot(nextSlot, headRoot));
+  }
+
+  @Test
+  void shouldNotAdvanceWhenHeadIsMoreThanAnEpochBehind() {
+    final SlotStateAdvancer advancer = createAdvancer(false);
+
+    advancer.advanceToSlot(headSlot.plus(spec.getSlotsPerEpoch(headSlot)).plus(1));
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData, never()).retrieveAdvancedStateAtSlot(any());
+  }
+
+  @Test
+  void shouldNotAdvanceWhenHeadIsAlreadyAtSlot() {
+    final SlotStateAdvancer advancer = createAdvancer(false);
+
+    advancer.advanceToSlot(headSlot);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData, never()).retrieveAdvancedStateAtSlot(any());
+  }
+
+  private SlotStateAdvancer createAdvancer(final boolean lateBlockReorgEnabled) {
+    return new SlotStateAdvancer(spec, recentChainData, asyncRunner, lateBlockReorgEnabled, 25);
+  }
+}
@@ -401,6 +401,18 @@ class MatchingDataAttestationGroupV2Test {
                 ValidatableAttestation.from(spec, expected, committeeSizes))));
   }
 
+  @TestTemplate
+  void streamAggregatesForBlockProduction_shouldPreferAttestationsAddingMostUncoveredValidators() {
+    group.onAttestationIncludedInBlock(
+        UInt64.ZERO, toAttestation(createPooledAttestation(7, 8, 9)));
+    // Larger, but only validator 5 isn't already included in a block
+    addPooledAttestation(5, 7, 8, 9);
+    final PooledAttestation mostUncovered = addPooledAttestation(4, 5, 6);
+
+    verifyStreamAggregatesForBlockProductionContainsExactly(
+        toPooledAttestationWithData(mostUncovered));
+  }
+
   // --- Tests for streamStreamSingleAttestationsForBlockProduction ---
 
   @TestTemplate
@@ -888,6 +888,28 @@ public class AttestationBitsElectraTest {
     assertThat(singleAttestationFromSingleCommittee.getBitCount()).isEqualTo(1);
   }
 
+  @Test
+  void getCoverageBits_shouldPositionBitsAcrossAllCommittees() {
+    // committee 0 bit 1 and committee 2 bit 1, so bits 1 and 6 of 01|234|5678
+    final CoverageBits coverageBits =
+        createAttestation(List.of(0, 2), 1, 3).bits().getCoverageBits();
+    final long[] coveredWords = new long[coverageBits.getWordsLength()];
+    coverageBits.orInto(coveredWords);
+
+    assertThat(coveredWords).containsExactly((1L << 1) | (1L << 6));
+    assertThat(coverageBits.getBitCount()).isEqualTo(2);
+
+    // committee 1 bits 0 and 2, so bits 2 and 4
+    final CoverageBits otherCommittee =
+        createAttestation(List.of(1), 0, 2).bits().getCoverageBits();
+    assertThat(otherCommittee.intersects(coveredWords)).isFalse();
+    assertThat(otherCommittee.countNotIn(coveredWords)).isEqualTo(2);
+
+    final CoverageBits overlapping = createAttestation(List.of(2), 1).bits().getCoverageBits();
+    assertThat(overlapping.intersects(coveredWords)).isTrue();
+    assertThat(overlapping.countNotIn(coveredWords)).isZero();
+  }
+
   private PooledAttestation createAttestation(final String commBits, final String aggBits) {
     assertThat(commBits).matches(Pattern.compile("^[0-1]+$"));
     assertThat(aggBits).matches(Pattern.compile("^[0-1]+$"));
@@ -16,6 +16,7 @@ package tech.pegasys.teku.statetransition.datacolumns;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -26,6 +27,7 @@ import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.statetransition.datacolumns.DasCustodyStand.createCustodyGroupCountManager;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -164,15 +166,8 @@ public class DataColumnSidecarRecoveryCustodyTest {
             .collect(Collectors.toMap(DataColumnSidecar::getIndex, sidecar -> sidecar));
     sidecars.values().stream().skip(30).limit(70).forEach(custody::onNewValidatedDataColumnSidecar);
 
-    when(delegate.getCustodyDataColumnSidecar(any()))
-        .thenAnswer(
-            args -> {
-              final DataColumnSlotAndIdentifier id = args.getArgument(0);
-              return SafeFuture.completedFuture(
-                  Optional.ofNullable(sidecars.get(id.columnIndex())));
-            });
-    when(miscHelpersFulu.reconstructAllDataColumnSidecars(anyCollection(), any()))
-        .thenReturn(sidecars.values().stream().toList());
+    mockRecovery(sidecars);
+    stubAsyncRunner.executeQueuedActions();
     stubAsyncRunner.executeQueuedActions();
     stubAsyncRunner.executeQueuedActions();
 
@@ -247,15 +242,7 @@ public class DataColumnSidecarRecoveryCustodyTest {
             .collect(Collectors.toMap(DataColumnSidecar::getIndex, sidecar -> sidecar));
     sidecars.values().stream().skip(30).limit(70).forEach(custody::onNewValidatedDataColumnSidecar);
 
-    when(delegate.getCustodyDataColumnSidecar(any()))
-        .thenAnswer(
-            args -> {
-              final DataColumnSlotAndIdentifier id = args.getArgument(0);
-              return SafeFuture.completedFuture(
-                  Optional.ofNullable(sidecars.get(id.columnIndex())));
-            });
-    when(miscHelpersFulu.reconstructAllDataColumnSidecars(anyCollection(), any()))
-        .thenReturn(sidecars.values().stream().toList());
+    mockRecovery(sidecars);
     stubAsyncRunner.executeDueActionsRepeatedly();
     stubTimeProvider.advanceTimeBySeconds(1);
     stubAsyncRunner.executeDueActionsRepeatedly();
@@ -287,15 +274,7 @@ public class DataColumnSidecarRecoveryCustodyTest {
             .collect(Collectors.toMap(DataColumnSidecar::getIndex, sidecar -> sidecar));
     sidecars.values().stream().skip(30).limit(63).forEach(custody::onNewValidatedDataColumnSidecar);
 
-    when(delegate.getCustodyDataColumnSidecar(any()))
-        .thenAnswer(
-            args -> {
-              final DataColumnSlotAndIdentifier id = args.getArgument(0);
-              return SafeFuture.completedFuture(
-                  Optional.ofNullable(sidecars.get(id.columnIndex())));
-            });
-    when(miscHelpersFulu.reconstructAllDataColumnSidecars(anyCollection(), any()))
-        .thenReturn(sidecars.values().stream().toList());
+    mockRecovery(sidecars);
     stubAsyncRunner.executeDueActionsRepeatedly();
     stubTimeProvider.advanceTimeBySeconds(1);
     stubAsyncRunner.executeDueActionsRepeatedly();
@@ -318,4 +297,82 @@ public class DataColumnSidecarRecoveryCustodyTest {
     verify(listener, times(64)).onNewValidSidecar(any(), eq(RemoteOrigin.RECOVERED));
     verify(dataColumnSidecarPublisher, times(64)).accept(any());
   }
+
+  @Test
+  public void shouldCancelRecoveryWhenAllColumnsArrive() {
+    custody.onSlot(slot);
+    custody.onNewBlock(signedBeaconBlock, Optional.empty());
+    final Map<UInt64, DataColumnSidecar> sidecars =
+        columnIndexes
+            .get()
+            .map(i -> dataStructureUtil.randomDataColumnSidecar(signedBeaconBlock.asHeader(), i))
+            .collect(Collectors.toMap(DataColumnSidecar::getIndex, sidecar -> sidecar));
+    sidecars.values().stream().skip(30).limit(70).forEach(custody::onNewValidatedDataColumnSidecar);
+    mockRecovery(sidecars);
+
+    // timeout check and sidecars loading, row recovery is queued
+    stubAsyncRunner.executeQueuedActions();
+    stubAsyncRunner.executeQueuedActions();
+    verify(miscHelpersFulu).computePartialMatrix(anyCollection());
+
+    columnIndexes
+        .get()
+        .limit(30)
+        .map(sidecars::get)
+        .forEach(custody::onNewValidatedDataColumnSidecar);
+    columnIndexes
+        .get()
+        .skip(100)
+        .map(sidecars::get)
+        .forEach(custody::onNewValidatedDataColumnSidecar);
+    stubAsyncRunner.executeQueuedActions();
+
+    verify(miscHelpersFulu, never()).recoverMatrixRow(any(), anyInt(), any());
+    verify(miscHelpersFulu, never()).reconstructDataColumnSidecar(any(), any(), anyInt());
+    verify(listener, never()).onNewValidSidecar(any(), eq(RemoteOrigin.RECOVERED));
+    verifyNoInteractions(dataColumnSidecarPublisher);
+  }
+
+  @Test
+  public void shouldNotPublishColumnsReceivedDuringRecovery() {
+    custody.onSlot(slot);
+    custody.onNewBlock(signedBeaconBlock, Optional.empty());
+    final Map<UInt64, DataColumnSidecar> sidecars =
+        columnIndexes
+            .get()
+            .map(i -> dataStructureUtil.randomDataColumnSidecar(signedBeaconBlock.asHeader(), i))
+            .collect(Collectors.toMap(DataColumnSidecar::getIndex, sidecar -> sidecar));
+    sidecars.values().stream().skip(30).limit(70).forEach(custody::onNewValidatedDataColumnSidecar);
+    mockRecovery(sidecars);
+
+    stubAsyncRunner.executeQueuedActions();
+    stubAsyncRunner.executeQueuedActions();
+    columnIndexes
+        .get()
+        .limit(10)
+        .map(sidecars::get)
+        .forEach(custody::onNewValidatedDataColumnSidecar);
+    stubAsyncRunner.executeQueuedActions();
+
+    verify(listener, times(48)).onNewValidSidecar(any(), eq(RemoteOrigin.RECOVERED));
+    verify(dataColumnSidecarPublisher, times(48)).accept(any());
+    columnIndexes
+        .get()
+        .limit(10)
+        .forEach(i -> verify(dataColumnSidecarPublisher, never()).accept(eq(sidecars.get(i))));
+  }
+
+  private void mockRecovery(final Map<UInt64, DataColumnSidecar> sidecars) {
+    when(delegate.getCustodyDataColumnSidecar(any()))
+        .thenAnswer(
+            args -> {
+              final DataColumnSlotAndIdentifier id = args.getArgument(0);
+              return SafeFuture.completedFuture(
+                  Optional.ofNullable(sidecars.get(id.columnIndex())));
+            });
+    when(miscHelpersFulu.computePartialMatrix(anyCollection())).thenReturn(List.of(List.of()));
+    when(miscHelpersFulu.recoverMatrixRow(any(), anyInt(), any())).thenReturn(List.of());
+    when(miscHelpersFulu.reconstructDataColumnSidecar(any(), any(), anyInt()))
+        .thenAnswer(args -> sidecars.get(UInt64.valueOf(args.<Integer>getArgument(2))));
+  }
 }
@@ -27,6 +27,7 @@ import static tech.pegasys.teku.statetransition.validation.InternalValidationRes
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
@@ -164,6 +165,32 @@ class SyncCommitteeMessagePoolTest {
         .contains(createContributionFrom(subcommitteeIndex, message1, message2));
   }
 
+  @Test
+  void shouldAggregateMessagesAddedConcurrently() {
+    final int subcommitteeIndex = 2;
+    final UInt64 slot = dataStructureUtil.randomUInt64();
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    final ValidatableSyncCommitteeMessage[] messages =
+        IntStream.range(0, 8)
+            .mapToObj(
+                participantIndex -> {
+                  final ValidatableSyncCommitteeMessage message =
+                      ValidatableSyncCommitteeMessage.fromValidator(
+                          dataStructureUtil.randomSyncCommitteeMessage(slot, blockRoot));
+                  message.setSubcommitteeAssignments(
+                      SyncSubcommitteeAssignments.builder()
+                          .addAssignment(subcommitteeIndex, participantIndex)
+                          .build());
+                  return message;
+                })
+            .toArray(ValidatableSyncCommitteeMessage[]::new);
+
+    Arrays.stream(messages).parallel().forEach(this::addValidLocal);
+
+    assertThat(pool.createContribution(slot, blockRoot, subcommitteeIndex))
+        .contains(createContributionFrom(subcommitteeIndex, messages));
+  }
+
   @Test
   void shouldCreateCorrespondingContributionsForEqualMessagesFromDifferentSubnets() {
     final int subcommitteeIndex1 = 1;
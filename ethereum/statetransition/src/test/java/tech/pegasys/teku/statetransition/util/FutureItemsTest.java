@@ -18,6 +18,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
@@ -111,6 +113,55 @@ public class FutureItemsTest {
     assertThat(futureItems.size()).isEqualTo(0);
   }
 
+  @Test
+  public void prune_shouldDecodeItemsKeptSerialized() {
+    final FutureItems<Item> serializedFutureItems =
+        FutureItems.create(
+            Item::getSlot,
+            Item::getSlot,
+            PoolItemStore.serialized(
+                item -> Bytes.ofUnsignedLong(item.getSlot().longValue()),
+                bytes -> new Item(UInt64.fromLongBits(bytes.toLong()))),
+            gauge,
+            "items");
+    serializedFutureItems.onSlot(currentSlot);
+    final UInt64 itemSlot = currentSlot.plus(FutureItems.DEFAULT_FUTURE_SLOT_TOLERANCE);
+
+    serializedFutureItems.add(new Item(itemSlot));
+    assertThat(serializedFutureItems.contains(new Item(itemSlot))).isTrue();
+
+    final List<Item> pruned = serializedFutureItems.prune(itemSlot);
+    assertThat(pruned).extracting(Item::getSlot).containsExactly(itemSlot);
+    assertThat(serializedFutureItems.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void contains_shouldNotSerializeItemKeptSerialized() {
+    final AtomicInteger serializations = new AtomicInteger();
+    final FutureItems<Item> serializedFutureItems =
+        FutureItems.create(
+            Item::getSlot,
+            Item::getSlot,
+            PoolItemStore.serialized(
+                item -> {
+                  serializations.incrementAndGet();
+                  return Bytes.ofUnsignedLong(item.getSlot().longValue());
+                },
+                bytes -> new Item(UInt64.fromLongBits(bytes.toLong()))),
+            gauge,
+            "items");
+    serializedFutureItems.onSlot(currentSlot);
+    final UInt64 itemSlot = currentSlot.plus(FutureItems.DEFAULT_FUTURE_SLOT_TOLERANCE);
+
+    serializedFutureItems.add(new Item(itemSlot));
+    serializedFutureItems.add(new Item(itemSlot));
+
+    assertThat(serializedFutureItems.contains(new Item(itemSlot))).isTrue();
+    assertThat(serializedFutureItems.contains(new Item(itemSlot.minus(1)))).isFalse();
+    assertThat(serializedFutureItems.size()).isEqualTo(1);
+    assertThat(serializations).hasValue(1);
+  }
+
   private static class Item {
     private final UInt64 slot;
 
@@ -264,6 +264,42 @@ public class PendingPoolTest {
     assertThat(pendingPool.size()).isEqualTo(maxItems);
   }
 
+  @Test
+  public void add_shouldDropOldestItemsWhenExceedingMaxBytes() {
+    final SignedBeaconBlock olderBlock = dataStructureUtil.randomSignedBeaconBlock(currentSlot);
+    final SignedBeaconBlock newerBlock =
+        dataStructureUtil.randomSignedBeaconBlock(currentSlot.plus(1));
+    final long maxBytes =
+        olderBlock.sszSerialize().size() + newerBlock.sszSerialize().size() - 1L;
+    final PendingPool<SignedBeaconBlock> pool =
+        new PoolFactory(metricsSystem)
+            .createPendingPoolForBlocks(
+                spec, historicalTolerance, futureTolerance, maxItems, maxBytes);
+    pool.onSlot(currentSlot);
+
+    pool.add(olderBlock);
+    assertThat(pool.getTotalBytes()).isEqualTo(olderBlock.sszSerialize().size());
+
+    pool.add(newerBlock);
+    assertThat(pool.contains(olderBlock)).isFalse();
+    assertThat(pool.contains(newerBlock)).isTrue();
+    assertThat(pool.size()).isEqualTo(1);
+    assertThat(pool.getTotalBytes()).isEqualTo(newerBlock.sszSerialize().size());
+
+    pool.remove(newerBlock);
+    assertThat(pool.getTotalBytes()).isZero();
+  }
+
+  @Test
+  public void get_shouldDecodeBlockKeptSerialized() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(currentSlot);
+    pendingPool.add(block);
+
+    assertThat(pendingPool.get(block.getRoot())).contains(block);
+    assertThat(pendingPool.getItemsDependingOn(block.getParentRoot(), false))
+        .containsExactly(block);
+  }
+
   private Checkpoint finalizedCheckpoint(final SignedBeaconBlock block) {
     final UInt64 epoch = spec.computeEpochAtSlot(block.getSlot()).plus(UInt64.ONE);
     final Bytes32 root = block.getMessage().hashTreeRoot();
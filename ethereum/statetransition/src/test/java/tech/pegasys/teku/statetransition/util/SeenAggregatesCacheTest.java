@@ -113,6 +113,28 @@ class SeenAggregatesCacheTest {
     assertThat(cache.add(root, bitlist(true, true, false, false))).isTrue();
   }
 
+  @Test
+  void isAlreadySeen_shouldBeTrueForSubsetOfSupersetAddedLater() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    assertThat(cache.add(root, bitlist(true, false, false, false))).isTrue();
+    assertThat(cache.add(root, bitlist(false, false, true, false))).isTrue();
+    assertThat(cache.add(root, bitlist(true, true, true, false))).isTrue();
+
+    assertThat(cache.isAlreadySeen(root, bitlist(true, false, true, false))).isTrue();
+    assertThat(cache.isAlreadySeen(root, bitlist(false, false, true, true))).isFalse();
+  }
+
+  @Test
+  void isAlreadySeen_shouldCompareBitsAcrossWords() {
+    final SszBitlistSchema<SszBitlist> largeSchema = SszBitlistSchema.create(512);
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    assertThat(cache.add(root, largeSchema.ofBits(500, 3, 70, 130, 499))).isTrue();
+
+    assertThat(cache.isAlreadySeen(root, largeSchema.ofBits(500, 70, 499))).isTrue();
+    assertThat(cache.isAlreadySeen(root, largeSchema.ofBits(500, 3, 71))).isFalse();
+    assertThat(cache.isAlreadySeen(root, largeSchema.ofBits(500, 3, 70, 130, 498))).isFalse();
+  }
+
   private SszBitlist bitlist(final Boolean... values) {
     return bitlistSchema.of(values);
   }
@@ -34,6 +34,7 @@ import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.kzg.KZG;
+import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.SpecVersion;
@@ -45,6 +46,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.versions.fulu.helpers.MiscHelpersFulu;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.validation.kzg.DataColumnSidecarKzgVerifier;
 
 @TestSpecContext(milestone = {SpecMilestone.FULU})
 public class DataColumnSidecarGossipValidatorTest {
@@ -220,6 +222,34 @@ public class DataColumnSidecarGossipValidatorTest {
         .isCompletedWithValueMatching(InternalValidationResult::isReject);
   }
 
+  @TestTemplate
+  void shouldRejectIfKzgVerificationThrows() {
+    when(miscHelpersFulu.verifyDataColumnSidecarKzgProof(any(), any(DataColumnSidecar.class)))
+        .thenThrow(new IllegalArgumentException("Invalid proof"));
+
+    SafeFutureAssert.assertThatSafeFuture(validator.validate(dataColumnSidecar))
+        .isCompletedWithValueMatching(InternalValidationResult::isReject);
+  }
+
+  @TestTemplate
+  void shouldNotRejectWhenKzgVerificationQueueIsFull(final SpecContext specContext) {
+    final DataColumnSidecarKzgVerifier fullQueueVerifier =
+        __ -> SafeFuture.failedFuture(new ServiceCapacityExceededException("Queue is full"));
+    validator =
+        DataColumnSidecarGossipValidator.create(
+            specContext.getSpec(),
+            invalidBlocks,
+            gossipValidationHelper,
+            miscHelpersFulu,
+            fullQueueVerifier,
+            metricsSystemStub,
+            stubTimeProvider);
+
+    // Left to propagate so the gossip topic handler ignores the message
+    SafeFutureAssert.assertThatSafeFuture(validator.validate(dataColumnSidecar))
+        .isCompletedExceptionallyWith(ServiceCapacityExceededException.class);
+  }
+
   @TestTemplate
   void shouldIgnoreWhenIsNotFirstValidSignature() {
     validator
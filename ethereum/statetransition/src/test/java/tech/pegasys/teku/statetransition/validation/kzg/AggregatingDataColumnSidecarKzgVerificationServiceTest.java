@@ -0,0 +1,160 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.kzg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.kzg.KZG;
+import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.logic.versions.fulu.helpers.MiscHelpersFulu;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.validation.kzg.AggregatingDataColumnSidecarKzgVerificationService.KzgTask;
+
+public class AggregatingDataColumnSidecarKzgVerificationServiceTest {
+  private final int queueCapacity = 10;
+  private final int maxBatchSize = 8;
+  private final int minBatchSizeToSplit = 4;
+  private final int numThreads = 2;
+
+  private final Spec spec = TestSpecFactory.createMinimalFulu();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final MiscHelpersFulu miscHelpersFulu = mock(MiscHelpersFulu.class);
+  private final KZG kzg = mock(KZG.class);
+  private final StubAsyncRunner completionRunner = new StubAsyncRunner();
+  private final StubAsyncRunnerFactory asyncRunnerFactory = new StubAsyncRunnerFactory();
+
+  private final AggregatingDataColumnSidecarKzgVerificationService service =
+      new AggregatingDataColumnSidecarKzgVerificationService(
+          miscHelpersFulu,
+          kzg,
+          new StubMetricsSystem(),
+          StubTimeProvider.withTimeInMillis(0),
+          asyncRunnerFactory,
+          completionRunner,
+          numThreads,
+          queueCapacity,
+          maxBatchSize,
+          minBatchSizeToSplit);
+
+  @Test
+  public void start_shouldQueueTasks() {
+    startService();
+    assertThat(asyncRunnerFactory.getStubAsyncRunners().get(0).countDelayedActions())
+        .isEqualTo(numThreads);
+  }
+
+  @Test
+  public void verify_beforeStartedShouldVerifyOnCallingThread() {
+    final DataColumnSidecar dataColumnSidecar = dataStructureUtil.randomDataColumnSidecar();
+    when(miscHelpersFulu.verifyDataColumnSidecarKzgProof(kzg, dataColumnSidecar)).thenReturn(true);
+
+    assertThat(service.verify(dataColumnSidecar)).isCompletedWithValue(true);
+    assertThat(service.kzgTasks).isEmpty();
+  }
+
+  @Test
+  public void verify_withFullQueue() {
+    startService();
+    IntStream.range(0, queueCapacity)
+        .forEach(__ -> service.verify(dataStructureUtil.randomDataColumnSidecar()));
+
+    final SafeFuture<Boolean> future = service.verify(dataStructureUtil.randomDataColumnSidecar());
+
+    assertThat(future).isCompletedExceptionally();
+    assertThatThrownBy(future::get).hasCauseInstanceOf(ServiceCapacityExceededException.class);
+  }
+
+  @Test
+  public void verify_shouldVerifyQueuedSidecarsInOneBatch() {
+    startService();
+    when(miscHelpersFulu.verifyDataColumnSidecarKzgProofBatch(eq(kzg), anyList()))
+        .thenReturn(true);
+    final List<SafeFuture<Boolean>> futures = verifyRandomSidecars(maxBatchSize);
+
+    assertThat(futures).allMatch(future -> !future.isDone());
+    runPendingTasks();
+
+    assertThat(futures).allMatch(future -> future.isCompletedNormally() && future.join());
+    verify(miscHelpersFulu).verifyDataColumnSidecarKzgProofBatch(eq(kzg), anyList());
+  }
+
+  @Test
+  public void verify_shouldIsolateInvalidSidecar() {
+    startService();
+    final List<DataColumnSidecar> sidecars =
+        IntStream.range(0, maxBatchSize)
+            .mapToObj(__ -> dataStructureUtil.randomDataColumnSidecar())
+            .toList();
+    final DataColumnSidecar invalidSidecar = sidecars.get(3);
+    when(miscHelpersFulu.verifyDataColumnSidecarKzgProofBatch(eq(kzg), anyList()))
+        .thenAnswer(invocation -> !invocation.<List<?>>getArgument(1).contains(invalidSidecar));
+    final List<SafeFuture<Boolean>> futures = sidecars.stream().map(service::verify).toList();
+
+    runPendingTasks();
+
+    for (int i = 0; i < sidecars.size(); i++) {
+      assertThat(futures.get(i)).isCompletedWithValue(sidecars.get(i) != invalidSidecar);
+    }
+  }
+
+  @Test
+  public void verify_shouldTreatErrorsAsInvalid() {
+    startService();
+    when(miscHelpersFulu.verifyDataColumnSidecarKzgProofBatch(eq(kzg), anyList()))
+        .thenThrow(new IllegalArgumentException("Invalid cells"));
+    final SafeFuture<Boolean> future = service.verify(dataStructureUtil.randomDataColumnSidecar());
+
+    runPendingTasks();
+
+    assertThat(future).isCompletedWithValue(false);
+    verify(miscHelpersFulu, never()).verifyDataColumnSidecarKzgProof(any(), any());
+  }
+
+  private List<SafeFuture<Boolean>> verifyRandomSidecars(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(__ -> service.verify(dataStructureUtil.randomDataColumnSidecar()))
+        .toList();
+  }
+
+  private void startService() {
+    assertThat(service.start()).isCompleted();
+  }
+
+  private void runPendingTasks() {
+    final List<KzgTask> tasks = new ArrayList<>();
+    service.kzgTasks.drainTo(tasks);
+    service.batchVerify(tasks);
+    completionRunner.executeQueuedActions();
+  }
+}
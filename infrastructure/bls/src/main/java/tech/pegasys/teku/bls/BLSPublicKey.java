@@ -54,6 +54,27 @@ public final class BLSPublicKey {
             .aggregatePublicKeys(publicKeys.stream().map(BLSPublicKey::getPublicKey).toList()));
   }
 
+  /**
+   * Removes public keys from an aggregate public key, returns the public key that corresponds to G1
+   * point at infinity if the aggregate or any of the removed public keys is infinity or not a G1
+   * group member.
+   *
+   * <p>Removing {@code k} keys from an aggregate of {@code n} keys costs {@code k} point additions
+   * rather than the {@code n - k} needed to aggregate the remaining keys from scratch.
+   *
+   * @param aggregate The aggregate public key to remove keys from
+   * @param publicKeys The list of public keys to remove
+   * @return PublicKey The public key
+   */
+  public static BLSPublicKey subtract(
+      final BLSPublicKey aggregate, final List<BLSPublicKey> publicKeys) {
+    return new BLSPublicKey(
+        BLS.getBlsImpl()
+            .subtractPublicKeys(
+                aggregate.getPublicKey(),
+                publicKeys.stream().map(BLSPublicKey::getPublicKey).toList()));
+  }
+
   public static BLSPublicKey fromSSZBytes(final Bytes bytes) {
     checkArgument(
         bytes.size() == SSZ_BLS_PUBKEY_SIZE,
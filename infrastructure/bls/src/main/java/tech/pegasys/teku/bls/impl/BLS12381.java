@@ -94,6 +94,18 @@ public interface BLS12381 {
    */
   PublicKey aggregatePublicKeys(List<? extends PublicKey> publicKeys);
 
+  /**
+   * Removes a list of PublicKeys from an aggregate PublicKey. The result is the same as aggregating
+   * the keys which made up the aggregate minus the removed keys, but is cheaper to compute when
+   * fewer keys are removed than remain. Returns the public key that corresponds to G1 point at
+   * infinity if the aggregate or any of the removed public keys is not valid.
+   *
+   * @param aggregate The aggregate public key to remove keys from
+   * @param publicKeys The list of public keys to remove
+   * @return PublicKey The public key
+   */
+  PublicKey subtractPublicKeys(PublicKey aggregate, List<? extends PublicKey> publicKeys);
+
   /**
    * Aggregates a list of Signatures, returning the signature that corresponds to G2 point at
    * infinity if list is empty.
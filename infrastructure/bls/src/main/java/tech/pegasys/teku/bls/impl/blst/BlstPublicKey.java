@@ -67,15 +67,39 @@ class BlstPublicKey implements PublicKey {
       sum.add(publicKey.ecPoint);
     }
 
-    return new BlstPublicKey(sum.to_affine());
+    // The sum of G1 group members is a G1 group member, so skip the group check for the result
+    return new BlstPublicKey(sum.to_affine(), true);
+  }
+
+  public static BlstPublicKey subtract(
+      final BlstPublicKey aggregate, final List<BlstPublicKey> publicKeys) {
+    if (!aggregate.isValid()) {
+      return INFINITE_PUBLIC_KEY;
+    }
+
+    P1 difference = new P1(aggregate.ecPoint);
+    for (BlstPublicKey publicKey : publicKeys) {
+      if (!publicKey.isValid()) {
+        return INFINITE_PUBLIC_KEY;
+      }
+      difference.add(new P1(publicKey.ecPoint).neg());
+    }
+
+    return new BlstPublicKey(difference.to_affine(), true);
   }
 
   final P1_Affine ecPoint;
   private final Supplier<Boolean> isInfinity = Suppliers.memoize(this::checkForInfinity);
-  private final Supplier<Boolean> isInGroup = Suppliers.memoize(this::checkGroupMembership);
+  private final Supplier<Boolean> isInGroup;
 
   public BlstPublicKey(final P1_Affine ecPoint) {
+    this(ecPoint, false);
+  }
+
+  private BlstPublicKey(final P1_Affine ecPoint, final boolean knownToBeInGroup) {
     this.ecPoint = ecPoint;
+    this.isInGroup =
+        knownToBeInGroup ? () -> true : Suppliers.memoize(this::checkGroupMembership);
   }
 
   @Override
@@ -215,6 +215,38 @@ abstract class BLSPublicKeyTest {
     assertThat(aggrPk).isEqualTo(INFINITY_PUBLIC_KEY);
   }
 
+  @Test
+  void subtractShouldMatchAggregateOfRemainingPubKeys() {
+    BLSPublicKey pk1 = BLSTestUtil.randomPublicKey(1);
+    BLSPublicKey pk2 = BLSTestUtil.randomPublicKey(2);
+    BLSPublicKey pk3 = BLSTestUtil.randomPublicKey(3);
+    BLSPublicKey aggrPk = BLSPublicKey.aggregate(List.of(pk1, pk2, pk3));
+
+    BLSPublicKey remainingPk = BLSPublicKey.subtract(aggrPk, List.of(pk2));
+
+    assertThat(remainingPk).isEqualTo(BLSPublicKey.aggregate(List.of(pk1, pk3)));
+    assertThat(remainingPk.isValid()).isTrue();
+  }
+
+  @Test
+  void subtractNothingShouldReturnAggregate() {
+    BLSPublicKey aggrPk =
+        BLSPublicKey.aggregate(
+            List.of(BLSTestUtil.randomPublicKey(1), BLSTestUtil.randomPublicKey(2)));
+
+    assertThat(BLSPublicKey.subtract(aggrPk, List.of())).isEqualTo(aggrPk);
+  }
+
+  @Test
+  void subtractWithInfinitePubKeyShouldFail() {
+    BLSPublicKey aggrPk =
+        BLSPublicKey.aggregate(
+            List.of(BLSTestUtil.randomPublicKey(1), BLSTestUtil.randomPublicKey(2)));
+
+    assertThat(BLSPublicKey.subtract(aggrPk, List.of(INFINITY_PUBLIC_KEY)))
+        .isEqualTo(INFINITY_PUBLIC_KEY);
+  }
+
   @Test
   public void toAbbreviatedString_shouldShowFirstSevenBytesOfPublicKey() {
     Bytes keyBytes =
@@ -0,0 +1,192 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Cache with fixed size that can be copied in constant time.
+ *
+ * <p>Copies share the cached entries until one of them is modified, at which point the modified
+ * instance takes a private copy of the entries. Reads never lock, only modifications are
+ * serialized.
+ *
+ * <p>Eviction approximates LRU with a second chance queue: entries are evicted in the order they
+ * were added, unless they were read since they were last considered for eviction.
+ *
+ * @param <K> Keys type
+ * @param <V> Values type
+ */
+public class CopyOnWriteCache<K, V> implements Cache<K, V> {
+
+  private final int capacity;
+  private volatile Entries<K, V> entries;
+
+  private CopyOnWriteCache(final int capacity, final Entries<K, V> entries) {
+    this.capacity = capacity;
+    this.entries = entries;
+  }
+
+  public static <K, V> CopyOnWriteCache<K, V> create(final int capacity) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    return new CopyOnWriteCache<>(capacity, new Entries<>());
+  }
+
+  @Override
+  public synchronized Cache<K, V> copy() {
+    final Entries<K, V> currentEntries = entries;
+    currentEntries.owners.incrementAndGet();
+    return new CopyOnWriteCache<>(capacity, currentEntries);
+  }
+
+  @Override
+  public V get(final K key, final Function<K, V> fallback) {
+    final Node<K, V> node = entries.map.get(key);
+    if (node != null) {
+      node.referenced = true;
+      return node.value;
+    }
+    return getOrCompute(key, fallback);
+  }
+
+  private synchronized V getOrCompute(final K key, final Function<K, V> fallback) {
+    final Node<K, V> node = entries.map.get(key);
+    if (node != null) {
+      node.referenced = true;
+      return node.value;
+    }
+    final V result = fallback.apply(key);
+    if (result != null) {
+      put(key, result);
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<V> getCached(final K key) {
+    final Node<K, V> node = entries.map.get(key);
+    if (node == null) {
+      return Optional.empty();
+    }
+    node.referenced = true;
+    return Optional.of(node.value);
+  }
+
+  @Override
+  public synchronized void invalidate(final K key) {
+    if (entries.map.containsKey(key)) {
+      writableEntries().map.remove(key);
+    }
+  }
+
+  @Override
+  public synchronized void invalidateWithNewValue(final K key, final V newValue) {
+    if (newValue == null) {
+      invalidate(key);
+    } else {
+      put(key, newValue);
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    final Entries<K, V> currentEntries = entries;
+    entries = new Entries<>();
+    currentEntries.owners.decrementAndGet();
+  }
+
+  @Override
+  public int size() {
+    return entries.map.size();
+  }
+
+  private void put(final K key, final V value) {
+    final Entries<K, V> writableEntries = writableEntries();
+    final Node<K, V> node = new Node<>(key, value);
+    writableEntries.map.put(key, node);
+    writableEntries.insertionOrder.addLast(node);
+    writableEntries.evict(capacity);
+  }
+
+  /** Must be called holding the lock. Takes a private copy of the entries if they are shared. */
+  private Entries<K, V> writableEntries() {
+    final Entries<K, V> currentEntries = entries;
+    if (currentEntries.owners.get() == 1) {
+      return currentEntries;
+    }
+    final Entries<K, V> copiedEntries = currentEntries.copy();
+    entries = copiedEntries;
+    currentEntries.owners.decrementAndGet();
+    return copiedEntries;
+  }
+
+  private static final class Entries<K, V> {
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    // May contain nodes which were since replaced or invalidated, these are skipped on eviction
+    private final ArrayDeque<Node<K, V>> insertionOrder = new ArrayDeque<>();
+    private final AtomicInteger owners = new AtomicInteger(1);
+
+    private Entries<K, V> copy() {
+      final Entries<K, V> copy = new Entries<>();
+      for (Node<K, V> node : insertionOrder) {
+        if (map.get(node.key) == node) {
+          final Node<K, V> copiedNode = new Node<>(node.key, node.value);
+          copiedNode.referenced = node.referenced;
+          copy.map.put(node.key, copiedNode);
+          copy.insertionOrder.addLast(copiedNode);
+        }
+      }
+      return copy;
+    }
+
+    private void evict(final int capacity) {
+      while (map.size() > capacity) {
+        final Node<K, V> node = insertionOrder.pollFirst();
+        if (node == null) {
+          return;
+        }
+        if (map.get(node.key) != node) {
+          continue;
+        }
+        if (node.referenced) {
+          node.referenced = false;
+          insertionOrder.addLast(node);
+        } else {
+          map.remove(node.key, node);
+        }
+      }
+      if (insertionOrder.size() > 2 * capacity) {
+        insertionOrder.removeIf(node -> map.get(node.key) != node);
+      }
+    }
+  }
+
+  private static final class Node<K, V> {
+    private final K key;
+    private final V value;
+    // Racy updates are fine, the flag only affects which entry is evicted first
+    private boolean referenced;
+
+    private Node(final K key, final V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+}
@@ -27,6 +27,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -111,6 +112,18 @@ public class JavalinRestApiRequest implements RestApiRequest {
                       } catch (JsonProcessingException e) {
                         LOG.trace("Failed to generate API response", e);
                         context.status(SC_INTERNAL_SERVER_ERROR);
+                      } catch (UncheckedIOException e) {
+                        if (context.res().isCommitted()) {
+                          // Large bodies are streamed straight to the client so a failed write
+                          // usually means it went away. The status has already been sent and the
+                          // failed write has stopped serialization, so there is nothing left to do
+                          LOG.debug(
+                              "Failed to stream API response, client may have disconnected", e);
+                        } else {
+                          LOG.error("Failed to generate API response", e);
+                          context.res().resetBuffer();
+                          context.status(SC_INTERNAL_SERVER_ERROR);
+                        }
                       }
                       return Bytes.EMPTY.toArrayUnsafe();
                     })
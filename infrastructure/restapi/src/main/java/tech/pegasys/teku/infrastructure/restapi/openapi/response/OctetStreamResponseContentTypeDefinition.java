@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.infrastructure.restapi.openapi.response;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
@@ -25,6 +26,10 @@ import tech.pegasys.teku.infrastructure.json.types.OpenApiTypeDefinition;
 
 public class OctetStreamResponseContentTypeDefinition<T> extends DelegatingOpenApiTypeDefinition
     implements ResponseContentTypeDefinition<T> {
+  // Serializers write small pieces (e.g. a single SSZ leaf) at a time. Coalesce them into
+  // bounded chunks rather than handing each one to the response stream.
+  static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
   public static final OpenApiTypeDefinition OCTET_STREAM_BYTES_TYPE =
       DeserializableTypeDefinition.string(Bytes.class)
           .formatter(Bytes::toHexString)
@@ -49,7 +54,9 @@ public class OctetStreamResponseContentTypeDefinition<T> extends DelegatingOpenA
 
   @Override
   public void serialize(final T value, final OutputStream out) throws IOException {
-    serializer.serialize(value, out);
+    final BufferedOutputStream bufferedOut = new BufferedOutputStream(out, STREAM_BUFFER_SIZE);
+    serializer.serialize(value, bufferedOut);
+    bufferedOut.flush();
   }
 
   @Override
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE;
@@ -32,12 +33,16 @@ import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT8_TYPE;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.commons.io.IOUtils;
 import org.apache.tuweni.bytes.Bytes32;
@@ -45,6 +50,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.http.ContentTypes;
 import tech.pegasys.teku.infrastructure.restapi.CustomResponseTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
@@ -78,6 +85,7 @@ public class RestApiRequestTest {
           .build();
 
   private final Context context = mock(Context.class);
+  private final HttpServletResponse response = mock(HttpServletResponse.class);
 
   @Test
   void shouldGiveSensibleErrorMessageFromOptionalQueryParameter() {
@@ -353,6 +361,55 @@ public class RestApiRequestTest {
         .isInstanceOf(JsonProcessingException.class);
   }
 
+  @Test
+  void respondAsync_shouldRespondWithServerErrorWhenSerializationFailsBeforeCommitted() {
+    when(response.isCommitted()).thenReturn(false);
+
+    respondAsyncWithFailingOutputStream();
+
+    verify(response).resetBuffer();
+    verify(context).status(SC_INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  void respondAsync_shouldIgnoreFailedWriteAfterResponseCommitted() {
+    when(response.isCommitted()).thenReturn(true);
+
+    respondAsyncWithFailingOutputStream();
+
+    verify(response, never()).resetBuffer();
+    verify(context).status(SC_OK);
+    verify(context, never()).status(SC_INTERNAL_SERVER_ERROR);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void respondAsyncWithFailingOutputStream() {
+    when(context.res()).thenReturn(response);
+    when(context.outputStream())
+        .thenReturn(
+            new OutputStream() {
+              @Override
+              public void write(final int b) throws IOException {
+                throw new IOException("Write failed");
+              }
+            });
+    final EndpointMetadata metadata =
+        EndpointMetadata.get("/foo")
+            .operationId("foo")
+            .description("foobar")
+            .summary("Foo Summary")
+            .response(SC_OK, "Good", BYTES32_TYPE)
+            .build();
+    final JavalinRestApiRequest request = new JavalinRestApiRequest(context, metadata);
+
+    request.respondAsync(SafeFuture.completedFuture(AsyncApiResponse.respondOk(Bytes32.ZERO)));
+
+    final ArgumentCaptor<Supplier<? extends CompletableFuture<?>>> futureSupplier =
+        ArgumentCaptor.forClass(Supplier.class);
+    verify(context).future(futureSupplier.capture());
+    assertThat(futureSupplier.getValue().get()).isCompleted();
+  }
+
   @Test
   public void whenUnderlyingInputStreamThrowsIOException_ShouldThrowRuntimeWithCause()
       throws Exception {
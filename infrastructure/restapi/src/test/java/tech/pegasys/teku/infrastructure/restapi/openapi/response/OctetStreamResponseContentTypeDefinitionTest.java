@@ -0,0 +1,57 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.openapi.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class OctetStreamResponseContentTypeDefinitionTest {
+
+  @Test
+  void shouldCoalesceSmallWritesIntoBoundedChunks() throws Exception {
+    final int totalSize = 3 * OctetStreamResponseContentTypeDefinition.STREAM_BUFFER_SIZE + 5;
+    final CountingOutputStream out = new CountingOutputStream();
+    final OctetStreamResponseContentTypeDefinition<Integer> typeDefinition =
+        new OctetStreamResponseContentTypeDefinition<>(
+            (size, stream) -> {
+              for (int i = 0; i < size; i++) {
+                stream.write(new byte[] {(byte) i}, 0, 1);
+              }
+            },
+            __ -> Map.of());
+
+    typeDefinition.serialize(totalSize, out);
+
+    assertThat(out.size()).isEqualTo(totalSize);
+    assertThat(out.toByteArray()[totalSize - 1]).isEqualTo((byte) (totalSize - 1));
+    assertThat(out.writeCount).isEqualTo(4);
+    assertThat(out.maxWriteSize)
+        .isEqualTo(OctetStreamResponseContentTypeDefinition.STREAM_BUFFER_SIZE);
+  }
+
+  private static class CountingOutputStream extends ByteArrayOutputStream {
+    private int writeCount;
+    private int maxWriteSize;
+
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) {
+      writeCount++;
+      maxWriteSize = Math.max(maxWriteSize, len);
+      super.write(b, off, len);
+    }
+  }
+}
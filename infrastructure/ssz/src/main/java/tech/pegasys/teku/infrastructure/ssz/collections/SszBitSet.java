@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.infrastructure.ssz.collections;
 
+import java.util.BitSet;
 import java.util.stream.IntStream;
 
 public interface SszBitSet {
@@ -28,6 +29,9 @@ public interface SszBitSet {
    */
   boolean isSet(int i);
 
+  /** Returns a copy of the bits in this {@link SszBitSet} as a {@link BitSet} */
+  BitSet getAsBitSet();
+
   default boolean isSuperSetOf(final SszBitSet other) {
     return other.streamAllSetBits().allMatch(this::isSet);
   }
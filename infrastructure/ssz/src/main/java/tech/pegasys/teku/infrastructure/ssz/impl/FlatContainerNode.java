@@ -0,0 +1,111 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Suppliers;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUpdates;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+
+/**
+ * Backing node of a container deserialized from SSZ which holds the deserialized field values
+ * rather than the container's own part of the tree.
+ *
+ * <p>Field reads, hashing and serialization work directly on the field values. The branch nodes
+ * joining the fields are only created when the node is navigated or updated as a tree, e.g. when a
+ * mutable copy or a merkle proof is requested.
+ */
+public final class FlatContainerNode implements BranchNode {
+  private final SszContainerSchema<?> schema;
+  private final List<SszData> fields;
+  private final Supplier<BranchNode> tree;
+  private volatile Bytes32 cachedHash;
+
+  public FlatContainerNode(final SszContainerSchema<?> schema, final List<SszData> fields) {
+    checkArgument(fields.size() > 1, "Flat containers must have more than one field");
+    this.schema = schema;
+    this.fields = fields;
+    this.tree = Suppliers.memoize(() -> (BranchNode) schema.createTreeFromFieldValues(fields));
+  }
+
+  public SszContainerSchema<?> getSchema() {
+    return schema;
+  }
+
+  public SszData getField(final int index) {
+    return fields.get(index);
+  }
+
+  @NotNull
+  @Override
+  public TreeNode left() {
+    return tree.get().left();
+  }
+
+  @NotNull
+  @Override
+  public TreeNode right() {
+    return tree.get().right();
+  }
+
+  @Override
+  public BranchNode rebind(final boolean left, final TreeNode newNode) {
+    return tree.get().rebind(left, newNode);
+  }
+
+  @Override
+  public TreeNode updated(final TreeUpdates newNodes) {
+    return newNodes.isEmpty() ? this : tree.get().updated(newNodes);
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot(final Sha256 sha256) {
+    Bytes32 cachedHash = this.cachedHash;
+    if (cachedHash == null) {
+      cachedHash = merkleizeFields(sha256);
+      this.cachedHash = cachedHash;
+    }
+    return cachedHash;
+  }
+
+  private Bytes32 merkleizeFields(final Sha256 sha256) {
+    final int width = (int) TreeUtil.nextPowerOf2(fields.size());
+    final Bytes32[] layer = new Bytes32[width];
+    for (int i = 0; i < width; i++) {
+      layer[i] =
+          i < fields.size() ? fields.get(i).getBackingNode().hashTreeRoot(sha256) : Bytes32.ZERO;
+    }
+    for (int size = width; size > 1; size /= 2) {
+      for (int i = 0; i < size / 2; i++) {
+        layer[i] = Bytes32.wrap(sha256.digest(layer[2 * i], layer[2 * i + 1]));
+      }
+    }
+    return layer[0];
+  }
+
+  @Override
+  public String toString() {
+    return "(Flat " + schema.getContainerName() + ")";
+  }
+}
@@ -42,6 +42,9 @@ public class SszContainerImpl extends AbstractSszComposite<SszData> implements S
 
   @Override
   protected SszData getImpl(final int index) {
+    if (getBackingNode() instanceof FlatContainerNode flatNode) {
+      return flatNode.getField(index);
+    }
     SszCompositeSchema<?> type = this.getSchema();
     TreeNode node = getBackingNode().get(type.getChildGeneralizedIndex(index));
     return type.getChildSchema(index).createFromBackingNode(node);
@@ -26,11 +26,13 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.ssz.SszContainer;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.impl.FlatContainerNode;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszFieldName;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
@@ -40,6 +42,7 @@ import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszLengthBounds;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 
@@ -88,6 +91,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
   private final TreeNode defaultTree;
   private final long treeWidth;
   private final int fixedPartSize;
+  private final boolean fixedSize;
   private final DeserializableTypeDefinition<C> jsonTypeDefinition;
 
   protected AbstractSszContainerSchema(
@@ -106,6 +110,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     this.defaultTree = createDefaultTree();
     this.treeWidth = SszContainerSchema.super.treeWidth();
     this.fixedPartSize = calcSszFixedPartSize();
+    this.fixedSize = calcFixedSize();
     this.jsonTypeDefinition = SszContainerTypeDefinition.createFor(this);
   }
 
@@ -120,6 +125,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     this.defaultTree = createDefaultTree();
     this.treeWidth = SszContainerSchema.super.treeWidth();
     this.fixedPartSize = calcSszFixedPartSize();
+    this.fixedSize = calcFixedSize();
     this.jsonTypeDefinition = SszContainerTypeDefinition.createFor(this);
   }
 
@@ -205,6 +211,10 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   @Override
   public boolean isFixedSize() {
+    return fixedSize;
+  }
+
+  private boolean calcFixedSize() {
     for (int i = 0; i < getFieldsCount(); i++) {
       if (!getChildSchema(i).isFixedSize()) {
         return false;
@@ -232,11 +242,12 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     if (isFixedSize()) {
       return 0;
     } else {
+      final List<TreeNode> childNodes = getChildNodes(node);
       int size = 0;
       for (int i = 0; i < getFieldsCount(); i++) {
         SszSchema<?> childType = getChildSchema(i);
         if (!childType.isFixedSize()) {
-          size += childType.getSszSize(node.get(getChildGeneralizedIndex(i)));
+          size += childType.getSszSize(childNodes.get(i));
         }
       }
       return size;
@@ -248,12 +259,49 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     return childrenSchemas;
   }
 
+  /**
+   * Returns the subtrees of all fields in a single pass over the container's part of the tree. Flat
+   * containers return the backing nodes of their fields without building the tree.
+   */
+  private List<TreeNode> getChildNodes(final TreeNode node) {
+    final List<TreeNode> childNodes = new ArrayList<>(getFieldsCount());
+    if (node instanceof FlatContainerNode flatNode) {
+      for (int i = 0; i < getFieldsCount(); i++) {
+        childNodes.add(flatNode.getField(i).getBackingNode());
+      }
+    } else {
+      collectChildNodes(node, treeDepth(), childNodes);
+    }
+    return childNodes;
+  }
+
+  private void collectChildNodes(
+      final TreeNode node, final int depth, final List<TreeNode> childNodes) {
+    if (childNodes.size() == getFieldsCount()) {
+      return;
+    }
+    if (depth == 0) {
+      childNodes.add(node);
+      return;
+    }
+    final BranchNode branchNode = (BranchNode) node;
+    collectChildNodes(branchNode.left(), depth - 1, childNodes);
+    collectChildNodes(branchNode.right(), depth - 1, childNodes);
+  }
+
   @Override
   public int sszSerializeTree(final TreeNode node, final SszWriter writer) {
+    final List<TreeNode> childSubtrees = getChildNodes(node);
+    if (isFixedSize()) {
+      for (int i = 0; i < childSubtrees.size(); i++) {
+        getChildSchema(i).sszSerializeTree(childSubtrees.get(i), writer);
+      }
+      return getSszFixedPartSize();
+    }
     int variableChildOffset = getSszFixedPartSize();
     int[] variableSizes = new int[getFieldsCount()];
     for (int i = 0; i < getFieldsCount(); i++) {
-      TreeNode childSubtree = node.get(getChildGeneralizedIndex(i));
+      TreeNode childSubtree = childSubtrees.get(i);
       SszSchema<?> childType = getChildSchema(i);
       if (childType.isFixedSize()) {
         int size = childType.sszSerializeTree(childSubtree, writer);
@@ -268,26 +316,50 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     for (int i = 0; i < childrenSchemas.size(); i++) {
       SszSchema<?> childType = getChildSchema(i);
       if (!childType.isFixedSize()) {
-        TreeNode childSubtree = node.get(getChildGeneralizedIndex(i));
-        int size = childType.sszSerializeTree(childSubtree, writer);
+        int size = childType.sszSerializeTree(childSubtrees.get(i), writer);
         assert size == variableSizes[i];
       }
     }
     return variableChildOffset;
   }
 
+  @Override
+  public C sszDeserialize(final SszReader reader) throws SszDeserializeException {
+    if (!isFlatDeserializationEnabled()) {
+      return createFromBackingNode(sszDeserializeTree(reader));
+    }
+    final List<SszData> fields = deserializeFields(reader, SszSchema::sszDeserialize);
+    return createFromBackingNode(new FlatContainerNode(this, fields));
+  }
+
+  /**
+   * Whether containers deserialized with {@link #sszDeserialize(SszReader)} are backed by their
+   * field values, only building the container's part of the tree if it is navigated. Should be
+   * disabled for containers which are usually modified after being deserialized.
+   */
+  protected boolean isFlatDeserializationEnabled() {
+    return getFieldsCount() > 1;
+  }
+
   @Override
   public TreeNode sszDeserializeTree(final SszReader reader) {
+    return TreeUtil.createTree(deserializeFields(reader, SszSchema::sszDeserializeTree));
+  }
+
+  private <T> List<T> deserializeFields(
+      final SszReader reader, final BiFunction<SszSchema<?>, SszReader, T> fieldDeserializer) {
+    if (isFixedSize()) {
+      return deserializeFixedSizeFields(reader, fieldDeserializer);
+    }
     int endOffset = reader.getAvailableBytes();
     int childCount = getFieldsCount();
-    Queue<TreeNode> fixedChildrenSubtrees = new ArrayDeque<>(childCount);
+    Queue<T> fixedChildren = new ArrayDeque<>(childCount);
     IntList variableChildrenOffsets = new IntArrayList(childCount);
     for (int i = 0; i < childCount; i++) {
       SszSchema<?> childType = getChildSchema(i);
       if (childType.isFixedSize()) {
         try (SszReader sszReader = reader.slice(childType.getSszFixedPartSize())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          fixedChildrenSubtrees.add(childNode);
+          fixedChildren.add(fieldDeserializer.apply(childType, sszReader));
         }
       } else {
         int childOffset = SszType.sszBytesToLength(reader.read(SSZ_LENGTH_SIZE));
@@ -319,20 +391,34 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       throw new SszDeserializeException("Invalid SSZ: wrong child offsets");
     }
 
-    List<TreeNode> childrenSubtrees = new ArrayList<>(childCount);
+    List<T> children = new ArrayList<>(childCount);
     for (int i = 0; i < childCount; i++) {
       SszSchema<?> childType = getChildSchema(i);
       if (childType.isFixedSize()) {
-        childrenSubtrees.add(fixedChildrenSubtrees.remove());
+        children.add(fixedChildren.remove());
       } else {
         try (SszReader sszReader = reader.slice(variableChildrenSizes.remove())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          childrenSubtrees.add(childNode);
+          children.add(fieldDeserializer.apply(childType, sszReader));
         }
       }
     }
+    return children;
+  }
 
-    return TreeUtil.createTree(childrenSubtrees);
+  /** Fixed size fields are read back to back without any offset bookkeeping */
+  private <T> List<T> deserializeFixedSizeFields(
+      final SszReader reader, final BiFunction<SszSchema<?>, SszReader, T> fieldDeserializer) {
+    final List<T> children = new ArrayList<>(getFieldsCount());
+    for (int i = 0; i < getFieldsCount(); i++) {
+      final SszSchema<?> childType = getChildSchema(i);
+      try (SszReader sszReader = reader.slice(childType.getSszFixedPartSize())) {
+        children.add(fieldDeserializer.apply(childType, sszReader));
+      }
+    }
+    if (reader.getAvailableBytes() > 0) {
+      throw new SszDeserializeException("Invalid SSZ: unread bytes for fixed size container");
+    }
+    return children;
   }
 
   @Override
@@ -262,6 +262,12 @@ public abstract class AbstractSszListSchema<
                 data = Bytes.EMPTY;
               } else {
                 data = nodeSource.loadLeafNode(childHash, childGIndex);
+                // Only leaves which are their own root may be omitted by the store
+                checkState(
+                    !data.equals(childHash),
+                    "Missing super node data %s at %s",
+                    childHash,
+                    childGIndex);
               }
               return new SszSuperNode(superNodeDepth, elementSszSupernodeTemplate.get(), data);
             };
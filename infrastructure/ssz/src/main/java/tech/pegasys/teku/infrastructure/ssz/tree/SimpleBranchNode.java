@@ -76,6 +76,13 @@ class SimpleBranchNode implements BranchNode, TreeNode {
     return cachedHash;
   }
 
+  /** Sets the hash of this node when it is already known, unless it has been computed. */
+  void seedHash(final Bytes32 hash) {
+    if (this.cachedHash == null) {
+      this.cachedHash = hash;
+    }
+  }
+
   @Override
   @SuppressWarnings("ReferenceComparison")
   public String toString() {
@@ -0,0 +1,112 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Captures the hashes of the large subtrees of a tree so they can be persisted alongside its SSZ
+ * serialization and seeded back into a tree deserialized from it, without rehashing.
+ *
+ * <p>Only branch nodes covering at least {@link #MIN_SUBTREE_LEAVES} non-zero leaves are captured,
+ * so the first change to a restored tree only needs to rehash a small subtree at each level. Nodes
+ * are identified by their generalized index which is determined by the schema alone, so the hashes
+ * can be restored into any tree with the same content.
+ */
+public class TreeHashCache {
+  static final int MIN_SUBTREE_LEAVES = 256;
+  /** Size of each captured hash entry, a generalized index followed by the hash */
+  public static final int ENTRY_SIZE = Long.BYTES + Bytes32.SIZE;
+  // Children of nodes at this depth can't be addressed by a long generalized index
+  private static final int MAX_PARENT_DEPTH = GIndexUtil.MAX_DEPTH - 1;
+
+  private TreeHashCache() {}
+
+  public static Bytes capture(final TreeNode root) {
+    final List<Long> gIndices = new ArrayList<>();
+    final List<Bytes32> hashes = new ArrayList<>();
+    capture(root, GIndexUtil.SELF_G_INDEX, 0, gIndices, hashes);
+
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(gIndices.size() * ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < gIndices.size(); i++) {
+      buffer.putLong(gIndices.get(i));
+      buffer.put(hashes.get(i).toArrayUnsafe());
+    }
+    return Bytes.wrap(buffer.array());
+  }
+
+  /**
+   * Seeds the hashes previously captured from a tree with the same content into the nodes of
+   * {@code root} which haven't computed their hash yet.
+   *
+   * <p>The hash of {@code root} itself is not seeded but computed from the seeded hashes and the
+   * rest of the tree, and compared to the captured root hash if there is one.
+   *
+   * @return false if the computed root hash doesn't match the captured one, in which case the
+   *     seeded hashes can't be trusted and the tree must be discarded
+   */
+  public static boolean restore(final TreeNode root, final Bytes capturedHashes) {
+    checkArgument(
+        capturedHashes.size() % ENTRY_SIZE == 0,
+        "Invalid captured hashes length: %s",
+        capturedHashes.size());
+    Bytes32 capturedRootHash = null;
+    for (int offset = 0; offset < capturedHashes.size(); offset += ENTRY_SIZE) {
+      final long gIndex = capturedHashes.getLong(offset, ByteOrder.LITTLE_ENDIAN);
+      final Bytes32 hash = Bytes32.wrap(capturedHashes.slice(offset + Long.BYTES, Bytes32.SIZE));
+      if (gIndex == GIndexUtil.SELF_G_INDEX) {
+        capturedRootHash = hash;
+      } else if (root.get(gIndex) instanceof SimpleBranchNode branchNode) {
+        branchNode.seedHash(hash);
+      }
+    }
+    return capturedRootHash == null || capturedRootHash.equals(root.hashTreeRoot());
+  }
+
+  /** Returns the number of non-zero leaves covered by the node */
+  private static long capture(
+      final TreeNode node,
+      final long gIndex,
+      final int depth,
+      final List<Long> gIndices,
+      final List<Bytes32> hashes) {
+    if (!(node instanceof BranchNode branchNode) || depth >= MAX_PARENT_DEPTH) {
+      return 1;
+    }
+    if (node instanceof TreeUtil.ZeroBranchNode) {
+      return 0;
+    }
+    final long leaves =
+        capture(branchNode.left(), GIndexUtil.gIdxLeftGIndex(gIndex), depth + 1, gIndices, hashes)
+            + capture(
+                branchNode.right(),
+                GIndexUtil.gIdxRightGIndex(gIndex),
+                depth + 1,
+                gIndices,
+                hashes);
+    if (leaves >= MIN_SUBTREE_LEAVES) {
+      gIndices.add(gIndex);
+      hashes.add(node.hashTreeRoot());
+    }
+    return leaves;
+  }
+}
@@ -19,16 +19,19 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import java.util.List;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.ImmutableSubContainerImpl;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestLargeContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableMutableContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableMutableSubContainer;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchemaTest;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class SszContainerTest implements SszCompositeTestBase, SszMutableRefCompositeTestBase {
@@ -269,4 +272,33 @@ public class SszContainerTest implements SszCompositeTestBase, SszMutableRefComp
     assertThat(modified)
         .allSatisfy(c -> SszDataAssert.assertThatSszData(c).isEqualByAllMeansTo(c3r));
   }
+
+  @Test
+  void sszSerialize_fixedSizeContainerShouldConcatenateFields() {
+    final TestLargeContainer container =
+        new RandomSszDataGenerator().randomData(TestLargeContainer.SSZ_SCHEMA);
+    final Bytes expected =
+        Bytes.concatenate(
+            IntStream.range(0, container.size())
+                .mapToObj(i -> container.get(i).sszSerialize())
+                .toList());
+
+    final Bytes ssz = container.sszSerialize();
+    assertThat(ssz).isEqualTo(expected);
+    assertThat(TestLargeContainer.SSZ_SCHEMA.sszDeserialize(ssz)).isEqualTo(container);
+  }
+
+  @Test
+  void sszDeserialize_fixedSizeContainerShouldRejectWrongLength() {
+    final Bytes ssz =
+        new RandomSszDataGenerator().randomData(TestLargeContainer.SSZ_SCHEMA).sszSerialize();
+
+    assertThatExceptionOfType(SszDeserializeException.class)
+        .isThrownBy(
+            () ->
+                TestLargeContainer.SSZ_SCHEMA.sszDeserialize(Bytes.concatenate(ssz, Bytes.of(0))));
+    assertThatExceptionOfType(SszDeserializeException.class)
+        .isThrownBy(
+            () -> TestLargeContainer.SSZ_SCHEMA.sszDeserialize(ssz.slice(0, ssz.size() - 1)));
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.RandomSszDataGenerator;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.VariableSizeContainer;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+
+public class FlatContainerNodeTest {
+
+  private final VariableSizeContainer original =
+      new RandomSszDataGenerator()
+          .withMaxListSize(8)
+          .randomData(VariableSizeContainer.SSZ_SCHEMA);
+  private final Bytes ssz = original.sszSerialize();
+
+  @Test
+  void sszDeserialize_shouldBackContainerAndSubContainersByFields() {
+    final VariableSizeContainer container = VariableSizeContainer.SSZ_SCHEMA.sszDeserialize(ssz);
+
+    assertThat(container.getBackingNode()).isInstanceOf(FlatContainerNode.class);
+    assertThat(container.get(0).getBackingNode()).isInstanceOf(FlatContainerNode.class);
+    assertThat(container.get(1)).isEqualTo(original.get(1));
+    assertThat(container.get(2)).isEqualTo(original.get(2));
+  }
+
+  @Test
+  void hashTreeRoot_shouldMatchTreeBackedContainer() {
+    final VariableSizeContainer container = VariableSizeContainer.SSZ_SCHEMA.sszDeserialize(ssz);
+    final TreeNode tree =
+        VariableSizeContainer.SSZ_SCHEMA.sszDeserializeTree(SszReader.fromBytes(ssz));
+
+    assertThat(container.hashTreeRoot()).isEqualTo(tree.hashTreeRoot());
+    assertThat(container).isEqualTo(original);
+  }
+
+  @Test
+  void sszSerialize_shouldRoundTripWithoutBuildingTree() {
+    final VariableSizeContainer container = VariableSizeContainer.SSZ_SCHEMA.sszDeserialize(ssz);
+
+    assertThat(container.sszSerialize()).isEqualTo(ssz);
+  }
+
+  @Test
+  void get_shouldNavigateBuiltTree() {
+    final VariableSizeContainer container = VariableSizeContainer.SSZ_SCHEMA.sszDeserialize(ssz);
+    final long listGIndex = VariableSizeContainer.SSZ_SCHEMA.getChildGeneralizedIndex(1);
+
+    assertThat(container.getBackingNode().get(listGIndex).hashTreeRoot())
+        .isEqualTo(original.getBackingNode().get(listGIndex).hashTreeRoot());
+  }
+}
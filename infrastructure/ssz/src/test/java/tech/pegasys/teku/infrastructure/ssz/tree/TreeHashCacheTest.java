@@ -0,0 +1,94 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+public class TreeHashCacheTest {
+
+  @Test
+  void capture_shouldSkipSmallTrees() {
+    final TreeNode tree = createTree(0, TreeHashCache.MIN_SUBTREE_LEAVES - 1);
+
+    assertThat(TreeHashCache.capture(tree).isEmpty()).isTrue();
+  }
+
+  @Test
+  void restore_shouldProduceSameRootAsOriginalTree() {
+    final TreeNode original = createTree(0, 3000);
+    final Bytes32 expectedRoot = original.hashTreeRoot();
+    final Bytes hashes = TreeHashCache.capture(original);
+
+    final TreeNode restored = createTree(0, 3000);
+
+    assertThat(TreeHashCache.restore(restored, hashes)).isTrue();
+    assertThat(restored.hashTreeRoot()).isEqualTo(expectedRoot);
+  }
+
+  @Test
+  void restore_shouldUseSeededHashesInsteadOfRehashing() {
+    final TreeNode original = createTree(0, 3000);
+    final Bytes hashes = TreeHashCache.capture(original);
+
+    // Only possible if the hashes were seeded rather than computed from the leaves
+    final TreeNode other = createTree(1, 3000);
+
+    assertThat(TreeHashCache.restore(other, hashes)).isTrue();
+    assertThat(other.hashTreeRoot()).isEqualTo(original.hashTreeRoot());
+  }
+
+  @Test
+  void restore_shouldDetectHashesWhichDontMatchUncapturedPartOfTree() {
+    // Only the left half of the tree covers enough leaves to be captured
+    final TreeNode original = createTree(0, 300, 9);
+    final Bytes hashes = TreeHashCache.capture(original);
+
+    final long uncapturedLeafGIndex = GIndexUtil.gIdxChildGIndex(GIndexUtil.SELF_G_INDEX, 280, 9);
+    final TreeNode other =
+        createTree(0, 300, 9).updated(uncapturedLeafGIndex, TreeTest.newTestLeaf(999_999));
+
+    assertThat(TreeHashCache.restore(other, hashes)).isFalse();
+  }
+
+  @Test
+  void restore_shouldRehashOnlyUpdatedPathAfterSeeding() {
+    final TreeNode original = createTree(0, 3000);
+    final Bytes hashes = TreeHashCache.capture(original);
+    final TreeNode restored = createTree(0, 3000);
+    TreeHashCache.restore(restored, hashes);
+
+    final long leafGIndex = GIndexUtil.gIdxChildGIndex(GIndexUtil.SELF_G_INDEX, 5, 12);
+    final TreeNode updated = restored.updated(leafGIndex, TreeTest.newTestLeaf(999_999));
+
+    final TreeNode expected =
+        createTree(0, 3000).updated(leafGIndex, TreeTest.newTestLeaf(999_999));
+    assertThat(updated.hashTreeRoot()).isEqualTo(expected.hashTreeRoot());
+  }
+
+  private TreeNode createTree(final int offset, final int leafCount) {
+    return createTree(offset, leafCount, 12);
+  }
+
+  private TreeNode createTree(final int offset, final int leafCount, final int depth) {
+    final List<LeafNode> leaves =
+        IntStream.range(0, leafCount).mapToObj(i -> TreeTest.newTestLeaf(i + offset)).toList();
+    return TreeUtil.createTree(leaves, depth);
+  }
+}
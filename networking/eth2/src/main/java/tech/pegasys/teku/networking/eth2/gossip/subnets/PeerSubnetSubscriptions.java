@@ -13,11 +13,10 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.subnets;
 
+import static com.google.common.base.Preconditions.checkElementIndex;
+
 import com.google.common.annotations.VisibleForTesting;
-import it.unimi.dsi.fastutil.ints.Int2IntMap;
-import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
-import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -26,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.IntStream;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
@@ -146,15 +146,15 @@ public class PeerSubnetSubscriptions {
         .forEach(
             subnetId ->
                 subnetPeerCountGauge.set(
-                    subscriptions.attestationSubnetSubscriptions.subscriberCountBySubnetId
-                        .getOrDefault(subnetId, 0),
+                    subscriptions.attestationSubnetSubscriptions.getSubscriberCountForSubnet(
+                        subnetId),
                     "attestation_" + subnetId));
     streamAllSyncCommitteeSubnetIds(currentSchemaDefinitions)
         .forEach(
             subnetId ->
                 subnetPeerCountGauge.set(
-                    subscriptions.syncCommitteeSubnetSubscriptions.subscriberCountBySubnetId
-                        .getOrDefault(subnetId, 0),
+                    subscriptions.syncCommitteeSubnetSubscriptions.getSubscriberCountForSubnet(
+                        subnetId),
                     "sync_committee_" + subnetId));
   }
 
@@ -226,6 +226,18 @@ public class PeerSubnetSubscriptions {
     return dataColumnSidecarSubnetSubscriptions.isSubnetRelevant(subnetId);
   }
 
+  SubnetSubscriptions getAttestationSubnetSubscriptionsIndex() {
+    return attestationSubnetSubscriptions;
+  }
+
+  SubnetSubscriptions getSyncCommitteeSubnetSubscriptionsIndex() {
+    return syncCommitteeSubnetSubscriptions;
+  }
+
+  SubnetSubscriptions getDataColumnSidecarSubnetSubscriptionsIndex() {
+    return dataColumnSidecarSubnetSubscriptions;
+  }
+
   public PeerScorer createScorer() {
     return SubnetScorer.create(this);
   }
@@ -265,15 +277,17 @@ public class PeerSubnetSubscriptions {
 
   public static class SubnetSubscriptions {
     private final SszBitvectorSchema<?> subscriptionSchema;
-    private final IntSet relevantSubnets;
-    private final Int2IntMap subscriberCountBySubnetId;
-    private final Map<NodeId, SszBitvector> subscriptionsByPeer;
+    private final BitSet relevantSubnets;
+    // Indexed by subnet id so scoring a peer is a plain array lookup per subscribed subnet
+    private final int[] subscriberCountBySubnetId;
+    // Not modified once built, so they can be shared with the bitvectors handed out
+    private final Map<NodeId, BitSet> subscriptionsByPeer;
 
     private SubnetSubscriptions(
         final SszBitvectorSchema<?> subscriptionSchema,
-        final IntSet relevantSubnets,
-        final Int2IntMap subscriberCountBySubnetId,
-        final Map<NodeId, SszBitvector> subscriptionsByPeer) {
+        final BitSet relevantSubnets,
+        final int[] subscriberCountBySubnetId,
+        final Map<NodeId, BitSet> subscriptionsByPeer) {
       this.subscriptionSchema = subscriptionSchema;
       this.relevantSubnets = relevantSubnets;
       this.subscriberCountBySubnetId = subscriberCountBySubnetId;
@@ -285,11 +299,7 @@ public class PeerSubnetSubscriptions {
     }
 
     public boolean isSubnetRelevant(final int subnetId) {
-      return relevantSubnets.contains(subnetId);
-    }
-
-    private IntStream streamRelevantSubnets() {
-      return relevantSubnets.intStream();
+      return subnetId >= 0 && relevantSubnets.get(subnetId);
     }
 
     /**
@@ -297,52 +307,102 @@ public class PeerSubnetSubscriptions {
      *     there are no relevant subnets.
      */
     public OptionalInt getMinSubscriberCount() {
-      return streamRelevantSubnets().map(this::getSubscriberCountForSubnet).min();
+      if (relevantSubnets.isEmpty()) {
+        return OptionalInt.empty();
+      }
+      int min = Integer.MAX_VALUE;
+      for (int subnetId = relevantSubnets.nextSetBit(0);
+          subnetId >= 0;
+          subnetId = relevantSubnets.nextSetBit(subnetId + 1)) {
+        min = Math.min(min, getSubscriberCountForSubnet(subnetId));
+      }
+      return OptionalInt.of(min);
     }
 
     public int getSubscriberCountForSubnet(final int subnetId) {
-      return subscriberCountBySubnetId.getOrDefault(subnetId, 0);
+      if (subnetId < 0 || subnetId >= subscriberCountBySubnetId.length) {
+        return 0;
+      }
+      return subscriberCountBySubnetId[subnetId];
     }
 
     public SszBitvector getSubnetSubscriptions(final NodeId peerId) {
-      return subscriptionsByPeer.getOrDefault(peerId, subscriptionSchema.getDefault());
+      final BitSet subscriptions = subscriptionsByPeer.get(peerId);
+      if (subscriptions == null) {
+        return subscriptionSchema.getDefault();
+      }
+      return subscriptionSchema.wrapBitSet(subscriptionSchema.getLength(), subscriptions);
     }
 
     public SszBitvectorSchema<?> getSubscriptionSchema() {
       return subscriptionSchema;
     }
 
+    /**
+     * Sums the score of each relevant subnet the peer is subscribed to, given the number of
+     * subscribers it currently has.
+     */
+    public int scoreSubscriber(final NodeId peerId, final IntUnaryOperator subscriberCountToScore) {
+      final BitSet subscriptions = subscriptionsByPeer.get(peerId);
+      return subscriptions == null ? 0 : score(subscriptions, subscriberCountToScore);
+    }
+
+    /**
+     * Sums the score of each relevant subnet in the supplied subscriptions, given the number of
+     * subscribers it currently has.
+     */
+    public int score(
+        final SszBitvector subscriptions, final IntUnaryOperator subscriberCountToScore) {
+      return score(subscriptions.getAsBitSet(), subscriberCountToScore);
+    }
+
+    private int score(final BitSet subscriptions, final IntUnaryOperator subscriberCountToScore) {
+      int score = 0;
+      for (int subnetId = subscriptions.nextSetBit(0);
+          subnetId >= 0;
+          subnetId = subscriptions.nextSetBit(subnetId + 1)) {
+        if (isSubnetRelevant(subnetId)) {
+          score += subscriberCountToScore.applyAsInt(getSubscriberCountForSubnet(subnetId));
+        }
+      }
+      return score;
+    }
+
     public static class Builder {
       private final SszBitvectorSchema<?> subscriptionSchema;
 
-      private final IntSet relevantSubnets = new IntOpenHashSet();
-      private final Int2IntMap subscriberCountBySubnetId = new Int2IntOpenHashMap();
-      private final Map<NodeId, SszBitvector> subscriptionsByPeer = new HashMap<>();
+      private final BitSet relevantSubnets = new BitSet();
+      private final int[] subscriberCountBySubnetId;
+      private final Map<NodeId, BitSet> subscriptionsByPeer = new HashMap<>();
 
       private Builder(final SszBitvectorSchema<?> subscriptionSchema) {
         this.subscriptionSchema = subscriptionSchema;
+        this.subscriberCountBySubnetId = new int[subscriptionSchema.getLength()];
       }
 
       public Builder addRelevantSubnet(final int subnetId) {
-        relevantSubnets.add(subnetId);
+        relevantSubnets.set(subnetId);
         return this;
       }
 
       public Builder addSubscriber(final int subnetId, final NodeId peer) {
-        subscriberCountBySubnetId.put(
-            subnetId, subscriberCountBySubnetId.getOrDefault(subnetId, 0) + 1);
-        subscriptionsByPeer.compute(
-            peer,
-            (__, existingVector) ->
-                existingVector == null
-                    ? subscriptionSchema.ofBits(subnetId)
-                    : existingVector.withBit(subnetId));
+        checkElementIndex(subnetId, subscriberCountBySubnetId.length, "subnetId");
+        final BitSet peerSubscriptions =
+            subscriptionsByPeer.computeIfAbsent(
+                peer, __ -> new BitSet(subscriberCountBySubnetId.length));
+        if (!peerSubscriptions.get(subnetId)) {
+          peerSubscriptions.set(subnetId);
+          subscriberCountBySubnetId[subnetId]++;
+        }
         return this;
       }
 
       public SubnetSubscriptions build() {
         return new SubnetSubscriptions(
-            subscriptionSchema, relevantSubnets, subscriberCountBySubnetId, subscriptionsByPeer);
+            subscriptionSchema,
+            (BitSet) relevantSubnets.clone(),
+            subscriberCountBySubnetId.clone(),
+            subscriptionsByPeer);
       }
     }
   }
@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.subnets;
 
-import java.util.function.IntUnaryOperator;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.networking.eth2.peers.PeerScorer;
@@ -35,17 +34,15 @@ public class SubnetScorer implements PeerScorer {
 
   @Override
   public int scoreExistingPeer(final NodeId peerId) {
-    final SszBitvector attSubscriptions =
-        peerSubnetSubscriptions.getAttestationSubnetSubscriptions(peerId);
-    final SszBitvector syncCommitteeSubscriptions =
-        peerSubnetSubscriptions.getSyncCommitteeSubscriptions(peerId);
-    final SszBitvector dataColumnSidecarSubscriptions =
-        peerSubnetSubscriptions.getDataColumnSidecarSubnetSubscriptions(peerId);
-    return score(
-        attSubscriptions,
-        syncCommitteeSubscriptions,
-        dataColumnSidecarSubscriptions,
-        this::scoreSubnetForExistingPeer);
+    return peerSubnetSubscriptions
+            .getAttestationSubnetSubscriptionsIndex()
+            .scoreSubscriber(peerId, this::scoreSubnetForExistingPeer)
+        + peerSubnetSubscriptions
+            .getSyncCommitteeSubnetSubscriptionsIndex()
+            .scoreSubscriber(peerId, this::scoreSubnetForExistingPeer)
+        + peerSubnetSubscriptions
+            .getDataColumnSidecarSubnetSubscriptionsIndex()
+            .scoreSubscriber(peerId, this::scoreSubnetForExistingPeer);
   }
 
   @Override
@@ -62,56 +59,15 @@ public class SubnetScorer implements PeerScorer {
       final SszBitvector attSubnetSubscriptions,
       final SszBitvector syncCommitteeSubnetSubscriptions,
       final SszBitvector dataColumnSidecarSubscriptions) {
-    return score(
-        attSubnetSubscriptions,
-        syncCommitteeSubnetSubscriptions,
-        dataColumnSidecarSubscriptions,
-        this::scoreSubnetForCandidatePeer);
-  }
-
-  private int score(
-      final SszBitvector attestationSubnetSubscriptions,
-      final SszBitvector syncCommitteeSubnetSubscriptions,
-      final SszBitvector dataColumnSidecarSubnetSubscriptions,
-      final IntUnaryOperator subscriberCountToScore) {
-    final int attestationSubnetScore =
-        attestationSubnetSubscriptions
-            .streamAllSetBits()
-            .filter(peerSubnetSubscriptions::isAttestationSubnetRelevant)
-            .map(
-                subnetId -> {
-                  int subscriberCount =
-                      peerSubnetSubscriptions.getSubscriberCountForAttestationSubnet(subnetId);
-                  return subscriberCountToScore.applyAsInt(subscriberCount);
-                })
-            .sum();
-
-    final int syncCommitteeSubnetScore =
-        syncCommitteeSubnetSubscriptions
-            .streamAllSetBits()
-            .filter(peerSubnetSubscriptions::isSyncCommitteeSubnetRelevant)
-            .map(
-                subnetId -> {
-                  int subscriberCount =
-                      peerSubnetSubscriptions.getSubscriberCountForSyncCommitteeSubnet(subnetId);
-                  return subscriberCountToScore.applyAsInt(subscriberCount);
-                })
-            .sum();
-
-    final int dataColumnSidecarSubnetScore =
-        dataColumnSidecarSubnetSubscriptions
-            .streamAllSetBits()
-            .filter(peerSubnetSubscriptions::isDataColumnSidecarSubnetRelevant)
-            .map(
-                subnetId -> {
-                  int subscriberCount =
-                      peerSubnetSubscriptions.getSubscriberCountForDataColumnSidecarSubnet(
-                          subnetId);
-                  return subscriberCountToScore.applyAsInt(subscriberCount);
-                })
-            .sum();
-
-    return attestationSubnetScore + syncCommitteeSubnetScore + dataColumnSidecarSubnetScore;
+    return peerSubnetSubscriptions
+            .getAttestationSubnetSubscriptionsIndex()
+            .score(attSubnetSubscriptions, this::scoreSubnetForCandidatePeer)
+        + peerSubnetSubscriptions
+            .getSyncCommitteeSubnetSubscriptionsIndex()
+            .score(syncCommitteeSubnetSubscriptions, this::scoreSubnetForCandidatePeer)
+        + peerSubnetSubscriptions
+            .getDataColumnSidecarSubnetSubscriptionsIndex()
+            .score(dataColumnSidecarSubscriptions, this::scoreSubnetForCandidatePeer);
   }
 
   private int scoreSubnetForExistingPeer(final int subscriberCount) {
@@ -184,7 +184,7 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
       response = ValidationResult.Ignore;
     } else if (ExceptionUtil.hasCause(err, ServiceCapacityExceededException.class)) {
       LOG.warn(
-          "Discarding gossip message for topic {} because the signature verification queue is full",
+          "Discarding gossip message for topic {} because a verification queue is full",
           getTopic());
       response = ValidationResult.Ignore;
     } else {
@@ -24,7 +24,6 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -124,11 +123,12 @@ public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
       final int scoreBasedPeersToAdd,
       final List<DiscoveryPeer> allCandidatePeers) {
     final PeerScorer peerScorer = peerSubnetSubscriptions.createScorer();
+    // Score each candidate once up front. Scoring derives the candidate's data column subnets from
+    // its node id, which is too costly to repeat for every comparison made while sorting.
     return allCandidatePeers.stream()
-        .sorted(
-            Comparator.comparing((Function<DiscoveryPeer, Integer>) peerScorer::scoreCandidatePeer)
-                .reversed())
-        .flatMap(candidate -> checkCandidate(candidate, network).stream())
+        .map(candidate -> new ScoredCandidate(candidate, peerScorer.scoreCandidatePeer(candidate)))
+        .sorted(Comparator.comparingInt(ScoredCandidate::score).reversed())
+        .flatMap(scoredCandidate -> checkCandidate(scoredCandidate.candidate(), network).stream())
         .limit(scoreBasedPeersToAdd)
         .toList();
   }
@@ -188,6 +188,8 @@ public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
         .toList();
   }
 
+  private record ScoredCandidate(DiscoveryPeer candidate, int score) {}
+
   @FunctionalInterface
   public interface Shuffler {
     void shuffle(List<?> list);
@@ -35,6 +35,7 @@ import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.SubnetSubscriptionService;
+import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions.SubnetSubscriptions;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
@@ -204,6 +205,46 @@ class PeerSubnetSubscriptionsTest {
     assertThat(subscriptions.isAttestationSubnetRelevant(attSubnetsCount + 1)).isFalse();
   }
 
+  @Test
+  public void subnetSubscriptions_shouldCountEachPeerOncePerSubnet() {
+    final SubnetSubscriptions subnetSubscriptions =
+        SubnetSubscriptions.builder(currentSchemaDefinitions.getAttnetsENRFieldSchema())
+            .addRelevantSubnet(0)
+            .addRelevantSubnet(1)
+            .addSubscriber(0, PEER1)
+            .addSubscriber(0, PEER1)
+            .addSubscriber(0, PEER2)
+            .addSubscriber(2, PEER1)
+            .build();
+
+    assertThat(subnetSubscriptions.getSubscriberCountForSubnet(0)).isEqualTo(2);
+    assertThat(subnetSubscriptions.getSubscriberCountForSubnet(1)).isZero();
+    assertThat(subnetSubscriptions.getSubscriberCountForSubnet(2)).isEqualTo(1);
+    assertThat(subnetSubscriptions.getMinSubscriberCount()).hasValue(0);
+    assertThat(subnetSubscriptions.getSubnetSubscriptions(PEER1))
+        .isEqualTo(createAttnetsBitvector(0, 2));
+  }
+
+  @Test
+  public void subnetSubscriptions_shouldOnlyScoreRelevantSubnets() {
+    final SubnetSubscriptions subnetSubscriptions =
+        SubnetSubscriptions.builder(currentSchemaDefinitions.getAttnetsENRFieldSchema())
+            .addRelevantSubnet(0)
+            .addRelevantSubnet(1)
+            .addSubscriber(0, PEER1)
+            .addSubscriber(0, PEER2)
+            .addSubscriber(1, PEER1)
+            .addSubscriber(2, PEER1)
+            .build();
+
+    // Score each subnet by its subscriber count so the sum is easy to follow
+    assertThat(subnetSubscriptions.scoreSubscriber(PEER1, count -> count)).isEqualTo(3);
+    assertThat(subnetSubscriptions.scoreSubscriber(PEER2, count -> count)).isEqualTo(2);
+    assertThat(subnetSubscriptions.scoreSubscriber(PEER3, count -> count)).isZero();
+    assertThat(subnetSubscriptions.score(createAttnetsBitvector(1, 2, 3), count -> count + 10))
+        .isEqualTo(11);
+  }
+
   private PeerSubnetSubscriptions createPeerSubnetSubscriptions() {
     return PeerSubnetSubscriptions.create(
         currentSpecVersionSupplier.get(),
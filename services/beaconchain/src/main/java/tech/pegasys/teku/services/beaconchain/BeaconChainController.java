@@ -138,6 +138,7 @@ import tech.pegasys.teku.statetransition.MappedOperationPool;
 import tech.pegasys.teku.statetransition.OperationPool;
 import tech.pegasys.teku.statetransition.OperationsReOrgManager;
 import tech.pegasys.teku.statetransition.SimpleOperationPool;
+import tech.pegasys.teku.statetransition.SlotStateAdvancer;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPoolV1;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPoolV2;
@@ -225,6 +226,7 @@ import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
 import tech.pegasys.teku.statetransition.validation.ProposerSlashingValidator;
 import tech.pegasys.teku.statetransition.validation.SignedBlsToExecutionChangeValidator;
 import tech.pegasys.teku.statetransition.validation.VoluntaryExitValidator;
+import tech.pegasys.teku.statetransition.validation.kzg.AggregatingDataColumnSidecarKzgVerificationService;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService;
 import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationService;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorCache;
@@ -352,6 +354,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected volatile LateInitDataColumnSidecarCustody dataColumnSidecarCustody =
       new LateInitDataColumnSidecarCustody();
   protected volatile Optional<DasCustodySync> dasCustodySync = Optional.empty();
+  protected volatile Optional<AggregatingDataColumnSidecarKzgVerificationService>
+      dataColumnSidecarKzgVerificationService = Optional.empty();
   protected volatile Optional<RecoveringSidecarRetriever> recoveringSidecarRetriever =
       Optional.empty();
   protected volatile AvailabilityCheckerFactory<UInt64> dasSamplerManager;
@@ -463,6 +467,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
     }
     SafeFuture.allOfFailFast(
             attestationManager.start(),
+            dataColumnSidecarKzgVerificationService
+                .map(Service::start)
+                .orElse(SafeFuture.completedFuture(null)),
             p2pNetwork.start(),
             blockManager.start(),
             syncService.start(),
@@ -500,6 +507,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
             syncService.stop(),
             blockManager.stop(),
             attestationManager.stop(),
+            dataColumnSidecarKzgVerificationService
+                .map(Service::stop)
+                .orElse(SafeFuture.completedFuture(null)),
             p2pNetwork.stop(),
             timerService.stop(),
             ephemerySlotValidationService.doStop(),
@@ -718,13 +728,24 @@ public class BeaconChainController extends Service implements BeaconChainControl
 
   protected void initDataColumnSidecarManager() {
     if (spec.isMilestoneSupported(SpecMilestone.FULU)) {
+      final MiscHelpersFulu miscHelpersFulu =
+          MiscHelpersFulu.required(spec.forMilestone(SpecMilestone.FULU).miscHelpers());
+      final AggregatingDataColumnSidecarKzgVerificationService kzgVerificationService =
+          new AggregatingDataColumnSidecarKzgVerificationService(
+              miscHelpersFulu,
+              kzg,
+              metricsSystem,
+              timeProvider,
+              asyncRunnerFactory,
+              beaconAsyncRunner);
+      dataColumnSidecarKzgVerificationService = Optional.of(kzgVerificationService);
       final DataColumnSidecarGossipValidator dataColumnSidecarGossipValidator =
           DataColumnSidecarGossipValidator.create(
               spec,
               invalidBlockRoots,
               gossipValidationHelper,
-              MiscHelpersFulu.required(spec.forMilestone(SpecMilestone.FULU).miscHelpers()),
-              kzg,
+              miscHelpersFulu,
+              kzgVerificationService,
               metricsSystem,
               timeProvider);
       dataColumnSidecarManager =
@@ -1637,7 +1658,13 @@ public class BeaconChainController extends Service implements BeaconChainControl
             forkChoiceNotifier,
             p2pNetwork,
             slotEventsChannelPublisher,
-            new EpochCachePrimer(spec, recentChainData, beaconAsyncRunner));
+            new EpochCachePrimer(spec, recentChainData, beaconAsyncRunner),
+            new SlotStateAdvancer(
+                spec,
+                recentChainData,
+                beaconAsyncRunner,
+                beaconConfig.eth2NetworkConfig().isForkChoiceLateBlockReorgEnabled(),
+                beaconConfig.eth2NetworkConfig().getSlotStateAdvanceLeadPercentage()));
   }
 
   public void initAttestationPool() {
@@ -1715,7 +1742,12 @@ public class BeaconChainController extends Service implements BeaconChainControl
   public void initBlockManager() {
     LOG.debug("BeaconChainController.initBlockManager()");
     final FutureItems<SignedBeaconBlock> futureBlocks =
-        FutureItems.create(SignedBeaconBlock::getSlot, futureItemsMetric, "blocks");
+        FutureItems.create(
+            SignedBeaconBlock::getSlot,
+            SignedBeaconBlock::getRoot,
+            PoolFactory.createBlockStore(spec),
+            futureItemsMetric,
+            "blocks");
     final BlockGossipValidator blockGossipValidator =
         new BlockGossipValidator(spec, gossipValidationHelper, receivedBlockEventsChannelPublisher);
     final BlockValidator blockValidator = new BlockValidator(blockGossipValidator);
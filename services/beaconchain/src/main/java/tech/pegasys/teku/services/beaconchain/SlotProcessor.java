@@ -32,6 +32,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.NodeSlot;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
+import tech.pegasys.teku.statetransition.SlotStateAdvancer;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceNotifier;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceTrigger;
 import tech.pegasys.teku.statetransition.forkchoice.TickProcessingPerformance;
@@ -49,11 +50,13 @@ public class SlotProcessor {
   private final SlotEventsChannel slotEventsChannelPublisher;
   private final NodeSlot nodeSlot = new NodeSlot(ZERO);
   private final EpochCachePrimer epochCachePrimer;
+  private final SlotStateAdvancer slotStateAdvancer;
   private final EventLogger eventLog;
 
   private volatile UInt64 onTickSlotStart;
   private volatile UInt64 onTickSlotAttestation;
   private volatile UInt64 onTickEpochPrecompute;
+  private volatile UInt64 onTickSlotStateAdvance;
 
   @VisibleForTesting
   SlotProcessor(
@@ -65,6 +68,7 @@ public class SlotProcessor {
       final Eth2P2PNetwork p2pNetwork,
       final SlotEventsChannel slotEventsChannelPublisher,
       final EpochCachePrimer epochCachePrimer,
+      final SlotStateAdvancer slotStateAdvancer,
       final EventLogger eventLogger) {
     this.spec = spec;
     this.recentChainData = recentChainData;
@@ -74,6 +78,7 @@ public class SlotProcessor {
     this.p2pNetwork = p2pNetwork;
     this.slotEventsChannelPublisher = slotEventsChannelPublisher;
     this.epochCachePrimer = epochCachePrimer;
+    this.slotStateAdvancer = slotStateAdvancer;
     this.eventLog = eventLogger;
   }
 
@@ -85,7 +90,8 @@ public class SlotProcessor {
       final ForkChoiceNotifier forkChoiceNotifier,
       final Eth2P2PNetwork p2pNetwork,
       final SlotEventsChannel slotEventsChannelPublisher,
-      final EpochCachePrimer epochCachePrimer) {
+      final EpochCachePrimer epochCachePrimer,
+      final SlotStateAdvancer slotStateAdvancer) {
     this(
         spec,
         recentChainData,
@@ -95,6 +101,7 @@ public class SlotProcessor {
         p2pNetwork,
         slotEventsChannelPublisher,
         epochCachePrimer,
+        slotStateAdvancer,
         EventLogger.EVENT_LOG);
   }
 
@@ -147,6 +154,12 @@ public class SlotProcessor {
       processEpochPrecompute(epoch);
       performanceRecord.ifPresent(TickProcessingPerformance::precomputeEpochComplete);
     }
+
+    final UInt64 nextSlot = calculatedSlot.plus(ONE);
+    if (isSlotStateAdvanceDue(nextSlot, currentTimeMillis, genesisTimeMillis)) {
+      onTickSlotStateAdvance = nextSlot;
+      slotStateAdvancer.advanceToSlot(nextSlot);
+    }
   }
 
   private void processEpochPrecompute(final UInt64 epoch) {
@@ -248,6 +261,19 @@ public class SlotProcessor {
     return processingDueForSlot && timeReached;
   }
 
+  // Advance states into the next slot when the configured percentage of the slot is left
+  boolean isSlotStateAdvanceDue(
+      final UInt64 nextSlot, final UInt64 currentTimeMillis, final UInt64 genesisTimeMillis) {
+    final int leadPercentage = slotStateAdvancer.getLeadPercentage();
+    if (leadPercentage <= 0 || !isProcessingDueForSlot(nextSlot, onTickSlotStateAdvance)) {
+      return false;
+    }
+    final UInt64 nextSlotStartTimeMillis =
+        spec.computeTimeMillisAtSlot(nextSlot, genesisTimeMillis);
+    final UInt64 leadMillis = spec.getMillisPerSlot(nextSlot).times(leadPercentage).dividedBy(100);
+    return isTimeReached(currentTimeMillis, nextSlotStartTimeMillis.minusMinZero(leadMillis));
+  }
+
   private UInt64 oneThirdSlotMillis(final UInt64 slot) {
     return spec.getMillisPerSlot(slot).dividedBy(INTERVALS_PER_SLOT);
   }
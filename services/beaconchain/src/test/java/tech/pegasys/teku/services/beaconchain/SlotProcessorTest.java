@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.time.TimeUtilities.secondsToMillis;
@@ -49,6 +50,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
+import tech.pegasys.teku.statetransition.SlotStateAdvancer;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceNotifier;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceTrigger;
 import tech.pegasys.teku.statetransition.forkchoice.NoopForkChoiceNotifier;
@@ -78,6 +80,7 @@ public class SlotProcessorTest {
   private final Eth2P2PNetwork p2pNetwork = mock(Eth2P2PNetwork.class);
   private final SlotEventsChannel slotEventsChannel = mock(SlotEventsChannel.class);
   private final EpochCachePrimer epochCachePrimer = mock(EpochCachePrimer.class);
+  private final SlotStateAdvancer slotStateAdvancer = mock(SlotStateAdvancer.class);
   private final SlotProcessor slotProcessor = createSlotProcessor(spec);
   private final UInt64 genesisTime = beaconState.getGenesisTime();
   private final UInt64 genesisTimeMillis = secondsToMillis(genesisTime);
@@ -93,6 +96,7 @@ public class SlotProcessorTest {
         p2pNetwork,
         slotEventsChannel,
         epochCachePrimer,
+        slotStateAdvancer,
         eventLogger);
   }
 
@@ -408,6 +412,7 @@ public class SlotProcessorTest {
             p2pNetwork,
             slotEventsChannel,
             epochCachePrimer,
+            slotStateAdvancer,
             eventLogger);
 
     int slotsPerEpoch = spec.getGenesisSpecConfig().getSlotsPerEpoch();
@@ -445,6 +450,40 @@ public class SlotProcessorTest {
     verify(recentChainData, atMostOnce()).retrieveStateAtSlot(any());
   }
 
+  @Test
+  void shouldAdvanceSlotStateOnceWhenLeadTimeBeforeNextSlotIsReached() {
+    when(syncService.getCurrentSyncState()).thenReturn(SyncState.IN_SYNC);
+    when(slotStateAdvancer.getLeadPercentage()).thenReturn(25);
+
+    // Slot 0 start and attestation due
+    slotProcessor.onTick(genesisTimeMillis, Optional.empty());
+    slotProcessor.onTick(genesisTimeMillis.plus(oneThirdMillis(millisPerSlot)), Optional.empty());
+
+    // Just before the lead time starts
+    final UInt64 slot1Start = genesisTimeMillis.plus(millisPerSlot);
+    final long leadMillis = millisPerSlot / 4L;
+    slotProcessor.onTick(slot1Start.minus(leadMillis + 1), Optional.empty());
+    verify(slotStateAdvancer, never()).advanceToSlot(any());
+
+    slotProcessor.onTick(slot1Start.minus(leadMillis), Optional.empty());
+    verify(slotStateAdvancer).advanceToSlot(ONE);
+
+    // Should not repeat the advance
+    slotProcessor.onTick(slot1Start.minus(1), Optional.empty());
+    verify(slotStateAdvancer, times(1)).advanceToSlot(any());
+  }
+
+  @Test
+  void shouldNotAdvanceSlotStateWhenLeadPercentageIsZero() {
+    when(syncService.getCurrentSyncState()).thenReturn(SyncState.IN_SYNC);
+    when(slotStateAdvancer.getLeadPercentage()).thenReturn(0);
+
+    slotProcessor.onTick(genesisTimeMillis, Optional.empty());
+    slotProcessor.onTick(genesisTimeMillis.plus(millisPerSlot - 1), Optional.empty());
+
+    verify(slotStateAdvancer, never()).advanceToSlot(any());
+  }
+
   private long oneThirdMillis(final long millis) {
     return millis / 3L;
   }
@@ -27,7 +27,6 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.eventthread.AsyncRunnerEventThread;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
-import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.Service;
@@ -44,8 +43,8 @@ import tech.pegasys.teku.storage.server.BatchingVoteUpdateChannel;
 import tech.pegasys.teku.storage.server.ChainStorage;
 import tech.pegasys.teku.storage.server.CombinedStorageChannelSplitter;
 import tech.pegasys.teku.storage.server.Database;
-import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.DepositStorage;
+import tech.pegasys.teku.storage.server.GroupCommitStorageUpdateChannel;
 import tech.pegasys.teku.storage.server.RetryingStorageUpdateChannel;
 import tech.pegasys.teku.storage.server.StorageConfiguration;
 import tech.pegasys.teku.storage.server.VersionedDatabaseFactory;
@@ -64,6 +63,9 @@ public class StorageService extends Service implements StorageServiceFacade {
   private volatile Optional<BlockPruner> blockPruner = Optional.empty();
   private volatile Optional<BlobSidecarPruner> blobsPruner = Optional.empty();
   private volatile Optional<StatePruner> statePruner = Optional.empty();
+  private volatile Optional<GroupCommitStorageUpdateChannel> groupCommitStorageUpdateChannel =
+      Optional.empty();
+  private volatile AsyncRunnerEventThread storageWriterThread;
   private final boolean depositSnapshotStorageEnabled;
   private final boolean blobSidecarsStorageCountersEnabled;
   private static final Logger LOG = LogManager.getLogger();
@@ -207,14 +209,25 @@ public class StorageService extends Service implements StorageServiceFacade {
                       new AsyncRunnerEventThread(
                           "batch-vote-updater", serviceConfig.getAsyncRunnerFactory()));
 
+              storageWriterThread =
+                  new AsyncRunnerEventThread(
+                      "storage-writer", serviceConfig.getAsyncRunnerFactory());
+              storageWriterThread.start();
+              final GroupCommitStorageUpdateChannel storageUpdateChannel =
+                  new GroupCommitStorageUpdateChannel(
+                      new RetryingStorageUpdateChannel(
+                          chainStorage, serviceConfig.getTimeProvider()),
+                      storageWriterThread);
+              groupCommitStorageUpdateChannel = Optional.of(storageUpdateChannel);
+
               eventChannels.subscribe(
                   CombinedStorageChannel.class,
                   new CombinedStorageChannelSplitter(
                       serviceConfig.createAsyncRunner(
                           "storage_query", STORAGE_QUERY_CHANNEL_PARALLELISM),
-                      new RetryingStorageUpdateChannel(
-                          chainStorage, serviceConfig.getTimeProvider()),
-                      chainStorage));
+                      storageUpdateChannel,
+                      chainStorage,
+                      storageUpdateChannel::awaitPendingWrites));
 
               eventChannels
                   .subscribe(Eth1DepositStorageChannel.class, depositStorage)
@@ -245,11 +258,6 @@ public class StorageService extends Service implements StorageServiceFacade {
       final Duration pruningInterval,
       final SettableLabelledGauge pruningTimingsLabelledGauge,
       final SettableLabelledGauge pruningActiveLabelledGauge) {
-    if (config.getDataStorageCreateDbVersion() == DatabaseVersion.LEVELDB_TREE) {
-      throw new InvalidConfigurationException(
-          "State pruning is not supported with leveldb_tree database.");
-    }
-
     LOG.info(
         "State pruner will run every: {} minute(s), retaining states for the last {} finalized slots. Limited to {} state prune per execution.",
         config.getStatePruningInterval().toMinutes(),
@@ -284,6 +292,17 @@ public class StorageService extends Service implements StorageServiceFacade {
                 .map(SafeFuture::toVoid)
                 .orElse(SafeFuture.COMPLETE),
             statePruner.map(StatePruner::stop).map(SafeFuture::toVoid).orElse(SafeFuture.COMPLETE))
+        .thenCompose(
+            __ ->
+                groupCommitStorageUpdateChannel
+                    .map(GroupCommitStorageUpdateChannel::awaitPendingWrites)
+                    .orElse(SafeFuture.COMPLETE))
+        .thenRun(
+            () -> {
+              if (storageWriterThread != null) {
+                storageWriterThread.stop();
+              }
+            })
         .thenCompose(__ -> SafeFuture.fromRunnable(database::close));
   }
 
@@ -2454,6 +2454,40 @@ public class DatabaseTest {
     }
   }
 
+  @TestTemplate
+  public void pruneAllSidecars_shouldPruneNonCanonicalSidecars(final DatabaseContext context)
+      throws IOException {
+    setupWithSpec(TestSpecFactory.createMinimalFulu());
+    initialize(context);
+
+    final SignedBeaconBlockHeader blockHeader1 =
+        dataStructureUtil.randomSignedBeaconBlockHeader(ONE);
+    final DataColumnSidecar canonicalSidecar =
+        dataStructureUtil.randomDataColumnSidecar(blockHeader1, ZERO);
+    final DataColumnSidecar nonCanonicalSidecar1 =
+        dataStructureUtil.randomDataColumnSidecar(
+            dataStructureUtil.randomSignedBeaconBlockHeader(ONE), ZERO);
+    final DataColumnSidecar nonCanonicalSidecar2 =
+        dataStructureUtil.randomDataColumnSidecar(
+            dataStructureUtil.randomSignedBeaconBlockHeader(UInt64.valueOf(2)), ONE);
+
+    database.addSidecar(canonicalSidecar);
+    database.addNonCanonicalSidecar(nonCanonicalSidecar1);
+    database.addNonCanonicalSidecar(nonCanonicalSidecar2);
+
+    database.pruneAllSidecars(ONE);
+
+    try (final Stream<DataColumnSlotAndIdentifier> dataColumnIdentifiersStream =
+        database.streamDataColumnIdentifiers(ZERO, UInt64.valueOf(2))) {
+      assertThat(dataColumnIdentifiersStream.toList()).isEmpty();
+    }
+    try (final Stream<DataColumnSlotAndIdentifier> dataColumnIdentifiersStream =
+        database.streamNonCanonicalDataColumnIdentifiers(ZERO, UInt64.valueOf(2))) {
+      assertThat(dataColumnIdentifiersStream.toList())
+          .containsExactly(DataColumnSlotAndIdentifier.fromDataColumn(nonCanonicalSidecar2));
+    }
+  }
+
   private List<Map.Entry<Bytes32, UInt64>> getFinalizedStateRootsList() {
     try (final Stream<Map.Entry<Bytes32, UInt64>> roots = database.getFinalizedStateRoots()) {
       return roots.map(entry -> Map.entry(entry.getKey(), entry.getValue())).collect(toList());
@@ -597,6 +597,14 @@ public abstract class RecentChainData implements StoreUpdateHandler {
     return store.retrieveStateAtSlot(slotAndBlockRoot);
   }
 
+  public SafeFuture<Optional<BeaconState>> retrieveAdvancedStateAtSlot(
+      final SlotAndBlockRoot slotAndBlockRoot) {
+    if (store == null) {
+      return EmptyStoreResults.EMPTY_STATE_FUTURE;
+    }
+    return store.retrieveAdvancedStateAtSlot(slotAndBlockRoot);
+  }
+
   public SafeFuture<Optional<BeaconState>> retrieveStateInEffectAtSlot(final UInt64 slot) {
     Optional<Bytes32> rootAtSlot = getBlockRootInEffectBySlot(slot);
     if (rootAtSlot.isEmpty()) {
@@ -18,9 +18,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
@@ -49,20 +51,34 @@ import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
  * synchronously and queries being run asynchronously.
  *
  * <p>This guarantees that queries are only ever processed after the updates that were sent before
- * them but without allowing queries to delay updates.
+ * them but without allowing queries to delay updates. When updates are written asynchronously,
+ * queries for the store, hot data and the anchor wait for {@code pendingUpdates} to complete before
+ * running, as their callers may not wait for the updates they sent. Queries for finalized history
+ * run straight away so they aren't held up by a backlog of writes; data written by an update is
+ * visible to them once the future returned for that update completes.
  */
 public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
   private final AsyncRunner asyncRunner;
   private final StorageQueryChannel queryDelegate;
   private final StorageUpdateChannel updateDelegate;
+  private final Supplier<SafeFuture<Void>> pendingUpdates;
 
   public CombinedStorageChannelSplitter(
       final AsyncRunner asyncRunner,
       final StorageUpdateChannel updateDelegate,
       final StorageQueryChannel queryDelegate) {
+    this(asyncRunner, updateDelegate, queryDelegate, () -> SafeFuture.COMPLETE);
+  }
+
+  public CombinedStorageChannelSplitter(
+      final AsyncRunner asyncRunner,
+      final StorageUpdateChannel updateDelegate,
+      final StorageQueryChannel queryDelegate,
+      final Supplier<SafeFuture<Void>> pendingUpdates) {
     this.asyncRunner = asyncRunner;
     this.queryDelegate = queryDelegate;
     this.updateDelegate = updateDelegate;
+    this.pendingUpdates = pendingUpdates;
   }
 
   @Override
@@ -104,201 +120,211 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
 
   @Override
   public SafeFuture<Optional<OnDiskStoreData>> onStoreRequest() {
-    return asyncRunner.runAsync(queryDelegate::onStoreRequest);
+    return runQueryAfterPendingUpdates(queryDelegate::onStoreRequest);
   }
 
   @Override
   public SafeFuture<WeakSubjectivityState> getWeakSubjectivityState() {
-    return asyncRunner.runAsync(queryDelegate::getWeakSubjectivityState);
+    return runQueryAfterPendingUpdates(queryDelegate::getWeakSubjectivityState);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlockSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlockSlot);
+    return runQueryAfterPendingUpdates(queryDelegate::getEarliestAvailableBlockSlot);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getEarliestAvailableBlock() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlock);
+    return runQueryAfterPendingUpdates(queryDelegate::getEarliestAvailableBlock);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getFinalizedBlockAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedBlockAtSlot(slot));
+    return runQuery(() -> queryDelegate.getFinalizedBlockAtSlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedBlockAtSlot(slot));
+    return runQuery(() -> queryDelegate.getLatestFinalizedBlockAtSlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
+    return runQueryAfterPendingUpdates(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(
       final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getHotBlockAndStateByBlockRoot(blockRoot));
+    return runQueryAfterPendingUpdates(
+        () -> queryDelegate.getHotBlockAndStateByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<StateAndBlockSummary>> getHotStateAndBlockSummaryByBlockRoot(
       final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(
+    return runQueryAfterPendingUpdates(
         () -> queryDelegate.getHotStateAndBlockSummaryByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Map<Bytes32, SignedBeaconBlock>> getHotBlocksByRoot(
       final Set<Bytes32> blockRoots) {
-    return asyncRunner.runAsync(() -> queryDelegate.getHotBlocksByRoot(blockRoots));
+    return runQueryAfterPendingUpdates(() -> queryDelegate.getHotBlocksByRoot(blockRoots));
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getBlobSidecarsBySlotAndBlockRoot(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(
+    return runQueryAfterPendingUpdates(
         () -> queryDelegate.getBlobSidecarsBySlotAndBlockRoot(slotAndBlockRoot));
   }
 
   @Override
   public SafeFuture<Optional<SlotAndBlockRoot>> getSlotAndBlockRootByStateRoot(
       final Bytes32 stateRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getSlotAndBlockRootByStateRoot(stateRoot));
+    return runQueryAfterPendingUpdates(
+        () -> queryDelegate.getSlotAndBlockRootByStateRoot(stateRoot));
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getLatestFinalizedStateAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedStateAtSlot(slot));
+    return runQuery(() -> queryDelegate.getLatestFinalizedStateAtSlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getLatestAvailableFinalizedState(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestAvailableFinalizedState(slot));
+    return runQuery(() -> queryDelegate.getLatestAvailableFinalizedState(slot));
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFinalizedSlotByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedSlotByBlockRoot(blockRoot));
+    return runQuery(() -> queryDelegate.getFinalizedSlotByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getFinalizedStateByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedStateByBlockRoot(blockRoot));
+    return runQuery(() -> queryDelegate.getFinalizedStateByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<Bytes32>> getLatestCanonicalBlockRoot() {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestCanonicalBlockRoot());
+    return runQueryAfterPendingUpdates(() -> queryDelegate.getLatestCanonicalBlockRoot());
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFinalizedSlotByStateRoot(final Bytes32 stateRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedSlotByStateRoot(stateRoot));
+    return runQuery(() -> queryDelegate.getFinalizedSlotByStateRoot(stateRoot));
   }
 
   @Override
   public SafeFuture<List<SignedBeaconBlock>> getNonCanonicalBlocksBySlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalBlocksBySlot(slot));
+    return runQuery(() -> queryDelegate.getNonCanonicalBlocksBySlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<Checkpoint>> getAnchor() {
-    return asyncRunner.runAsync(queryDelegate::getAnchor);
+    return runQueryAfterPendingUpdates(queryDelegate::getAnchor);
   }
 
   @Override
   public SafeFuture<Optional<DepositTreeSnapshot>> getFinalizedDepositSnapshot() {
-    return asyncRunner.runAsync(queryDelegate::getFinalizedDepositSnapshot);
+    return runQueryAfterPendingUpdates(queryDelegate::getFinalizedDepositSnapshot);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlobSidecarSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlobSidecarSlot);
+    return runQuery(queryDelegate::getEarliestAvailableBlobSidecarSlot);
   }
 
   @Override
   public SafeFuture<Optional<BlobSidecar>> getBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecar(key));
+    return runQuery(() -> queryDelegate.getBlobSidecar(key));
   }
 
   @Override
   public SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(
       final SlotAndBlockRootAndBlobIndex key) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalBlobSidecar(key));
+    return runQuery(() -> queryDelegate.getNonCanonicalBlobSidecar(key));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(slot));
+    return runQuery(() -> queryDelegate.getBlobSidecarKeys(slot));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getAllBlobSidecarKeys(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getAllBlobSidecarKeys(slot));
+    return runQuery(() -> queryDelegate.getAllBlobSidecarKeys(slot));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot, final long limit) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(startSlot, endSlot, limit));
+    return runQuery(() -> queryDelegate.getBlobSidecarKeys(startSlot, endSlot, limit));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(slotAndBlockRoot));
+    return runQuery(() -> queryDelegate.getBlobSidecarKeys(slotAndBlockRoot));
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getArchivedBlobSidecars(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getArchivedBlobSidecars(slotAndBlockRoot));
+    return runQuery(() -> queryDelegate.getArchivedBlobSidecars(slotAndBlockRoot));
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getArchivedBlobSidecars(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getArchivedBlobSidecars(slot));
+    return runQuery(() -> queryDelegate.getArchivedBlobSidecars(slot));
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFirstCustodyIncompleteSlot() {
-    return asyncRunner.runAsync(queryDelegate::getFirstCustodyIncompleteSlot);
+    return runQuery(queryDelegate::getFirstCustodyIncompleteSlot);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFirstSamplerIncompleteSlot() {
-    return asyncRunner.runAsync(queryDelegate::getFirstSamplerIncompleteSlot);
+    return runQuery(queryDelegate::getFirstSamplerIncompleteSlot);
   }
 
   @Override
   public SafeFuture<Optional<DataColumnSidecar>> getSidecar(
       final DataColumnSlotAndIdentifier identifier) {
-    return asyncRunner.runAsync(() -> queryDelegate.getSidecar(identifier));
+    return runQuery(() -> queryDelegate.getSidecar(identifier));
   }
 
   @Override
   public SafeFuture<Optional<DataColumnSidecar>> getNonCanonicalSidecar(
       final DataColumnSlotAndIdentifier identifier) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalSidecar(identifier));
+    return runQuery(() -> queryDelegate.getNonCanonicalSidecar(identifier));
   }
 
   @Override
   public SafeFuture<List<DataColumnSlotAndIdentifier>> getDataColumnIdentifiers(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getDataColumnIdentifiers(slot));
+    return runQuery(() -> queryDelegate.getDataColumnIdentifiers(slot));
   }
 
   @Override
   public SafeFuture<List<DataColumnSlotAndIdentifier>> getDataColumnIdentifiers(
       final UInt64 startSlot, final UInt64 endSlot, final UInt64 limit) {
-    return asyncRunner.runAsync(
-        () -> queryDelegate.getDataColumnIdentifiers(startSlot, endSlot, limit));
+    return runQuery(() -> queryDelegate.getDataColumnIdentifiers(startSlot, endSlot, limit));
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestDataColumnSidecarSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestDataColumnSidecarSlot);
+    return runQuery(queryDelegate::getEarliestDataColumnSidecarSlot);
+  }
+
+  private <T> SafeFuture<T> runQuery(final ExceptionThrowingFutureSupplier<T> query) {
+    return asyncRunner.runAsync(query);
+  }
+
+  private <T> SafeFuture<T> runQueryAfterPendingUpdates(
+      final ExceptionThrowingFutureSupplier<T> query) {
+    return pendingUpdates.get().thenCompose(__ -> asyncRunner.runAsync(query));
   }
 }
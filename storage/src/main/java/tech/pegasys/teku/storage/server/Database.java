@@ -250,6 +250,15 @@ public interface Database extends AutoCloseable {
   Optional<UInt64> pruneFinalizedStates(
       Optional<UInt64> lastPrunedSlot, UInt64 lastSlotToPruneStateFor, long pruneLimit);
 
+  /**
+   * Deletes stored state data that is no longer referenced by any state, for storage modes where
+   * it isn't removed along with the states themselves.
+   *
+   * @param pruneLimit maximum number of entries to delete
+   * @return the number of entries deleted
+   */
+  long pruneUnreferencedStateData(long pruneLimit);
+
   // Sidecars
   Optional<UInt64> getFirstCustodyIncompleteSlot();
 
@@ -0,0 +1,229 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockAndCheckpoints;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.StorageUpdate;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.UpdateResult;
+import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
+
+/**
+ * Writes storage updates on a dedicated event thread, coalescing consecutive {@link StorageUpdate}s
+ * which only add hot chain data into a single database update.
+ *
+ * <p>The thread delivering updates only queues them, so a backlog of database writes no longer
+ * blocks the publishers. While a write is in progress further updates are collected and then
+ * written together, so the number of database transactions drops as load increases. Updates which
+ * finalize data are written on their own, and all updates are written in the order they were
+ * received.
+ *
+ * <p>Callers which need to observe earlier updates, such as storage queries, should wait for {@link
+ * #awaitPendingWrites()} first.
+ */
+public class GroupCommitStorageUpdateChannel implements StorageUpdateChannel {
+  static final int MAX_UPDATES_PER_BATCH = 32;
+
+  private final StorageUpdateChannel delegate;
+  private final EventThread eventThread;
+
+  // The batch which will be written by the most recently queued task, if it can still be extended
+  private PendingBatch openBatch;
+  private SafeFuture<Void> lastWrite = SafeFuture.COMPLETE;
+
+  public GroupCommitStorageUpdateChannel(
+      final StorageUpdateChannel delegate, final EventThread eventThread) {
+    this.delegate = delegate;
+    this.eventThread = eventThread;
+  }
+
+  @Override
+  public SafeFuture<UpdateResult> onStorageUpdate(final StorageUpdate event) {
+    if (!canCoalesce(event)) {
+      return writeInOrder(() -> delegate.onStorageUpdate(event));
+    }
+    synchronized (this) {
+      if (openBatch == null || openBatch.updates.size() >= MAX_UPDATES_PER_BATCH) {
+        final PendingBatch batch = new PendingBatch();
+        openBatch = batch;
+        trackWrite(eventThread.executeFuture(() -> writeBatch(batch)));
+      }
+      return openBatch.add(event);
+    }
+  }
+
+  @Override
+  public SafeFuture<Void> onFinalizedBlocks(
+      final Collection<SignedBeaconBlock> finalizedBlocks,
+      final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecarsBySlot,
+      final Optional<UInt64> maybeEarliestBlobSidecarSlot) {
+    return writeInOrder(
+        () ->
+            delegate.onFinalizedBlocks(
+                finalizedBlocks, blobSidecarsBySlot, maybeEarliestBlobSidecarSlot));
+  }
+
+  @Override
+  public SafeFuture<Void> onReconstructedFinalizedState(
+      final BeaconState finalizedState, final Bytes32 blockRoot) {
+    return writeInOrder(() -> delegate.onReconstructedFinalizedState(finalizedState, blockRoot));
+  }
+
+  @Override
+  public SafeFuture<Void> onWeakSubjectivityUpdate(
+      final WeakSubjectivityUpdate weakSubjectivityUpdate) {
+    return writeInOrder(() -> delegate.onWeakSubjectivityUpdate(weakSubjectivityUpdate));
+  }
+
+  @Override
+  public SafeFuture<Void> onFinalizedDepositSnapshot(
+      final DepositTreeSnapshot depositTreeSnapshot) {
+    return writeInOrder(() -> delegate.onFinalizedDepositSnapshot(depositTreeSnapshot));
+  }
+
+  /**
+   * Queues the initial anchor like any other update rather than blocking the publishing thread.
+   * Later updates are written after it and queries which wait for {@link #awaitPendingWrites()}
+   * observe it.
+   */
+  @Override
+  public void onChainInitialized(final AnchorPoint initialAnchor) {
+    writeInOrder(
+            () -> {
+              delegate.onChainInitialized(initialAnchor);
+              return SafeFuture.COMPLETE;
+            })
+        .ifExceptionGetsHereRaiseABug();
+  }
+
+  /** Returns a future which completes once all updates received so far have been written. */
+  public synchronized SafeFuture<Void> awaitPendingWrites() {
+    return lastWrite;
+  }
+
+  private synchronized <T> SafeFuture<T> writeInOrder(final Supplier<SafeFuture<T>> write) {
+    // Later updates must not be coalesced into a batch which is written before this one
+    openBatch = null;
+    final SafeFuture<T> result = eventThread.executeFuture(write);
+    trackWrite(result);
+    return result;
+  }
+
+  private void trackWrite(final SafeFuture<?> write) {
+    lastWrite = write.handle((__, ___) -> null);
+  }
+
+  private SafeFuture<Void> writeBatch(final PendingBatch batch) {
+    eventThread.checkOnEventThread();
+    synchronized (this) {
+      // Updates received from now on are collected into the next batch
+      if (openBatch == batch) {
+        openBatch = null;
+      }
+    }
+    final SafeFuture<UpdateResult> result =
+        SafeFuture.COMPLETE.thenCompose(__ -> delegate.onStorageUpdate(merge(batch.updates)));
+    result.finish(
+        updateResult -> batch.results.forEach(future -> future.complete(updateResult)),
+        error -> batch.results.forEach(future -> future.completeExceptionally(error)));
+    return result.toVoid();
+  }
+
+  /**
+   * Only updates which add hot data and update checkpoints can be merged, as applying them in one
+   * database update has the same result as applying them one at a time.
+   */
+  @VisibleForTesting
+  static boolean canCoalesce(final StorageUpdate update) {
+    return update.getFinalizedCheckpoint().isEmpty()
+        && update.getDeletedHotBlocks().isEmpty()
+        && !update.isFinalizedOptimisticTransitionBlockRootSet()
+        && update.getEarliestBlobSidecarSlot().isEmpty();
+  }
+
+  @VisibleForTesting
+  static StorageUpdate merge(final List<StorageUpdate> updates) {
+    if (updates.size() == 1) {
+      return updates.getFirst();
+    }
+    final Map<Bytes32, BlockAndCheckpoints> hotBlocks = new HashMap<>();
+    final Map<Bytes32, BeaconState> hotStates = new HashMap<>();
+    final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars = new HashMap<>();
+    final Map<Bytes32, SlotAndBlockRoot> stateRoots = new HashMap<>();
+    for (StorageUpdate update : updates) {
+      hotBlocks.putAll(update.getHotBlocks());
+      hotStates.putAll(update.getHotStates());
+      blobSidecars.putAll(update.getBlobSidecars());
+      stateRoots.putAll(update.getStateRoots());
+    }
+    return new StorageUpdate(
+        latest(updates, StorageUpdate::getGenesisTime),
+        Optional.empty(),
+        latest(updates, StorageUpdate::getJustifiedCheckpoint),
+        latest(updates, StorageUpdate::getBestJustifiedCheckpoint),
+        hotBlocks,
+        hotStates,
+        blobSidecars,
+        Optional.empty(),
+        Map.of(),
+        stateRoots,
+        false,
+        Optional.empty(),
+        latest(updates, StorageUpdate::getLatestCanonicalBlockRoot),
+        updates.stream().anyMatch(StorageUpdate::isBlobSidecarsEnabled),
+        updates.stream().anyMatch(StorageUpdate::isSidecarsEnabled));
+  }
+
+  private static <T> Optional<T> latest(
+      final List<StorageUpdate> updates, final Function<StorageUpdate, Optional<T>> getter) {
+    for (int i = updates.size() - 1; i >= 0; i--) {
+      final Optional<T> value = getter.apply(updates.get(i));
+      if (value.isPresent()) {
+        return value;
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static class PendingBatch {
+    private final List<StorageUpdate> updates = new ArrayList<>();
+    private final List<SafeFuture<UpdateResult>> results = new ArrayList<>();
+
+    private SafeFuture<UpdateResult> add(final StorageUpdate update) {
+      final SafeFuture<UpdateResult> result = new SafeFuture<>();
+      updates.add(update);
+      results.add(result);
+      return result;
+    }
+  }
+}
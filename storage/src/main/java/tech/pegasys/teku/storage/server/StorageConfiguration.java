@@ -33,6 +33,7 @@ import tech.pegasys.teku.spec.Spec;
 
 public class StorageConfiguration {
   public static final boolean DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED = false;
+  public static final boolean DEFAULT_STORE_STATE_MERKLE_HASHES_ENABLED = false;
   public static final int DEFAULT_STATE_REBUILD_TIMEOUT_SECONDS = 120;
   public static final long DEFAULT_STORAGE_FREQUENCY = 2048L;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
@@ -57,6 +58,7 @@ public class StorageConfiguration {
   private final DatabaseVersion dataStorageCreateDbVersion;
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
+  private final boolean storeStateMerkleHashes;
   private final int maxKnownNodeCacheSize;
   private final Duration blockPruningInterval;
   private final int blockPruningLimit;
@@ -75,6 +77,7 @@ public class StorageConfiguration {
       final long dataStorageFrequency,
       final DatabaseVersion dataStorageCreateDbVersion,
       final boolean storeNonCanonicalBlocks,
+      final boolean storeStateMerkleHashes,
       final int maxKnownNodeCacheSize,
       final Duration blockPruningInterval,
       final int blockPruningLimit,
@@ -91,6 +94,7 @@ public class StorageConfiguration {
     this.dataStorageFrequency = dataStorageFrequency;
     this.dataStorageCreateDbVersion = dataStorageCreateDbVersion;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
+    this.storeStateMerkleHashes = storeStateMerkleHashes;
     this.maxKnownNodeCacheSize = maxKnownNodeCacheSize;
     this.blockPruningInterval = blockPruningInterval;
     this.blockPruningLimit = blockPruningLimit;
@@ -132,6 +136,10 @@ public class StorageConfiguration {
     return storeNonCanonicalBlocks;
   }
 
+  public boolean isStoreStateMerkleHashesEnabled() {
+    return storeStateMerkleHashes;
+  }
+
   public int getMaxKnownNodeCacheSize() {
     return maxKnownNodeCacheSize;
   }
@@ -181,6 +189,7 @@ public class StorageConfiguration {
     private Spec spec;
     private DataConfig dataConfig;
     private boolean storeNonCanonicalBlocks = DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED;
+    private boolean storeStateMerkleHashes = DEFAULT_STORE_STATE_MERKLE_HASHES_ENABLED;
     private int maxKnownNodeCacheSize = DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
     private Duration blockPruningInterval = DEFAULT_BLOCK_PRUNING_INTERVAL;
     private int blockPruningLimit = DEFAULT_BLOCK_PRUNING_LIMIT;
@@ -240,6 +249,11 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder storeStateMerkleHashes(final boolean storeStateMerkleHashes) {
+      this.storeStateMerkleHashes = storeStateMerkleHashes;
+      return this;
+    }
+
     public Builder maxKnownNodeCacheSize(final int maxKnownNodeCacheSize) {
       if (maxKnownNodeCacheSize < 0) {
         throw new InvalidConfigurationException(
@@ -328,13 +342,13 @@ public class StorageConfiguration {
 
     public StorageConfiguration build() {
       determineDataStorageMode();
-      validateStatePruningConfiguration();
       return new StorageConfiguration(
           eth1DepositContract,
           dataStorageMode,
           dataStorageFrequency,
           dataStorageCreateDbVersion,
           storeNonCanonicalBlocks,
+          storeStateMerkleHashes,
           maxKnownNodeCacheSize,
           blockPruningInterval,
           blockPruningLimit,
@@ -376,14 +390,6 @@ public class StorageConfiguration {
       }
     }
 
-    private void validateStatePruningConfiguration() {
-      if (dataStorageFrequency == 1 && retainedSlots > 0) {
-        // If we are in tree mode, we don't want to allow the state pruner to run
-        throw new InvalidConfigurationException(
-            "State pruner cannot be enabled using tree mode storage");
-      }
-    }
-
     public Builder stateRebuildTimeoutSeconds(final int stateRebuildTimeoutSeconds) {
       if (stateRebuildTimeoutSeconds < 10 || stateRebuildTimeoutSeconds > 300) {
         LOG.warn(
@@ -61,6 +61,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final Eth1Address eth1Address;
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
+  private final boolean storeStateMerkleHashes;
   private final SyncDataAccessor dbSettingFileSyncDataAccessor;
   private final Optional<Eth2Network> maybeNetwork;
 
@@ -79,6 +80,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.stateStorageFrequency = config.getDataStorageFrequency();
     this.eth1Address = config.getEth1DepositContract();
     this.storeNonCanonicalBlocks = config.isStoreNonCanonicalBlocksEnabled();
+    this.storeStateMerkleHashes = config.isStoreStateMerkleHashesEnabled();
     this.spec = config.getSpec();
 
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
@@ -222,7 +224,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
 
       final KvStoreConfiguration dbConfiguration = initV6Configuration();
 
-      final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
+      final V6SchemaCombinedSnapshot schema =
+          V6SchemaCombinedSnapshot.createV6(spec, storeStateMerkleHashes);
       return RocksDbDatabaseFactory.createV6(
           metricsSystem,
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
@@ -274,6 +277,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          storeStateMerkleHashes,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
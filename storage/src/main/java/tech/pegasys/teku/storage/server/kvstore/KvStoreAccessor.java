@@ -13,7 +13,10 @@
 
 package tech.pegasys.teku.storage.server.kvstore;
 
+import com.google.common.collect.Iterators;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -22,6 +25,7 @@ import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 
 public interface KvStoreAccessor extends AutoCloseable {
+  int DELETE_RANGE_BATCH_SIZE = 10_000;
 
   <T> Optional<T> get(KvStoreVariable<T> variable);
 
@@ -108,6 +112,33 @@ public interface KvStoreAccessor extends AutoCloseable {
   @MustBeClosed
   <K extends Comparable<K>, V> Stream<K> streamKeys(KvStoreColumn<K, V> column, K from, K to);
 
+  /**
+   * Delete all entries in a column between keys from and to fully inclusive.
+   *
+   * <p>Deletes are applied immediately, outside of any transaction. Stores without native range
+   * deletes remove the keys in batches of {@link #DELETE_RANGE_BATCH_SIZE}, so a failure part way
+   * through may leave the range partially deleted.
+   *
+   * @param column the column to delete entries from
+   * @param from the first key to delete
+   * @param to the last key to delete
+   * @param <K> the key type of the column
+   * @param <V> the value type of the column
+   */
+  default <K extends Comparable<K>, V> void deleteRange(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    try (final Stream<K> keys = streamKeys(column, from, to)) {
+      final Iterator<List<K>> batches =
+          Iterators.partition(keys.iterator(), DELETE_RANGE_BATCH_SIZE);
+      while (batches.hasNext()) {
+        try (final KvStoreTransaction transaction = startTransaction()) {
+          batches.next().forEach(key -> transaction.delete(column, key));
+          transaction.commit();
+        }
+      }
+    }
+  }
+
   KvStoreTransaction startTransaction();
 
   interface KvStoreTransaction extends AutoCloseable {
@@ -45,6 +45,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.infrastructure.collections.LimitedSet;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -82,11 +83,16 @@ import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.Co
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.FinalizedUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.HotUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDaoAdapter;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.StateTreeNodeCache;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.StateTreeNodeCollector;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedKvStoreDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateSnapshotStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateTreeStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotKvStoreDao;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotStateSnapshotStorageLogic;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotStateStorageLogic;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotStateTreeStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
@@ -158,10 +164,23 @@ public class KvStoreDatabase implements Database {
       final boolean storeNonCanonicalBlocks,
       final int maxKnownNodeCacheSize,
       final Spec spec) {
+    // hot and finalized states share the same deduplicated tree nodes
+    final StateTreeNodeCollector nodeCollector =
+        new StateTreeNodeCollector(
+            metricsSystem, LimitedSet.createSynchronized(maxKnownNodeCacheSize));
+    final StateTreeNodeCache nodeCache = StateTreeNodeCache.createDefault();
     final V4FinalizedStateStorageLogic<SchemaCombinedTreeState> finalizedStateStorageLogic =
-        new V4FinalizedStateTreeStorageLogic(metricsSystem, spec, maxKnownNodeCacheSize);
+        new V4FinalizedStateTreeStorageLogic(metricsSystem, spec, nodeCollector, nodeCache);
+    final V4HotStateStorageLogic<SchemaCombinedTreeState> hotStateStorageLogic =
+        new V4HotStateTreeStorageLogic(metricsSystem, spec, nodeCollector, nodeCache);
     return create(
-        db, schema, stateStorageMode, storeNonCanonicalBlocks, spec, finalizedStateStorageLogic);
+        db,
+        schema,
+        stateStorageMode,
+        storeNonCanonicalBlocks,
+        spec,
+        finalizedStateStorageLogic,
+        hotStateStorageLogic);
   }
 
   private static <S extends SchemaCombined> KvStoreDatabase create(
@@ -171,8 +190,26 @@ public class KvStoreDatabase implements Database {
       final boolean storeNonCanonicalBlocks,
       final Spec spec,
       final V4FinalizedStateStorageLogic<S> finalizedStateStorageLogic) {
+    return create(
+        db,
+        schema,
+        stateStorageMode,
+        storeNonCanonicalBlocks,
+        spec,
+        finalizedStateStorageLogic,
+        new V4HotStateSnapshotStorageLogic<>());
+  }
+
+  private static <S extends SchemaCombined> KvStoreDatabase create(
+      final KvStoreAccessor db,
+      final S schema,
+      final StateStorageMode stateStorageMode,
+      final boolean storeNonCanonicalBlocks,
+      final Spec spec,
+      final V4FinalizedStateStorageLogic<S> finalizedStateStorageLogic,
+      final V4HotStateStorageLogic<S> hotStateStorageLogic) {
     final CombinedKvStoreDao<S> dao =
-        new CombinedKvStoreDao<>(db, schema, finalizedStateStorageLogic);
+        new CombinedKvStoreDao<>(db, schema, finalizedStateStorageLogic, hotStateStorageLogic);
     return new KvStoreDatabase(dao, stateStorageMode, storeNonCanonicalBlocks, spec);
   }
 
@@ -516,6 +553,15 @@ public class KvStoreDatabase implements Database {
         .or(() -> Optional.of(lastSlotToPrune));
   }
 
+  @Override
+  public long pruneUnreferencedStateData(final long pruneLimit) {
+    final long deletedEntries = dao.pruneUnreferencedStateData(pruneLimit);
+    if (deletedEntries > 0) {
+      LOG.debug("Deleted {} unreferenced state data entries", deletedEntries);
+    }
+    return deletedEntries;
+  }
+
   private UInt64 pruneFinalizedStateForSlots(
       final UInt64 earliestFinalizedStateSlot,
       final UInt64 lastSlotToPrune,
@@ -1184,15 +1230,14 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public void pruneAllSidecars(final UInt64 tillSlotInclusive) {
-    try (final Stream<DataColumnSlotAndIdentifier> prunableIdentifiers =
-            streamDataColumnIdentifiers(UInt64.ZERO, tillSlotInclusive);
-        final Stream<DataColumnSlotAndIdentifier> prunableNonCanonicalIdentifiers =
-            streamNonCanonicalDataColumnIdentifiers(UInt64.ZERO, tillSlotInclusive);
-        final FinalizedUpdater updater = finalizedUpdater()) {
-      prunableIdentifiers.forEach(updater::removeSidecar);
-      prunableNonCanonicalIdentifiers.forEach(updater::removeNonCanonicalSidecar);
-      updater.commit();
-    }
+    // Sidecar keys are prefixed by slot so the whole prunable range is deleted without loading
+    // each key, keeping the cost flat as the number of columns per slot grows
+    final long start = System.currentTimeMillis();
+    dao.pruneDataColumnSidecars(tillSlotInclusive);
+    LOG.debug(
+        "Pruned data column sidecars up to slot {} in {} ms",
+        () -> tillSlotInclusive,
+        () -> System.currentTimeMillis() - start);
   }
 
   @Override
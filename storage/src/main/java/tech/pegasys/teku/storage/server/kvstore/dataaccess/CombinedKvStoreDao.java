@@ -47,6 +47,7 @@ import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotStateStorageLogic.HotStateUpdater;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
@@ -57,14 +58,24 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   private final KvStoreAccessor db;
   private final S schema;
   private final V4FinalizedStateStorageLogic<S> stateStorageLogic;
+  private final V4HotStateStorageLogic<S> hotStateStorageLogic;
 
   public CombinedKvStoreDao(
       final KvStoreAccessor db,
       final S schema,
       final V4FinalizedStateStorageLogic<S> stateStorageLogic) {
+    this(db, schema, stateStorageLogic, new V4HotStateSnapshotStorageLogic<>());
+  }
+
+  public CombinedKvStoreDao(
+      final KvStoreAccessor db,
+      final S schema,
+      final V4FinalizedStateStorageLogic<S> stateStorageLogic,
+      final V4HotStateStorageLogic<S> hotStateStorageLogic) {
     this.db = db;
     this.schema = schema;
     this.stateStorageLogic = stateStorageLogic;
+    this.hotStateStorageLogic = hotStateStorageLogic;
   }
 
   @Override
@@ -109,7 +120,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
   @Override
   public Optional<BeaconState> getHotState(final Bytes32 root) {
-    return db.get(schema.getColumnHotStatesByRoot(), root);
+    return hotStateStorageLogic.getHotState(db, schema, root);
   }
 
   @Override
@@ -187,7 +198,8 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   @Override
   @MustBeClosed
   public CombinedUpdater combinedUpdater() {
-    return new V4CombinedUpdater<>(db, schema, stateStorageLogic.updater());
+    return new V4CombinedUpdater<>(
+        db, schema, stateStorageLogic.updater(), hotStateStorageLogic.updater());
   }
 
   @Override
@@ -285,6 +297,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return stateStorageLogic.getEarliestAvailableFinalizedStateSlot(db, schema);
   }
 
+  @Override
+  public long pruneUnreferencedStateData(final long pruneLimit) {
+    return stateStorageLogic.pruneUnreferencedStateData(db, schema, pruneLimit);
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
     return db.getFloorEntry(schema.getColumnFinalizedBlocksBySlot(), slot)
@@ -621,21 +638,34 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
         .map(DataColumnSlotAndIdentifier::slot);
   }
 
+  @Override
+  public void pruneDataColumnSidecars(final UInt64 lastSlotToPrune) {
+    final DataColumnSlotAndIdentifier from =
+        new DataColumnSlotAndIdentifier(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO);
+    final DataColumnSlotAndIdentifier to =
+        new DataColumnSlotAndIdentifier(lastSlotToPrune, MAX_BLOCK_ROOT, UInt64.MAX_VALUE);
+    db.deleteRange(schema.getColumnSidecarByColumnSlotAndIdentifier(), from, to);
+    db.deleteRange(schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(), from, to);
+  }
+
   static class V4CombinedUpdater<S extends SchemaCombined> implements CombinedUpdater {
     private final KvStoreTransaction transaction;
 
     private final KvStoreAccessor db;
     private final S schema;
     private final FinalizedStateUpdater<S> stateStorageUpdater;
+    private final HotStateUpdater<S> hotStateUpdater;
 
     V4CombinedUpdater(
         final KvStoreAccessor db,
         final S schema,
-        final FinalizedStateUpdater<S> stateStorageUpdater) {
+        final FinalizedStateUpdater<S> stateStorageUpdater,
+        final HotStateUpdater<S> hotStateUpdater) {
       this.transaction = db.startTransaction();
       this.db = db;
       this.schema = schema;
       this.stateStorageUpdater = stateStorageUpdater;
+      this.hotStateUpdater = hotStateUpdater;
     }
 
     @Override
@@ -698,7 +728,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void addHotState(final Bytes32 blockRoot, final BeaconState state) {
-      transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+      hotStateUpdater.addHotState(transaction, schema, blockRoot, state);
     }
 
     @Override
@@ -736,7 +766,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void deleteHotState(final Bytes32 blockRoot) {
-      transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+      hotStateUpdater.deleteHotState(transaction, schema, blockRoot);
     }
 
     @Override
@@ -771,9 +801,12 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void commit() {
+      stateStorageUpdater.prepareCommit(db, transaction, schema);
+      hotStateUpdater.prepareCommit(db, transaction, schema);
       // Commit db updates
       transaction.commit();
       stateStorageUpdater.commit();
+      hotStateUpdater.commit();
       close();
     }
 
@@ -786,6 +819,8 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     @Override
     public void close() {
       transaction.close();
+      stateStorageUpdater.close();
+      hotStateUpdater.close();
     }
 
     @Override
@@ -71,6 +71,14 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Optional<UInt64> getEarliestFinalizedStateSlot();
 
+  /**
+   * Deletes stored state data that is no longer referenced by any finalized or hot state.
+   *
+   * @param pruneLimit maximum number of entries to delete
+   * @return the number of entries deleted
+   */
+  long pruneUnreferencedStateData(long pruneLimit);
+
   Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(UInt64 slot);
 
   List<SignedBeaconBlock> getNonCanonicalBlocksAtSlot(UInt64 slot);
@@ -188,6 +196,12 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Optional<UInt64> getEarliestDataSidecarColumnSlot();
 
+  /**
+   * Deletes canonical and non-canonical data column sidecars up to and including {@code
+   * lastSlotToPrune} using range deletes, outside of any transaction.
+   */
+  void pruneDataColumnSidecars(UInt64 lastSlotToPrune);
+
   interface CombinedUpdater extends HotUpdater, FinalizedUpdater {}
 
   interface HotUpdater extends AutoCloseable {
@@ -179,6 +179,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.getEarliestFinalizedStateSlot();
   }
 
+  @Override
+  public long pruneUnreferencedStateData(final long pruneLimit) {
+    return finalizedDao.pruneUnreferencedStateData(pruneLimit);
+  }
+
   @Override
   public Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
     return finalizedDao.getLatestFinalizedBlockAtSlot(slot);
@@ -365,6 +370,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.getEarliestAvailableDataColumnSlot();
   }
 
+  @Override
+  public void pruneDataColumnSidecars(final UInt64 lastSlotToPrune) {
+    finalizedDao.pruneDataColumnSidecars(lastSlotToPrune);
+  }
+
   @Override
   public void ingest(
       final KvStoreCombinedDao dao, final int batchSize, final Consumer<String> logger) {
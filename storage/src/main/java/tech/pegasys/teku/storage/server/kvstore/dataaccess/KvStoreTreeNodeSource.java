@@ -15,7 +15,14 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 
@@ -23,22 +30,65 @@ class KvStoreTreeNodeSource implements TreeNodeSource {
 
   private final KvStoreAccessor db;
   private final SchemaCombinedTreeState schema;
+  private final StateTreeNodeCache nodeCache;
 
   public KvStoreTreeNodeSource(final KvStoreAccessor db, final SchemaCombinedTreeState schema) {
+    this(db, schema, StateTreeNodeCache.NOOP);
+  }
+
+  public KvStoreTreeNodeSource(
+      final KvStoreAccessor db,
+      final SchemaCombinedTreeState schema,
+      final StateTreeNodeCache nodeCache) {
     this.db = db;
     this.schema = schema;
+    this.nodeCache = nodeCache;
+  }
+
+  /**
+   * Loads the state with the given root and reads every node it references before returning, so
+   * the state never goes back to the database. Nodes can be pruned as soon as no stored state
+   * references them, which would break a lazily loaded state that is still held in memory.
+   */
+  BeaconState loadState(final Spec spec, final UInt64 slot, final Bytes32 stateRoot) {
+    final BeaconState state =
+        spec.atSlot(slot)
+            .getSchemaDefinitions()
+            .getBeaconStateSchema()
+            .load(this, stateRoot, GIndexUtil.SELF_G_INDEX);
+    loadAllNodes(state.getBackingNode());
+    return state;
+  }
+
+  private static void loadAllNodes(final TreeNode node) {
+    // Default subtrees are never read from the database and may be far too large to walk
+    if (node instanceof BranchNode branchNode
+        && !TreeUtil.ZERO_TREES_BY_ROOT.containsKey(branchNode.hashTreeRoot())) {
+      loadAllNodes(branchNode.left());
+      loadAllNodes(branchNode.right());
+    }
   }
 
   @Override
   public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash)
+    return nodeCache
+        .getBranchNode(
+            rootHash, root -> db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), root))
         .orElseThrow(
             () ->
                 new IllegalArgumentException("Unknown branch node: " + rootHash + " at " + gIndex));
   }
 
+  /**
+   * Leaves no larger than a chunk are their own root so they aren't stored, and the root is
+   * returned as their data. Super nodes are the only leaves stored separately and fail to load if
+   * their data is missing.
+   */
   @Override
   public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeLeaves(), rootHash).orElse(rootHash);
+    return nodeCache
+        .getLeafNode(
+            rootHash, root -> db.get(schema.getColumnFinalizedStateMerkleTreeLeaves(), root))
+        .orElse(rootHash);
   }
 }
@@ -16,7 +16,9 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
@@ -29,7 +31,10 @@ import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 public class KvStoreTreeNodeStore implements TreeNodeStore {
 
   private final Set<Bytes32> knownStoredBranchesCache;
-  private final Set<Bytes32> newlyStoredBranches = new HashSet<>();
+  // Children of every branch written by this store, used to count references between nodes
+  private final Map<Bytes32, Bytes32[]> newlyStoredBranches = new HashMap<>();
+  private final Set<Bytes32> newlyStoredLeaves = new HashSet<>();
+  private final Set<Bytes32> skippedBranches = new HashSet<>();
   private final KvStoreTransaction transaction;
   private final SchemaCombinedTreeState schema;
 
@@ -48,18 +53,26 @@ public class KvStoreTreeNodeStore implements TreeNodeStore {
 
   @Override
   public boolean canSkipBranch(final Bytes32 root, final long gIndex) {
-    final boolean result =
-        newlyStoredBranches.contains(root) || knownStoredBranchesCache.contains(root);
-    if (result) {
+    if (newlyStoredBranches.containsKey(root)) {
       skippedBranchNodes++;
+      return true;
     }
-    return result;
+    if (knownStoredBranchesCache.contains(root)) {
+      skippedBranchNodes++;
+      skippedBranches.add(root);
+      return true;
+    }
+    return false;
   }
 
   @Override
   public void storeBranchNode(
       final Bytes32 root, final long gIndex, final int depth, final Bytes32[] children) {
-    if (knownStoredBranchesCache.contains(root) || !newlyStoredBranches.add(root)) {
+    if (knownStoredBranchesCache.contains(root)) {
+      skippedBranches.add(root);
+      return;
+    }
+    if (newlyStoredBranches.putIfAbsent(root, children) != null) {
       return;
     }
     storedBranchNodes++;
@@ -75,6 +88,7 @@ public class KvStoreTreeNodeStore implements TreeNodeStore {
     final LeafDataNode node = (LeafDataNode) treeNode;
     if (node.getData().size() > Bytes32.SIZE && !node.hashTreeRoot().isZero()) {
       storedLeafNodes++;
+      newlyStoredLeaves.add(node.hashTreeRoot());
       transaction.put(
           schema.getColumnFinalizedStateMerkleTreeLeaves(), node.hashTreeRoot(), node.getData());
     }
@@ -82,9 +96,23 @@ public class KvStoreTreeNodeStore implements TreeNodeStore {
 
   @Override
   public Collection<Bytes32> getStoredBranchRoots() {
+    return newlyStoredBranches.keySet();
+  }
+
+  /** Returns the children of every branch node written by this store, keyed by branch root. */
+  public Map<Bytes32, Bytes32[]> getStoredBranches() {
     return newlyStoredBranches;
   }
 
+  public Set<Bytes32> getStoredLeafRoots() {
+    return newlyStoredLeaves;
+  }
+
+  /** Returns the roots of branches which weren't written because they were known to be stored. */
+  public Set<Bytes32> getSkippedBranchRoots() {
+    return skippedBranches;
+  }
+
   @Override
   public int getStoredBranchNodeCount() {
     return storedBranchNodes;
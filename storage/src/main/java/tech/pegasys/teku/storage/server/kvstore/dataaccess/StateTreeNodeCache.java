@@ -0,0 +1,79 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.util.Optional;
+import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+
+/**
+ * Bounded cache of state tree nodes read from the database.
+ *
+ * <p>Successive states share most of their nodes, so loading a state usually finds the subtrees it
+ * has in common with recently loaded states here. Nodes are content addressed so a cached node
+ * never becomes stale.
+ */
+public class StateTreeNodeCache {
+  public static final int DEFAULT_MAX_BRANCH_NODES = 10_000;
+  public static final int DEFAULT_MAX_LEAF_NODES = 10_000;
+
+  public static final StateTreeNodeCache NOOP =
+      new StateTreeNodeCache(NoOpCache.getNoOpCache(), NoOpCache.getNoOpCache());
+
+  private final Cache<Bytes32, CompressedBranchInfo> branchNodes;
+  private final Cache<Bytes32, Bytes> leafNodes;
+
+  private StateTreeNodeCache(
+      final Cache<Bytes32, CompressedBranchInfo> branchNodes,
+      final Cache<Bytes32, Bytes> leafNodes) {
+    this.branchNodes = branchNodes;
+    this.leafNodes = leafNodes;
+  }
+
+  public static StateTreeNodeCache create(final int maxBranchNodes, final int maxLeafNodes) {
+    return new StateTreeNodeCache(LRUCache.create(maxBranchNodes), LRUCache.create(maxLeafNodes));
+  }
+
+  public static StateTreeNodeCache createDefault() {
+    return create(DEFAULT_MAX_BRANCH_NODES, DEFAULT_MAX_LEAF_NODES);
+  }
+
+  Optional<CompressedBranchInfo> getBranchNode(
+      final Bytes32 root, final Function<Bytes32, Optional<CompressedBranchInfo>> loader) {
+    return get(branchNodes, root, loader);
+  }
+
+  Optional<Bytes> getLeafNode(final Bytes32 root, final Function<Bytes32, Optional<Bytes>> loader) {
+    return get(leafNodes, root, loader);
+  }
+
+  private static <V> Optional<V> get(
+      final Cache<Bytes32, V> cache,
+      final Bytes32 root,
+      final Function<Bytes32, Optional<V>> loader) {
+    final Optional<V> cached = cache.getCached(root);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    // Load outside of the cache lock so concurrent readers don't wait on each other's reads
+    final Optional<V> loaded = loader.apply(root);
+    loaded.ifPresent(value -> cache.invalidateWithNewValue(root, value));
+    return loaded;
+  }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
+
+/**
+ * Reference counting collector for the content addressed state tree node columns.
+ *
+ * <p>Branch and leaf nodes are shared between every finalized and hot state that contains them, so
+ * they can't be deleted along with a state. Instead each node keeps a count of the stored branches
+ * and state root entries referencing it. Updaters apply the references added and removed by their
+ * transaction through a {@link ReferenceUpdate} just before committing it, and nodes whose count
+ * drops to zero are queued in the unreferenced nodes column. {@link #pruneUnreferencedNodes} then
+ * deletes queued nodes in small batches, releasing the references held by deleted branches.
+ *
+ * <p>Counts are only read and written while holding a lock, which updaters hold from applying
+ * their references until their transaction is committed and the pruner holds for a single batch.
+ * Updaters skip branches found in the known stored branches cache without holding the lock, so if
+ * a batch was pruned in the meantime the skipped branches are checked to still be stored.
+ *
+ * <p>States are read through {@link #readNodes}, which batches wait for. Every node reachable from
+ * a stored state root is referenced, so a state whose root is found by the read can be loaded in
+ * full even if its root is deleted while the read runs.
+ *
+ * <p>Nodes stored before reference counts were tracked have no count and are never deleted.
+ */
+public class StateTreeNodeCollector {
+  static final int PRUNE_BATCH_SIZE = 10_000;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ReadWriteLock pruneLock = new ReentrantReadWriteLock();
+  // Counts written by the transaction of the current lock holder, empty if the node was deleted
+  private final Map<Bytes32, Optional<UInt64>> uncommittedCounts = new HashMap<>();
+  private final Set<Bytes32> knownStoredBranchesCache;
+  private final LabelledMetric<Counter> prunedNodesCounter;
+
+  private final AtomicLong pruneGeneration = new AtomicLong();
+
+  public StateTreeNodeCollector(
+      final MetricsSystem metricsSystem, final Set<Bytes32> knownStoredBranchesCache) {
+    this.knownStoredBranchesCache = knownStoredBranchesCache;
+    this.prunedNodesCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE_FINALIZED_DB,
+            "state_tree_nodes_pruned_total",
+            "Number of unreferenced state tree nodes pruned",
+            "type");
+  }
+
+  public Set<Bytes32> getKnownStoredBranchesCache() {
+    return knownStoredBranchesCache;
+  }
+
+  /**
+   * Starts tracking the references added and removed by an updater storing states with roots kept
+   * in the given column.
+   */
+  <K> ReferenceUpdate<K> startUpdate(
+      final Function<SchemaCombinedTreeState, KvStoreColumn<K, Bytes32>> stateRootColumn) {
+    return new ReferenceUpdate<>(stateRootColumn, pruneGeneration.get());
+  }
+
+  /** Runs a read of stored states, preventing nodes from being pruned until it completes. */
+  <T> T readNodes(final Supplier<T> read) {
+    pruneLock.readLock().lock();
+    try {
+      return read.get();
+    } finally {
+      pruneLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Deletes nodes which are no longer referenced, holding the lock for at most {@link
+   * #PRUNE_BATCH_SIZE} nodes at a time.
+   *
+   * @return the number of nodes deleted
+   */
+  public long pruneUnreferencedNodes(
+      final KvStoreAccessor db, final SchemaCombinedTreeState schema, final long pruneLimit) {
+    long processed = 0;
+    long pruned = 0;
+    while (processed < pruneLimit) {
+      final List<Bytes32> candidates;
+      try (final Stream<Bytes32> keys =
+          db.streamKeys(schema.getColumnUnreferencedStateTreeNodes())) {
+        candidates = keys.limit(Math.min(PRUNE_BATCH_SIZE, pruneLimit - processed)).toList();
+      }
+      if (candidates.isEmpty()) {
+        break;
+      }
+      processed += candidates.size();
+      pruned += pruneBatch(db, schema, candidates);
+    }
+    return pruned;
+  }
+
+  private long pruneBatch(
+      final KvStoreAccessor db,
+      final SchemaCombinedTreeState schema,
+      final List<Bytes32> candidates) {
+    long branches = 0;
+    long leaves = 0;
+    pruneLock.writeLock().lock();
+    lock.lock();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      for (Bytes32 root : candidates) {
+        transaction.delete(schema.getColumnUnreferencedStateTreeNodes(), root);
+        if (!getReferenceCount(db, schema, root).map(UInt64::isZero).orElse(false)) {
+          // Referenced again since it was queued
+          continue;
+        }
+        final Optional<CompressedBranchInfo> branch =
+            db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), root);
+        if (branch.isPresent()) {
+          for (Bytes32 child : branch.get().getChildren()) {
+            removeReference(db, transaction, schema, child);
+          }
+          transaction.delete(schema.getColumnFinalizedStateMerkleTreeBranches(), root);
+          knownStoredBranchesCache.remove(root);
+          branches++;
+        } else {
+          transaction.delete(schema.getColumnFinalizedStateMerkleTreeLeaves(), root);
+          leaves++;
+        }
+        transaction.delete(schema.getColumnStateTreeNodeReferenceCounts(), root);
+        uncommittedCounts.put(root, Optional.empty());
+      }
+      transaction.commit();
+      // Updaters which skipped known branches before this point must check they're still stored
+      pruneGeneration.incrementAndGet();
+    } finally {
+      unlock();
+      pruneLock.writeLock().unlock();
+    }
+    prunedNodesCounter.labels("branch").inc(branches);
+    prunedNodesCounter.labels("leaf").inc(leaves);
+    return branches + leaves;
+  }
+
+  private void unlock() {
+    if (lock.getHoldCount() == 1) {
+      uncommittedCounts.clear();
+    }
+    lock.unlock();
+  }
+
+  private Optional<UInt64> getReferenceCount(
+      final KvStoreAccessor db, final SchemaCombinedTreeState schema, final Bytes32 root) {
+    final Optional<UInt64> uncommittedCount = uncommittedCounts.get(root);
+    if (uncommittedCount != null) {
+      return uncommittedCount;
+    }
+    return db.get(schema.getColumnStateTreeNodeReferenceCounts(), root);
+  }
+
+  private void setReferenceCount(
+      final KvStoreTransaction transaction,
+      final SchemaCombinedTreeState schema,
+      final Bytes32 root,
+      final UInt64 count) {
+    transaction.put(schema.getColumnStateTreeNodeReferenceCounts(), root, count);
+    uncommittedCounts.put(root, Optional.of(count));
+    if (count.isZero()) {
+      transaction.put(schema.getColumnUnreferencedStateTreeNodes(), root, Bytes.EMPTY);
+    }
+  }
+
+  /** Nodes without a count are either not stored separately or stored before counts existed. */
+  private void addReference(
+      final KvStoreAccessor db,
+      final KvStoreTransaction transaction,
+      final SchemaCombinedTreeState schema,
+      final Bytes32 root) {
+    getReferenceCount(db, schema, root)
+        .ifPresent(
+            count -> {
+              if (count.isZero()) {
+                transaction.delete(schema.getColumnUnreferencedStateTreeNodes(), root);
+              }
+              setReferenceCount(transaction, schema, root, count.increment());
+            });
+  }
+
+  private void removeReference(
+      final KvStoreAccessor db,
+      final KvStoreTransaction transaction,
+      final SchemaCombinedTreeState schema,
+      final Bytes32 root) {
+    getReferenceCount(db, schema, root)
+        .filter(count -> !count.isZero())
+        .ifPresent(count -> setReferenceCount(transaction, schema, root, count.decrement()));
+  }
+
+  /**
+   * Returns true if the node was written by the current transaction for the first time, in which
+   * case it starts with no references.
+   */
+  private boolean addIfNewNode(
+      final KvStoreAccessor db,
+      final KvStoreTransaction transaction,
+      final SchemaCombinedTreeState schema,
+      final KvStoreColumn<Bytes32, ?> column,
+      final Bytes32 root) {
+    if (getReferenceCount(db, schema, root).isPresent() || db.get(column, root).isPresent()) {
+      return false;
+    }
+    setReferenceCount(transaction, schema, root, UInt64.ZERO);
+    return true;
+  }
+
+  private boolean isStored(
+      final KvStoreAccessor db, final SchemaCombinedTreeState schema, final Bytes32 root) {
+    final Optional<UInt64> uncommittedCount = uncommittedCounts.get(root);
+    if (uncommittedCount != null) {
+      return uncommittedCount.isPresent();
+    }
+    return db.get(schema.getColumnStateTreeNodeReferenceCounts(), root).isPresent()
+        || db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), root).isPresent();
+  }
+
+  /**
+   * Tracks the state root entries and tree nodes written by one updater, and applies the resulting
+   * reference count changes to its transaction.
+   *
+   * @param <K> the key type of the state root column
+   */
+  class ReferenceUpdate<K> {
+    private final Function<SchemaCombinedTreeState, KvStoreColumn<K, Bytes32>> stateRootColumn;
+    private final long startPruneGeneration;
+    // The final state root for each key changed, empty if the entry was deleted
+    private final Map<K, Optional<Bytes32>> stateRootChanges = new LinkedHashMap<>();
+    private KvStoreTreeNodeStore nodeStore;
+    private boolean locked = false;
+
+    private ReferenceUpdate(
+        final Function<SchemaCombinedTreeState, KvStoreColumn<K, Bytes32>> stateRootColumn,
+        final long startPruneGeneration) {
+      this.stateRootColumn = stateRootColumn;
+      this.startPruneGeneration = startPruneGeneration;
+    }
+
+    KvStoreTreeNodeStore getNodeStore(
+        final KvStoreTransaction transaction, final SchemaCombinedTreeState schema) {
+      if (nodeStore == null) {
+        nodeStore = new KvStoreTreeNodeStore(knownStoredBranchesCache, transaction, schema);
+      }
+      return nodeStore;
+    }
+
+    Optional<KvStoreTreeNodeStore> getNodeStore() {
+      return Optional.ofNullable(nodeStore);
+    }
+
+    void putStateRoot(
+        final KvStoreTransaction transaction,
+        final SchemaCombinedTreeState schema,
+        final K key,
+        final Bytes32 stateRoot) {
+      transaction.put(stateRootColumn.apply(schema), key, stateRoot);
+      stateRootChanges.put(key, Optional.of(stateRoot));
+    }
+
+    void deleteStateRoot(
+        final KvStoreTransaction transaction, final SchemaCombinedTreeState schema, final K key) {
+      transaction.delete(stateRootColumn.apply(schema), key);
+      stateRootChanges.put(key, Optional.empty());
+    }
+
+    /**
+     * Applies the reference count changes to the transaction. The lock is held from here until
+     * {@link #close()} so must be called immediately before the transaction is committed.
+     */
+    void prepareCommit(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaCombinedTreeState schema) {
+      if (nodeStore == null && stateRootChanges.isEmpty()) {
+        return;
+      }
+      lock.lock();
+      locked = true;
+      if (nodeStore != null) {
+        addNodeReferences(db, transaction, schema);
+      }
+      final KvStoreColumn<K, Bytes32> column = stateRootColumn.apply(schema);
+      stateRootChanges.forEach(
+          (key, newRoot) -> {
+            final Optional<Bytes32> currentRoot = db.get(column, key);
+            if (!currentRoot.equals(newRoot)) {
+              newRoot.ifPresent(root -> addReference(db, transaction, schema, root));
+              currentRoot.ifPresent(root -> removeReference(db, transaction, schema, root));
+            }
+          });
+    }
+
+    private void addNodeReferences(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaCombinedTreeState schema) {
+      if (pruneGeneration.get() != startPruneGeneration) {
+        for (Bytes32 root : nodeStore.getSkippedBranchRoots()) {
+          if (!isStored(db, schema, root)) {
+            throw new IllegalStateException(
+                "State tree node " + root + " was pruned while storing a state referencing it");
+          }
+        }
+      }
+      final List<Bytes32[]> newBranchChildren = new ArrayList<>();
+      nodeStore
+          .getStoredBranches()
+          .forEach(
+              (root, children) -> {
+                if (addIfNewNode(
+                    db,
+                    transaction,
+                    schema,
+                    schema.getColumnFinalizedStateMerkleTreeBranches(),
+                    root)) {
+                  newBranchChildren.add(children);
+                }
+              });
+      for (Bytes32 root : nodeStore.getStoredLeafRoots()) {
+        addIfNewNode(
+            db, transaction, schema, schema.getColumnFinalizedStateMerkleTreeLeaves(), root);
+      }
+      // Branches which were already stored hold references to their children already
+      for (Bytes32[] children : newBranchChildren) {
+        for (Bytes32 child : children) {
+          addReference(db, transaction, schema, child);
+        }
+      }
+    }
+
+    /** Called once the transaction is committed or rolled back. */
+    void close() {
+      if (locked) {
+        locked = false;
+        unlock();
+      }
+    }
+  }
+}
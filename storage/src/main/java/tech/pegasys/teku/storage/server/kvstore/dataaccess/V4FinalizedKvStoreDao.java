@@ -77,6 +77,10 @@ public class V4FinalizedKvStoreDao {
     return stateStorageLogic.getEarliestAvailableFinalizedStateSlot(db, schema);
   }
 
+  public long pruneUnreferencedStateData(final long pruneLimit) {
+    return stateStorageLogic.pruneUnreferencedStateData(db, schema, pruneLimit);
+  }
+
   public Optional<SignedBeaconBlock> getEarliestFinalizedBlock() {
     return db.getFirstEntry(schema.getColumnFinalizedBlocksBySlot()).map(ColumnEntry::getValue);
   }
@@ -254,6 +258,15 @@ public class V4FinalizedKvStoreDao {
         .map(DataColumnSlotAndIdentifier::slot);
   }
 
+  public void pruneDataColumnSidecars(final UInt64 lastSlotToPrune) {
+    final DataColumnSlotAndIdentifier from =
+        new DataColumnSlotAndIdentifier(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO);
+    final DataColumnSlotAndIdentifier to =
+        new DataColumnSlotAndIdentifier(lastSlotToPrune, MAX_BLOCK_ROOT, UInt64.MAX_VALUE);
+    db.deleteRange(schema.getColumnSidecarByColumnSlotAndIdentifier(), from, to);
+    db.deleteRange(schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(), from, to);
+  }
+
   public <T> Optional<Bytes> getRawVariable(final KvStoreVariable<T> var) {
     return db.getRaw(var);
   }
@@ -524,6 +537,7 @@ public class V4FinalizedKvStoreDao {
 
     @Override
     public void commit() {
+      stateStorageUpdater.prepareCommit(db, transaction, schema);
       // Commit db updates
       transaction.commit();
       stateStorageUpdater.commit();
@@ -539,6 +553,7 @@ public class V4FinalizedKvStoreDao {
     @Override
     public void close() {
       transaction.close();
+      stateStorageUpdater.close();
     }
   }
 }
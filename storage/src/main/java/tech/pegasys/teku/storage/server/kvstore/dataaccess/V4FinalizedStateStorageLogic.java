@@ -33,6 +33,18 @@ public interface V4FinalizedStateStorageLogic<S> {
   Stream<UInt64> streamFinalizedStateSlots(
       KvStoreAccessor db, final S schema, UInt64 startSlot, UInt64 endSlot);
 
+  /**
+   * Deletes stored data that is no longer referenced by any state, for storage modes where it isn't
+   * removed along with the states themselves.
+   *
+   * @param pruneLimit maximum number of entries to delete
+   * @return the number of entries deleted
+   */
+  default long pruneUnreferencedStateData(
+      final KvStoreAccessor db, final S schema, final long pruneLimit) {
+    return 0;
+  }
+
   interface FinalizedStateUpdater<S> {
     void addFinalizedState(
         KvStoreAccessor db, KvStoreTransaction transaction, S schema, BeaconState state);
@@ -42,6 +54,13 @@ public interface V4FinalizedStateStorageLogic<S> {
 
     void deleteFinalizedState(KvStoreTransaction transaction, S schema, UInt64 slot);
 
+    /** Called with the updater's transaction immediately before it is committed. */
+    default void prepareCommit(
+        final KvStoreAccessor db, final KvStoreTransaction transaction, final S schema) {}
+
     void commit();
+
+    /** Called once the updater's transaction has been committed or rolled back. */
+    default void close() {}
   }
 }
@@ -15,22 +15,20 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import com.google.errorprone.annotations.MustBeClosed;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Stream;
-import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.infrastructure.collections.LimitedSet;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
-import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.StateTreeNodeCollector.ReferenceUpdate;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 
 public class V4FinalizedStateTreeStorageLogic
@@ -38,14 +36,35 @@ public class V4FinalizedStateTreeStorageLogic
   private static final int MAX_BRANCH_LEVELS_SKIPPED = 5;
   private final LabelledMetric<Counter> branchNodeStoredCounter;
   private final Counter statesStoredCounter;
-  private final Set<Bytes32> knownStoredBranchesCache;
+  private final StateTreeNodeCollector nodeCollector;
+  private final StateTreeNodeCache nodeCache;
   private final Spec spec;
   private final Counter leafNodeStoredCounter;
 
   public V4FinalizedStateTreeStorageLogic(
       final MetricsSystem metricsSystem, final Spec spec, final int maxKnownNodeCacheSize) {
+    this(
+        metricsSystem,
+        spec,
+        new StateTreeNodeCollector(
+            metricsSystem, LimitedSet.createSynchronized(maxKnownNodeCacheSize)));
+  }
+
+  public V4FinalizedStateTreeStorageLogic(
+      final MetricsSystem metricsSystem,
+      final Spec spec,
+      final StateTreeNodeCollector nodeCollector) {
+    this(metricsSystem, spec, nodeCollector, StateTreeNodeCache.NOOP);
+  }
+
+  public V4FinalizedStateTreeStorageLogic(
+      final MetricsSystem metricsSystem,
+      final Spec spec,
+      final StateTreeNodeCollector nodeCollector,
+      final StateTreeNodeCache nodeCache) {
     this.spec = spec;
-    this.knownStoredBranchesCache = LimitedSet.createSynchronized(maxKnownNodeCacheSize);
+    this.nodeCollector = nodeCollector;
+    this.nodeCache = nodeCache;
     this.branchNodeStoredCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.STORAGE_FINALIZED_DB,
@@ -67,16 +86,13 @@ public class V4FinalizedStateTreeStorageLogic
   @Override
   public Optional<BeaconState> getLatestAvailableFinalizedState(
       final KvStoreAccessor db, final SchemaCombinedTreeState dbSchema, final UInt64 maxSlot) {
-    return db.getFloorEntry(dbSchema.getColumnFinalizedStateRootsBySlot(), maxSlot)
-        .map(
-            entry ->
-                spec.atSlot(entry.getKey())
-                    .getSchemaDefinitions()
-                    .getBeaconStateSchema()
-                    .load(
-                        new KvStoreTreeNodeSource(db, dbSchema),
-                        entry.getValue(),
-                        GIndexUtil.SELF_G_INDEX));
+    return nodeCollector.readNodes(
+        () ->
+            db.getFloorEntry(dbSchema.getColumnFinalizedStateRootsBySlot(), maxSlot)
+                .map(
+                    entry ->
+                        new KvStoreTreeNodeSource(db, dbSchema, nodeCache)
+                            .loadState(spec, entry.getKey(), entry.getValue())));
   }
 
   @Override
@@ -88,7 +104,7 @@ public class V4FinalizedStateTreeStorageLogic
   @Override
   public FinalizedStateUpdater<SchemaCombinedTreeState> updater() {
     return new StateTreeUpdater(
-        knownStoredBranchesCache,
+        nodeCollector,
         branchNodeStoredCounter,
         statesStoredCounter,
         leafNodeStoredCounter);
@@ -105,24 +121,33 @@ public class V4FinalizedStateTreeStorageLogic
         .map(ColumnEntry::getKey);
   }
 
+  @Override
+  public long pruneUnreferencedStateData(
+      final KvStoreAccessor db, final SchemaCombinedTreeState schema, final long pruneLimit) {
+    return nodeCollector.pruneUnreferencedNodes(db, schema, pruneLimit);
+  }
+
   private static class StateTreeUpdater implements FinalizedStateUpdater<SchemaCombinedTreeState> {
 
-    private final Set<Bytes32> knownStoredBranchesCache;
+    private final StateTreeNodeCollector nodeCollector;
     private final LabelledMetric<Counter> branchNodeStoredCounter;
     private final Counter statesStoredCounter;
     private final Counter leafNodeStoredCounter;
-    private TreeNodeStore nodeStore;
+    private final ReferenceUpdate<UInt64> references;
+    private KvStoreTreeNodeStore nodeStore;
     private int statesStored = 0;
 
     private StateTreeUpdater(
-        final Set<Bytes32> knownStoredBranchesCache,
+        final StateTreeNodeCollector nodeCollector,
         final LabelledMetric<Counter> branchNodeStoredCounter,
         final Counter statesStoredCounter,
         final Counter leafNodeStoredCounter) {
-      this.knownStoredBranchesCache = knownStoredBranchesCache;
+      this.nodeCollector = nodeCollector;
       this.branchNodeStoredCounter = branchNodeStoredCounter;
       this.statesStoredCounter = statesStoredCounter;
       this.leafNodeStoredCounter = leafNodeStoredCounter;
+      this.references =
+          nodeCollector.startUpdate(SchemaCombinedTreeState::getColumnFinalizedStateRootsBySlot);
     }
 
     @Override
@@ -131,11 +156,8 @@ public class V4FinalizedStateTreeStorageLogic
         final KvStoreTransaction transaction,
         final SchemaCombinedTreeState schema,
         final BeaconState state) {
-      if (nodeStore == null) {
-        nodeStore = new KvStoreTreeNodeStore(knownStoredBranchesCache, transaction, schema);
-      }
-      transaction.put(
-          schema.getColumnFinalizedStateRootsBySlot(), state.getSlot(), state.hashTreeRoot());
+      nodeStore = references.getNodeStore(transaction, schema);
+      references.putStateRoot(transaction, schema, state.getSlot(), state.hashTreeRoot());
       state
           .getSchema()
           .storeBackingNodes(
@@ -160,18 +182,32 @@ public class V4FinalizedStateTreeStorageLogic
         final KvStoreTransaction transaction,
         final SchemaCombinedTreeState schema,
         final UInt64 slot) {
-      throw new RuntimeException("Tree mode does not support deleting finalized states");
+      // Tree nodes may be shared with other states so are only deleted once unreferenced
+      references.deleteStateRoot(transaction, schema, slot);
+    }
+
+    @Override
+    public void prepareCommit(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaCombinedTreeState schema) {
+      references.prepareCommit(db, transaction, schema);
     }
 
     @Override
     public void commit() {
       if (nodeStore != null) {
-        knownStoredBranchesCache.addAll(nodeStore.getStoredBranchRoots());
+        nodeCollector.getKnownStoredBranchesCache().addAll(nodeStore.getStoredBranchRoots());
         branchNodeStoredCounter.labels("stored").inc(nodeStore.getStoredBranchNodeCount());
         branchNodeStoredCounter.labels("skipped").inc(nodeStore.getSkippedBranchNodeCount());
         leafNodeStoredCounter.inc(nodeStore.getStoredLeafNodeCount());
         statesStoredCounter.inc(statesStored);
       }
     }
+
+    @Override
+    public void close() {
+      references.close();
+    }
   }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
+
+/** Stores every hot state as a full serialized state. */
+public class V4HotStateSnapshotStorageLogic<S extends SchemaCombined>
+    implements V4HotStateStorageLogic<S> {
+
+  @Override
+  public Optional<BeaconState> getHotState(
+      final KvStoreAccessor db, final S schema, final Bytes32 blockRoot) {
+    return db.get(schema.getColumnHotStatesByRoot(), blockRoot);
+  }
+
+  @Override
+  public HotStateUpdater<S> updater() {
+    return new SnapshotHotStateUpdater<>();
+  }
+
+  private static class SnapshotHotStateUpdater<S extends SchemaCombined>
+      implements HotStateUpdater<S> {
+
+    @Override
+    public void addHotState(
+        final KvStoreTransaction transaction,
+        final S schema,
+        final Bytes32 blockRoot,
+        final BeaconState state) {
+      transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+    }
+
+    @Override
+    public void deleteHotState(
+        final KvStoreTransaction transaction, final S schema, final Bytes32 blockRoot) {
+      transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+    }
+
+    @Override
+    public void commit() {}
+  }
+}
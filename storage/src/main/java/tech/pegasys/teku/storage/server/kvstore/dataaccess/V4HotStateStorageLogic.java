@@ -0,0 +1,43 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
+
+public interface V4HotStateStorageLogic<S extends SchemaCombined> {
+  Optional<BeaconState> getHotState(KvStoreAccessor db, S schema, Bytes32 blockRoot);
+
+  HotStateUpdater<S> updater();
+
+  interface HotStateUpdater<S> {
+    void addHotState(
+        KvStoreTransaction transaction, S schema, Bytes32 blockRoot, BeaconState state);
+
+    void deleteHotState(KvStoreTransaction transaction, S schema, Bytes32 blockRoot);
+
+    /** Called with the updater's transaction immediately before it is committed. */
+    default void prepareCommit(
+        final KvStoreAccessor db, final KvStoreTransaction transaction, final S schema) {}
+
+    void commit();
+
+    /** Called once the updater's transaction has been committed or rolled back. */
+    default void close() {}
+  }
+}
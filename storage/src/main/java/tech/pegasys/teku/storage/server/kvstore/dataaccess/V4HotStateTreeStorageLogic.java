@@ -0,0 +1,170 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.StateTreeNodeCollector.ReferenceUpdate;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
+
+/**
+ * Stores hot states in the content addressed tree node columns shared with finalized states, so
+ * successive hot states only write the subtrees that changed between them. States are loaded in
+ * full, so they stay usable after the nodes they were read from are pruned.
+ *
+ * <p>Deleting a hot state only removes its root, nodes that are no longer referenced by any state
+ * are deleted later by the {@link StateTreeNodeCollector}.
+ */
+public class V4HotStateTreeStorageLogic
+    implements V4HotStateStorageLogic<SchemaCombinedTreeState> {
+  private static final int MAX_BRANCH_LEVELS_SKIPPED = 5;
+  private final Spec spec;
+  private final StateTreeNodeCollector nodeCollector;
+  private final StateTreeNodeCache nodeCache;
+  private final LabelledMetric<Counter> branchNodeStoredCounter;
+  private final Counter leafNodeStoredCounter;
+  private final Counter statesStoredCounter;
+
+  public V4HotStateTreeStorageLogic(
+      final MetricsSystem metricsSystem,
+      final Spec spec,
+      final StateTreeNodeCollector nodeCollector) {
+    this(metricsSystem, spec, nodeCollector, StateTreeNodeCache.NOOP);
+  }
+
+  public V4HotStateTreeStorageLogic(
+      final MetricsSystem metricsSystem,
+      final Spec spec,
+      final StateTreeNodeCollector nodeCollector,
+      final StateTreeNodeCache nodeCache) {
+    this.spec = spec;
+    this.nodeCollector = nodeCollector;
+    this.nodeCache = nodeCache;
+    this.branchNodeStoredCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE_HOT_DB,
+            "state_branch_nodes_total",
+            "Number of hot state tree branch nodes stored vs skipped",
+            "type");
+    this.leafNodeStoredCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE_HOT_DB,
+            "state_leaf_nodes_total",
+            "Number of hot state tree leaf nodes stored");
+    this.statesStoredCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE_HOT_DB,
+            "states_stored_total",
+            "Number of hot states stored");
+  }
+
+  @Override
+  public Optional<BeaconState> getHotState(
+      final KvStoreAccessor db, final SchemaCombinedTreeState schema, final Bytes32 blockRoot) {
+    return nodeCollector
+        .readNodes(() -> loadTreeState(db, schema, blockRoot))
+        // states persisted before switching to tree storage
+        .or(() -> db.get(schema.getColumnHotStatesByRoot(), blockRoot));
+  }
+
+  private Optional<BeaconState> loadTreeState(
+      final KvStoreAccessor db, final SchemaCombinedTreeState schema, final Bytes32 blockRoot) {
+    return db.get(schema.getColumnHotStateRootsByBlockRoot(), blockRoot)
+        .flatMap(
+            stateRoot ->
+                db.get(schema.getColumnStateRootToSlotAndBlockRoot(), stateRoot)
+                    .map(
+                        slotAndBlockRoot ->
+                            new KvStoreTreeNodeSource(db, schema, nodeCache)
+                                .loadState(spec, slotAndBlockRoot.getSlot(), stateRoot)));
+  }
+
+  @Override
+  public HotStateUpdater<SchemaCombinedTreeState> updater() {
+    return new HotStateTreeUpdater();
+  }
+
+  private class HotStateTreeUpdater implements HotStateUpdater<SchemaCombinedTreeState> {
+    private final ReferenceUpdate<Bytes32> references =
+        nodeCollector.startUpdate(SchemaCombinedTreeState::getColumnHotStateRootsByBlockRoot);
+    private KvStoreTreeNodeStore nodeStore;
+    private int statesStored = 0;
+
+    @Override
+    public void addHotState(
+        final KvStoreTransaction transaction,
+        final SchemaCombinedTreeState schema,
+        final Bytes32 blockRoot,
+        final BeaconState state) {
+      nodeStore = references.getNodeStore(transaction, schema);
+      final Bytes32 stateRoot = state.hashTreeRoot();
+      references.putStateRoot(transaction, schema, blockRoot, stateRoot);
+      transaction.put(
+          schema.getColumnStateRootToSlotAndBlockRoot(),
+          stateRoot,
+          new SlotAndBlockRoot(state.getSlot(), blockRoot));
+      state
+          .getSchema()
+          .storeBackingNodes(
+              nodeStore,
+              MAX_BRANCH_LEVELS_SKIPPED,
+              GIndexUtil.SELF_G_INDEX,
+              state.getBackingNode());
+      statesStored++;
+    }
+
+    @Override
+    public void deleteHotState(
+        final KvStoreTransaction transaction,
+        final SchemaCombinedTreeState schema,
+        final Bytes32 blockRoot) {
+      references.deleteStateRoot(transaction, schema, blockRoot);
+      transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+    }
+
+    @Override
+    public void prepareCommit(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaCombinedTreeState schema) {
+      references.prepareCommit(db, transaction, schema);
+    }
+
+    @Override
+    public void commit() {
+      if (nodeStore != null) {
+        nodeCollector.getKnownStoredBranchesCache().addAll(nodeStore.getStoredBranchRoots());
+        branchNodeStoredCounter.labels("stored").inc(nodeStore.getStoredBranchNodeCount());
+        branchNodeStoredCounter.labels("skipped").inc(nodeStore.getSkippedBranchNodeCount());
+        leafNodeStoredCounter.inc(nodeStore.getStoredLeafNodeCount());
+        statesStoredCounter.inc(statesStored);
+      }
+    }
+
+    @Override
+    public void close() {
+      references.close();
+    }
+  }
+}
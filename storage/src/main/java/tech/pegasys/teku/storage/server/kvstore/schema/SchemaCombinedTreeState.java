@@ -43,4 +43,19 @@ public interface SchemaCombinedTreeState extends SchemaCombined {
   KvStoreColumn<Bytes32, Bytes> getColumnFinalizedStateMerkleTreeLeaves();
 
   KvStoreColumn<Bytes32, CompressedBranchInfo> getColumnFinalizedStateMerkleTreeBranches();
+
+  /**
+   * Hot states stored as trees are kept in the same deduplicated branch and leaf columns as
+   * finalized states. This column only maps the block root to the root of its state tree.
+   */
+  KvStoreColumn<Bytes32, Bytes32> getColumnHotStateRootsByBlockRoot();
+
+  /**
+   * Number of stored branches and state root entries referencing each tree node. Nodes stored
+   * before reference counts were tracked have no entry and are never deleted.
+   */
+  KvStoreColumn<Bytes32, UInt64> getColumnStateTreeNodeReferenceCounts();
+
+  /** Tree nodes whose reference count dropped to zero, waiting to be deleted. */
+  KvStoreColumn<Bytes32, Bytes> getColumnUnreferencedStateTreeNodes();
 }
@@ -91,12 +91,17 @@ public abstract class V6SchemaCombined implements SchemaCombined {
   private final KvStoreVariable<UInt64> firstSamplerIncompleteSlot;
 
   protected V6SchemaCombined(final Spec spec, final int finalizedOffset) {
+    this(spec, finalizedOffset, false);
+  }
+
+  protected V6SchemaCombined(
+      final Spec spec, final int finalizedOffset, final boolean storeStateMerkleHashes) {
     this.finalizedOffset = finalizedOffset;
     final KvStoreSerializer<SignedBeaconBlock> signedBlockSerializer =
         KvStoreSerializer.createSignedBlockSerializer(spec);
     hotBlocksByRoot = KvStoreColumn.create(1, BYTES32_SERIALIZER, signedBlockSerializer);
     final KvStoreSerializer<BeaconState> stateSerializer =
-        KvStoreSerializer.createStateSerializer(spec);
+        KvStoreSerializer.createStateSerializer(spec, storeStateMerkleHashes);
     checkpointStates = KvStoreColumn.create(2, CHECKPOINT_SERIALIZER, stateSerializer);
     hotStatesByRoot = KvStoreColumn.create(6, BYTES32_SERIALIZER, stateSerializer);
     latestFinalizedState = KvStoreVariable.create(5, stateSerializer);
@@ -54,8 +54,9 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
       nonCanonicalSidecarByColumnSlotAndIdentifier;
   private final List<Bytes> deletedColumnIds;
 
-  private V6SchemaCombinedSnapshot(final Spec spec, final int finalizedOffset) {
-    super(spec, finalizedOffset);
+  private V6SchemaCombinedSnapshot(
+      final Spec spec, final int finalizedOffset, final boolean storeStateMerkleHashes) {
+    super(spec, finalizedOffset, storeStateMerkleHashes);
     slotsByFinalizedRoot =
         KvStoreColumn.create(finalizedOffset + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
     finalizedBlocksBySlot =
@@ -65,7 +66,9 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
             KvStoreSerializer.createSignedBlockSerializer(spec));
     finalizedStatesBySlot =
         KvStoreColumn.create(
-            finalizedOffset + 3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec));
+            finalizedOffset + 3,
+            UINT64_SERIALIZER,
+            KvStoreSerializer.createStateSerializer(spec, storeStateMerkleHashes));
     slotsByFinalizedStateRoot =
         KvStoreColumn.create(finalizedOffset + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER);
     nonCanonicalBlocksByRoot =
@@ -105,11 +108,20 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
   }
 
   public static V6SchemaCombinedSnapshot createV4(final Spec spec) {
-    return new V6SchemaCombinedSnapshot(spec, V4_FINALIZED_OFFSET);
+    return new V6SchemaCombinedSnapshot(spec, V4_FINALIZED_OFFSET, false);
   }
 
   public static V6SchemaCombinedSnapshot createV6(final Spec spec) {
-    return new V6SchemaCombinedSnapshot(spec, V6_FINALIZED_OFFSET);
+    return createV6(spec, false);
+  }
+
+  /**
+   * @param storeStateMerkleHashes whether states are written with the hashes of their large
+   *     subtrees so they don't need to be rehashed when loaded
+   */
+  public static V6SchemaCombinedSnapshot createV6(
+      final Spec spec, final boolean storeStateMerkleHashes) {
+    return new V6SchemaCombinedSnapshot(spec, V6_FINALIZED_OFFSET, storeStateMerkleHashes);
   }
 
   @Override
@@ -47,6 +47,9 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
   private final KvStoreColumn<UInt64, Bytes32> finalizedStateRootsBySlot;
   private final KvStoreColumn<Bytes32, Bytes> finalizedStateTreeLeavesByRoot;
   private final KvStoreColumn<Bytes32, CompressedBranchInfo> finalizedStateTreeBranchesByRoot;
+  private final KvStoreColumn<Bytes32, Bytes32> hotStateRootsByBlockRoot;
+  private final KvStoreColumn<Bytes32, UInt64> stateTreeNodeReferenceCounts;
+  private final KvStoreColumn<Bytes32, Bytes> unreferencedStateTreeNodes;
 
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes> blobSidecarBySlotRootBlobIndex;
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
@@ -99,6 +102,12 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
     nonCanonicalSidecarByColumnSlotAndIdentifier =
         KvStoreColumn.create(
             finalizedOffset + 17, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+    hotStateRootsByBlockRoot =
+        KvStoreColumn.create(finalizedOffset + 18, BYTES32_SERIALIZER, BYTES32_SERIALIZER);
+    stateTreeNodeReferenceCounts =
+        KvStoreColumn.create(finalizedOffset + 19, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+    unreferencedStateTreeNodes =
+        KvStoreColumn.create(finalizedOffset + 20, BYTES32_SERIALIZER, BYTES_SERIALIZER);
     deletedColumnIds =
         List.of(
             asColumnId(finalizedOffset + 9),
@@ -123,6 +132,21 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
     return finalizedStateTreeBranchesByRoot;
   }
 
+  @Override
+  public KvStoreColumn<Bytes32, Bytes32> getColumnHotStateRootsByBlockRoot() {
+    return hotStateRootsByBlockRoot;
+  }
+
+  @Override
+  public KvStoreColumn<Bytes32, UInt64> getColumnStateTreeNodeReferenceCounts() {
+    return stateTreeNodeReferenceCounts;
+  }
+
+  @Override
+  public KvStoreColumn<Bytes32, Bytes> getColumnUnreferencedStateTreeNodes() {
+    return unreferencedStateTreeNodes;
+  }
+
   @Override
   public KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedRoot() {
     return slotsByFinalizedRoot;
@@ -203,11 +227,14 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
         .put("STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot())
         .put("HOT_STATES_BY_ROOT", getColumnHotStatesByRoot())
         .put("HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot())
+        .put("HOT_STATE_ROOTS_BY_BLOCK_ROOT", getColumnHotStateRootsByBlockRoot())
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("FINALIZED_STATE_ROOTS_BY_SLOT", getColumnFinalizedStateRootsBySlot())
         .put("FINALIZED_STATE_TREE_LEAVES", getColumnFinalizedStateMerkleTreeLeaves())
         .put("FINALIZED_STATE_TREE_BRANCHES", getColumnFinalizedStateMerkleTreeBranches())
+        .put("STATE_TREE_NODE_REFERENCE_COUNTS", getColumnStateTreeNodeReferenceCounts())
+        .put("UNREFERENCED_STATE_TREE_NODES", getColumnUnreferencedStateTreeNodes())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
         .put("NON_CANONICAL_BLOCKS_BY_ROOT", getColumnNonCanonicalBlocksByRoot())
         .put("NON_CANONICAL_BLOCK_ROOTS_BY_SLOT", getColumnNonCanonicalRootsBySlot())
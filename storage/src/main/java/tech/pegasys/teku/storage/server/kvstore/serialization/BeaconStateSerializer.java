@@ -13,27 +13,97 @@
 
 package tech.pegasys.teku.storage.server.kvstore.serialization;
 
+import java.nio.ByteOrder;
 import java.util.Objects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeHashCache;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 
+/**
+ * Serializes states as SSZ, optionally followed by the hashes of the large subtrees of the state so
+ * loading it doesn't require rehashing the whole state.
+ *
+ * <p>The hashes are stored as a trailer: {@code ssz | hashes | hashes length (4 bytes) | version (4
+ * bytes) | magic (8 bytes)}. States with and without a trailer can always be read, regardless of
+ * whether hashes are written. Hashes from an unknown trailer version, or which don't produce the
+ * captured state root, are ignored and the state is rehashed as needed.
+ */
 class BeaconStateSerializer implements KvStoreSerializer<BeaconState> {
+  private static final Logger LOG = LogManager.getLogger();
+  static final long HASHES_TRAILER_MAGIC = 0x5348_5341_4852_4b54L;
+  static final int HASHES_TRAILER_VERSION = 1;
+  private static final int TRAILER_FOOTER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
 
   private final Spec spec;
+  private final boolean storeMerkleHashes;
 
   BeaconStateSerializer(final Spec spec) {
+    this(spec, false);
+  }
+
+  BeaconStateSerializer(final Spec spec, final boolean storeMerkleHashes) {
     this.spec = spec;
+    this.storeMerkleHashes = storeMerkleHashes;
   }
 
   @Override
   public BeaconState deserialize(final byte[] data) {
-    return spec.deserializeBeaconState(Bytes.wrap(data));
+    final Bytes bytes = Bytes.wrap(data);
+    final int hashesLength = getHashesTrailerLength(bytes);
+    if (hashesLength < 0) {
+      return spec.deserializeBeaconState(bytes);
+    }
+    final int sszLength = bytes.size() - TRAILER_FOOTER_SIZE - hashesLength;
+    final Bytes ssz = bytes.slice(0, sszLength);
+    if (getHashesTrailerVersion(bytes) != HASHES_TRAILER_VERSION) {
+      return spec.deserializeBeaconState(ssz);
+    }
+    final BeaconState state = spec.deserializeBeaconState(ssz);
+    if (!TreeHashCache.restore(state.getBackingNode(), bytes.slice(sszLength, hashesLength))) {
+      LOG.warn("Ignoring stored state hashes which don't match state at slot {}", state.getSlot());
+      return spec.deserializeBeaconState(ssz);
+    }
+    return state;
   }
 
   @Override
   public byte[] serialize(final BeaconState value) {
-    return value.sszSerialize().toArrayUnsafe();
+    final Bytes ssz = value.sszSerialize();
+    if (!storeMerkleHashes) {
+      return ssz.toArrayUnsafe();
+    }
+    final Bytes hashes = TreeHashCache.capture(value.getBackingNode());
+    return Bytes.concatenate(
+            ssz,
+            hashes,
+            Bytes.ofUnsignedInt(hashes.size(), ByteOrder.LITTLE_ENDIAN),
+            Bytes.ofUnsignedInt(HASHES_TRAILER_VERSION, ByteOrder.LITTLE_ENDIAN),
+            Bytes.ofUnsignedLong(HASHES_TRAILER_MAGIC, ByteOrder.LITTLE_ENDIAN))
+        .toArrayUnsafe();
+  }
+
+  /** Returns the length of the hashes in the trailer, or -1 if the data is plain SSZ */
+  private static int getHashesTrailerLength(final Bytes data) {
+    if (data.size() < TRAILER_FOOTER_SIZE
+        || data.getLong(data.size() - Long.BYTES, ByteOrder.LITTLE_ENDIAN)
+            != HASHES_TRAILER_MAGIC) {
+      return -1;
+    }
+    final int hashesLength =
+        data.getInt(data.size() - TRAILER_FOOTER_SIZE, ByteOrder.LITTLE_ENDIAN);
+    if (hashesLength < 0
+        || hashesLength > data.size() - TRAILER_FOOTER_SIZE
+        || hashesLength % TreeHashCache.ENTRY_SIZE != 0) {
+      return -1;
+    }
+    return hashesLength;
+  }
+
+  private static int getHashesTrailerVersion(final Bytes data) {
+    return data.getInt(data.size() - Integer.BYTES - Long.BYTES, ByteOrder.LITTLE_ENDIAN);
   }
 
   @Override
@@ -45,11 +115,11 @@ class BeaconStateSerializer implements KvStoreSerializer<BeaconState> {
       return false;
     }
     final BeaconStateSerializer that = (BeaconStateSerializer) o;
-    return Objects.equals(spec, that.spec);
+    return storeMerkleHashes == that.storeMerkleHashes && Objects.equals(spec, that.spec);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(spec);
+    return Objects.hash(spec, storeMerkleHashes);
   }
 }
@@ -64,6 +64,11 @@ public interface KvStoreSerializer<T> {
     return new BeaconStateSerializer(spec);
   }
 
+  static KvStoreSerializer<BeaconState> createStateSerializer(
+      final Spec spec, final boolean storeMerkleHashes) {
+    return new BeaconStateSerializer(spec, storeMerkleHashes);
+  }
+
   static KvStoreSerializer<SignedBeaconBlock> createSignedBlockSerializer(final Spec spec) {
     return new SignedBeaconBlockSerializer(spec);
   }
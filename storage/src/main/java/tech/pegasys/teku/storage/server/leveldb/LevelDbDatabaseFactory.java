@@ -69,7 +69,26 @@ public class LevelDbDatabaseFactory {
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
-    final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
+    return createLevelDbV2(
+        metricsSystem,
+        hotConfiguration,
+        stateStorageMode,
+        stateStorageFrequency,
+        storeNonCanonicalBlocks,
+        false,
+        spec);
+  }
+
+  public static Database createLevelDbV2(
+      final MetricsSystem metricsSystem,
+      final KvStoreConfiguration hotConfiguration,
+      final StateStorageMode stateStorageMode,
+      final long stateStorageFrequency,
+      final boolean storeNonCanonicalBlocks,
+      final boolean storeStateMerkleHashes,
+      final Spec spec) {
+    final V6SchemaCombinedSnapshot schema =
+        V6SchemaCombinedSnapshot.createV6(spec, storeStateMerkleHashes);
     final KvStoreAccessor db =
         LevelDbInstanceFactory.create(
             metricsSystem, STORAGE, hotConfiguration, schema.getAllColumns());
@@ -246,6 +246,11 @@ public class NoOpDatabase implements Database {
     return Optional.of(lastSlotToPruneStateFor);
   }
 
+  @Override
+  public long pruneUnreferencedStateData(final long pruneLimit) {
+    return 0;
+  }
+
   @Override
   public void addMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event) {}
 
@@ -32,6 +32,8 @@ import tech.pegasys.teku.storage.server.ShuttingDownException;
 
 public class StatePruner extends Service {
   private static final Logger LOG = LogManager.getLogger();
+  // Unreferenced state tree nodes are deleted in small locked batches, this caps each run
+  static final long UNREFERENCED_STATE_DATA_PRUNE_LIMIT = 100_000;
 
   private final Spec spec;
   private final Database database;
@@ -77,6 +79,7 @@ public class StatePruner extends Service {
                   pruningActiveLabelledGauge.set(1, pruningMetricsType);
                   final long start = System.currentTimeMillis();
                   pruneStates();
+                  pruneUnreferencedStateData();
                   pruningTimingsLabelledGauge.set(
                       System.currentTimeMillis() - start, pruningMetricsType);
                   pruningActiveLabelledGauge.set(0, pruningMetricsType);
@@ -116,6 +119,14 @@ public class StatePruner extends Service {
     }
   }
 
+  private void pruneUnreferencedStateData() {
+    try {
+      database.pruneUnreferencedStateData(UNREFERENCED_STATE_DATA_PRUNE_LIMIT);
+    } catch (final ShuttingDownException | RejectedExecutionException ex) {
+      LOG.debug("Shutting down", ex);
+    }
+  }
+
   @VisibleForTesting
   public Duration getPruneInterval() {
     return pruneInterval;
@@ -25,11 +25,14 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.rocksdb.AbstractRocksIterator;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Status;
 import org.rocksdb.TransactionDB;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
@@ -38,6 +41,7 @@ import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 
 public class RocksDbInstance implements KvStoreAccessor {
+  private static final Logger LOG = LogManager.getLogger();
 
   private final TransactionDB db;
   private final ColumnFamilyHandle defaultHandle;
@@ -46,6 +50,7 @@ public class RocksDbInstance implements KvStoreAccessor {
   private final Set<RocksDbTransaction> openTransactions = new HashSet<>();
 
   private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final AtomicBoolean rangeDeletesSupported = new AtomicBoolean(true);
 
   RocksDbInstance(
       final TransactionDB db,
@@ -197,6 +202,32 @@ public class RocksDbInstance implements KvStoreAccessor {
         key -> key.compareTo(to) <= 0);
   }
 
+  @Override
+  public <K extends Comparable<K>, V> void deleteRange(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    assertOpen();
+    if (!rangeDeletesSupported.get()) {
+      KvStoreAccessor.super.deleteRange(column, from, to);
+      return;
+    }
+    final ColumnFamilyHandle handle = columnHandles.get(column);
+    final byte[] fromBytes = column.getKeySerializer().serialize(from);
+    // The end of a RocksDB range is exclusive, appending a zero byte gives the first key after `to`
+    final byte[] toBytesExclusive =
+        Bytes.concatenate(Bytes.wrap(column.getKeySerializer().serialize(to)), Bytes.of(0))
+            .toArrayUnsafe();
+    try {
+      db.deleteRange(handle, fromBytes, toBytesExclusive);
+    } catch (RocksDBException e) {
+      if (e.getStatus() == null || e.getStatus().getCode() != Status.Code.NotSupported) {
+        throw RocksDbExceptionUtil.wrapException("Failed to delete range", e);
+      }
+      LOG.debug("Range deletes are not supported, falling back to deleting individual keys", e);
+      rangeDeletesSupported.set(false);
+      KvStoreAccessor.super.deleteRange(column, from, to);
+    }
+  }
+
   @Override
   @MustBeClosed
   public synchronized KvStoreTransaction startTransaction() {
@@ -34,10 +34,17 @@ public class StateRootRecorder {
     this.slotsPerHistoricalRoot = UInt64.valueOf(spec.getSlotsPerHistoricalRoot(slot));
   }
 
+  /**
+   * Records the roots of the slots from the current slot up to and including the state's slot.
+   *
+   * <p>States may be stored out of order, for example when historical states are reconstructed in
+   * concurrent ranges, so only the slots covered by the state's own history are recorded. The roots
+   * of any earlier slots are recorded when a state from those slots is stored.
+   */
   public void acceptNextState(final BeaconState state) {
     if (slot.plus(slotsPerHistoricalRoot).compareTo(state.getSlot()) < 0) {
       final UInt64 floor = state.getSlot().minus(slotsPerHistoricalRoot);
-      LOG.warn("Missing state root mappings from slot {} to {}", slot, floor);
+      LOG.debug("Not recording state root mappings from slot {} to {}", slot, floor);
       slot = floor;
     }
 
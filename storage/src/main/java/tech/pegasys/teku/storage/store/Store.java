@@ -39,6 +39,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue;
+import tech.pegasys.teku.dataproviders.generators.CompressedValueCache;
 import tech.pegasys.teku.dataproviders.generators.StateAtSlotTask;
 import tech.pegasys.teku.dataproviders.generators.StateGenerationTask;
 import tech.pegasys.teku.dataproviders.generators.StateRegenerationBaseSelector;
@@ -80,6 +81,8 @@ import tech.pegasys.teku.storage.protoarray.ProtoNode;
 class Store extends CacheableStore {
   private static final Logger LOG = LogManager.getLogger();
   public static final int VOTE_TRACKER_SPARE_CAPACITY = 1000;
+  // Enough for the head and proposer head advanced into the current and the next slot
+  static final int ADVANCED_STATE_CACHE_SIZE = 4;
 
   private final int hotStatePersistenceFrequencyInEpochs;
 
@@ -105,6 +108,7 @@ class Store extends CacheableStore {
   private final CachingTaskQueue<Bytes32, StateAndBlockSummary> states;
   private final Map<Bytes32, SignedBeaconBlock> blocks;
   private final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates;
+  private final CachingTaskQueue<SlotAndBlockRoot, BeaconState> advancedStates;
   private final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars;
   private UInt64 timeMillis;
   private UInt64 genesisTime;
@@ -138,6 +142,7 @@ class Store extends CacheableStore {
       final Map<UInt64, VoteTracker> votes,
       final Map<Bytes32, SignedBeaconBlock> blocks,
       final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates,
+      final CachingTaskQueue<SlotAndBlockRoot, BeaconState> advancedStates,
       final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates,
       final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars) {
     checkArgument(
@@ -154,6 +159,7 @@ class Store extends CacheableStore {
     this.spec = spec;
     this.states = states;
     this.checkpointStates = checkpointStates;
+    this.advancedStates = advancedStates;
 
     // Store instance variables
     this.initialCheckpoint = initialCheckpoint;
@@ -226,15 +232,43 @@ class Store extends CacheableStore {
       final ForkChoiceStrategy forkChoiceStrategy) {
     final Map<Bytes32, SignedBeaconBlock> blocks =
         LimitedMap.createSynchronizedNatural(config.getBlockCacheSize());
+    final Optional<CompressedValueCache> warmStateCache =
+        config.getWarmStateCacheMaxBytes() > 0
+            ? Optional.of(
+                new CompressedValueCache(
+                    config.getWarmStateCacheMaxBytes(),
+                    config.isWarmStateCacheCompressionEnabled(),
+                    config.isWarmStateCacheOffHeapEnabled()))
+            : Optional.empty();
+    warmStateCache.ifPresent(cache -> cache.startMetrics(metricsSystem, "memory_warm_states"));
     final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStateTaskQueue =
         CachingTaskQueue.create(
             asyncRunner,
             metricsSystem,
             "memory_checkpoint_states",
-            config.getCheckpointStateCacheSize());
+            config.getCheckpointStateCacheSize(),
+            warmStateCache.map(
+                cache ->
+                    cache.<SlotAndBlockRoot, BeaconState>createTier(
+                        "checkpoint_states",
+                        BeaconState::sszSerialize,
+                        spec::deserializeBeaconState)));
+    final CachingTaskQueue<SlotAndBlockRoot, BeaconState> advancedStateTaskQueue =
+        CachingTaskQueue.create(
+            asyncRunner, metricsSystem, "memory_advanced_states", ADVANCED_STATE_CACHE_SIZE);
     final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue =
         CachingTaskQueue.create(
-            asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+            asyncRunner,
+            metricsSystem,
+            "memory_states",
+            config.getStateCacheSize(),
+            warmStateCache.map(
+                cache ->
+                    cache.<Bytes32, StateAndBlockSummary>createTier(
+                        "states",
+                        stateAndBlockSummary -> stateAndBlockSummary.getState().sszSerialize(),
+                        serialized ->
+                            StateAndBlockSummary.create(spec.deserializeBeaconState(serialized)))));
     final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates =
         config.getEpochStateCacheSize() > 0
             ? Optional.of(LimitedMap.createSynchronizedLRU(config.getEpochStateCacheSize()))
@@ -261,6 +295,7 @@ class Store extends CacheableStore {
         votes,
         blocks,
         checkpointStateTaskQueue,
+        advancedStateTaskQueue,
         maybeEpochStates,
         blobSidecars);
   }
@@ -406,6 +441,7 @@ class Store extends CacheableStore {
       }
       states.startMetrics();
       checkpointStates.startMetrics();
+      advancedStates.startMetrics();
     } finally {
       votesLock.writeLock().unlock();
       lock.writeLock().unlock();
@@ -422,6 +458,7 @@ class Store extends CacheableStore {
   public void clearCaches() {
     states.clear();
     checkpointStates.clear();
+    advancedStates.clear();
     blocks.clear();
   }
 
@@ -691,10 +728,21 @@ class Store extends CacheableStore {
   @Override
   public SafeFuture<Optional<BeaconState>> retrieveStateAtSlot(
       final SlotAndBlockRoot slotAndBlockRoot) {
+    final Optional<BeaconState> advancedState = advancedStates.getIfAvailable(slotAndBlockRoot);
+    if (advancedState.isPresent()) {
+      return SafeFuture.completedFuture(advancedState);
+    }
     return checkpointStates.perform(
         new StateAtSlotTask(spec, slotAndBlockRoot, this::retrieveBlockState));
   }
 
+  @Override
+  public SafeFuture<Optional<BeaconState>> retrieveAdvancedStateAtSlot(
+      final SlotAndBlockRoot slotAndBlockRoot) {
+    return advancedStates.perform(
+        new StateAtSlotTask(spec, slotAndBlockRoot, this::retrieveBlockState));
+  }
+
   @Override
   public SafeFuture<CheckpointState> retrieveFinalizedCheckpointAndState() {
     final AnchorPoint finalized;
@@ -801,6 +849,7 @@ class Store extends CacheableStore {
   @Override
   void cleanupCheckpointStates(final Predicate<SlotAndBlockRoot> removalCondition) {
     checkpointStates.removeIf(removalCondition);
+    advancedStates.removeIf(removalCondition);
   }
 
   /** Non-synchronized, no lock, unsafe if Store is not locked externally */
@@ -1060,6 +1109,11 @@ class Store extends CacheableStore {
     return maybeEpochStates;
   }
 
+  @VisibleForTesting
+  Optional<BeaconState> getCachedCheckpointState(final SlotAndBlockRoot slotAndBlockRoot) {
+    return checkpointStates.getIfAvailable(slotAndBlockRoot);
+  }
+
   void removeStateAndBlock(final Bytes32 root) {
     blocks.remove(root);
     states.remove(root);
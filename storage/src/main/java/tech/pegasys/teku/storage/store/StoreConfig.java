@@ -29,6 +29,7 @@ public class StoreConfig {
   public static final int DEFAULT_BLOCK_CACHE_SIZE = 32;
   public static final int DEFAULT_CHECKPOINT_STATE_CACHE_SIZE = 20;
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
+  public static final long DEFAULT_WARM_STATE_CACHE_MAX_BYTES = 0;
 
   public static final int DEFAULT_EARLIEST_AVAILABLE_BLOCK_SLOT_QUERY_FREQUENCY = 0;
 
@@ -40,6 +41,9 @@ public class StoreConfig {
   private final int hotStatePersistenceFrequencyInEpochs;
   private final int earliestAvailableBlockSlotFrequency;
   private final Optional<Bytes32> initialCanonicalBlockRoot;
+  private final long warmStateCacheMaxBytes;
+  private final boolean warmStateCacheCompressionEnabled;
+  private final boolean warmStateCacheOffHeapEnabled;
 
   private StoreConfig(
       final int stateCacheSize,
@@ -48,7 +52,10 @@ public class StoreConfig {
       final int hotStatePersistenceFrequencyInEpochs,
       final int earliestAvailableBlockSlotFrequency,
       final int epochStateCacheSize,
-      final Optional<Bytes32> initialCanonicalBlockRoot) {
+      final Optional<Bytes32> initialCanonicalBlockRoot,
+      final long warmStateCacheMaxBytes,
+      final boolean warmStateCacheCompressionEnabled,
+      final boolean warmStateCacheOffHeapEnabled) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
@@ -56,6 +63,9 @@ public class StoreConfig {
     this.earliestAvailableBlockSlotFrequency = earliestAvailableBlockSlotFrequency;
     this.epochStateCacheSize = epochStateCacheSize;
     this.initialCanonicalBlockRoot = initialCanonicalBlockRoot;
+    this.warmStateCacheMaxBytes = warmStateCacheMaxBytes;
+    this.warmStateCacheCompressionEnabled = warmStateCacheCompressionEnabled;
+    this.warmStateCacheOffHeapEnabled = warmStateCacheOffHeapEnabled;
   }
 
   public static Builder builder() {
@@ -94,6 +104,22 @@ public class StoreConfig {
     return initialCanonicalBlockRoot;
   }
 
+  /**
+   * The byte budget shared by serialized states evicted from the state and checkpoint state caches.
+   * Zero disables the warm state cache.
+   */
+  public long getWarmStateCacheMaxBytes() {
+    return warmStateCacheMaxBytes;
+  }
+
+  public boolean isWarmStateCacheCompressionEnabled() {
+    return warmStateCacheCompressionEnabled;
+  }
+
+  public boolean isWarmStateCacheOffHeapEnabled() {
+    return warmStateCacheOffHeapEnabled;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -108,6 +134,9 @@ public class StoreConfig {
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
         && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && warmStateCacheMaxBytes == that.warmStateCacheMaxBytes
+        && warmStateCacheCompressionEnabled == that.warmStateCacheCompressionEnabled
+        && warmStateCacheOffHeapEnabled == that.warmStateCacheOffHeapEnabled
         && Objects.equals(initialCanonicalBlockRoot, that.initialCanonicalBlockRoot);
   }
 
@@ -119,7 +148,10 @@ public class StoreConfig {
         blockCacheSize,
         checkpointStateCacheSize,
         hotStatePersistenceFrequencyInEpochs,
-        initialCanonicalBlockRoot);
+        initialCanonicalBlockRoot,
+        warmStateCacheMaxBytes,
+        warmStateCacheCompressionEnabled,
+        warmStateCacheOffHeapEnabled);
   }
 
   public static class Builder {
@@ -132,6 +164,9 @@ public class StoreConfig {
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
     private int earliestAvailableBlockSlotFrequency = 0;
     private Optional<Bytes32> initialCanonicalBlockRoot = Optional.empty();
+    private long warmStateCacheMaxBytes = DEFAULT_WARM_STATE_CACHE_MAX_BYTES;
+    private boolean warmStateCacheCompressionEnabled = true;
+    private boolean warmStateCacheOffHeapEnabled = false;
 
     private Builder() {}
 
@@ -143,7 +178,10 @@ public class StoreConfig {
           hotStatePersistenceFrequencyInEpochs,
           earliestAvailableBlockSlotFrequency,
           epochStateCacheSize,
-          initialCanonicalBlockRoot);
+          initialCanonicalBlockRoot,
+          warmStateCacheMaxBytes,
+          warmStateCacheCompressionEnabled,
+          warmStateCacheOffHeapEnabled);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -170,6 +208,23 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder warmStateCacheMaxBytes(final long warmStateCacheMaxBytes) {
+      checkArgument(warmStateCacheMaxBytes >= 0, "Warm state cache size cannot be negative");
+      this.warmStateCacheMaxBytes = warmStateCacheMaxBytes;
+      return this;
+    }
+
+    public Builder warmStateCacheCompressionEnabled(
+        final boolean warmStateCacheCompressionEnabled) {
+      this.warmStateCacheCompressionEnabled = warmStateCacheCompressionEnabled;
+      return this;
+    }
+
+    public Builder warmStateCacheOffHeapEnabled(final boolean warmStateCacheOffHeapEnabled) {
+      this.warmStateCacheOffHeapEnabled = warmStateCacheOffHeapEnabled;
+      return this;
+    }
+
     public Builder initialCanonicalBlockRoot(final String initialCanonicalBlockRoot) {
       if (initialCanonicalBlockRoot != null) {
         this.initialCanonicalBlockRoot =
@@ -13,12 +13,15 @@
 
 package tech.pegasys.teku.storage.store;
 
+import java.util.Optional;
 import java.util.function.Consumer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.MutableStore;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyStore;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.api.VoteUpdateChannel;
 import tech.pegasys.teku.storage.protoarray.ForkChoiceStrategy;
@@ -34,6 +37,13 @@ public interface UpdatableStore extends ReadOnlyStore {
 
   void startMetrics();
 
+  /**
+   * Processes the state of a block ahead of time into a later slot. The result is kept in a small
+   * cache of its own, so it doesn't evict checkpoint states, and is returned by {@link
+   * #retrieveStateAtSlot} until the cache moves on.
+   */
+  SafeFuture<Optional<BeaconState>> retrieveAdvancedStateAtSlot(SlotAndBlockRoot slotAndBlockRoot);
+
   @Override
   ForkChoiceStrategy getForkChoiceStrategy();
 
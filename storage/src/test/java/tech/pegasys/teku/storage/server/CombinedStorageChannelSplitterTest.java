@@ -21,10 +21,13 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 
@@ -36,6 +39,33 @@ class CombinedStorageChannelSplitterTest {
   private final CombinedStorageChannelSplitter splitter =
       new CombinedStorageChannelSplitter(asyncRunner, storageUpdateChannel, storageQueryChannel);
 
+  @Test
+  void shouldRunStoreQueriesAfterPendingUpdates() {
+    final SafeFuture<Void> pendingUpdates = new SafeFuture<>();
+    final CombinedStorageChannelSplitter splitter =
+        new CombinedStorageChannelSplitter(
+            asyncRunner, storageUpdateChannel, storageQueryChannel, () -> pendingUpdates);
+
+    splitter.onStoreRequest();
+    asyncRunner.executeQueuedActions();
+    verify(storageQueryChannel, never()).onStoreRequest();
+
+    pendingUpdates.complete(null);
+    asyncRunner.executeQueuedActions();
+    verify(storageQueryChannel).onStoreRequest();
+  }
+
+  @Test
+  void shouldNotDelayFinalizedQueriesForPendingUpdates() {
+    final CombinedStorageChannelSplitter splitter =
+        new CombinedStorageChannelSplitter(
+            asyncRunner, storageUpdateChannel, storageQueryChannel, SafeFuture::new);
+
+    splitter.getFinalizedBlockAtSlot(UInt64.ONE);
+    asyncRunner.executeQueuedActions();
+    verify(storageQueryChannel).getFinalizedBlockAtSlot(UInt64.ONE);
+  }
+
   @ParameterizedTest
   @MethodSource("updateChannelMethods")
   void shouldApplyUpdateMethodsSynchronously(final Method method) throws Exception {
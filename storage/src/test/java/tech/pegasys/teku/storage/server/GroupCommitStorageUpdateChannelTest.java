@@ -0,0 +1,232 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.eventthread.AsyncRunnerEventThread;
+import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.StorageUpdate;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.UpdateResult;
+
+class GroupCommitStorageUpdateChannelTest {
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StorageUpdateChannel delegate = mock(StorageUpdateChannel.class);
+  private final StubAsyncRunnerFactory asyncRunnerFactory = new StubAsyncRunnerFactory();
+  private final EventThread eventThread =
+      new AsyncRunnerEventThread("group_commit_test", asyncRunnerFactory);
+  private StubAsyncRunner stubAsyncRunner;
+
+  private final GroupCommitStorageUpdateChannel channel =
+      new GroupCommitStorageUpdateChannel(delegate, eventThread);
+
+  @BeforeEach
+  void setUp() {
+    eventThread.start();
+    stubAsyncRunner = asyncRunnerFactory.getStubAsyncRunners().get(0);
+    when(delegate.onStorageUpdate(any()))
+        .thenReturn(SafeFuture.completedFuture(UpdateResult.EMPTY));
+  }
+
+  @AfterEach
+  void tearDown() {
+    eventThread.stop();
+  }
+
+  @Test
+  void shouldWriteSingleUpdateUnchanged() {
+    final StorageUpdate update = hotUpdate(Optional.empty());
+
+    final SafeFuture<UpdateResult> result = channel.onStorageUpdate(update);
+    assertThat(result).isNotDone();
+    verifyNoInteractions(delegate);
+
+    stubAsyncRunner.executeQueuedActions();
+
+    verify(delegate).onStorageUpdate(update);
+    assertThat(result).isCompletedWithValue(UpdateResult.EMPTY);
+  }
+
+  @Test
+  void shouldCoalesceUpdatesReceivedBeforeWriteStarts() {
+    final StorageUpdate update1 = hotUpdate(Optional.empty());
+    final StorageUpdate update2 = hotUpdate(Optional.empty());
+
+    final SafeFuture<UpdateResult> result1 = channel.onStorageUpdate(update1);
+    final SafeFuture<UpdateResult> result2 = channel.onStorageUpdate(update2);
+    assertThat(stubAsyncRunner.countDelayedActions()).isEqualTo(1);
+
+    stubAsyncRunner.executeQueuedActions();
+
+    final ArgumentCaptor<StorageUpdate> captor = ArgumentCaptor.forClass(StorageUpdate.class);
+    verify(delegate).onStorageUpdate(captor.capture());
+    assertThat(captor.getValue().getStateRoots())
+        .containsAllEntriesOf(update1.getStateRoots())
+        .containsAllEntriesOf(update2.getStateRoots());
+    assertThat(result1).isCompletedWithValue(UpdateResult.EMPTY);
+    assertThat(result2).isCompletedWithValue(UpdateResult.EMPTY);
+  }
+
+  @Test
+  void shouldStartNewBatchWhenBatchIsFull() {
+    for (int i = 0; i <= GroupCommitStorageUpdateChannel.MAX_UPDATES_PER_BATCH; i++) {
+      channel.onStorageUpdate(hotUpdate(Optional.empty()));
+    }
+    assertThat(stubAsyncRunner.countDelayedActions()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldWriteFinalizingUpdatesAloneAndInOrder() {
+    final StorageUpdate update1 = hotUpdate(Optional.empty());
+    final StorageUpdate finalizingUpdate = deletingUpdate();
+    final StorageUpdate update2 = hotUpdate(Optional.empty());
+
+    channel.onStorageUpdate(update1);
+    channel.onStorageUpdate(finalizingUpdate);
+    channel.onStorageUpdate(update2);
+    assertThat(stubAsyncRunner.countDelayedActions()).isEqualTo(3);
+
+    stubAsyncRunner.executeQueuedActions();
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).onStorageUpdate(update1);
+    inOrder.verify(delegate).onStorageUpdate(finalizingUpdate);
+    inOrder.verify(delegate).onStorageUpdate(update2);
+  }
+
+  @Test
+  void awaitPendingWrites_shouldCompleteWhenQueuedWritesAreDone() {
+    channel.onStorageUpdate(hotUpdate(Optional.empty()));
+    channel.onStorageUpdate(deletingUpdate());
+
+    final SafeFuture<Void> pendingWrites = channel.awaitPendingWrites();
+    assertThat(pendingWrites).isNotDone();
+
+    stubAsyncRunner.executeQueuedActions();
+
+    assertThat(pendingWrites).isCompleted();
+  }
+
+  @Test
+  void awaitPendingWrites_shouldCompleteWhenWriteFails() {
+    final RuntimeException error = new RuntimeException("Nope");
+    when(delegate.onStorageUpdate(any())).thenReturn(SafeFuture.failedFuture(error));
+
+    final SafeFuture<UpdateResult> result = channel.onStorageUpdate(hotUpdate(Optional.empty()));
+    final SafeFuture<Void> pendingWrites = channel.awaitPendingWrites();
+
+    stubAsyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedExceptionally();
+    assertThat(pendingWrites).isCompleted();
+  }
+
+  @Test
+  void onChainInitialized_shouldQueueWriteWithoutBlocking() {
+    final AnchorPoint anchor = dataStructureUtil.randomAnchorPoint(UInt64.ZERO);
+
+    channel.onChainInitialized(anchor);
+    final SafeFuture<Void> pendingWrites = channel.awaitPendingWrites();
+    verifyNoInteractions(delegate);
+    assertThat(pendingWrites).isNotDone();
+
+    stubAsyncRunner.executeQueuedActions();
+
+    verify(delegate).onChainInitialized(anchor);
+    assertThat(pendingWrites).isCompleted();
+  }
+
+  @Test
+  void canCoalesce_shouldRejectUpdatesWhichDeleteHotBlocks() {
+    assertThat(GroupCommitStorageUpdateChannel.canCoalesce(hotUpdate(Optional.empty()))).isTrue();
+    assertThat(GroupCommitStorageUpdateChannel.canCoalesce(deletingUpdate())).isFalse();
+  }
+
+  @Test
+  void merge_shouldUseLatestCheckpoint() {
+    final Checkpoint checkpoint1 = dataStructureUtil.randomCheckpoint();
+    final Checkpoint checkpoint2 = dataStructureUtil.randomCheckpoint();
+
+    final StorageUpdate merged =
+        GroupCommitStorageUpdateChannel.merge(
+            List.of(
+                hotUpdate(Optional.of(checkpoint1)),
+                hotUpdate(Optional.of(checkpoint2)),
+                hotUpdate(Optional.empty())));
+
+    assertThat(merged.getJustifiedCheckpoint()).contains(checkpoint2);
+    assertThat(merged.getStateRoots()).hasSize(3);
+  }
+
+  private StorageUpdate hotUpdate(final Optional<Checkpoint> justifiedCheckpoint) {
+    return createUpdate(
+        justifiedCheckpoint,
+        Map.of(dataStructureUtil.randomBytes32(), dataStructureUtil.randomSlotAndBlockRoot()),
+        Map.of());
+  }
+
+  private StorageUpdate deletingUpdate() {
+    return createUpdate(
+        Optional.empty(), Map.of(), Map.of(dataStructureUtil.randomBytes32(), UInt64.ONE));
+  }
+
+  private StorageUpdate createUpdate(
+      final Optional<Checkpoint> justifiedCheckpoint,
+      final Map<Bytes32, SlotAndBlockRoot> stateRoots,
+      final Map<Bytes32, UInt64> deletedHotBlocks) {
+    return new StorageUpdate(
+        Optional.empty(),
+        Optional.empty(),
+        justifiedCheckpoint,
+        Optional.empty(),
+        Map.of(),
+        Map.of(),
+        Map.of(),
+        Optional.empty(),
+        deletedHotBlocks,
+        stateRoots,
+        false,
+        Optional.empty(),
+        Optional.empty(),
+        false,
+        false);
+  }
+}
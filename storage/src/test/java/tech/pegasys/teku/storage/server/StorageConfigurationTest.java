@@ -158,15 +158,13 @@ public class StorageConfigurationTest {
   }
 
   @Test
-  public void shouldFailIfUserEnableStatePrunerUsingTreeMode() {
-    assertThatThrownBy(
-            () ->
-                StorageConfiguration.builder()
-                    .dataStorageMode(ARCHIVE)
-                    .dataStorageFrequency(1)
-                    .retainedSlots(2048)
-                    .build())
-        .isInstanceOf(InvalidConfigurationException.class)
-        .hasMessageContaining("State pruner cannot be enabled using tree mode storage");
+  public void shouldAllowStatePrunerUsingTreeMode() {
+    final StorageConfiguration storageConfiguration =
+        StorageConfiguration.builder()
+            .dataStorageMode(ARCHIVE)
+            .dataStorageFrequency(1)
+            .retainedSlots(2048)
+            .build();
+    assertThat(storageConfiguration.getRetainedSlots()).isEqualTo(2048);
   }
 }
@@ -85,6 +85,42 @@ class KvStoreTreeNodeSourceTest {
     assertThat(nodeSource.loadLeafNode(root, 23)).isEqualTo(root);
   }
 
+  @Test
+  void loadBranchNode_shouldServeCachedBranchWithoutReadingDatabase() {
+    final KvStoreTreeNodeSource cachingNodeSource =
+        new KvStoreTreeNodeSource(accessor, schema, StateTreeNodeCache.create(10, 10));
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final CompressedBranchInfo branchInfo =
+        storeBranch(root, 1, dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32());
+    assertThat(cachingNodeSource.loadBranchNode(root, 2)).isEqualTo(branchInfo);
+
+    deleteBranch(root);
+
+    assertThat(cachingNodeSource.loadBranchNode(root, 2)).isEqualTo(branchInfo);
+    assertThatThrownBy(() -> nodeSource.loadBranchNode(root, 2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void loadLeafNode_shouldNotCacheUnknownLeaf() {
+    final KvStoreTreeNodeSource cachingNodeSource =
+        new KvStoreTreeNodeSource(accessor, schema, StateTreeNodeCache.create(10, 10));
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    assertThat(cachingNodeSource.loadLeafNode(root, 5)).isEqualTo(root);
+
+    final Bytes value = dataStructureUtil.randomBytes(40);
+    storeLeaf(root, value);
+
+    assertThat(cachingNodeSource.loadLeafNode(root, 5)).isEqualTo(value);
+  }
+
+  private void deleteBranch(final Bytes32 root) {
+    try (final KvStoreTransaction transaction = accessor.startTransaction()) {
+      transaction.delete(schema.getColumnFinalizedStateMerkleTreeBranches(), root);
+      transaction.commit();
+    }
+  }
+
   private void storeLeaf(final Bytes32 root, final Bytes value) {
     try (final KvStoreTransaction transaction = accessor.startTransaction()) {
       transaction.put(schema.getColumnFinalizedStateMerkleTreeLeaves(), root, value);
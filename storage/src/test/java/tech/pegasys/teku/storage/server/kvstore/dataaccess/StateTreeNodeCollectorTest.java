@@ -0,0 +1,297 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.Waiter;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotStateStorageLogic.HotStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedTreeState;
+
+class StateTreeNodeCollectorTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final V6SchemaCombinedTreeState schema = new V6SchemaCombinedTreeState(spec);
+  private final KvStoreAccessor db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+  private final Set<Bytes32> knownStoredBranchesCache = new HashSet<>();
+  private final StateTreeNodeCollector collector =
+      new StateTreeNodeCollector(new NoOpMetricsSystem(), knownStoredBranchesCache);
+
+  private final V4FinalizedStateTreeStorageLogic finalizedLogic =
+      new V4FinalizedStateTreeStorageLogic(new NoOpMetricsSystem(), spec, collector);
+  private final V4HotStateTreeStorageLogic hotLogic =
+      new V4HotStateTreeStorageLogic(new NoOpMetricsSystem(), spec, collector);
+
+  @Test
+  void shouldNotPruneNodesOfReferencedStates() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    final BeaconState state2 = state1.updated(state -> state.setSlot(UInt64.valueOf(9)));
+    final Bytes32 hotBlockRoot = dataStructureUtil.randomBytes32();
+    final BeaconState hotState = dataStructureUtil.randomBeaconState(UInt64.valueOf(20));
+    storeFinalizedState(state1);
+    storeFinalizedState(state2);
+    storeHotState(hotBlockRoot, hotState);
+    final List<Bytes32> storedNodes = getStoredNodes();
+
+    assertThat(pruneUnreferencedNodes()).isZero();
+
+    assertThat(getStoredNodes()).containsExactlyInAnyOrderElementsOf(storedNodes);
+    assertFinalizedStateReloads(state1);
+    assertFinalizedStateReloads(state2);
+    assertThat(hotLogic.getHotState(db, schema, hotBlockRoot)).contains(hotState);
+  }
+
+  @Test
+  void shouldPruneNodesOnlyReferencedByDeletedFinalizedState() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    final BeaconState state2 = state1.updated(state -> state.setSlot(UInt64.valueOf(9)));
+    storeFinalizedState(state1);
+    storeFinalizedState(state2);
+    final int storedNodeCount = getStoredNodes().size();
+
+    deleteFinalizedState(state1.getSlot());
+
+    final long prunedNodes = pruneUnreferencedNodes();
+    assertThat(prunedNodes).isPositive();
+    assertThat(getStoredNodes()).hasSize(storedNodeCount - (int) prunedNodes);
+    assertFinalizedStateReloads(state2);
+    assertThat(pruneUnreferencedNodes()).isZero();
+  }
+
+  @Test
+  void shouldReadHotStateAfterItsSiblingsArePruned() {
+    final BeaconState parentState = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    final BeaconState state = parentState.updated(s -> s.setSlot(UInt64.valueOf(9)));
+    final BeaconState sibling1 =
+        parentState.updated(
+            s -> {
+              s.setSlot(UInt64.valueOf(9));
+              s.getBalances().setElement(0, UInt64.ZERO);
+            });
+    final BeaconState sibling2 =
+        parentState.updated(
+            s -> {
+              s.setSlot(UInt64.valueOf(10));
+              s.getValidators().set(0, dataStructureUtil.randomValidator());
+            });
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    final Bytes32 siblingBlockRoot1 = dataStructureUtil.randomBytes32();
+    final Bytes32 siblingBlockRoot2 = dataStructureUtil.randomBytes32();
+    storeHotState(blockRoot, state);
+    storeHotState(siblingBlockRoot1, sibling1);
+    storeHotState(siblingBlockRoot2, sibling2);
+
+    deleteHotState(siblingBlockRoot1);
+    deleteHotState(siblingBlockRoot2);
+
+    assertThat(pruneUnreferencedNodes()).isPositive();
+    final BeaconState loadedState = hotLogic.getHotState(db, schema, blockRoot).orElseThrow();
+    assertThat(loadedState.sszSerialize()).isEqualTo(state.sszSerialize());
+  }
+
+  @Test
+  void shouldNotPruneNodesWhileStatesAreBeingRead() throws Exception {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    storeFinalizedState(state);
+    deleteFinalizedState(state.getSlot());
+    final List<Bytes32> storedNodes = getStoredNodes();
+    final CompletableFuture<Long> prunedNodes = new CompletableFuture<>();
+    final Thread pruner = new Thread(() -> prunedNodes.complete(pruneUnreferencedNodes()));
+
+    collector.readNodes(
+        () -> {
+          pruner.start();
+          Waiter.waitFor(() -> assertThat(pruner.getState()).isEqualTo(Thread.State.WAITING));
+          assertThat(getStoredNodes()).containsExactlyInAnyOrderElementsOf(storedNodes);
+          return null;
+        });
+
+    assertThat(Waiter.waitFor(prunedNodes)).isPositive();
+    assertThat(getStoredNodes()).isEmpty();
+  }
+
+  @Test
+  void shouldPruneNodesOfAllDeletedStates() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    final BeaconState state2 = state1.updated(state -> state.setSlot(UInt64.valueOf(9)));
+    storeFinalizedState(state1);
+    storeFinalizedState(state2);
+
+    deleteFinalizedState(state1.getSlot());
+    deleteFinalizedState(state2.getSlot());
+
+    assertThat(pruneUnreferencedNodes()).isPositive();
+    assertThat(getStoredNodes()).isEmpty();
+    assertThat(db.streamKeys(schema.getColumnStateTreeNodeReferenceCounts())).isEmpty();
+    assertThat(db.streamKeys(schema.getColumnUnreferencedStateTreeNodes())).isEmpty();
+  }
+
+  @Test
+  void shouldPruneAtMostPruneLimitNodesPerRun() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    storeFinalizedState(state);
+    deleteFinalizedState(state.getSlot());
+
+    assertThat(collector.pruneUnreferencedNodes(db, schema, 1)).isOne();
+    assertThat(pruneUnreferencedNodes()).isPositive();
+    assertThat(getStoredNodes()).isEmpty();
+  }
+
+  @Test
+  void shouldNotPruneNodesStoredBeforeReferencesWereCounted() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    final FinalizedStateUpdater<SchemaCombinedTreeState> updater = finalizedLogic.updater();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      updater.addFinalizedState(db, transaction, schema, state);
+      transaction.commit();
+    } finally {
+      updater.close();
+    }
+    final List<Bytes32> storedNodes = getStoredNodes();
+    deleteFinalizedState(state.getSlot());
+
+    assertThat(pruneUnreferencedNodes()).isZero();
+    assertThat(getStoredNodes()).containsExactlyInAnyOrderElementsOf(storedNodes);
+  }
+
+  @Test
+  void shouldRejectUpdateSkippingBranchPrunedBeforeCommit() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    storeFinalizedState(state);
+
+    final FinalizedStateUpdater<SchemaCombinedTreeState> updater = finalizedLogic.updater();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      // All branches are known to be stored so the whole state is skipped
+      updater.addFinalizedState(db, transaction, schema, state);
+
+      deleteFinalizedState(state.getSlot());
+      assertThat(pruneUnreferencedNodes()).isPositive();
+
+      assertThatThrownBy(() -> updater.prepareCommit(db, transaction, schema))
+          .isInstanceOf(IllegalStateException.class);
+    } finally {
+      updater.close();
+    }
+  }
+
+  @Test
+  void shouldPruneNodesOfDeletedHotState() {
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    storeHotState(blockRoot, dataStructureUtil.randomBeaconState());
+
+    deleteHotState(blockRoot);
+
+    assertThat(pruneUnreferencedNodes()).isPositive();
+    assertThat(getStoredNodes()).isEmpty();
+    assertThat(knownStoredBranchesCache).isEmpty();
+  }
+
+  @Test
+  void shouldStoreStateAgainAfterItsNodesWerePruned() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    storeFinalizedState(state);
+    deleteFinalizedState(state.getSlot());
+    assertThat(pruneUnreferencedNodes()).isPositive();
+
+    // pruned branches must not be skipped as already stored
+    storeFinalizedState(state);
+
+    assertFinalizedStateReloads(state);
+  }
+
+  private long pruneUnreferencedNodes() {
+    return collector.pruneUnreferencedNodes(db, schema, Long.MAX_VALUE);
+  }
+
+  private void assertFinalizedStateReloads(final BeaconState state) {
+    assertThat(finalizedLogic.getLatestAvailableFinalizedState(db, schema, state.getSlot()))
+        .contains(state);
+  }
+
+  private List<Bytes32> getStoredNodes() {
+    try (final Stream<Bytes32> branches =
+            db.streamKeys(schema.getColumnFinalizedStateMerkleTreeBranches());
+        final Stream<Bytes32> leaves =
+            db.streamKeys(schema.getColumnFinalizedStateMerkleTreeLeaves())) {
+      return Stream.concat(branches, leaves).toList();
+    }
+  }
+
+  private void storeFinalizedState(final BeaconState state) {
+    final FinalizedStateUpdater<SchemaCombinedTreeState> updater = finalizedLogic.updater();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      updater.addFinalizedState(db, transaction, schema, state);
+      updater.prepareCommit(db, transaction, schema);
+      transaction.commit();
+      updater.commit();
+    } finally {
+      updater.close();
+    }
+  }
+
+  private void deleteFinalizedState(final UInt64 slot) {
+    final FinalizedStateUpdater<SchemaCombinedTreeState> updater = finalizedLogic.updater();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      updater.deleteFinalizedState(transaction, schema, slot);
+      updater.prepareCommit(db, transaction, schema);
+      transaction.commit();
+    } finally {
+      updater.close();
+    }
+  }
+
+  private void storeHotState(final Bytes32 blockRoot, final BeaconState state) {
+    final HotStateUpdater<SchemaCombinedTreeState> updater = hotLogic.updater();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      updater.addHotState(transaction, schema, blockRoot, state);
+      updater.prepareCommit(db, transaction, schema);
+      transaction.commit();
+      updater.commit();
+    } finally {
+      updater.close();
+    }
+  }
+
+  private void deleteHotState(final Bytes32 blockRoot) {
+    final HotStateUpdater<SchemaCombinedTreeState> updater = hotLogic.updater();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      updater.deleteHotState(transaction, schema, blockRoot);
+      updater.prepareCommit(db, transaction, schema);
+      transaction.commit();
+    } finally {
+      updater.close();
+    }
+  }
+}
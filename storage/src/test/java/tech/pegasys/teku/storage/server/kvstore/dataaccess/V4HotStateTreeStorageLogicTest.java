@@ -0,0 +1,152 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotStateStorageLogic.HotStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedTreeState;
+
+class V4HotStateTreeStorageLogicTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final V6SchemaCombinedTreeState schema = new V6SchemaCombinedTreeState(spec);
+  private final KvStoreAccessor db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+  private final Set<Bytes32> knownStoredBranchesCache = new HashSet<>();
+
+  private final StateTreeNodeCollector nodeCollector =
+      new StateTreeNodeCollector(new NoOpMetricsSystem(), knownStoredBranchesCache);
+
+  private final V4HotStateTreeStorageLogic logic =
+      new V4HotStateTreeStorageLogic(new NoOpMetricsSystem(), spec, nodeCollector);
+
+  @Test
+  void shouldRoundTripState() {
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+
+    storeState(blockRoot, state);
+
+    assertThat(logic.getHotState(db, schema, blockRoot)).contains(state);
+  }
+
+  @Test
+  void shouldOnlyStoreChangedBranchesOfSuccessiveStates() {
+    final Bytes32 blockRoot1 = dataStructureUtil.randomBytes32();
+    final Bytes32 blockRoot2 = dataStructureUtil.randomBytes32();
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+    final BeaconState state2 = state1.updated(state -> state.setSlot(UInt64.valueOf(9)));
+
+    storeState(blockRoot1, state1);
+    final int branchesAfterFirstState = knownStoredBranchesCache.size();
+    storeState(blockRoot2, state2);
+
+    assertThat(knownStoredBranchesCache.size() - branchesAfterFirstState)
+        .isLessThan(branchesAfterFirstState);
+    assertThat(logic.getHotState(db, schema, blockRoot1)).contains(state1);
+    assertThat(logic.getHotState(db, schema, blockRoot2)).contains(state2);
+  }
+
+  @Test
+  void shouldDeleteHotState() {
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    storeState(blockRoot, dataStructureUtil.randomBeaconState());
+
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      logic.updater().deleteHotState(transaction, schema, blockRoot);
+      transaction.commit();
+    }
+
+    assertThat(logic.getHotState(db, schema, blockRoot)).isEmpty();
+  }
+
+  @Test
+  void shouldKeepLoadedStateUsableAfterItsNodesArePruned() {
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    storeState(blockRoot, state);
+    final BeaconState loadedState = logic.getHotState(db, schema, blockRoot).orElseThrow();
+
+    final HotStateUpdater<SchemaCombinedTreeState> updater = logic.updater();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      updater.deleteHotState(transaction, schema, blockRoot);
+      updater.prepareCommit(db, transaction, schema);
+      transaction.commit();
+    } finally {
+      updater.close();
+    }
+    assertThat(nodeCollector.pruneUnreferencedNodes(db, schema, Long.MAX_VALUE)).isPositive();
+
+    // Serializing walks every node of the state
+    assertThat(loadedState.sszSerialize()).isEqualTo(state.sszSerialize());
+  }
+
+  @Test
+  void shouldFailToLoadStateWhenLeafNodeIsMissing() {
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    storeState(blockRoot, dataStructureUtil.randomBeaconState());
+    try (final Stream<Bytes32> leaves =
+            db.streamKeys(schema.getColumnFinalizedStateMerkleTreeLeaves());
+        final KvStoreTransaction transaction = db.startTransaction()) {
+      leaves.forEach(
+          root -> transaction.delete(schema.getColumnFinalizedStateMerkleTreeLeaves(), root));
+      transaction.commit();
+    }
+
+    assertThatThrownBy(() -> logic.getHotState(db, schema, blockRoot))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Missing super node data");
+  }
+
+  @Test
+  void shouldLoadStatesStoredAsSnapshots() {
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+      transaction.commit();
+    }
+
+    assertThat(logic.getHotState(db, schema, blockRoot)).contains(state);
+  }
+
+  private void storeState(final Bytes32 blockRoot, final BeaconState state) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final HotStateUpdater<SchemaCombinedTreeState> updater = logic.updater();
+      updater.addHotState(transaction, schema, blockRoot, state);
+      updater.prepareCommit(db, transaction, schema);
+      transaction.commit();
+      updater.commit();
+      updater.close();
+    }
+  }
+}
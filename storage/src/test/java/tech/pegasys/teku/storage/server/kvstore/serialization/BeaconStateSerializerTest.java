@@ -15,6 +15,8 @@ package tech.pegasys.teku.storage.server.kvstore.serialization;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -26,6 +28,8 @@ public class BeaconStateSerializerTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
 
   private final KvStoreSerializer<BeaconState> stateSerializer = new BeaconStateSerializer(spec);
+  private final KvStoreSerializer<BeaconState> hashesSerializer =
+      new BeaconStateSerializer(spec, true);
 
   @Test
   public void roundTrip_state() {
@@ -34,4 +38,53 @@ public class BeaconStateSerializerTest {
     final BeaconState deserialized = stateSerializer.deserialize(bytes);
     assertThat(deserialized).isEqualTo(value);
   }
+
+  @Test
+  public void roundTrip_stateWithMerkleHashes() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(300);
+    final byte[] bytes = hashesSerializer.serialize(value);
+    assertThat(bytes.length).isGreaterThan(value.sszSerialize().size());
+
+    final BeaconState deserialized = hashesSerializer.deserialize(bytes);
+    assertThat(deserialized).isEqualTo(value);
+    assertThat(deserialized.hashTreeRoot()).isEqualTo(value.hashTreeRoot());
+  }
+
+  @Test
+  public void deserialize_shouldReadStatesWrittenInEitherFormat() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(300);
+
+    assertThat(hashesSerializer.deserialize(stateSerializer.serialize(value))).isEqualTo(value);
+    assertThat(stateSerializer.deserialize(hashesSerializer.serialize(value))).isEqualTo(value);
+  }
+
+  @Test
+  public void deserialize_shouldIgnoreHashesWhichDontMatchState() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(300);
+    final byte[] bytes = hashesSerializer.serialize(value);
+    // Corrupt the first captured hash, which is of a subtree below the root
+    final int firstHashOffset = value.sszSerialize().size() + Long.BYTES;
+    bytes[firstHashOffset] ^= 1;
+
+    final BeaconState deserialized = hashesSerializer.deserialize(bytes);
+    assertThat(deserialized).isEqualTo(value);
+    assertThat(deserialized.hashTreeRoot()).isEqualTo(value.hashTreeRoot());
+  }
+
+  @Test
+  public void deserialize_shouldIgnoreHashesWithUnknownTrailerVersion() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(300);
+    final byte[] bytes = hashesSerializer.serialize(value);
+    final int versionOffset = bytes.length - Long.BYTES - Integer.BYTES;
+    final byte[] unknownVersion =
+        ByteBuffer.allocate(Integer.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(BeaconStateSerializer.HASHES_TRAILER_VERSION + 1)
+            .array();
+    System.arraycopy(unknownVersion, 0, bytes, versionOffset, Integer.BYTES);
+
+    final BeaconState deserialized = hashesSerializer.deserialize(bytes);
+    assertThat(deserialized).isEqualTo(value);
+    assertThat(deserialized.hashTreeRoot()).isEqualTo(value.hashTreeRoot());
+  }
 }
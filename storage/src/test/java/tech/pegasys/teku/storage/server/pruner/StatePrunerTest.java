@@ -80,6 +80,18 @@ public class StatePrunerTest {
     verify(pruningActiveLabelledGauge).set(eq(0.), any());
   }
 
+  @Test
+  void shouldPruneUnreferencedStateDataOnEachRun() {
+    when(database.getFinalizedCheckpoint()).thenReturn(Optional.empty());
+    asyncRunner.executeDueActions();
+    verify(database)
+        .pruneUnreferencedStateData(StatePruner.UNREFERENCED_STATE_DATA_PRUNE_LIMIT);
+
+    triggerNextPruning();
+    verify(database, times(2))
+        .pruneUnreferencedStateData(StatePruner.UNREFERENCED_STATE_DATA_PRUNE_LIMIT);
+  }
+
   @Test
   void shouldPruneAfterInterval() {
     when(database.getFinalizedCheckpoint()).thenReturn(Optional.empty());
@@ -626,6 +626,30 @@ class StoreTest extends AbstractStoreTest {
         .isCompletedExceptionallyWith(InvalidCheckpointException.class);
   }
 
+  @Test
+  public void retrieveAdvancedStateAtSlot_shouldNotEvictCheckpointStates() {
+    final UpdatableStore store =
+        createGenesisStore(StoreConfig.builder().checkpointStateCacheSize(1).build());
+    final Bytes32 genesisRoot = chainBuilder.getLatestBlockAndState().getRoot();
+    final Checkpoint checkpoint = new Checkpoint(UInt64.ONE, genesisRoot);
+    assertThatSafeFuture(store.retrieveCheckpointState(checkpoint))
+        .isCompletedWithNonEmptyOptional();
+
+    for (int slot = 1; slot <= Store.ADVANCED_STATE_CACHE_SIZE + 2; slot++) {
+      final SlotAndBlockRoot slotAndBlockRoot =
+          new SlotAndBlockRoot(UInt64.valueOf(slot), genesisRoot);
+      final SafeFuture<Optional<BeaconState>> advancedState =
+          store.retrieveAdvancedStateAtSlot(slotAndBlockRoot);
+      assertThatSafeFuture(advancedState).isCompletedWithNonEmptyOptional();
+      // Served from the advanced states without going through the checkpoint states
+      assertThat(store.retrieveStateAtSlot(slotAndBlockRoot))
+          .isCompletedWithValue(safeJoin(advancedState));
+    }
+
+    assertThat(((Store) store).getCachedCheckpointState(checkpoint.toSlotAndBlockRoot(spec)))
+        .isPresent();
+  }
+
   @Test
   public void retrieveFinalizedCheckpointAndState() {
     final UpdatableStore store = createGenesisStore();
@@ -296,6 +296,11 @@ public class MockKvStoreInstance implements KvStoreAccessor {
       final Map<Bytes, Bytes> updates =
           columnUpdates.computeIfAbsent(column, (col) -> new HashMap<>());
       updates.put(keyBytes, valueBytes);
+      // A put after a delete in the same transaction wins, as it does in RocksDB
+      final Set<Bytes> deletedKeys = deletedColumnKeys.get(column);
+      if (deletedKeys != null) {
+        deletedKeys.remove(keyBytes);
+      }
     }
 
     @Override
@@ -18,6 +18,8 @@ import static tech.pegasys.teku.storage.server.StorageConfiguration.DEFAULT_STAT
 
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import picocli.CommandLine;
 import picocli.CommandLine.Help.Visibility;
 import picocli.CommandLine.Option;
@@ -104,6 +106,18 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
   private boolean storeNonCanonicalBlocksEnabled =
       StorageConfiguration.DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-state-merkle-hashes-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Store the hashes of large subtrees alongside stored states so loading them doesn't require rehashing",
+      fallbackValue = "true",
+      arity = "0..1",
+      hidden = true)
+  private boolean storeStateMerkleHashesEnabled =
+      StorageConfiguration.DEFAULT_STORE_STATE_MERKLE_HASHES_ENABLED;
+
   /**
    * Default value selected based on experimentation to minimise memory usage without affecting sync
    * time. Not that states later in the chain with more validators have more branches so need a
@@ -128,6 +142,28 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
   private Boolean reconstructHistoricStates =
       SyncConfig.DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED;
 
+  @CommandLine.Option(
+      names = {"--Xreconstruct-historic-states-anchor-states"},
+      hidden = true,
+      paramLabel = "<STRINGS>",
+      description =
+          "Trusted finalized states (file paths or URLs) used to split historic state"
+              + " reconstruction into ranges which are replayed concurrently",
+      split = ",",
+      arity = "1..*")
+  private List<String> reconstructHistoricStatesAnchorStates = new ArrayList<>();
+
+  @CommandLine.Option(
+      names = {"--Xreconstruct-historic-states-max-concurrent-ranges"},
+      hidden = true,
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum number of historic state reconstruction ranges replayed at once. Each range"
+              + " holds one state in memory",
+      arity = "1")
+  private int reconstructHistoricStatesMaxConcurrentRanges =
+      SyncConfig.DEFAULT_RECONSTRUCT_HISTORIC_STATES_MAX_CONCURRENT_RANGES;
+
   @CommandLine.Option(
       names = {"--Xdata-storage-block-pruning-interval"},
       hidden = true,
@@ -217,6 +253,7 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .dataStorageFrequency(dataStorageFrequency)
                 .dataStorageCreateDbVersion(parseDatabaseVersion())
                 .storeNonCanonicalBlocks(storeNonCanonicalBlocksEnabled)
+                .storeStateMerkleHashes(storeStateMerkleHashesEnabled)
                 .maxKnownNodeCacheSize(maxKnownNodeCacheSize)
                 .blockPruningInterval(Duration.ofSeconds(blockPruningIntervalSeconds))
                 .blockPruningLimit(blockPruningLimit)
@@ -230,7 +267,10 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
     builder.sync(
         b ->
             b.fetchAllHistoricBlocks(dataStorageMode.storesAllBlocks())
-                .reconstructHistoricStatesEnabled(reconstructHistoricStates));
+                .reconstructHistoricStatesEnabled(reconstructHistoricStates)
+                .reconstructHistoricStatesAnchorStates(reconstructHistoricStatesAnchorStates)
+                .reconstructHistoricStatesMaxConcurrentRanges(
+                    reconstructHistoricStatesMaxConcurrentRanges));
   }
 
   public DatabaseVersion parseDatabaseVersion() {
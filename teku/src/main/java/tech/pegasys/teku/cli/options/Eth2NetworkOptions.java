@@ -376,6 +376,16 @@ public class Eth2NetworkOptions {
       Eth2NetworkConfiguration
           .DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_TOTAL_BLOCK_AGGREGATION_TIME_LIMIT_MILLIS;
 
+  @Option(
+      names = {"--Xslot-state-advance-lead-percentage"},
+      paramLabel = "<NUMBER>",
+      description =
+          "Percentage of the slot left when the head and proposer head candidate states are advanced to the next slot. 0 disables the advance.",
+      arity = "1",
+      hidden = true)
+  private int slotStateAdvanceLeadPercentage =
+      Eth2NetworkConfiguration.DEFAULT_SLOT_STATE_ADVANCE_LEAD_PERCENTAGE;
+
   public Eth2NetworkConfiguration getNetworkConfiguration() {
     return createEth2NetworkConfig(builder -> {});
   }
@@ -474,6 +484,7 @@ public class Eth2NetworkOptions {
             aggregatingAttestationPoolV2BlockAggregationTimeLimit)
         .aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit(
             aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit)
+        .slotStateAdvanceLeadPercentage(slotStateAdvanceLeadPercentage)
         .epochsStoreBlobs(epochsStoreBlobs)
         .forkChoiceUpdatedAlwaysSendPayloadAttributes(forkChoiceUpdatedAlwaysSendPayloadAttributes)
         .rustKzgEnabled(rustKzgEnabled)
@@ -266,6 +266,17 @@ public class P2POptions {
       arity = "1")
   private Integer historicalSyncBatchSize = SyncConfig.DEFAULT_HISTORICAL_SYNC_BATCH_SIZE;
 
+  @Option(
+      names = {"--Xp2p-historical-sync-max-pending-batches"},
+      paramLabel = "<NUMBER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Maximum number of concurrent batches being requested to peers, while syncing historical blocks.",
+      hidden = true,
+      arity = "1")
+  private Integer historicalSyncMaxPendingBatches =
+      SyncConfig.DEFAULT_HISTORICAL_SYNC_MAX_PENDING_BATCHES;
+
   @Option(
       names = {"--Xp2p-sync-batch-size"},
       paramLabel = "<NUMBER>",
@@ -613,6 +624,7 @@ public class P2POptions {
             s ->
                 s.isMultiPeerSyncEnabled(multiPeerSyncEnabled)
                     .historicalSyncBatchSize(historicalSyncBatchSize)
+                    .historicalSyncMaxPendingBatches(historicalSyncMaxPendingBatches)
                     .forwardSyncMaxBlocksPerMinute(forwardSyncBlocksRateLimit)
                     .forwardSyncMaxBlobSidecarsPerMinute(forwardSyncBlobSidecarsRateLimit)
                     .forwardSyncBatchSize(forwardSyncBatchSize)
@@ -62,6 +62,33 @@ public class StoreOptions {
       arity = "1")
   private int checkpointStateCacheSize = StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-warm-state-cache-max-bytes"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of bytes of serialized states evicted from the state caches to keep in memory. 0 disables the warm state cache.",
+      arity = "1")
+  private long warmStateCacheMaxBytes = StoreConfig.DEFAULT_WARM_STATE_CACHE_MAX_BYTES;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-warm-state-cache-compression-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Compress states held in the warm state cache with snappy",
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean warmStateCacheCompressionEnabled = true;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-warm-state-cache-off-heap-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Hold states in the warm state cache in off-heap memory",
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean warmStateCacheOffHeapEnabled = false;
+
   @Option(
       names = {"--Xstore-earliest-available-block-slot-cache-seconds"},
       hidden = true,
@@ -89,6 +116,9 @@ public class StoreOptions {
                 .epochStateCacheSize(epochStateCacheSize)
                 .earliestAvailableBlockSlotFrequency(earliestAvailableBlockSlotQueryFrequency)
                 .checkpointStateCacheSize(checkpointStateCacheSize)
+                .warmStateCacheMaxBytes(warmStateCacheMaxBytes)
+                .warmStateCacheCompressionEnabled(warmStateCacheCompressionEnabled)
+                .warmStateCacheOffHeapEnabled(warmStateCacheOffHeapEnabled)
                 .initialCanonicalBlockRoot(initialCanonicalBlockRoot));
   }
 }
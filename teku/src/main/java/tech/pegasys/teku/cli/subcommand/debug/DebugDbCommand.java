@@ -18,8 +18,10 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -45,6 +47,7 @@ import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.kzg.KZG;
 import tech.pegasys.teku.networks.Eth2NetworkConfiguration;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
@@ -57,6 +60,7 @@ import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.DepositStorage;
@@ -883,6 +887,159 @@ public class DebugDbCommand implements Runnable {
     return 0;
   }
 
+  @Command(
+      name = "export-era",
+      description = "Export finalized blocks, states and sidecars as era files",
+      mixinStandardHelpOptions = true,
+      showDefaultValues = true,
+      abbreviateSynopsis = true,
+      versionProvider = PicoCliVersionProvider.class,
+      synopsisHeading = "%n",
+      descriptionHeading = "%nDescription:%n%n",
+      optionListHeading = "%nOptions:%n",
+      footerHeading = "%n",
+      footer = "Teku is licensed under the Apache License 2.0")
+  public int exportEra(
+      @Mixin final BeaconNodeDataOptions beaconNodeDataOptions,
+      @Mixin final Eth2NetworkOptions eth2NetworkOptions,
+      @Option(
+              required = true,
+              names = {"--output-dir", "-o"},
+              description = "Directory to write era files to")
+          final Path outputDirectory,
+      @Option(
+              names = {"--from-era"},
+              description = "The first era to export",
+              defaultValue = "1",
+              showDefaultValue = Visibility.ALWAYS)
+          final long fromEra,
+      @Option(
+              names = {"--to-era"},
+              description = "The last era to export. Defaults to the last finalized era")
+          final Long toEra)
+      throws Exception {
+    final Eth2NetworkConfiguration networkConfiguration =
+        eth2NetworkOptions.getNetworkConfiguration();
+    final String networkName =
+        networkConfiguration.getEth2Network().map(Eth2Network::configName).orElse("custom");
+    Files.createDirectories(outputDirectory);
+    try (final Database database = createDatabase(beaconNodeDataOptions, eth2NetworkOptions)) {
+      final EraFileExporter exporter =
+          new EraFileExporter(
+              networkConfiguration.getSpec(), database, outputDirectory, networkName);
+      final Optional<Long> lastFinalizedEra = exporter.getLastFinalizedEra();
+      if (lastFinalizedEra.isEmpty()) {
+        System.err.println("Unable to export era files because the database is not finalized");
+        return 1;
+      }
+      final long lastEra =
+          toEra == null ? lastFinalizedEra.get() : Math.min(toEra, lastFinalizedEra.get());
+      for (long era = Math.max(fromEra, 1); era <= lastEra; era++) {
+        final Optional<Path> eraFile = exporter.exportEra(era);
+        if (eraFile.isPresent()) {
+          System.out.printf("Exported era %d to %s%n", era, eraFile.get());
+        } else {
+          System.out.printf("Skipped era %d as its blocks or state are not available%n", era);
+        }
+      }
+    }
+    return 0;
+  }
+
+  @Command(
+      name = "import-era",
+      description =
+          "Import era files into an initialised database, filling in history before the earliest available block",
+      mixinStandardHelpOptions = true,
+      showDefaultValues = true,
+      abbreviateSynopsis = true,
+      versionProvider = PicoCliVersionProvider.class,
+      synopsisHeading = "%n",
+      descriptionHeading = "%nDescription:%n%n",
+      optionListHeading = "%nOptions:%n",
+      footerHeading = "%n",
+      footer = "Teku is licensed under the Apache License 2.0")
+  public int importEra(
+      @Mixin final BeaconNodeDataOptions beaconNodeDataOptions,
+      @Mixin final Eth2NetworkOptions eth2NetworkOptions,
+      @Option(
+              required = true,
+              names = {"--input-dir", "-i"},
+              description = "Directory containing the era files to import")
+          final Path inputDirectory,
+      @Option(
+              names = {"--batch-size"},
+              description = "Number of slots to write to the database in each batch",
+              defaultValue = "1024",
+              showDefaultValue = Visibility.ALWAYS)
+          final int batchSize,
+      @Option(
+              names = {"--import-states"},
+              description = "Also store the state at the end of each era",
+              defaultValue = "false",
+              fallbackValue = "true",
+              showDefaultValue = Visibility.ALWAYS)
+          final boolean importStates)
+      throws Exception {
+    if (batchSize < 1) {
+      throw new InvalidConfigurationException("--batch-size must be greater than 0");
+    }
+    final List<Path> eraFiles;
+    try (final Stream<Path> files = Files.list(inputDirectory)) {
+      // Blocks are stored backwards from the earliest available block so import the newest first
+      eraFiles =
+          files
+              .filter(file -> file.getFileName().toString().endsWith(".era"))
+              .sorted(Comparator.comparingLong(DebugDbCommand::getEraNumber).reversed())
+              .toList();
+    }
+    final Eth2NetworkConfiguration networkConfiguration =
+        eth2NetworkOptions.getNetworkConfiguration();
+    final Spec spec = networkConfiguration.getSpec();
+    final KZG kzg = createKzg(networkConfiguration);
+    try (final Database database = createDatabase(beaconNodeDataOptions, eth2NetworkOptions)) {
+      final EraFileImporter importer =
+          new EraFileImporter(spec, database, kzg, batchSize, importStates);
+      for (Path eraFile : eraFiles) {
+        final int importedBlocks = importer.importEraFile(eraFile);
+        System.out.printf("Imported %d blocks from %s%n", importedBlocks, eraFile);
+      }
+    } finally {
+      kzg.freeTrustedSetup();
+    }
+    return 0;
+  }
+
+  /** Sidecar KZG proofs can only be verified once the trusted setup is loaded. */
+  private static KZG createKzg(final Eth2NetworkConfiguration networkConfiguration) {
+    if (!networkConfiguration.getSpec().isMilestoneSupported(SpecMilestone.DENEB)) {
+      return KZG.DISABLED;
+    }
+    final KZG kzg = KZG.getInstance(networkConfiguration.isRustKzgEnabled());
+    final String trustedSetupFile =
+        networkConfiguration
+            .getTrustedSetup()
+            .orElseThrow(
+                () ->
+                    new InvalidConfigurationException(
+                        "Trusted setup should be configured when Deneb is enabled"));
+    kzg.loadTrustedSetup(trustedSetupFile, networkConfiguration.getKzgPrecompute());
+    return kzg;
+  }
+
+  private static long getEraNumber(final Path eraFile) {
+    // Era files are named <network>-<era number>-<short state root>.era
+    final String[] parts = eraFile.getFileName().toString().split("-");
+    if (parts.length < 3) {
+      throw new InvalidConfigurationException("Unexpected era file name: " + eraFile);
+    }
+    try {
+      return Long.parseLong(parts[parts.length - 2]);
+    } catch (final NumberFormatException e) {
+      throw new InvalidConfigurationException("Unexpected era file name: " + eraFile);
+    }
+  }
+
   private boolean canParseBlock(final Spec spec, final Bytes blockData) {
     try {
       spec.deserializeSignedBeaconBlock(blockData);
@@ -0,0 +1,161 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.cli.subcommand.debug;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+import tech.pegasys.teku.data.eraFileFormat.EraFileWriter;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
+import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.Database;
+
+/**
+ * Exports finalized history as era files, one per {@code SLOTS_PER_HISTORICAL_ROOT} slots. Each
+ * file holds the blocks and sidecars of the era and the state at its end slot.
+ */
+class EraFileExporter {
+  private final Spec spec;
+  private final Database database;
+  private final Path outputDirectory;
+  private final String networkName;
+  private final long slotsPerEra;
+
+  EraFileExporter(
+      final Spec spec,
+      final Database database,
+      final Path outputDirectory,
+      final String networkName) {
+    this.spec = spec;
+    this.database = database;
+    this.outputDirectory = outputDirectory;
+    this.networkName = networkName;
+    this.slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+  }
+
+  /** Returns the last era which ends at or before the finalized checkpoint. */
+  Optional<Long> getLastFinalizedEra() {
+    return database
+        .getFinalizedCheckpoint()
+        .map(checkpoint -> checkpoint.getEpochStartSlot(spec).longValue() / slotsPerEra);
+  }
+
+  /**
+   * Writes the era file for {@code era}.
+   *
+   * @return The file written, or empty if the blocks or state of the era are not available
+   */
+  Optional<Path> exportEra(final long era) throws Exception {
+    final UInt64 stateSlot = UInt64.valueOf(era * slotsPerEra);
+    final UInt64 blocksStartSlot = UInt64.valueOf(Math.max(era - 1, 0) * slotsPerEra);
+    final int slotCount = era == 0 ? 0 : Math.toIntExact(slotsPerEra);
+    if (slotCount > 0
+        && database
+            .getEarliestAvailableBlockSlot()
+            .map(earliestSlot -> earliestSlot.isGreaterThan(blocksStartSlot))
+            .orElse(true)) {
+      return Optional.empty();
+    }
+    final Optional<BeaconState> maybeState = getStateAtSlot(stateSlot);
+    if (maybeState.isEmpty()) {
+      return Optional.empty();
+    }
+    final BeaconState state = maybeState.get();
+
+    final Path eraFile =
+        outputDirectory.resolve(
+            String.format(
+                Locale.ROOT,
+                "%s-%05d-%s.era",
+                networkName,
+                era,
+                state.hashTreeRoot().slice(0, 4).toUnprefixedHexString()));
+    // Write to a temporary file so an interrupted export never leaves a partial era file
+    final Path tempFile = eraFile.resolveSibling(eraFile.getFileName() + ".tmp");
+    try (EraFileWriter writer = new EraFileWriter(tempFile, blocksStartSlot, slotCount)) {
+      final UInt64 blocksEndSlot = stateSlot.minusMinZero(1);
+      if (slotCount > 0) {
+        try (Stream<SignedBeaconBlock> blocks =
+            database.streamFinalizedBlocks(blocksStartSlot, blocksEndSlot)) {
+          for (Iterator<SignedBeaconBlock> it = blocks.iterator(); it.hasNext(); ) {
+            writer.writeBlock(it.next());
+          }
+        }
+      }
+      writer.writeState(state);
+      if (slotCount > 0) {
+        writeSidecars(writer, blocksStartSlot, blocksEndSlot);
+      }
+      writer.finish();
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(tempFile);
+      throw e;
+    }
+    Files.move(tempFile, eraFile, StandardCopyOption.REPLACE_EXISTING);
+    return Optional.of(eraFile);
+  }
+
+  private void writeSidecars(
+      final EraFileWriter writer, final UInt64 startSlot, final UInt64 endSlot)
+      throws IOException {
+    try (Stream<SlotAndBlockRootAndBlobIndex> keys =
+        database.streamBlobSidecarKeys(startSlot, endSlot)) {
+      for (Iterator<SlotAndBlockRootAndBlobIndex> it = keys.iterator(); it.hasNext(); ) {
+        final Optional<BlobSidecar> blobSidecar = database.getBlobSidecar(it.next());
+        if (blobSidecar.isPresent()) {
+          writer.writeBlobSidecar(blobSidecar.get());
+        }
+      }
+    }
+    try (Stream<DataColumnSlotAndIdentifier> identifiers =
+        database.streamDataColumnIdentifiers(startSlot, endSlot)) {
+      for (Iterator<DataColumnSlotAndIdentifier> it = identifiers.iterator(); it.hasNext(); ) {
+        final Optional<DataColumnSidecar> dataColumnSidecar = database.getSidecar(it.next());
+        if (dataColumnSidecar.isPresent()) {
+          writer.writeDataColumnSidecar(dataColumnSidecar.get());
+        }
+      }
+    }
+  }
+
+  /** Regenerates the state at {@code slot} from the closest stored state if necessary. */
+  private Optional<BeaconState> getStateAtSlot(final UInt64 slot) throws Exception {
+    final Optional<BeaconState> maybeState = database.getLatestAvailableFinalizedState(slot);
+    if (maybeState.isEmpty() || maybeState.get().getSlot().equals(slot)) {
+      return maybeState;
+    }
+    BeaconState state = maybeState.get();
+    try (Stream<SignedBeaconBlock> blocks =
+        database.streamFinalizedBlocks(state.getSlot().increment(), slot)) {
+      for (Iterator<SignedBeaconBlock> it = blocks.iterator(); it.hasNext(); ) {
+        state = spec.replayValidatedBlock(state, it.next());
+      }
+    }
+    if (state.getSlot().isLessThan(slot)) {
+      state = spec.processSlots(state, slot);
+    }
+    return Optional.of(state);
+  }
+}
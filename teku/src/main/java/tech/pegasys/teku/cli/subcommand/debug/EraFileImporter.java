@@ -0,0 +1,222 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.cli.subcommand.debug;
+
+import static java.util.stream.Collectors.groupingBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.data.eraFileFormat.EraFileReader;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.kzg.KZG;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.versions.deneb.helpers.MiscHelpersDeneb;
+import tech.pegasys.teku.spec.logic.versions.fulu.helpers.MiscHelpersFulu;
+import tech.pegasys.teku.storage.server.Database;
+
+/**
+ * Bulk loads era files into an initialised database, bypassing block import.
+ *
+ * <p>Blocks are written in batches working backwards from the earliest block already stored, the
+ * same way historical sync stores them, so era files must be imported newest first. Each block
+ * must match the block root recorded in the state of its era file and the database checks each
+ * batch links to the blocks already stored. When states are imported, the latest block header of
+ * the era state must match the block at its slot before anything from the file is stored.
+ *
+ * <p>Sidecars must belong to a block in the same batch and have valid KZG commitment inclusion
+ * proofs. Their KZG proofs are batch verified per block. If any sidecar fails, nothing from the
+ * batch is stored.
+ */
+class EraFileImporter {
+  private final Spec spec;
+  private final Database database;
+  private final KZG kzg;
+  private final int batchSize;
+  private final boolean importStates;
+
+  EraFileImporter(
+      final Spec spec,
+      final Database database,
+      final KZG kzg,
+      final int batchSize,
+      final boolean importStates) {
+    this.spec = spec;
+    this.database = database;
+    this.kzg = kzg;
+    this.batchSize = batchSize;
+    this.importStates = importStates;
+  }
+
+  /** Returns the number of blocks imported from {@code eraFile}. */
+  int importEraFile(final Path eraFile) throws IOException {
+    try (EraFileReader reader = EraFileReader.open(eraFile, spec)) {
+      final BeaconState state = reader.readState();
+      final UInt64 earliestBlockSlot =
+          database
+              .getEarliestAvailableBlockSlot()
+              .orElseThrow(
+                  () ->
+                      new IllegalStateException(
+                          "Database must be initialised before importing era files"));
+      if (importStates) {
+        checkStateMatchesBlock(reader, state, earliestBlockSlot);
+      }
+
+      int importedBlocks = 0;
+      final UInt64 blocksStartSlot = reader.getBlocksStartSlot();
+      // Blocks from the earliest stored block onwards are already available
+      UInt64 batchEndSlot =
+          earliestBlockSlot.min(blocksStartSlot.plus(reader.getBlockSlotCount()));
+      while (batchEndSlot.isGreaterThan(blocksStartSlot)) {
+        final UInt64 batchStartSlot = batchEndSlot.minusMinZero(batchSize).max(blocksStartSlot);
+        importedBlocks += importBatch(reader, state, batchStartSlot, batchEndSlot.decrement());
+        batchEndSlot = batchStartSlot;
+      }
+
+      if (importStates
+          && database
+              .getLatestAvailableFinalizedState(state.getSlot())
+              .map(storedState -> !storedState.getSlot().equals(state.getSlot()))
+              .orElse(true)) {
+        database.storeReconstructedFinalizedState(
+            state, BeaconBlockHeader.fromState(state).getRoot());
+      }
+      return importedBlocks;
+    }
+  }
+
+  /**
+   * Checks the root of the state's latest block header, with the state root filled in, matches the
+   * block at that slot. The block is either already stored or is in this era file, in which case it
+   * is checked against the state and linked to the stored blocks when it is imported.
+   */
+  private void checkStateMatchesBlock(
+      final EraFileReader reader, final BeaconState state, final UInt64 earliestBlockSlot)
+      throws IOException {
+    final BeaconBlockHeader latestBlockHeader = BeaconBlockHeader.fromState(state);
+    final UInt64 blockSlot = latestBlockHeader.getSlot();
+    final Optional<SignedBeaconBlock> block =
+        blockSlot.isGreaterThanOrEqualTo(earliestBlockSlot)
+            ? database.getFinalizedBlockAtSlot(blockSlot)
+            : reader.readBlocks(blockSlot, blockSlot).stream().findFirst();
+    if (block.isEmpty() || !block.get().getRoot().equals(latestBlockHeader.getRoot())) {
+      throw new IllegalStateException(
+          "Era state at slot "
+              + state.getSlot()
+              + " does not match the block at slot "
+              + blockSlot);
+    }
+  }
+
+  private int importBatch(
+      final EraFileReader reader,
+      final BeaconState state,
+      final UInt64 fromSlot,
+      final UInt64 toSlot)
+      throws IOException {
+    final List<SignedBeaconBlock> blocks = reader.readBlocks(fromSlot, toSlot);
+    for (SignedBeaconBlock block : blocks) {
+      if (!spec.getBlockRootAtSlot(state, block.getSlot()).equals(block.getRoot())) {
+        throw new IllegalStateException(
+            "Block at slot " + block.getSlot() + " does not match the era state");
+      }
+    }
+    final Set<Bytes32> blockRoots =
+        blocks.stream().map(SignedBeaconBlock::getRoot).collect(Collectors.toSet());
+
+    final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecarsBySlot =
+        reader.readBlobSidecars(fromSlot, toSlot).stream()
+            .collect(groupingBy(BlobSidecar::getSlotAndBlockRoot));
+    blobSidecarsBySlot.forEach(
+        (slotAndBlockRoot, blobSidecars) -> {
+          checkSidecarBlockRoot(blockRoots, slotAndBlockRoot.getBlockRoot());
+          checkSidecarProofs(
+              slotAndBlockRoot, () -> verifyBlobSidecars(slotAndBlockRoot, blobSidecars));
+        });
+    final List<DataColumnSidecar> dataColumnSidecars =
+        reader.readDataColumnSidecars(fromSlot, toSlot);
+    dataColumnSidecars.stream()
+        .collect(groupingBy(DataColumnSidecar::getSlotAndBlockRoot))
+        .forEach(
+            (slotAndBlockRoot, sidecars) -> {
+              checkSidecarBlockRoot(blockRoots, slotAndBlockRoot.getBlockRoot());
+              checkSidecarProofs(
+                  slotAndBlockRoot, () -> verifyDataColumnSidecars(slotAndBlockRoot, sidecars));
+            });
+
+    final Optional<UInt64> earliestBlobSidecarSlot =
+        blobSidecarsBySlot.keySet().stream().map(SlotAndBlockRoot::getSlot).min(UInt64::compareTo);
+    database.storeFinalizedBlocks(blocks, blobSidecarsBySlot, earliestBlobSidecarSlot);
+    dataColumnSidecars.forEach(database::addSidecar);
+    return blocks.size();
+  }
+
+  private void checkSidecarBlockRoot(final Set<Bytes32> blockRoots, final Bytes32 blockRoot) {
+    if (!blockRoots.contains(blockRoot)) {
+      throw new IllegalStateException("Sidecar does not belong to a block in the era file");
+    }
+  }
+
+  /**
+   * Rejects the batch unless {@code verification} passes. KZG library errors are treated as a
+   * verification failure, the same way gossip validation treats them.
+   */
+  private void checkSidecarProofs(
+      final SlotAndBlockRoot slotAndBlockRoot, final BooleanSupplier verification) {
+    final String message =
+        "Sidecars of block at slot " + slotAndBlockRoot.getSlot() + " failed proof verification";
+    final boolean valid;
+    try {
+      valid = verification.getAsBoolean();
+    } catch (final RuntimeException e) {
+      throw new IllegalStateException(message, e);
+    }
+    if (!valid) {
+      throw new IllegalStateException(message);
+    }
+  }
+
+  private boolean verifyBlobSidecars(
+      final SlotAndBlockRoot slotAndBlockRoot, final List<BlobSidecar> blobSidecars) {
+    final MiscHelpersDeneb miscHelpers =
+        MiscHelpersDeneb.required(spec.atSlot(slotAndBlockRoot.getSlot()).miscHelpers());
+    return blobSidecars.stream().allMatch(miscHelpers::verifyBlobKzgCommitmentInclusionProof)
+        && miscHelpers.verifyBlobKzgProofBatch(kzg, blobSidecars);
+  }
+
+  private boolean verifyDataColumnSidecars(
+      final SlotAndBlockRoot slotAndBlockRoot, final List<DataColumnSidecar> dataColumnSidecars) {
+    final MiscHelpersFulu miscHelpers =
+        MiscHelpersFulu.required(spec.atSlot(slotAndBlockRoot.getSlot()).miscHelpers());
+    return dataColumnSidecars.stream()
+            .allMatch(
+                sidecar ->
+                    miscHelpers.verifyDataColumnSidecar(sidecar)
+                        && miscHelpers.verifyDataColumnSidecarInclusionProof(sidecar))
+        && miscHelpers.verifyDataColumnSidecarKzgProofBatch(kzg, dataColumnSidecars);
+  }
+}
@@ -127,6 +127,20 @@ public class BeaconNodeDataOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(tekuConfiguration.sync().isReconstructHistoricStatesEnabled()).isEqualTo(true);
   }
 
+  @Test
+  public void shouldSetReconstructHistoricStatesRangeOptions() {
+    final TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments(
+            "--Xreconstruct-historic-states-anchor-states",
+            "state1.ssz,state2.ssz",
+            "--Xreconstruct-historic-states-max-concurrent-ranges",
+            "2");
+    assertThat(tekuConfiguration.sync().getReconstructHistoricStatesAnchorStates())
+        .containsExactly("state1.ssz", "state2.ssz");
+    assertThat(tekuConfiguration.sync().getReconstructHistoricStatesMaxConcurrentRanges())
+        .isEqualTo(2);
+  }
+
   @Test
   public void missingGenesisState_expectInvalidReconstructHistoricStatesValue() {
     assertThatThrownBy(
@@ -309,6 +309,13 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(tekuConfiguration.sync().getHistoricalSyncBatchSize()).isEqualTo(10);
   }
 
+  @Test
+  public void historicalSyncMaxPendingBatches_shouldBeSettable() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xp2p-historical-sync-max-pending-batches", "2");
+    assertThat(tekuConfiguration.sync().getHistoricalSyncMaxPendingBatches()).isEqualTo(2);
+  }
+
   @Test
   public void forwardSyncBatchSize_shouldBeSettable() {
     TekuConfiguration tekuConfiguration =
@@ -0,0 +1,208 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.cli.subcommand.debug;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.data.eraFileFormat.EraFileWriter;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.kzg.KZG;
+import tech.pegasys.teku.kzg.NoOpKZG;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.spec.generator.ChainBuilder.BlockOptions;
+import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+
+public class EraFileImporterTest {
+  private static final int BATCH_SIZE = 16;
+
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final int slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+  private final StorageSystem sourceStorage = InMemoryStorageSystemBuilder.buildDefault(spec);
+  private final StorageSystem targetStorage = InMemoryStorageSystemBuilder.buildDefault(spec);
+  private final ChainBuilder chainBuilder = sourceStorage.chainBuilder();
+
+  @TempDir Path tempDir;
+
+  private Database targetDatabase;
+
+  @BeforeEach
+  void setUp() {
+    sourceStorage.chainUpdater().initializeGenesis();
+    final BlockOptions blockOptions = BlockOptions.create().setGenerateRandomBlobs(true);
+    sourceStorage.chainUpdater().advanceChainUntil(2L * slotsPerEra + 8, blockOptions);
+    final UInt64 anchorEpoch = spec.computeEpochAtSlot(UInt64.valueOf(2L * slotsPerEra));
+    final SignedBlockAndState anchorBlockAndState =
+        sourceStorage.chainUpdater().finalizeEpoch(anchorEpoch);
+
+    // The target starts from a checkpoint at the end of era 2, as after checkpoint sync
+    targetStorage
+        .recentChainData()
+        .initializeFromAnchorPoint(
+            AnchorPoint.create(
+                spec,
+                new Checkpoint(anchorEpoch, anchorBlockAndState.getRoot()),
+                anchorBlockAndState),
+            ZERO);
+    targetDatabase = targetStorage.database();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    sourceStorage.close();
+    targetStorage.close();
+  }
+
+  @Test
+  void shouldImportExportedEraFiles() throws Exception {
+    final EraFileExporter exporter =
+        new EraFileExporter(spec, sourceStorage.database(), tempDir, "minimal");
+    final Path era2 = exporter.exportEra(2).orElseThrow();
+    final Path era1 = exporter.exportEra(1).orElseThrow();
+    final EraFileImporter importer =
+        new EraFileImporter(spec, targetDatabase, NoOpKZG.INSTANCE, BATCH_SIZE, true);
+
+    assertThat(importer.importEraFile(era2)).isEqualTo(slotsPerEra);
+    assertThat(importer.importEraFile(era1)).isEqualTo(slotsPerEra);
+
+    assertThat(targetDatabase.getEarliestAvailableBlockSlot()).contains(ZERO);
+    chainBuilder
+        .streamBlocksAndStates(0, 2L * slotsPerEra - 1)
+        .forEach(
+            blockAndState ->
+                assertThat(targetDatabase.getFinalizedBlockAtSlot(blockAndState.getSlot()))
+                    .contains(blockAndState.getBlock()));
+    chainBuilder
+        .streamBlobSidecars(0, 2L * slotsPerEra - 1)
+        .forEach(
+            entry ->
+                assertThat(targetDatabase.streamBlobSidecars(entry.getKey()))
+                    .containsExactlyElementsOf(entry.getValue()));
+    final UInt64 era1StateSlot = UInt64.valueOf(slotsPerEra);
+    assertThat(targetDatabase.getLatestAvailableFinalizedState(era1StateSlot))
+        .contains(chainBuilder.getStateAtSlot(era1StateSlot));
+  }
+
+  @Test
+  void shouldRejectEraFileWithTamperedState() throws Exception {
+    final EraFileExporter exporter =
+        new EraFileExporter(spec, sourceStorage.database(), tempDir, "minimal");
+    final EraFileImporter importer =
+        new EraFileImporter(spec, targetDatabase, NoOpKZG.INSTANCE, BATCH_SIZE, true);
+    importer.importEraFile(exporter.exportEra(2).orElseThrow());
+
+    // Block roots are untouched so every block still matches the state
+    final UInt64 era1StateSlot = UInt64.valueOf(slotsPerEra);
+    final BeaconState tamperedState =
+        chainBuilder
+            .getStateAtSlot(era1StateSlot)
+            .updated(state -> state.setGenesisTime(state.getGenesisTime().increment()));
+    final Path era1 = tempDir.resolve("minimal-00001-tampered.era");
+    try (EraFileWriter writer = new EraFileWriter(era1, ZERO, slotsPerEra)) {
+      for (SignedBlockAndState blockAndState :
+          chainBuilder.streamBlocksAndStates(0, slotsPerEra - 1).toList()) {
+        writer.writeBlock(blockAndState.getBlock());
+      }
+      writer.writeState(tamperedState);
+      writer.finish();
+    }
+
+    assertThatThrownBy(() -> importer.importEraFile(era1))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("does not match the block");
+    assertThat(targetDatabase.getEarliestAvailableBlockSlot()).contains(era1StateSlot);
+    assertThat(targetDatabase.getLatestAvailableFinalizedState(era1StateSlot)).isEmpty();
+  }
+
+  @Test
+  void shouldRejectEraFileWithTamperedBlobSidecarInclusionProof() throws Exception {
+    final EraFileExporter exporter =
+        new EraFileExporter(spec, sourceStorage.database(), tempDir, "minimal");
+    final EraFileImporter importer =
+        new EraFileImporter(spec, targetDatabase, NoOpKZG.INSTANCE, BATCH_SIZE, true);
+    importer.importEraFile(exporter.exportEra(2).orElseThrow());
+
+    final UInt64 era1StateSlot = UInt64.valueOf(slotsPerEra);
+    final Path era1 = tempDir.resolve("minimal-00001-tampered.era");
+    try (EraFileWriter writer = new EraFileWriter(era1, ZERO, slotsPerEra)) {
+      final List<SignedBlockAndState> blocksAndStates =
+          chainBuilder.streamBlocksAndStates(0, slotsPerEra - 1).toList();
+      for (SignedBlockAndState blockAndState : blocksAndStates) {
+        writer.writeBlock(blockAndState.getBlock());
+      }
+      writer.writeState(chainBuilder.getStateAtSlot(era1StateSlot));
+      // The last block is in the first batch to be imported
+      final SignedBlockAndState tamperedBlock = blocksAndStates.getLast();
+      for (BlobSidecar blobSidecar : chainBuilder.getBlobSidecars(tamperedBlock.getRoot())) {
+        writer.writeBlobSidecar(
+            blobSidecar.getIndex().equals(ZERO) ? tamperInclusionProof(blobSidecar) : blobSidecar);
+      }
+      writer.finish();
+    }
+
+    assertThatThrownBy(() -> importer.importEraFile(era1))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("failed proof verification");
+    assertThat(targetDatabase.getEarliestAvailableBlockSlot()).contains(era1StateSlot);
+  }
+
+  @Test
+  void shouldRejectEraFileWhenBlobSidecarKzgProofsAreInvalid() throws Exception {
+    final EraFileExporter exporter =
+        new EraFileExporter(spec, sourceStorage.database(), tempDir, "minimal");
+    // Mocked KZG reports every proof as invalid
+    final EraFileImporter importer =
+        new EraFileImporter(spec, targetDatabase, mock(KZG.class), BATCH_SIZE, true);
+    final Optional<UInt64> earliestBlockSlot = targetDatabase.getEarliestAvailableBlockSlot();
+
+    assertThatThrownBy(() -> importer.importEraFile(exporter.exportEra(2).orElseThrow()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("failed proof verification");
+    assertThat(targetDatabase.getEarliestAvailableBlockSlot()).isEqualTo(earliestBlockSlot);
+  }
+
+  private BlobSidecar tamperInclusionProof(final BlobSidecar blobSidecar) {
+    final List<Bytes32> inclusionProof =
+        new ArrayList<>(blobSidecar.getKzgCommitmentInclusionProof().asListUnboxed());
+    inclusionProof.set(0, inclusionProof.get(0).not());
+    return new BlobSidecar(
+        blobSidecar.getSchema(),
+        blobSidecar.getIndex(),
+        blobSidecar.getBlob(),
+        blobSidecar.getSszKZGCommitment(),
+        blobSidecar.getSszKZGProof(),
+        blobSidecar.getSignedBeaconBlockHeader(),
+        inclusionProof);
+  }
+}